@@ -0,0 +1,128 @@
+package com.sportradar.test.lib.benchmark;
+
+import com.sportradar.test.lib.FootballWorldCupScoreboard;
+import com.sportradar.test.lib.command.CommandResult;
+import com.sportradar.test.lib.command.ScoreboardCommand;
+import com.sportradar.test.lib.journal.Durability;
+import com.sportradar.test.lib.journal.MatchJournal;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.ThreadParams;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Clock;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.SplittableRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Cost of the match journal durability levels on score updates.
+ * Runs with several threads by default, so that SYNC shows the effect of group commit across writers.
+ * {@link #applyAll(Writer)} measures group commit within a writer: a batch is journaled as one frame and,
+ * with SYNC, made durable by one flush; its score is in batches, each of {@code batchSize} updates.
+ * Each iteration starts from a fresh journal file.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@Threads(4)
+@State(Scope.Benchmark)
+public class JournalBenchmark {
+
+    @Param({"NONE", "ASYNC", "SYNC"})
+    Durability durability;
+
+    @Param({"1000"})
+    int liveMatches;
+
+    @Param({"64"})
+    int batchSize;
+
+    // Team names of the live matches, indexed by match
+    String[] homeTeams;
+    String[] awayTeams;
+
+    Path journalFile;
+    MatchJournal journal;
+    FootballWorldCupScoreboard scoreboard;
+
+    @Setup(Level.Iteration)
+    public void setUp() throws IOException {
+        journalFile = Files.createTempFile("scoreboard-benchmark", ".journal");
+        journal = MatchJournal.open(journalFile, durability);
+        scoreboard = new FootballWorldCupScoreboard(Clock.systemUTC(), journal);
+        homeTeams = new String[liveMatches];
+        awayTeams = new String[liveMatches];
+        for (int i = 0; i < liveMatches; i++) {
+            homeTeams[i] = "Home" + i;
+            awayTeams[i] = "Away" + i;
+            scoreboard.startMatch(homeTeams[i], awayTeams[i]);
+        }
+    }
+
+    @TearDown(Level.Iteration)
+    public void tearDown() throws IOException {
+        journal.close();
+        Files.deleteIfExists(journalFile);
+    }
+
+    /**
+     * Per-thread random source and update batches.
+     */
+    @State(Scope.Thread)
+    public static class Writer {
+        private static final int BATCHES = 64;
+
+        SplittableRandom random;
+        List<List<ScoreboardCommand>> batches;
+        int nextBatch;
+
+        @Setup(Level.Iteration)
+        public void setUp(JournalBenchmark benchmark, ThreadParams threadParams) {
+            random = new SplittableRandom(threadParams.getThreadIndex());
+            batches = new ArrayList<>(BATCHES);
+            for (int i = 0; i < BATCHES; i++) {
+                List<ScoreboardCommand> batch = new ArrayList<>(benchmark.batchSize);
+                for (int j = 0; j < benchmark.batchSize; j++) {
+                    int match = random.nextInt(benchmark.liveMatches);
+                    batch.add(ScoreboardCommand.update(benchmark.homeTeams[match], benchmark.awayTeams[match],
+                            random.nextInt(10), random.nextInt(10)));
+                }
+                batches.add(batch);
+            }
+        }
+
+        List<ScoreboardCommand> nextBatch() {
+            List<ScoreboardCommand> batch = batches.get(nextBatch);
+            nextBatch = (nextBatch + 1) % BATCHES;
+            return batch;
+        }
+    }
+
+    @Benchmark
+    public void updateScore(Writer writer) {
+        int match = writer.random.nextInt(liveMatches);
+        scoreboard.updateScore(homeTeams[match], awayTeams[match], writer.random.nextInt(10), writer.random.nextInt(10));
+    }
+
+    @Benchmark
+    public List<CommandResult> applyAll(Writer writer) {
+        return scoreboard.applyAll(writer.nextBatch());
+    }
+}
@@ -0,0 +1,188 @@
+package com.sportradar.test.lib.benchmark;
+
+import com.sportradar.test.lib.FootballWorldCupScoreboard;
+import com.sportradar.test.lib.domain.FootballMatch;
+import com.sportradar.test.lib.render.SummaryRenderCache;
+import com.sportradar.test.lib.storage.StorageBackend;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Group;
+import org.openjdk.jmh.annotations.GroupThreads;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.ThreadParams;
+import java.nio.ByteBuffer;
+import java.time.Clock;
+import java.util.List;
+import java.util.SplittableRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Throughput of the scoreboard operations on boards of different sizes and storage backends.
+ * <p>
+ * Single-operation benchmarks run with the thread count given by {@code -t}; the grouped benchmarks run
+ * readers and writers side by side in fixed ratios: read-heavy (3:1), balanced (2:2) and write-heavy (1:3).
+ * Allocation rates are reported with {@code -prof gc}.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Benchmark)
+public class ScoreboardBenchmark {
+
+    @Param({"10", "1000", "100000"})
+    int liveMatches;
+
+    @Param({"HEAP", "OFF_HEAP"})
+    StorageBackend storage;
+
+    FootballWorldCupScoreboard scoreboard;
+
+    SummaryRenderCache renderCache;
+
+    // Team names of the live matches, indexed by match
+    String[] homeTeams;
+    String[] awayTeams;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        scoreboard = new FootballWorldCupScoreboard(Clock.systemUTC(), storage);
+        homeTeams = new String[liveMatches];
+        awayTeams = new String[liveMatches];
+        SplittableRandom random = new SplittableRandom(42);
+        for (int i = 0; i < liveMatches; i++) {
+            homeTeams[i] = "Home" + i;
+            awayTeams[i] = "Away" + i;
+            scoreboard.startMatch(homeTeams[i], awayTeams[i]);
+            scoreboard.updateScore(homeTeams[i], awayTeams[i], random.nextInt(5), random.nextInt(5));
+        }
+        renderCache = new SummaryRenderCache(scoreboard);
+    }
+
+    /**
+     * Per-thread writer state: its own random source, its own match to start and finish and the
+     * source sequence of its sequenced updates.
+     */
+    @State(Scope.Thread)
+    public static class Writer {
+        SplittableRandom random;
+        String extraHomeTeam;
+        String extraAwayTeam;
+        long sourceSequence;
+
+        @Setup(Level.Trial)
+        public void setUp(ThreadParams threadParams) {
+            random = new SplittableRandom(threadParams.getThreadIndex());
+            extraHomeTeam = "ExtraHome" + threadParams.getThreadIndex();
+            extraAwayTeam = "ExtraAway" + threadParams.getThreadIndex();
+        }
+    }
+
+    @Benchmark
+    public void updateScore(Writer writer) {
+        update(writer);
+    }
+
+    /**
+     * Score update checked against the last source sequence of the match; the sequence only grows,
+     * so every update is applied.
+     */
+    @Benchmark
+    public boolean sequencedUpdateScore(Writer writer) {
+        int match = writer.random.nextInt(liveMatches);
+        return scoreboard.updateScore(homeTeams[match], awayTeams[match], writer.random.nextInt(10),
+                writer.random.nextInt(10), ++writer.sourceSequence);
+    }
+
+    /**
+     * Starts and finishes a match, so the board keeps its size.
+     */
+    @Benchmark
+    public void startAndFinishMatch(Writer writer) {
+        scoreboard.startMatch(writer.extraHomeTeam, writer.extraAwayTeam);
+        scoreboard.finishMatch(writer.extraHomeTeam, writer.extraAwayTeam);
+    }
+
+    @Benchmark
+    public List<FootballMatch> getSummary() {
+        return scoreboard.getSummary();
+    }
+
+    /**
+     * Serves the JSON summary from the render cache; unchanged versions are a buffer hand-off.
+     */
+    @Benchmark
+    public ByteBuffer serveJsonSummary() {
+        return renderCache.json().content();
+    }
+
+    @Benchmark
+    public int readTopTen() {
+        return sumTotals(scoreboard.getTopMatches(10));
+    }
+
+    @Benchmark
+    @Group("readHeavy")
+    @GroupThreads(3)
+    public int readHeavyReader() {
+        return sumTotals(scoreboard.getTopMatches(10));
+    }
+
+    @Benchmark
+    @Group("readHeavy")
+    @GroupThreads(1)
+    public void readHeavyWriter(Writer writer) {
+        update(writer);
+    }
+
+    @Benchmark
+    @Group("balanced")
+    @GroupThreads(2)
+    public int balancedReader() {
+        return sumTotals(scoreboard.getTopMatches(10));
+    }
+
+    @Benchmark
+    @Group("balanced")
+    @GroupThreads(2)
+    public void balancedWriter(Writer writer) {
+        update(writer);
+    }
+
+    @Benchmark
+    @Group("writeHeavy")
+    @GroupThreads(1)
+    public int writeHeavyReader() {
+        return sumTotals(scoreboard.getTopMatches(10));
+    }
+
+    @Benchmark
+    @Group("writeHeavy")
+    @GroupThreads(3)
+    public void writeHeavyWriter(Writer writer) {
+        update(writer);
+    }
+
+    private void update(Writer writer) {
+        int match = writer.random.nextInt(liveMatches);
+        scoreboard.updateScore(homeTeams[match], awayTeams[match], writer.random.nextInt(10), writer.random.nextInt(10));
+    }
+
+    private static int sumTotals(List<FootballMatch> matches) {
+        int total = 0;
+        for (FootballMatch match : matches) {
+            total += match.getTotalScore();
+        }
+        return total;
+    }
+}
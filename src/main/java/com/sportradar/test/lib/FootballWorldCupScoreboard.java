@@ -1,29 +1,106 @@
 package com.sportradar.test.lib;
 
+import com.sportradar.test.lib.archive.MatchArchive;
+import com.sportradar.test.lib.checkpoint.ScoreboardCheckpoint;
+import com.sportradar.test.lib.command.CommandResult;
+import com.sportradar.test.lib.command.OperationStatus;
+import com.sportradar.test.lib.command.ScoreboardCommand;
 import com.sportradar.test.lib.domain.FootballMatch;
+import com.sportradar.test.lib.domain.MatchScores;
+import com.sportradar.test.lib.events.ScoreboardEvent;
+import com.sportradar.test.lib.events.ScoreboardEventPublisher;
 import com.sportradar.test.lib.exception.MatchAlreadyExistsException;
+import com.sportradar.test.lib.exception.MatchException;
 import com.sportradar.test.lib.exception.MatchNotFoundException;
+import com.sportradar.test.lib.exception.TeamAlreadyPlayingException;
+import com.sportradar.test.lib.journal.JournalVisitor;
+import com.sportradar.test.lib.journal.MatchJournal;
+import com.sportradar.test.lib.metrics.ScoreboardMetrics;
+import com.sportradar.test.lib.ranking.RankedMatch;
+import com.sportradar.test.lib.ranking.SummarySnapshot;
+import com.sportradar.test.lib.replication.ReplicationLog;
+import com.sportradar.test.lib.storage.MatchStore;
+import com.sportradar.test.lib.storage.MatchTable;
+import com.sportradar.test.lib.storage.StorageBackend;
+import com.sportradar.test.lib.team.TeamMatchIndex;
+import com.sportradar.test.lib.team.TeamRegistry;
 import com.sportradar.test.lib.validation.Validator;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.channels.ReadableByteChannel;
+import java.nio.channels.WritableByteChannel;
 import java.time.Clock;
+import java.time.Instant;
 import java.util.ArrayList;
 import java.util.Comparator;
 import java.util.List;
-import java.util.Map;
-import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Flow;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Consumer;
 
 /**
  * Thread-safe implementation of a Live Football World Cup Scoreboard.
  * This class allows adding, updating, and removing matches while ensuring
- * safe concurrent access using ConcurrentHashMap and synchronized sorting.
+ * safe concurrent access using a guarded match store that keeps the matches in summary order.
+ * Matches are stored on the heap or off-heap, see {@link StorageBackend}.
+ * A score update changes its match in place and only bumps the version, so it allocates nothing.
+ * Readers get immutable snapshots; the first reader of a new version materializes the snapshot under the
+ * monitor, and all later readers of that version share it without locking.
+ * Final results of finished matches are kept in a bounded {@link MatchArchive}.
+ * A {@link TeamMatchIndex} updated together with the match store answers which match a team is playing,
+ * and optionally restricts every team to one live match.
  */
 public class FootballWorldCupScoreboard implements Scoreboard {
-    private static final String MATCH_KEY_SEPARATOR = " vs ";
 
-    // Thread-safe data structure for match storage
-    private final Map<String, FootballMatch> matches = new ConcurrentHashMap<>();
+    // Expected score of updates that are not conditional
+    private static final int ANY_SCORE = -1;
 
-    // Stores the sorted list of matches, updated after each modification
-    private List<FootballMatch> sortedMatches = new ArrayList<>();
+    // Interns team names to the identifiers used in match keys
+    private final TeamRegistry teams = new TeamRegistry();
+
+    // Backend creating the match store
+    private final StorageBackend storage;
+
+    // Live matches keyed by packed team identifiers in summary order, guarded by this and replaced on restore
+    private MatchStore matches;
+
+    // Keys of the live matches of each team, guarded by this and replaced on restore together with the matches
+    private TeamMatchIndex teamMatches = new TeamMatchIndex();
+
+    // Whether starting a match of a team that is already playing is rejected
+    private final boolean oneLiveMatchPerTeam;
+
+    // Sequenced updates dropped as stale or duplicate, and conditional updates dropped as conflicting
+    private final LongAdder droppedStaleUpdates = new LongAdder();
+    private final LongAdder failedCompareAndSets = new LongAdder();
+
+    // Summary snapshots taken of all matches, by readers or for change events; written under the monitor
+    private final LongAdder summarySnapshots = new LongAdder();
+
+    // Source of start sequence numbers, may be shared by the shards of a ShardedScoreboard
+    private final AtomicLong startSequence;
+
+    // Version of the scoreboard, incremented after each modification and read without locking
+    private volatile long version;
+
+    // Latest materialized summary, lags behind the version until a reader or a subscriber needs it
+    private volatile SummarySnapshot summary = SummarySnapshot.EMPTY;
+
+    // Change notifications, collected under the writer monitor and delivered asynchronously
+    private final ScoreboardEventPublisher events = new ScoreboardEventPublisher();
+
+    // Final results of finished matches, may be shared by the shards of a ShardedScoreboard
+    private final MatchArchive archive;
+
+    // Durable log of modifications, null when the scoreboard is purely in-memory
+    private final MatchJournal journal;
+
+    // Modifications streamed to replicas, null unless the scoreboard is a replication primary; guarded by this
+    private ReplicationLog replicationLog;
+
+    // Publish time and writer lock contention, null when the scoreboard is not instrumented
+    private final ScoreboardMetrics metrics;
 
     // Validator for edge cases
     private final Validator validator = new Validator();
@@ -36,7 +113,88 @@ public class FootballWorldCupScoreboard implements Scoreboard {
      * @param clock Clock instance used to record match start time.
      */
     public FootballWorldCupScoreboard(Clock clock) {
+        this(clock, StorageBackend.configured());
+    }
+
+    /**
+     * Constructor for a scoreboard storing its matches in a given backend.
+     * @param clock Clock instance used to record match start time.
+     * @param storage Backend storing the live matches.
+     */
+    public FootballWorldCupScoreboard(Clock clock, StorageBackend storage) {
+        this(clock, storage, new MatchArchive(clock));
+    }
+
+    /**
+     * Constructor for a scoreboard archiving the results of finished matches in a given archive.
+     * @param clock Clock instance used to record match start and finish time.
+     * @param storage Backend storing the live matches.
+     * @param archive Archive receiving the final results of finished matches.
+     */
+    public FootballWorldCupScoreboard(Clock clock, StorageBackend storage, MatchArchive archive) {
+        this(clock, storage, archive, false);
+    }
+
+    /**
+     * Constructor for a scoreboard that may restrict every team to one live match.
+     * @param clock Clock instance used to record match start and finish time.
+     * @param storage Backend storing the live matches.
+     * @param archive Archive receiving the final results of finished matches.
+     * @param oneLiveMatchPerTeam Whether starting a match of a team that is already playing is rejected.
+     */
+    public FootballWorldCupScoreboard(Clock clock, StorageBackend storage, MatchArchive archive,
+                                      boolean oneLiveMatchPerTeam) {
+        this(clock, new AtomicLong(), null, null, storage, archive, oneLiveMatchPerTeam);
+    }
+
+    /**
+     * Constructor for a durable scoreboard. The journal is replayed to rebuild the matches it contains,
+     * and every later modification is appended to it.
+     * @param clock Clock instance used to record match start time.
+     * @param journal Journal to replay and append to.
+     * @throws UncheckedIOException if the journal cannot be replayed.
+     */
+    public FootballWorldCupScoreboard(Clock clock, MatchJournal journal) {
+        this(clock, new AtomicLong(), journal, null, StorageBackend.configured(), new MatchArchive(clock), false);
+    }
+
+    /**
+     * Constructor for a scoreboard that records the time spent publishing the summary and waiting for
+     * the writer lock. Operation counts and latencies are recorded by {@link InstrumentedScoreboard}.
+     * @param clock Clock instance used to record match start time.
+     * @param journal Journal to replay and append to, or null for an in-memory scoreboard.
+     * @param metrics Metrics to record in.
+     * @throws UncheckedIOException if the journal cannot be replayed.
+     */
+    public FootballWorldCupScoreboard(Clock clock, MatchJournal journal, ScoreboardMetrics metrics) {
+        this(clock, new AtomicLong(), journal, metrics, StorageBackend.configured(), new MatchArchive(clock), false);
+    }
+
+    /**
+     * Constructor for scoreboards that share the start sequence with other scoreboards,
+     * so that the tie-break order of their matches can be merged.
+     * @param clock Clock instance used to record match start time.
+     * @param startSequence Source of start sequence numbers.
+     * @param archive Archive receiving the final results of finished matches.
+     */
+    FootballWorldCupScoreboard(Clock clock, AtomicLong startSequence, MatchArchive archive) {
+        this(clock, startSequence, null, null, StorageBackend.configured(), archive, false);
+    }
+
+    private FootballWorldCupScoreboard(Clock clock, AtomicLong startSequence, MatchJournal journal,
+                                       ScoreboardMetrics metrics, StorageBackend storage, MatchArchive archive,
+                                       boolean oneLiveMatchPerTeam) {
         this.clock = clock;
+        this.storage = storage;
+        this.matches = storage.createStore(teams::nameOf);
+        this.startSequence = startSequence;
+        this.archive = archive;
+        this.oneLiveMatchPerTeam = oneLiveMatchPerTeam;
+        this.journal = journal;
+        this.metrics = metrics;
+        if (journal != null) {
+            replayJournal();
+        }
     }
 
     /**
@@ -45,23 +203,149 @@ public class FootballWorldCupScoreboard implements Scoreboard {
      * @param awayTeam Name of the away team.
      * @throws IllegalArgumentException if the match data is not correct.
      * @throws MatchAlreadyExistsException if the match already exists.
+     * @throws TeamAlreadyPlayingException if only one live match per team is allowed and a team is already playing.
      */
     @Override
     public void startMatch(String homeTeam, String awayTeam) {
-        String matchKey = validateTeamsAndGenerateMatchKey(homeTeam, awayTeam);
-        validator.validateIfMatchAlreadyExists(matchKey, matches);
-        matches.put(matchKey, FootballMatch.withScores(homeTeam, awayTeam,0, 0, clock));
-        updateSortedMatches();
+        validator.validateTeams(homeTeam, awayTeam);
+        requireApplied(addMatch(homeTeam, awayTeam), homeTeam, awayTeam);
+    }
+
+    /**
+     * Starts a new match with an initial score of 0-0 without throwing; no exception is created for rejected starts.
+     * @param homeTeam Name of the home team.
+     * @param awayTeam Name of the away team.
+     * @return The status of the operation.
+     */
+    @Override
+    public OperationStatus tryStartMatch(String homeTeam, String awayTeam) {
+        if (!validator.isValidTeams(homeTeam, awayTeam)) {
+            return OperationStatus.INVALID_ARGUMENT;
+        }
+        return addMatch(homeTeam, awayTeam);
+    }
+
+    /**
+     * Starts a new match with an initial score of 0-0 using registered team identifiers.
+     * @param homeTeamId Identifier of the home team.
+     * @param awayTeamId Identifier of the away team.
+     * @throws IllegalArgumentException if any team identifier is not registered.
+     * @throws MatchAlreadyExistsException if the match already exists.
+     * @throws TeamAlreadyPlayingException if only one live match per team is allowed and a team is already playing.
+     */
+    public void startMatch(int homeTeamId, int awayTeamId) {
+        String homeTeam = teams.nameOf(homeTeamId);
+        String awayTeam = teams.nameOf(awayTeamId);
+        requireApplied(addMatch(homeTeam, awayTeam), homeTeam, awayTeam);
     }
 
     /**
-     * Retrieves a summary of matches sorted by total score and start time.
-     * @return A new list containing the sorted matches.
+     * Retrieves a summary of matches sorted by total score and start order.
+     * @return An immutable list containing the sorted matches.
      */
     @Override
     public List<FootballMatch> getSummary() {
-        // Ensures thread safety by returning a copy
-        return new ArrayList<>(sortedMatches);
+        // Published snapshots are immutable, so no copy is required
+        return currentSummary().matches();
+    }
+
+    /**
+     * Retrieves the matches with the highest rank in summary order.
+     * @param n Maximum number of matches to return.
+     * @return An immutable list containing at most n sorted matches.
+     * @throws IllegalArgumentException if n is negative.
+     */
+    @Override
+    public List<FootballMatch> getTopMatches(int n) {
+        return getSummaryPage(0, n);
+    }
+
+    /**
+     * Retrieves a page of the summary.
+     * If the summary of the current version is materialized, the page is a view of it. Otherwise the page is
+     * read from the ranked index under the writer monitor, walking only the skipped matches and the page,
+     * so that a page read after a write does not take the O(n) snapshot of all matches.
+     * @param offset Zero-based position of the first match of the page.
+     * @param limit Maximum number of matches in the page.
+     * @return An immutable list containing at most limit sorted matches.
+     * @throws IllegalArgumentException if the offset or the limit is negative.
+     */
+    @Override
+    public List<FootballMatch> getSummaryPage(int offset, int limit) {
+        validator.validatePage(offset, limit);
+        SummarySnapshot snapshot = summary;
+        if (snapshot.version() == version) {
+            return snapshot.page(offset, limit);
+        }
+        synchronized (this) {
+            snapshot = summary;
+            return snapshot.version() == version ? snapshot.page(offset, limit) : matches.page(offset, limit);
+        }
+    }
+
+    /**
+     * Retrieves the summary of the current version together with the version.
+     * @return The latest immutable summary snapshot.
+     */
+    @Override
+    public SummarySnapshot getSummarySnapshot() {
+        return currentSummary();
+    }
+
+    /**
+     * Retrieves the live match a team is playing in, with one lookup in the team index.
+     * The match is read from the current matches under the writer monitor, so it may be newer than the summary.
+     * @param team Name of the team, playing at home or away.
+     * @return The most recently started live match of the team, or null if the team is not playing.
+     */
+    @Override
+    public FootballMatch findMatchByTeam(String team) {
+        RankedMatch rankedMatch = findRankedMatchByTeam(team);
+        return rankedMatch != null ? rankedMatch.match() : null;
+    }
+
+    /**
+     * Retrieves the most recently started live match of a team together with its start sequence,
+     * so that the matches of several shards sharing the start sequence can be compared.
+     * @param team Name of the team, playing at home or away.
+     * @return The ranked live match of the team, or null if the team is not playing.
+     */
+    RankedMatch findRankedMatchByTeam(String team) {
+        int teamId = teams.idOf(team);
+        if (teamId == TeamRegistry.UNKNOWN_TEAM) {
+            return null;
+        }
+        synchronized (this) {
+            long matchKey = teamMatches.latestMatchOf(teamId);
+            return matchKey != TeamMatchIndex.NO_MATCH ? matches.rankedMatch(matches.find(matchKey)) : null;
+        }
+    }
+
+    /**
+     * Retrieves the leading matches of the current version in summary order, so that the shards of a
+     * {@link ShardedScoreboard} can be merged page by page. The materialized summary is returned if it is current;
+     * otherwise only the leading matches are read from the ranked index under the writer monitor.
+     * @param limit Minimum number of leading matches to include, unless the scoreboard has fewer.
+     * @return A snapshot of the current version, holding at least the first limit matches.
+     */
+    SummarySnapshot getLeadingSummary(int limit) {
+        SummarySnapshot snapshot = summary;
+        if (snapshot.version() == version) {
+            return snapshot;
+        }
+        synchronized (this) {
+            snapshot = summary;
+            return snapshot.version() == version ? snapshot : matches.snapshot(version, limit);
+        }
+    }
+
+    /**
+     * Retrieves the current version of the scoreboard.
+     * @return The current scoreboard version.
+     */
+    @Override
+    public long version() {
+        return version;
     }
 
     /**
@@ -76,10 +360,115 @@ public class FootballWorldCupScoreboard implements Scoreboard {
     @Override
     public void updateScore(String homeTeam, String awayTeam, int homeScore, int awayScore) {
         validator.validateScores(homeScore, awayScore);
-        String matchKey = validateTeamsAndGenerateMatchKey(homeTeam, awayTeam);
-        validator.validateIfMatchCanBeFound(matchKey, matches);
-        matches.put(matchKey, FootballMatch.withScores(homeTeam, awayTeam, homeScore, awayScore, clock));
-        updateSortedMatches();
+        validator.validateTeams(homeTeam, awayTeam);
+        // Unknown teams cannot be part of a live match, so they are looked up without registering
+        requireApplied(replaceMatch(teams.idOf(homeTeam), teams.idOf(awayTeam), homeScore, awayScore), homeTeam, awayTeam);
+    }
+
+    /**
+     * Updates the score of an existing match without throwing; no exception is created for rejected updates.
+     * @param homeTeam Name of the home team.
+     * @param awayTeam Name of the away team.
+     * @param homeScore Updated home team score.
+     * @param awayScore Updated away team score.
+     * @return The status of the operation.
+     */
+    @Override
+    public OperationStatus tryUpdateScore(String homeTeam, String awayTeam, int homeScore, int awayScore) {
+        if (!validator.isValidScores(homeScore, awayScore) || !validator.isValidTeams(homeTeam, awayTeam)) {
+            return OperationStatus.INVALID_ARGUMENT;
+        }
+        return replaceMatch(teams.idOf(homeTeam), teams.idOf(awayTeam), homeScore, awayScore);
+    }
+
+    /**
+     * Updates the score of an existing match using registered team identifiers.
+     * @param homeTeamId Identifier of the home team.
+     * @param awayTeamId Identifier of the away team.
+     * @param homeScore Updated home team score.
+     * @param awayScore Updated away team score.
+     * @throws IllegalArgumentException if the scores are negative or any team identifier is not registered.
+     * @throws MatchNotFoundException if the match does not exist.
+     */
+    public void updateScore(int homeTeamId, int awayTeamId, int homeScore, int awayScore) {
+        validator.validateScores(homeScore, awayScore);
+        String homeTeam = teams.nameOf(homeTeamId);
+        String awayTeam = teams.nameOf(awayTeamId);
+        requireApplied(replaceMatch(homeTeamId, awayTeamId, homeScore, awayScore), homeTeam, awayTeam);
+    }
+
+    /**
+     * Updates the score of an existing match from a feed event numbered by its source.
+     * The update is applied only if its sequence number is higher than that of the last sequenced update applied
+     * to the match, so redelivered or reordered events cannot overwrite a newer score. The sequence is checked
+     * under the writer monitor, so concurrent events of a match are applied in sequence order or dropped.
+     * Dropped events publish no version and are counted in {@link #droppedStaleUpdates()}. The last sequence is
+     * kept in the match store next to the scores, so the check allocates nothing; it is dropped with the match
+     * and not journaled, so the first sequenced update after a replay or restore is always applied.
+     * @param homeTeam Name of the home team.
+     * @param awayTeam Name of the away team.
+     * @param homeScore Updated home team score.
+     * @param awayScore Updated away team score.
+     * @param sourceSequence Sequence number of the event at its source, increasing for every event of the match.
+     * @return true if the update was applied, false if it was dropped as stale or duplicate.
+     * @throws IllegalArgumentException if the match data is not correct.
+     * @throws MatchNotFoundException if the match does not exist.
+     */
+    @Override
+    public boolean updateScore(String homeTeam, String awayTeam, int homeScore, int awayScore, long sourceSequence) {
+        validator.validateScores(homeScore, awayScore);
+        validator.validateTeams(homeTeam, awayTeam);
+        return replaceMatchIfCurrent(teams.idOf(homeTeam), teams.idOf(awayTeam), homeTeam, awayTeam,
+                homeScore, awayScore, sourceSequence, ANY_SCORE, ANY_SCORE);
+    }
+
+    /**
+     * Updates the score of an existing match only if its current score is the expected one, e.g. to apply
+     * a goal computed from a score read before. A conflicting update publishes no version and is counted in
+     * {@link #failedCompareAndSets()}.
+     * @param homeTeam Name of the home team.
+     * @param awayTeam Name of the away team.
+     * @param expectedHomeScore Home team score the match must have.
+     * @param expectedAwayScore Away team score the match must have.
+     * @param homeScore Updated home team score.
+     * @param awayScore Updated away team score.
+     * @return true if the update was applied, false if the match had another score.
+     * @throws IllegalArgumentException if the match data is not correct.
+     * @throws MatchNotFoundException if the match does not exist.
+     */
+    @Override
+    public boolean compareAndSetScore(String homeTeam, String awayTeam, int expectedHomeScore, int expectedAwayScore,
+                                      int homeScore, int awayScore) {
+        validator.validateScores(expectedHomeScore, expectedAwayScore);
+        validator.validateScores(homeScore, awayScore);
+        validator.validateTeams(homeTeam, awayTeam);
+        return replaceMatchIfCurrent(teams.idOf(homeTeam), teams.idOf(awayTeam), homeTeam, awayTeam,
+                homeScore, awayScore, MatchStore.NO_SOURCE_SEQUENCE, expectedHomeScore, expectedAwayScore);
+    }
+
+    /**
+     * Returns the number of sequenced updates dropped because they were not newer than the last applied one.
+     * @return The number of stale or duplicate updates.
+     */
+    public long droppedStaleUpdates() {
+        return droppedStaleUpdates.sum();
+    }
+
+    /**
+     * Returns the number of conditional updates dropped because the match did not have the expected score.
+     * @return The number of failed compare-and-set updates.
+     */
+    public long failedCompareAndSets() {
+        return failedCompareAndSets.sum();
+    }
+
+    /**
+     * Returns the number of summary snapshots of all matches taken, at most one per version. Page reads and
+     * writes without change event subscribers do not take any.
+     * @return The number of full summary snapshots.
+     */
+    public long summarySnapshots() {
+        return summarySnapshots.sum();
     }
 
     /**
@@ -91,33 +480,805 @@ public class FootballWorldCupScoreboard implements Scoreboard {
      */
     @Override
     public void finishMatch(String homeTeam, String awayTeam) {
-        String matchKey = validateTeamsAndGenerateMatchKey(homeTeam, awayTeam);
-        validator.validateIfMatchCanBeFound(matchKey, matches);
-        matches.remove(matchKey);
-        updateSortedMatches();
+        validator.validateTeams(homeTeam, awayTeam);
+        requireApplied(removeMatch(teams.idOf(homeTeam), teams.idOf(awayTeam)), homeTeam, awayTeam);
     }
 
     /**
-     * Validates team names and generates a unique key for a match.
+     * Finishes a match without throwing; no exception is created for rejected finishes.
      * @param homeTeam Name of the home team.
      * @param awayTeam Name of the away team.
-     * @return A unique match key.
+     * @return The status of the operation.
      */
-    private String validateTeamsAndGenerateMatchKey(String homeTeam, String awayTeam) {
-        validator.validateTeams(homeTeam, awayTeam);
-        return homeTeam + MATCH_KEY_SEPARATOR + awayTeam;
+    @Override
+    public OperationStatus tryFinishMatch(String homeTeam, String awayTeam) {
+        if (!validator.isValidTeams(homeTeam, awayTeam)) {
+            return OperationStatus.INVALID_ARGUMENT;
+        }
+        return removeMatch(teams.idOf(homeTeam), teams.idOf(awayTeam));
+    }
+
+    /**
+     * Finishes match and removes it from the scoreboard using registered team identifiers.
+     * @param homeTeamId Identifier of the home team.
+     * @param awayTeamId Identifier of the away team.
+     * @throws IllegalArgumentException if any team identifier is not registered.
+     * @throws MatchNotFoundException if the match does not exist.
+     */
+    public void finishMatch(int homeTeamId, int awayTeamId) {
+        String homeTeam = teams.nameOf(homeTeamId);
+        String awayTeam = teams.nameOf(awayTeamId);
+        requireApplied(removeMatch(homeTeamId, awayTeamId), homeTeam, awayTeam);
+    }
+
+    /**
+     * Retrieves the publisher of change events: match started, score changed, match finished and rank moved.
+     * Each subscriber is served asynchronously from its own bounded buffer. Events that do not fit into
+     * the buffer of a slow subscriber are dropped for that subscriber, so writers are never stalled.
+     * @return The publisher of scoreboard change events.
+     */
+    public Flow.Publisher<ScoreboardEvent> changes() {
+        return events;
+    }
+
+    /**
+     * Retrieves the archive of the final results of finished matches.
+     * Matches finished while replaying the journal are not archived.
+     * @return The match archive.
+     */
+    public MatchArchive archive() {
+        return archive;
+    }
+
+    /**
+     * Returns the number of change events dropped because a subscriber buffer was full.
+     * @return The number of dropped events, counted once per subscriber.
+     */
+    public long droppedChangeEvents() {
+        return events.droppedEvents();
+    }
+
+    /**
+     * Starts recording every later modification in a replication log, from which a primary streams them to
+     * its replicas. Replicas take a snapshot first and then apply the frames following its version.
+     * @param log The log to record in, or null to stop recording.
+     */
+    public synchronized void replicateTo(ReplicationLog log) {
+        if (log != null) {
+            log.attachedAt(version);
+        }
+        replicationLog = log;
+    }
+
+    /**
+     * Applies a frame of modifications replicated from a primary scoreboard under a single hold of the writer
+     * monitor and publishes it as one version. Start times are taken from the records, so matches keep the
+     * start times of the primary. The records are journaled and recorded for replicas of this scoreboard as well.
+     * @param records Passes the records of the frame, in order, to the given visitor.
+     * @throws MatchException if a record does not fit the matches of this scoreboard, which then diverges
+     *                        from the primary and should be restored from a new snapshot.
+     */
+    public void applyReplicated(Consumer<JournalVisitor> records) {
+        long journalPosition;
+        long lockRequested = lockRequested();
+        synchronized (this) {
+            lockAcquired(lockRequested);
+            prepareChangeEvents();
+            try {
+                records.accept(new JournalVisitor() {
+                    @Override
+                    public void matchStarted(String homeTeam, String awayTeam, Instant startTime) {
+                        int homeTeamId = teams.register(homeTeam);
+                        int awayTeamId = teams.register(awayTeam);
+                        requireApplied(insertMatch(homeTeamId, awayTeamId, startTime), homeTeam, awayTeam);
+                        journalStart(homeTeamId, awayTeamId, startTime);
+                    }
+
+                    @Override
+                    public void scoreUpdated(String homeTeam, String awayTeam, int homeScore, int awayScore) {
+                        int homeTeamId = teams.idOf(homeTeam);
+                        int awayTeamId = teams.idOf(awayTeam);
+                        requireApplied(rescoreMatch(homeTeamId, awayTeamId, homeScore, awayScore), homeTeam, awayTeam);
+                        journalUpdate(homeTeamId, awayTeamId, homeScore, awayScore);
+                    }
+
+                    @Override
+                    public void matchFinished(String homeTeam, String awayTeam) {
+                        int homeTeamId = teams.idOf(homeTeam);
+                        int awayTeamId = teams.idOf(awayTeam);
+                        requireApplied(deleteMatch(homeTeamId, awayTeamId, true), homeTeam, awayTeam);
+                        journalFinish(homeTeamId, awayTeamId);
+                    }
+                });
+            } finally {
+                // Records applied before a failing one are published, as they have changed the matches
+                publishSummary();
+                journalPosition = commitJournal();
+            }
+        }
+        awaitDurable(journalPosition);
+    }
+
+    /**
+     * Returns the identifier of a team, registering the team if it is not known yet.
+     * The identifier can be used with the id-based overloads of the scoreboard operations.
+     * @param teamName Name of the team.
+     * @return The team identifier.
+     * @throws IllegalArgumentException if the team name is null or empty.
+     */
+    public int registerTeam(String teamName) {
+        validator.validateTeams(teamName, teamName);
+        return teams.register(teamName);
+    }
+
+    /**
+     * Writes a binary checkpoint of the latest published summary, including team names, scores,
+     * start times and start sequence numbers. Writers are not blocked while the checkpoint is written.
+     * @param channel Channel to write the checkpoint to.
+     * @throws IOException if the checkpoint cannot be written.
+     */
+    public void snapshotTo(WritableByteChannel channel) throws IOException {
+        ScoreboardCheckpoint.write(channel, currentSummary());
+    }
+
+    /**
+     * Replaces all live matches with the matches of a checkpoint written by {@link #snapshotTo(WritableByteChannel)}.
+     * The checkpoint is read and verified before the writer monitor is taken, and the ranked index is
+     * built in a single pass from the stored summary order. No change events are emitted for a restore;
+     * subscribers should re-read the summary. A durable scoreboard journals the restore as one frame.
+     * @param channel Channel to read the checkpoint from.
+     * @throws IOException if the checkpoint cannot be read or is not valid, or if it contains two matches of
+     *                     a team while only one live match per team is allowed.
+     */
+    public void restoreFrom(ReadableByteChannel channel) throws IOException {
+        List<RankedMatch> restored = new ArrayList<>();
+        long checkpointVersion = ScoreboardCheckpoint.read(channel,
+                (homeTeam, awayTeam, homeScore, awayScore, startTime, sequence) -> {
+                    // Canonical names are kept, so restored matches share the strings of the registry
+                    String home = teams.nameOf(teams.register(homeTeam));
+                    String away = teams.nameOf(teams.register(awayTeam));
+                    FootballMatch match = new FootballMatch(home, away, new MatchScores(homeScore, awayScore), startTime);
+                    restored.add(new RankedMatch(match, sequence));
+                });
+
+        long[] matchKeys = new long[restored.size()];
+        TeamMatchIndex restoredTeamMatches = new TeamMatchIndex();
+        long lastSequence = -1;
+        for (int i = 0; i < restored.size(); i++) {
+            RankedMatch rankedMatch = restored.get(i);
+            if (i > 0 && RankedMatch.SUMMARY_ORDER.compare(restored.get(i - 1), rankedMatch) >= 0) {
+                throw new IOException(ScoreboardCheckpoint.INVALID_CHECKPOINT_ERROR + "matches out of summary order");
+            }
+            FootballMatch match = rankedMatch.match();
+            matchKeys[i] = MatchTable.key(teams.idOf(match.homeTeam()), teams.idOf(match.awayTeam()));
+            lastSequence = Math.max(lastSequence, rankedMatch.startSequence());
+        }
+        // The team index returns the match of a team added last, so matches are added in start order
+        List<RankedMatch> startOrder = new ArrayList<>(restored);
+        startOrder.sort(Comparator.comparingLong(RankedMatch::startSequence));
+        for (RankedMatch rankedMatch : startOrder) {
+            FootballMatch match = rankedMatch.match();
+            int homeTeamId = teams.idOf(match.homeTeam());
+            int awayTeamId = teams.idOf(match.awayTeam());
+            if (oneLiveMatchPerTeam
+                    && (restoredTeamMatches.isPlaying(homeTeamId) || restoredTeamMatches.isPlaying(awayTeamId))) {
+                throw new IOException(ScoreboardCheckpoint.INVALID_CHECKPOINT_ERROR + "team already playing in "
+                        + Validator.matchKey(match.homeTeam(), match.awayTeam()));
+            }
+            restoredTeamMatches.add(MatchTable.key(homeTeamId, awayTeamId));
+        }
+        MatchStore restoredMatches = storage.createStore(teams::nameOf);
+        int duplicate = restoredMatches.load(matchKeys, restored);
+        if (duplicate >= 0) {
+            FootballMatch match = restored.get(duplicate).match();
+            throw new IOException(ScoreboardCheckpoint.INVALID_CHECKPOINT_ERROR + "duplicate match "
+                    + Validator.matchKey(match.homeTeam(), match.awayTeam()));
+        }
+
+        long journalPosition;
+        synchronized (this) {
+            journalRestore(restored);
+            matches = restoredMatches;
+            teamMatches = restoredTeamMatches;
+            startSequence.accumulateAndGet(lastSequence + 1, Math::max);
+            // The version never goes back, so readers comparing versions notice the restore
+            summary = new SummarySnapshot(Math.max(checkpointVersion, nextVersion()), restored);
+            version = summary.version();
+            journalPosition = commitJournal();
+        }
+        awaitDurable(journalPosition);
+    }
+
+    /**
+     * Applies a batch of commands under a single hold of the writer monitor.
+     * Each command is validated and applied on its own, so a failing command does not affect the others,
+     * but the summary is published only once for the whole batch.
+     * @param commands Commands to apply, in order.
+     * @return The result of each command, in the order of the commands.
+     */
+    @Override
+    public List<CommandResult> applyAll(List<ScoreboardCommand> commands) {
+        List<CommandResult> results = new ArrayList<>(commands.size());
+        long journalPosition;
+        long lockRequested = lockRequested();
+        synchronized (this) {
+            lockAcquired(lockRequested);
+            prepareChangeEvents();
+            boolean modified = false;
+            for (ScoreboardCommand command : commands) {
+                try {
+                    if (applyCommand(command)) {
+                        results.add(CommandResult.success(command));
+                        modified = true;
+                    } else {
+                        results.add(CommandResult.dropped(command));
+                    }
+                } catch (MatchException | IllegalArgumentException e) {
+                    results.add(CommandResult.failure(command, e));
+                }
+            }
+            if (modified) {
+                publishSummary();
+            }
+            journalPosition = commitJournal();
+        }
+        // One flush covers the whole batch
+        awaitDurable(journalPosition);
+        return results;
+    }
+
+    /**
+     * Validates, applies and journals a single command without publishing the summary.
+     * Must be called holding the writer monitor.
+     * @param command The command to apply.
+     * @return true if the command was applied, false if a sequenced or conditional update was dropped.
+     * @throws IllegalArgumentException if the command data is not correct.
+     * @throws MatchException if the match state does not allow the command.
+     */
+    private boolean applyCommand(ScoreboardCommand command) {
+        switch (command) {
+            case ScoreboardCommand.StartMatch start -> {
+                validator.validateTeams(start.homeTeam(), start.awayTeam());
+                Instant startTime = Instant.now(clock);
+                requireApplied(insertMatch(start.homeTeam(), start.awayTeam(), startTime),
+                        start.homeTeam(), start.awayTeam());
+                journalStart(teams.idOf(start.homeTeam()), teams.idOf(start.awayTeam()), startTime);
+            }
+            case ScoreboardCommand.UpdateScore update -> {
+                validator.validateScores(update.homeScore(), update.awayScore());
+                validator.validateTeams(update.homeTeam(), update.awayTeam());
+                int homeTeamId = teams.idOf(update.homeTeam());
+                int awayTeamId = teams.idOf(update.awayTeam());
+                requireApplied(rescoreMatch(homeTeamId, awayTeamId, update.homeScore(), update.awayScore()),
+                        update.homeTeam(), update.awayTeam());
+                journalUpdate(homeTeamId, awayTeamId, update.homeScore(), update.awayScore());
+            }
+            case ScoreboardCommand.SequencedUpdate update -> {
+                validator.validateScores(update.homeScore(), update.awayScore());
+                validator.validateTeams(update.homeTeam(), update.awayTeam());
+                return rescoreMatchIfCurrent(update.homeTeam(), update.awayTeam(), update.homeScore(),
+                        update.awayScore(), update.sourceSequence(), ANY_SCORE, ANY_SCORE);
+            }
+            case ScoreboardCommand.ConditionalUpdate update -> {
+                validator.validateScores(update.expectedHomeScore(), update.expectedAwayScore());
+                validator.validateScores(update.homeScore(), update.awayScore());
+                validator.validateTeams(update.homeTeam(), update.awayTeam());
+                return rescoreMatchIfCurrent(update.homeTeam(), update.awayTeam(), update.homeScore(),
+                        update.awayScore(), MatchStore.NO_SOURCE_SEQUENCE, update.expectedHomeScore(),
+                        update.expectedAwayScore());
+            }
+            case ScoreboardCommand.FinishMatch finish -> {
+                validator.validateTeams(finish.homeTeam(), finish.awayTeam());
+                int homeTeamId = teams.idOf(finish.homeTeam());
+                int awayTeamId = teams.idOf(finish.awayTeam());
+                requireApplied(deleteMatch(homeTeamId, awayTeamId, true), finish.homeTeam(), finish.awayTeam());
+                journalFinish(homeTeamId, awayTeamId);
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Applies and journals a sequenced or conditional update of a batch if it is current, without publishing
+     * the summary. Must be called holding the writer monitor.
+     * @return true if the update was applied, false if it was dropped.
+     * @throws MatchNotFoundException if the match does not exist.
+     */
+    private boolean rescoreMatchIfCurrent(String homeTeam, String awayTeam, int homeScore, int awayScore,
+                                          long sourceSequence, int expectedHomeScore, int expectedAwayScore) {
+        int homeTeamId = teams.idOf(homeTeam);
+        int awayTeamId = teams.idOf(awayTeam);
+        if (!acceptUpdate(MatchTable.key(homeTeamId, awayTeamId), homeTeam, awayTeam, sourceSequence,
+                expectedHomeScore, expectedAwayScore)) {
+            return false;
+        }
+        rescoreMatch(homeTeamId, awayTeamId, homeScore, awayScore);
+        journalUpdate(homeTeamId, awayTeamId, homeScore, awayScore);
+        return true;
+    }
+
+    /**
+     * Adds a new match, journals it, publishes the summary and waits for the journal to become durable.
+     * @param homeTeam Name of the home team.
+     * @param awayTeam Name of the away team.
+     * @return {@link OperationStatus#APPLIED}, {@link OperationStatus#MATCH_ALREADY_EXISTS},
+     *         or {@link OperationStatus#TEAM_ALREADY_PLAYING}.
+     */
+    private OperationStatus addMatch(String homeTeam, String awayTeam) {
+        long journalPosition;
+        long lockRequested = lockRequested();
+        synchronized (this) {
+            lockAcquired(lockRequested);
+            prepareChangeEvents();
+            Instant startTime = Instant.now(clock);
+            OperationStatus status = insertMatch(homeTeam, awayTeam, startTime);
+            if (status != OperationStatus.APPLIED) {
+                return status;
+            }
+            journalStart(teams.idOf(homeTeam), teams.idOf(awayTeam), startTime);
+            publishSummary();
+            journalPosition = commitJournal();
+        }
+        awaitDurable(journalPosition);
+        return OperationStatus.APPLIED;
+    }
+
+    /**
+     * Updates the scores of an existing match, journals the update, publishes the summary
+     * and waits for the journal to become durable.
+     * @param homeTeamId Identifier of the home team.
+     * @param awayTeamId Identifier of the away team.
+     * @param homeScore Updated home team score.
+     * @param awayScore Updated away team score.
+     * @return {@link OperationStatus#APPLIED}, or {@link OperationStatus#MATCH_NOT_FOUND}.
+     */
+    private OperationStatus replaceMatch(int homeTeamId, int awayTeamId, int homeScore, int awayScore) {
+        long journalPosition;
+        long lockRequested = lockRequested();
+        synchronized (this) {
+            lockAcquired(lockRequested);
+            prepareChangeEvents();
+            OperationStatus status = rescoreMatch(homeTeamId, awayTeamId, homeScore, awayScore);
+            if (status != OperationStatus.APPLIED) {
+                return status;
+            }
+            journalUpdate(homeTeamId, awayTeamId, homeScore, awayScore);
+            publishSummary();
+            journalPosition = commitJournal();
+        }
+        awaitDurable(journalPosition);
+        return OperationStatus.APPLIED;
+    }
+
+    /**
+     * Updates the scores of an existing match if the update is current for the state of the match, journals
+     * the update, publishes the summary and waits for the journal to become durable.
+     * @param homeTeamId Identifier of the home team.
+     * @param awayTeamId Identifier of the away team.
+     * @param homeTeam Name of the home team.
+     * @param awayTeam Name of the away team.
+     * @param homeScore Updated home team score.
+     * @param awayScore Updated away team score.
+     * @param sourceSequence Sequence the last sequenced update must be lower than,
+     *                       or {@link MatchStore#NO_SOURCE_SEQUENCE}.
+     * @param expectedHomeScore Home team score the match must have, or {@link #ANY_SCORE}.
+     * @param expectedAwayScore Away team score the match must have, or {@link #ANY_SCORE}.
+     * @return true if the update was applied, false if it was dropped.
+     * @throws MatchNotFoundException if the match does not exist.
+     */
+    private boolean replaceMatchIfCurrent(int homeTeamId, int awayTeamId, String homeTeam, String awayTeam,
+                                          int homeScore, int awayScore, long sourceSequence,
+                                          int expectedHomeScore, int expectedAwayScore) {
+        long journalPosition;
+        long lockRequested = lockRequested();
+        synchronized (this) {
+            lockAcquired(lockRequested);
+            if (!acceptUpdate(MatchTable.key(homeTeamId, awayTeamId), homeTeam, awayTeam, sourceSequence,
+                    expectedHomeScore, expectedAwayScore)) {
+                return false;
+            }
+            prepareChangeEvents();
+            rescoreMatch(homeTeamId, awayTeamId, homeScore, awayScore);
+            journalUpdate(homeTeamId, awayTeamId, homeScore, awayScore);
+            publishSummary();
+            journalPosition = commitJournal();
+        }
+        awaitDurable(journalPosition);
+        return true;
+    }
+
+    /**
+     * Decides whether a sequenced or conditional update of an existing match is applied, and records the source
+     * sequence of an accepted sequenced update. Dropped updates are counted.
+     * Must be called holding the writer monitor.
+     * @param matchKey Packed key of the match.
+     * @param homeTeam Name of the home team.
+     * @param awayTeam Name of the away team.
+     * @param sourceSequence Sequence the last sequenced update must be lower than,
+     *                       or {@link MatchStore#NO_SOURCE_SEQUENCE}.
+     * @param expectedHomeScore Home team score the match must have, or {@link #ANY_SCORE}.
+     * @param expectedAwayScore Away team score the match must have, or {@link #ANY_SCORE}.
+     * @return true if the update is to be applied, false if it is dropped.
+     * @throws MatchNotFoundException if the match does not exist.
+     */
+    private boolean acceptUpdate(long matchKey, String homeTeam, String awayTeam, long sourceSequence,
+                                 int expectedHomeScore, int expectedAwayScore) {
+        int handle = matches.find(matchKey);
+        validator.validateExistingMatch(homeTeam, awayTeam, handle != MatchStore.NOT_FOUND);
+        if (sourceSequence != MatchStore.NO_SOURCE_SEQUENCE) {
+            if (sourceSequence <= matches.sourceSequence(handle)) {
+                droppedStaleUpdates.increment();
+                return false;
+            }
+            matches.setSourceSequence(handle, sourceSequence);
+        }
+        if (expectedHomeScore != ANY_SCORE && !matches.hasScores(handle, expectedHomeScore, expectedAwayScore)) {
+            failedCompareAndSets.increment();
+            return false;
+        }
+        return true;
+    }
+
+    /**
+     * Removes an existing match, journals it, publishes the summary and waits for the journal to become durable.
+     * @param homeTeamId Identifier of the home team.
+     * @param awayTeamId Identifier of the away team.
+     * @return {@link OperationStatus#APPLIED}, or {@link OperationStatus#MATCH_NOT_FOUND}.
+     */
+    private OperationStatus removeMatch(int homeTeamId, int awayTeamId) {
+        long journalPosition;
+        long lockRequested = lockRequested();
+        synchronized (this) {
+            lockAcquired(lockRequested);
+            prepareChangeEvents();
+            OperationStatus status = deleteMatch(homeTeamId, awayTeamId, true);
+            if (status != OperationStatus.APPLIED) {
+                return status;
+            }
+            journalFinish(homeTeamId, awayTeamId);
+            publishSummary();
+            journalPosition = commitJournal();
+        }
+        awaitDurable(journalPosition);
+        return OperationStatus.APPLIED;
+    }
+
+    /**
+     * Adds a new match to the match store and the team index.
+     * Must be called holding the writer monitor.
+     * @param homeTeamId Identifier of the home team.
+     * @param awayTeamId Identifier of the away team.
+     * @param startTime Start time of the match.
+     * @return {@link OperationStatus#APPLIED}, {@link OperationStatus#MATCH_ALREADY_EXISTS},
+     *         or {@link OperationStatus#TEAM_ALREADY_PLAYING}.
+     */
+    private OperationStatus insertMatch(int homeTeamId, int awayTeamId, Instant startTime) {
+        OperationStatus status = startStatus(homeTeamId, awayTeamId);
+        if (status != OperationStatus.APPLIED) {
+            return status;
+        }
+        addStartedMatch(homeTeamId, awayTeamId, startTime);
+        return OperationStatus.APPLIED;
+    }
+
+    /**
+     * Adds a new match of teams given by name. The teams are only registered once the start is accepted,
+     * so that rejected starts of unknown teams do not grow the team registry.
+     * Must be called holding the writer monitor.
+     * @param homeTeam Name of the home team.
+     * @param awayTeam Name of the away team.
+     * @param startTime Start time of the match.
+     * @return {@link OperationStatus#APPLIED}, {@link OperationStatus#MATCH_ALREADY_EXISTS},
+     *         or {@link OperationStatus#TEAM_ALREADY_PLAYING}.
+     */
+    private OperationStatus insertMatch(String homeTeam, String awayTeam, Instant startTime) {
+        OperationStatus status = startStatus(teams.idOf(homeTeam), teams.idOf(awayTeam));
+        if (status != OperationStatus.APPLIED) {
+            return status;
+        }
+        addStartedMatch(teams.register(homeTeam), teams.register(awayTeam), startTime);
+        return OperationStatus.APPLIED;
+    }
+
+    /**
+     * Checks whether a match may be started. A team that was never registered has no live match.
+     * Must be called holding the writer monitor.
+     * @param homeTeamId Identifier of the home team, or {@link TeamRegistry#UNKNOWN_TEAM}.
+     * @param awayTeamId Identifier of the away team, or {@link TeamRegistry#UNKNOWN_TEAM}.
+     * @return {@link OperationStatus#APPLIED} if the match may be started, {@link OperationStatus#MATCH_ALREADY_EXISTS},
+     *         or {@link OperationStatus#TEAM_ALREADY_PLAYING}.
+     */
+    private OperationStatus startStatus(int homeTeamId, int awayTeamId) {
+        boolean registered = homeTeamId != TeamRegistry.UNKNOWN_TEAM && awayTeamId != TeamRegistry.UNKNOWN_TEAM;
+        if (registered && matches.find(MatchTable.key(homeTeamId, awayTeamId)) != MatchStore.NOT_FOUND) {
+            return OperationStatus.MATCH_ALREADY_EXISTS;
+        }
+        if (oneLiveMatchPerTeam && (teamMatches.isPlaying(homeTeamId) || teamMatches.isPlaying(awayTeamId))) {
+            return OperationStatus.TEAM_ALREADY_PLAYING;
+        }
+        return OperationStatus.APPLIED;
+    }
+
+    /**
+     * Adds a match that may be started to the match store and the team index.
+     * Must be called holding the writer monitor.
+     * @param homeTeamId Identifier of the home team.
+     * @param awayTeamId Identifier of the away team.
+     * @param startTime Start time of the match.
+     */
+    private void addStartedMatch(int homeTeamId, int awayTeamId, Instant startTime) {
+        long matchKey = MatchTable.key(homeTeamId, awayTeamId);
+        matches.insert(matchKey, teams.nameOf(homeTeamId), teams.nameOf(awayTeamId), startTime,
+                startSequence.getAndIncrement());
+        teamMatches.add(matchKey);
+        if (events.hasSubscribers()) {
+            events.matchStarted(nextVersion(), matches.rankedMatch(matches.find(matchKey)));
+        }
+    }
+
+    /**
+     * Updates the scores of an existing match in place and repositions it in the summary order.
+     * The original start time is kept, so a goal does not change the tie-break order.
+     * Nothing is allocated unless change events are recorded for subscribers.
+     * Must be called holding the writer monitor.
+     * @param homeTeamId Identifier of the home team.
+     * @param awayTeamId Identifier of the away team.
+     * @param homeScore Updated home team score.
+     * @param awayScore Updated away team score.
+     * @return {@link OperationStatus#APPLIED}, or {@link OperationStatus#MATCH_NOT_FOUND}.
+     */
+    private OperationStatus rescoreMatch(int homeTeamId, int awayTeamId, int homeScore, int awayScore) {
+        long matchKey = MatchTable.key(homeTeamId, awayTeamId);
+        int handle = matches.find(matchKey);
+        if (handle == MatchStore.NOT_FOUND) {
+            return OperationStatus.MATCH_NOT_FOUND;
+        }
+        if (events.hasSubscribers()) {
+            RankedMatch previous = matches.rankedMatch(handle);
+            matches.updateScores(handle, homeScore, awayScore);
+            events.scoreChanged(nextVersion(), matchKey, previous, matches.rankedMatch(handle));
+        } else {
+            matches.updateScores(handle, homeScore, awayScore);
+        }
+        return OperationStatus.APPLIED;
+    }
+
+    /**
+     * Removes an existing match from the match store and the team index.
+     * Must be called holding the writer monitor.
+     * @param homeTeamId Identifier of the home team.
+     * @param awayTeamId Identifier of the away team.
+     * @param archived Whether the final result is archived; false while replaying, as the finish time is unknown.
+     * @return {@link OperationStatus#APPLIED}, or {@link OperationStatus#MATCH_NOT_FOUND}.
+     */
+    private OperationStatus deleteMatch(int homeTeamId, int awayTeamId, boolean archived) {
+        long matchKey = MatchTable.key(homeTeamId, awayTeamId);
+        int handle = matches.find(matchKey);
+        if (handle == MatchStore.NOT_FOUND) {
+            return OperationStatus.MATCH_NOT_FOUND;
+        }
+        if (events.hasSubscribers()) {
+            events.matchFinished(nextVersion(), matchKey, matches.rankedMatch(handle));
+        }
+        if (archived) {
+            archive.archive(matches.rankedMatch(handle).match(), Instant.now(clock));
+        }
+        matches.remove(handle);
+        teamMatches.remove(matchKey);
+        return OperationStatus.APPLIED;
+    }
+
+    /**
+     * Translates a rejected operation into the exception of the throwing API.
+     * @param status Status of the operation.
+     * @param homeTeam Name of the home team.
+     * @param awayTeam Name of the away team.
+     * @throws MatchAlreadyExistsException if the match already exists.
+     * @throws TeamAlreadyPlayingException if a team of the match is already playing.
+     * @throws MatchNotFoundException if the match does not exist.
+     */
+    private void requireApplied(OperationStatus status, String homeTeam, String awayTeam) {
+        validator.validateNoExistingMatch(homeTeam, awayTeam, status == OperationStatus.MATCH_ALREADY_EXISTS);
+        validator.validateTeamsNotPlaying(homeTeam, awayTeam, status == OperationStatus.TEAM_ALREADY_PLAYING);
+        validator.validateExistingMatch(homeTeam, awayTeam, status != OperationStatus.MATCH_NOT_FOUND);
+    }
+
+    /**
+     * Rebuilds the matches recorded in the journal and publishes them as one summary.
+     * Replayed records are not journaled again.
+     * @throws UncheckedIOException if the journal cannot be replayed.
+     */
+    private synchronized void replayJournal() {
+        try {
+            journal.replay(new JournalVisitor() {
+                @Override
+                public void matchStarted(String homeTeam, String awayTeam, Instant startTime) {
+                    requireApplied(insertMatch(teams.register(homeTeam), teams.register(awayTeam), startTime),
+                            homeTeam, awayTeam);
+                }
+
+                @Override
+                public void scoreUpdated(String homeTeam, String awayTeam, int homeScore, int awayScore) {
+                    requireApplied(rescoreMatch(teams.idOf(homeTeam), teams.idOf(awayTeam), homeScore, awayScore),
+                            homeTeam, awayTeam);
+                }
+
+                @Override
+                public void matchFinished(String homeTeam, String awayTeam) {
+                    requireApplied(deleteMatch(teams.idOf(homeTeam), teams.idOf(awayTeam), false), homeTeam, awayTeam);
+                }
+            });
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        if (matches.size() > 0) {
+            publishSummary();
+        }
+    }
+
+    private void journalStart(int homeTeamId, int awayTeamId, Instant startTime) {
+        if (journal != null) {
+            journal.matchStarted(homeTeamId, teams.nameOf(homeTeamId), awayTeamId, teams.nameOf(awayTeamId), startTime);
+        }
+        if (replicationLog != null) {
+            replicationLog.matchStarted(teams.nameOf(homeTeamId), teams.nameOf(awayTeamId), startTime);
+        }
+    }
+
+    /**
+     * Stages a restore in the journal and the replication log: the current matches are finished and the restored
+     * matches are started in start sequence order, so that a replay rebuilds the same tie-break order.
+     * Must be called holding the writer monitor, before the current matches are replaced.
+     * @param restored The restored matches.
+     */
+    private void journalRestore(List<RankedMatch> restored) {
+        if (journal == null && replicationLog == null) {
+            return;
+        }
+        for (RankedMatch current : materializeSummary().ranking()) {
+            FootballMatch match = current.match();
+            journalFinish(teams.idOf(match.homeTeam()), teams.idOf(match.awayTeam()));
+        }
+        List<RankedMatch> startOrder = new ArrayList<>(restored);
+        startOrder.sort(Comparator.comparingLong(RankedMatch::startSequence));
+        for (RankedMatch rankedMatch : startOrder) {
+            FootballMatch match = rankedMatch.match();
+            int homeTeamId = teams.idOf(match.homeTeam());
+            int awayTeamId = teams.idOf(match.awayTeam());
+            journalStart(homeTeamId, awayTeamId, match.startTime());
+            if (match.getTotalScore() > 0) {
+                journalUpdate(homeTeamId, awayTeamId, match.getHomeScore(), match.getAwayScore());
+            }
+        }
+    }
+
+    private void journalUpdate(int homeTeamId, int awayTeamId, int homeScore, int awayScore) {
+        if (journal != null) {
+            journal.scoreUpdated(homeTeamId, teams.nameOf(homeTeamId), awayTeamId, teams.nameOf(awayTeamId),
+                    homeScore, awayScore);
+        }
+        if (replicationLog != null) {
+            replicationLog.scoreUpdated(teams.nameOf(homeTeamId), teams.nameOf(awayTeamId), homeScore, awayScore);
+        }
+    }
+
+    private void journalFinish(int homeTeamId, int awayTeamId) {
+        if (journal != null) {
+            journal.matchFinished(homeTeamId, teams.nameOf(homeTeamId), awayTeamId, teams.nameOf(awayTeamId));
+        }
+        if (replicationLog != null) {
+            replicationLog.matchFinished(teams.nameOf(homeTeamId), teams.nameOf(awayTeamId));
+        }
+    }
+
+    /**
+     * Writes the journal records staged since the last commit as one frame, and commits the staged replication
+     * records as one frame of the current version.
+     * Must be called holding the writer monitor, after the modification was published.
+     * @return The journal position to await for durability, or 0 without a journal.
+     */
+    private long commitJournal() {
+        if (replicationLog != null) {
+            replicationLog.commit(version);
+        }
+        return journal != null ? journal.commit() : 0;
+    }
+
+    /**
+     * Waits for the journal to become durable up to a position, outside the writer monitor,
+     * so that concurrent writers can share one flush.
+     * @param journalPosition Position returned by {@link #commitJournal()}.
+     */
+    private void awaitDurable(long journalPosition) {
+        if (journal != null) {
+            journal.awaitDurable(journalPosition);
+        }
+    }
+
+    /**
+     * Returns the version that the changes applied since the last publish will be published with.
+     * Must be called holding the writer monitor.
+     * @return The next scoreboard version.
+     */
+    private long nextVersion() {
+        return version + 1;
+    }
+
+    /**
+     * Returns the summary of the current version, materializing it if no reader has asked for it yet.
+     * Materializing walks all matches, but records are only recreated for matches whose scores changed.
+     * @return The summary snapshot of the current version.
+     */
+    private SummarySnapshot currentSummary() {
+        SummarySnapshot snapshot = summary;
+        if (snapshot.version() == version) {
+            return snapshot;
+        }
+        synchronized (this) {
+            return materializeSummary();
+        }
+    }
+
+    /**
+     * Takes the snapshot of the current version from the ranked index unless it was already taken.
+     * Must be called holding the writer monitor.
+     * @return The summary snapshot of the current version.
+     */
+    private SummarySnapshot materializeSummary() {
+        if (summary.version() != version) {
+            summary = matches.snapshot(version);
+            summarySnapshots.increment();
+        }
+        return summary;
+    }
+
+    /**
+     * Materializes the summary before a modification while anybody listens to change events,
+     * as rank moves are detected by comparing it with the summary after the modification.
+     * Must be called holding the writer monitor.
+     */
+    private void prepareChangeEvents() {
+        if (events.hasSubscribers()) {
+            materializeSummary();
+        }
+    }
+
+    /**
+     * Publishes a new version and offers the collected change events.
+     * The summary snapshot is only taken when there are change events to offer; otherwise the first reader
+     * of the version takes it. Called by writers holding the monitor; readers pick the version up through
+     * the volatile field.
+     */
+    private void publishSummary() {
+        long started = metrics != null ? System.nanoTime() : 0;
+        long publishedVersion = nextVersion();
+        if (events.hasPendingEvents()) {
+            SummarySnapshot previous = summary;
+            summary = matches.snapshot(publishedVersion);
+            summarySnapshots.increment();
+            events.publish(previous, summary);
+        }
+        version = publishedVersion;
+        if (metrics != null) {
+            metrics.recordSummaryPublish(System.nanoTime() - started);
+        }
+    }
+
+    /**
+     * Reads the time before a writer requests the monitor, only when the scoreboard is instrumented.
+     * @return The current time in nanoseconds, or 0 without metrics.
+     */
+    private long lockRequested() {
+        return metrics != null ? System.nanoTime() : 0;
     }
 
     /**
-     * Thread-safe updates a sorted list of matches based on total score and start time.
-     * This method ensures that the matches remain correctly ordered.
+     * Records how long a writer waited for the monitor, only when the scoreboard is instrumented.
+     * @param lockRequested Value returned by {@link #lockRequested()} before the monitor was requested.
      */
-    private synchronized void updateSortedMatches() {
-        sortedMatches = matches.values().stream()
-                .sorted(Comparator
-                        .comparingInt(FootballMatch::getTotalScore).reversed()
-                        .thenComparing(FootballMatch::startTime, Comparator.reverseOrder())
-                )
-                .toList();
+    private void lockAcquired(long lockRequested) {
+        if (metrics != null) {
+            metrics.recordLockWait(System.nanoTime() - lockRequested);
+        }
     }
 }
@@ -0,0 +1,327 @@
+package com.sportradar.test.lib;
+
+import com.sportradar.test.lib.command.CommandResult;
+import com.sportradar.test.lib.command.OperationStatus;
+import com.sportradar.test.lib.command.ScoreboardCommand;
+import com.sportradar.test.lib.domain.FootballMatch;
+import com.sportradar.test.lib.exception.MatchAlreadyExistsException;
+import com.sportradar.test.lib.exception.MatchNotFoundException;
+import com.sportradar.test.lib.metrics.ScoreboardMetrics;
+import com.sportradar.test.lib.metrics.ScoreboardOperation;
+import com.sportradar.test.lib.ranking.SummarySnapshot;
+import java.util.List;
+
+/**
+ * Scoreboard decorator recording call counts, failures by exception type and latencies of every operation.
+ * Failed calls are recorded and the exception is rethrown unchanged; rejections of the exception-free operations
+ * are recorded under the exception type the throwing operation would have failed with. Failed commands of a batch are
+ * recorded as failures of {@link ScoreboardOperation#APPLY_ALL}.
+ */
+public class InstrumentedScoreboard implements Scoreboard {
+
+    private final Scoreboard delegate;
+    private final ScoreboardMetrics metrics;
+
+    /**
+     * Constructs a decorator around a scoreboard.
+     * @param delegate The scoreboard to instrument.
+     * @param metrics Metrics to record the operations in.
+     */
+    public InstrumentedScoreboard(Scoreboard delegate, ScoreboardMetrics metrics) {
+        this.delegate = delegate;
+        this.metrics = metrics;
+    }
+
+    /**
+     * Retrieves the metrics the operations are recorded in.
+     * @return The scoreboard metrics.
+     */
+    public ScoreboardMetrics metrics() {
+        return metrics;
+    }
+
+    /**
+     * Starts a new match with an initial score of 0-0.
+     * @param homeTeam Name of the home team.
+     * @param awayTeam Name of the away team.
+     * @throws IllegalArgumentException if the match data is not correct.
+     * @throws MatchAlreadyExistsException if the match already exists.
+     */
+    @Override
+    public void startMatch(String homeTeam, String awayTeam) {
+        long started = System.nanoTime();
+        try {
+            delegate.startMatch(homeTeam, awayTeam);
+        } catch (RuntimeException e) {
+            metrics.recordFailure(ScoreboardOperation.START_MATCH, e);
+            throw e;
+        } finally {
+            metrics.recordCall(ScoreboardOperation.START_MATCH, System.nanoTime() - started);
+        }
+    }
+
+    /**
+     * Updates the score of an existing match.
+     * @param homeTeam Name of the home team.
+     * @param awayTeam Name of the away team.
+     * @param homeScore Updated home team score.
+     * @param awayScore Updated away team score.
+     * @throws IllegalArgumentException if the match data is not correct.
+     * @throws MatchNotFoundException if the match does not exist.
+     */
+    @Override
+    public void updateScore(String homeTeam, String awayTeam, int homeScore, int awayScore) {
+        long started = System.nanoTime();
+        try {
+            delegate.updateScore(homeTeam, awayTeam, homeScore, awayScore);
+        } catch (RuntimeException e) {
+            metrics.recordFailure(ScoreboardOperation.UPDATE_SCORE, e);
+            throw e;
+        } finally {
+            metrics.recordCall(ScoreboardOperation.UPDATE_SCORE, System.nanoTime() - started);
+        }
+    }
+
+    /**
+     * Updates the score of an existing match from a feed event numbered by its source, timed as a score update.
+     * Dropped events are not failures; the delegate counts them.
+     * @param homeTeam Name of the home team.
+     * @param awayTeam Name of the away team.
+     * @param homeScore Updated home team score.
+     * @param awayScore Updated away team score.
+     * @param sourceSequence Sequence number of the event at its source, increasing for every event of the match.
+     * @return true if the update was applied, false if it was dropped as stale or duplicate.
+     * @throws IllegalArgumentException if the match data is not correct.
+     * @throws MatchNotFoundException if the match does not exist.
+     */
+    @Override
+    public boolean updateScore(String homeTeam, String awayTeam, int homeScore, int awayScore, long sourceSequence) {
+        long started = System.nanoTime();
+        try {
+            return delegate.updateScore(homeTeam, awayTeam, homeScore, awayScore, sourceSequence);
+        } catch (RuntimeException e) {
+            metrics.recordFailure(ScoreboardOperation.UPDATE_SCORE, e);
+            throw e;
+        } finally {
+            metrics.recordCall(ScoreboardOperation.UPDATE_SCORE, System.nanoTime() - started);
+        }
+    }
+
+    /**
+     * Updates the score of an existing match only if its current score is the expected one, timed as a score update.
+     * Conflicting updates are not failures; the delegate counts them.
+     * @param homeTeam Name of the home team.
+     * @param awayTeam Name of the away team.
+     * @param expectedHomeScore Home team score the match must have.
+     * @param expectedAwayScore Away team score the match must have.
+     * @param homeScore Updated home team score.
+     * @param awayScore Updated away team score.
+     * @return true if the update was applied, false if the match had another score.
+     * @throws IllegalArgumentException if the match data is not correct.
+     * @throws MatchNotFoundException if the match does not exist.
+     */
+    @Override
+    public boolean compareAndSetScore(String homeTeam, String awayTeam, int expectedHomeScore, int expectedAwayScore,
+                                      int homeScore, int awayScore) {
+        long started = System.nanoTime();
+        try {
+            return delegate.compareAndSetScore(homeTeam, awayTeam, expectedHomeScore, expectedAwayScore,
+                    homeScore, awayScore);
+        } catch (RuntimeException e) {
+            metrics.recordFailure(ScoreboardOperation.UPDATE_SCORE, e);
+            throw e;
+        } finally {
+            metrics.recordCall(ScoreboardOperation.UPDATE_SCORE, System.nanoTime() - started);
+        }
+    }
+
+    /**
+     * Finishes match and removes it from the scoreboard.
+     * @param homeTeam Name of the home team.
+     * @param awayTeam Name of the away team.
+     * @throws IllegalArgumentException if the match data is not correct.
+     * @throws MatchNotFoundException if the match does not exist.
+     */
+    @Override
+    public void finishMatch(String homeTeam, String awayTeam) {
+        long started = System.nanoTime();
+        try {
+            delegate.finishMatch(homeTeam, awayTeam);
+        } catch (RuntimeException e) {
+            metrics.recordFailure(ScoreboardOperation.FINISH_MATCH, e);
+            throw e;
+        } finally {
+            metrics.recordCall(ScoreboardOperation.FINISH_MATCH, System.nanoTime() - started);
+        }
+    }
+
+    /**
+     * Starts a new match, recording a rejection like a failure of the throwing operation.
+     * @param homeTeam Name of the home team.
+     * @param awayTeam Name of the away team.
+     * @return The status of the operation.
+     */
+    @Override
+    public OperationStatus tryStartMatch(String homeTeam, String awayTeam) {
+        long started = System.nanoTime();
+        try {
+            OperationStatus status = delegate.tryStartMatch(homeTeam, awayTeam);
+            if (!status.isApplied()) {
+                metrics.recordRejection(ScoreboardOperation.START_MATCH, status);
+            }
+            return status;
+        } finally {
+            metrics.recordCall(ScoreboardOperation.START_MATCH, System.nanoTime() - started);
+        }
+    }
+
+    /**
+     * Updates the score of an existing match, recording a rejection like a failure of the throwing operation.
+     * @param homeTeam Name of the home team.
+     * @param awayTeam Name of the away team.
+     * @param homeScore Updated home team score.
+     * @param awayScore Updated away team score.
+     * @return The status of the operation.
+     */
+    @Override
+    public OperationStatus tryUpdateScore(String homeTeam, String awayTeam, int homeScore, int awayScore) {
+        long started = System.nanoTime();
+        try {
+            OperationStatus status = delegate.tryUpdateScore(homeTeam, awayTeam, homeScore, awayScore);
+            if (!status.isApplied()) {
+                metrics.recordRejection(ScoreboardOperation.UPDATE_SCORE, status);
+            }
+            return status;
+        } finally {
+            metrics.recordCall(ScoreboardOperation.UPDATE_SCORE, System.nanoTime() - started);
+        }
+    }
+
+    /**
+     * Finishes a match, recording a rejection like a failure of the throwing operation.
+     * @param homeTeam Name of the home team.
+     * @param awayTeam Name of the away team.
+     * @return The status of the operation.
+     */
+    @Override
+    public OperationStatus tryFinishMatch(String homeTeam, String awayTeam) {
+        long started = System.nanoTime();
+        try {
+            OperationStatus status = delegate.tryFinishMatch(homeTeam, awayTeam);
+            if (!status.isApplied()) {
+                metrics.recordRejection(ScoreboardOperation.FINISH_MATCH, status);
+            }
+            return status;
+        } finally {
+            metrics.recordCall(ScoreboardOperation.FINISH_MATCH, System.nanoTime() - started);
+        }
+    }
+
+    /**
+     * Applies a batch of commands through the decorated scoreboard.
+     * @param commands Commands to apply, in order.
+     * @return The result of each command, in the order of the commands.
+     */
+    @Override
+    public List<CommandResult> applyAll(List<ScoreboardCommand> commands) {
+        long started = System.nanoTime();
+        try {
+            List<CommandResult> results = delegate.applyAll(commands);
+            for (CommandResult result : results) {
+                if (!result.isSuccess()) {
+                    metrics.recordFailure(ScoreboardOperation.APPLY_ALL, result.failure());
+                }
+            }
+            return results;
+        } finally {
+            metrics.recordCall(ScoreboardOperation.APPLY_ALL, System.nanoTime() - started);
+        }
+    }
+
+    /**
+     * Retrieves a summary of matches sorted by total score and start order.
+     * @return An immutable list containing the sorted matches.
+     */
+    @Override
+    public List<FootballMatch> getSummary() {
+        long started = System.nanoTime();
+        try {
+            return delegate.getSummary();
+        } finally {
+            metrics.recordCall(ScoreboardOperation.GET_SUMMARY, System.nanoTime() - started);
+        }
+    }
+
+    /**
+     * Retrieves the matches with the highest rank in summary order.
+     * @param n Maximum number of matches to return.
+     * @return An immutable list containing at most n sorted matches.
+     * @throws IllegalArgumentException if n is negative.
+     */
+    @Override
+    public List<FootballMatch> getTopMatches(int n) {
+        long started = System.nanoTime();
+        try {
+            return delegate.getTopMatches(n);
+        } catch (RuntimeException e) {
+            metrics.recordFailure(ScoreboardOperation.GET_SUMMARY_PAGE, e);
+            throw e;
+        } finally {
+            metrics.recordCall(ScoreboardOperation.GET_SUMMARY_PAGE, System.nanoTime() - started);
+        }
+    }
+
+    /**
+     * Retrieves a page of the summary.
+     * @param offset Zero-based position of the first match of the page.
+     * @param limit Maximum number of matches in the page.
+     * @return An immutable list containing at most limit sorted matches.
+     * @throws IllegalArgumentException if the offset or the limit is negative.
+     */
+    @Override
+    public List<FootballMatch> getSummaryPage(int offset, int limit) {
+        long started = System.nanoTime();
+        try {
+            return delegate.getSummaryPage(offset, limit);
+        } catch (RuntimeException e) {
+            metrics.recordFailure(ScoreboardOperation.GET_SUMMARY_PAGE, e);
+            throw e;
+        } finally {
+            metrics.recordCall(ScoreboardOperation.GET_SUMMARY_PAGE, System.nanoTime() - started);
+        }
+    }
+
+    /**
+     * Retrieves the latest published summary together with its version.
+     * @return The latest immutable summary snapshot.
+     */
+    @Override
+    public SummarySnapshot getSummarySnapshot() {
+        long started = System.nanoTime();
+        try {
+            return delegate.getSummarySnapshot();
+        } finally {
+            metrics.recordCall(ScoreboardOperation.GET_SUMMARY, System.nanoTime() - started);
+        }
+    }
+
+    /**
+     * Retrieves the live match a team is playing in from the decorated scoreboard. Not recorded, as it is
+     * not one of the measured operations.
+     * @param team Name of the team, playing at home or away.
+     * @return The live match of the team, or null if the team is not playing.
+     */
+    @Override
+    public FootballMatch findMatchByTeam(String team) {
+        return delegate.findMatchByTeam(team);
+    }
+
+    /**
+     * Retrieves the current version of the decorated scoreboard. Not recorded, as it is a single volatile read.
+     * @return The current scoreboard version.
+     */
+    @Override
+    public long version() {
+        return delegate.version();
+    }
+}
@@ -0,0 +1,429 @@
+package com.sportradar.test.lib;
+
+import com.sportradar.test.lib.command.CommandResult;
+import com.sportradar.test.lib.command.ScoreboardCommand;
+import com.sportradar.test.lib.domain.FootballMatch;
+import com.sportradar.test.lib.exception.MatchAlreadyExistsException;
+import com.sportradar.test.lib.exception.MatchNotFoundException;
+import com.sportradar.test.lib.ingest.CommandRingBuffer;
+import com.sportradar.test.lib.ranking.SummarySnapshot;
+import java.time.Clock;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * Single-writer ingestion mode of a scoreboard.
+ * Producers publish commands into a preallocated lock-free ring buffer, and one dedicated applier thread
+ * applies them in order to the underlying scoreboard, in batches of all commands available at a time.
+ * Readers get the snapshots published by the underlying scoreboard.
+ * <p>
+ * Commands can be submitted fire-and-forget with {@link #submit(ScoreboardCommand)} or with an acknowledgement
+ * with {@link #submitAcknowledged(ScoreboardCommand)}. The {@link Scoreboard} operations wait for the
+ * acknowledgement and throw the same exceptions as the underlying scoreboard.
+ * <p>
+ * If the applier thread fails with an error, e.g. an {@link OutOfMemoryError}, it stops taking commands:
+ * the commands left in the ring buffer fail with {@link #APPLIER_FAILED_ERROR}, and so does every later submit.
+ */
+public final class RingBufferScoreboard implements Scoreboard, AutoCloseable {
+
+    /** Default number of ring buffer slots. */
+    public static final int DEFAULT_CAPACITY = 8192;
+
+    /** Maximum number of commands applied as one batch. */
+    public static final int MAX_BATCH_SIZE = 1024;
+
+    /** Error message for commands that cannot be applied because the applier thread failed. */
+    public static final String APPLIER_FAILED_ERROR = "Scoreboard applier thread failed.";
+
+    private static final int IDLE_SPINS = 256;
+    private static final long IDLE_PARK_NANOS = 1_000_000;
+
+    private final Scoreboard delegate;
+    private final CommandRingBuffer commands;
+    private final Thread applier;
+
+    // Set while the applier is parked, so that producers only unpark it when needed
+    private volatile boolean applierParked;
+
+    // Fire-and-forget commands rejected by the underlying scoreboard
+    private final LongAdder rejectedCommands = new LongAdder();
+
+    // Error that stopped the applier thread, null while it is running
+    private volatile Throwable applierFailure;
+
+    /**
+     * Constructs a ring buffer scoreboard around a new {@link FootballWorldCupScoreboard}.
+     * @param clock Clock instance used to record match start time.
+     */
+    public RingBufferScoreboard(Clock clock) {
+        this(new FootballWorldCupScoreboard(clock), DEFAULT_CAPACITY);
+    }
+
+    /**
+     * Constructs a ring buffer scoreboard and starts its applier thread.
+     * The underlying scoreboard must not be modified by anyone else afterwards.
+     * @param delegate The scoreboard to apply the commands to.
+     * @param capacity Number of ring buffer slots, a positive power of two.
+     * @throws IllegalArgumentException if the capacity is not a positive power of two.
+     */
+    public RingBufferScoreboard(Scoreboard delegate, int capacity) {
+        this.delegate = delegate;
+        this.commands = new CommandRingBuffer(capacity);
+        // Started last; the class is final, so the applier cannot see a partially constructed subclass
+        this.applier = new Thread(this::applyCommands, "scoreboard-applier");
+        applier.setDaemon(true);
+        applier.start();
+    }
+
+    /**
+     * Submits a command without waiting for it to be applied.
+     * Commands rejected by the underlying scoreboard are counted in {@link #rejectedCommands()}.
+     * @param command The command to apply.
+     * @throws IllegalStateException if the scoreboard is closed or its applier thread failed.
+     */
+    public void submit(ScoreboardCommand command) {
+        publish(command, null);
+    }
+
+    /**
+     * Submits a command and returns a future completed once it is applied.
+     * @param command The command to apply.
+     * @return A future completed with true when the command is applied, with false when a sequenced or
+     *         conditional update is dropped, or exceptionally with the exception the underlying scoreboard
+     *         rejected it with.
+     * @throws IllegalStateException if the scoreboard is closed or its applier thread failed.
+     */
+    public CompletableFuture<Boolean> submitAcknowledged(ScoreboardCommand command) {
+        CompletableFuture<Boolean> acknowledgement = new CompletableFuture<>();
+        publish(command, acknowledgement);
+        return acknowledgement;
+    }
+
+    /**
+     * Returns the number of fire-and-forget commands rejected by the underlying scoreboard.
+     * @return The number of rejected commands.
+     */
+    public long rejectedCommands() {
+        return rejectedCommands.sum();
+    }
+
+    /**
+     * Starts a new match with an initial score of 0-0 and waits until it is applied.
+     * @param homeTeam Name of the home team.
+     * @param awayTeam Name of the away team.
+     * @throws IllegalArgumentException if the match data is not correct.
+     * @throws MatchAlreadyExistsException if the match already exists.
+     * @throws IllegalStateException if the scoreboard is closed.
+     */
+    @Override
+    public void startMatch(String homeTeam, String awayTeam) {
+        await(submitAcknowledged(ScoreboardCommand.start(homeTeam, awayTeam)));
+    }
+
+    /**
+     * Updates the score of an existing match and waits until it is applied.
+     * @param homeTeam Name of the home team.
+     * @param awayTeam Name of the away team.
+     * @param homeScore Updated home team score.
+     * @param awayScore Updated away team score.
+     * @throws IllegalArgumentException if the match data is not correct.
+     * @throws MatchNotFoundException if the match does not exist.
+     * @throws IllegalStateException if the scoreboard is closed.
+     */
+    @Override
+    public void updateScore(String homeTeam, String awayTeam, int homeScore, int awayScore) {
+        await(submitAcknowledged(ScoreboardCommand.update(homeTeam, awayTeam, homeScore, awayScore)));
+    }
+
+    /**
+     * Updates the score of an existing match from a feed event numbered by its source and waits until it is
+     * applied or dropped. The sequence is checked by the applier, in the order of the ring buffer.
+     * @param homeTeam Name of the home team.
+     * @param awayTeam Name of the away team.
+     * @param homeScore Updated home team score.
+     * @param awayScore Updated away team score.
+     * @param sourceSequence Sequence number of the event at its source, increasing for every event of the match.
+     * @return true if the update was applied, false if it was dropped as stale or duplicate.
+     * @throws IllegalArgumentException if the match data is not correct.
+     * @throws MatchNotFoundException if the match does not exist.
+     * @throws IllegalStateException if the scoreboard is closed.
+     */
+    @Override
+    public boolean updateScore(String homeTeam, String awayTeam, int homeScore, int awayScore, long sourceSequence) {
+        return await(submitAcknowledged(ScoreboardCommand.update(homeTeam, awayTeam, homeScore, awayScore,
+                sourceSequence)));
+    }
+
+    /**
+     * Updates the score of an existing match only if its current score is the expected one, and waits until
+     * it is applied or dropped. The score is compared by the applier, in the order of the ring buffer.
+     * @param homeTeam Name of the home team.
+     * @param awayTeam Name of the away team.
+     * @param expectedHomeScore Home team score the match must have.
+     * @param expectedAwayScore Away team score the match must have.
+     * @param homeScore Updated home team score.
+     * @param awayScore Updated away team score.
+     * @return true if the update was applied, false if the match had another score.
+     * @throws IllegalArgumentException if the match data is not correct.
+     * @throws MatchNotFoundException if the match does not exist.
+     * @throws IllegalStateException if the scoreboard is closed.
+     */
+    @Override
+    public boolean compareAndSetScore(String homeTeam, String awayTeam, int expectedHomeScore, int expectedAwayScore,
+                                      int homeScore, int awayScore) {
+        return await(submitAcknowledged(ScoreboardCommand.compareAndSet(homeTeam, awayTeam, expectedHomeScore,
+                expectedAwayScore, homeScore, awayScore)));
+    }
+
+    /**
+     * Finishes match, removes it from the scoreboard and waits until it is applied.
+     * @param homeTeam Name of the home team.
+     * @param awayTeam Name of the away team.
+     * @throws IllegalArgumentException if the match data is not correct.
+     * @throws MatchNotFoundException if the match does not exist.
+     * @throws IllegalStateException if the scoreboard is closed.
+     */
+    @Override
+    public void finishMatch(String homeTeam, String awayTeam) {
+        await(submitAcknowledged(ScoreboardCommand.finish(homeTeam, awayTeam)));
+    }
+
+    /**
+     * Submits a batch of commands and waits until all of them are applied.
+     * @param commands Commands to apply, in order.
+     * @return The result of each command, in the order of the commands.
+     * @throws IllegalStateException if the scoreboard is closed.
+     */
+    @Override
+    public List<CommandResult> applyAll(List<ScoreboardCommand> commands) {
+        List<CompletableFuture<Boolean>> acknowledgements = new ArrayList<>(commands.size());
+        for (ScoreboardCommand command : commands) {
+            acknowledgements.add(submitAcknowledged(command));
+        }
+        List<CommandResult> results = new ArrayList<>(commands.size());
+        for (int i = 0; i < commands.size(); i++) {
+            try {
+                results.add(await(acknowledgements.get(i))
+                        ? CommandResult.success(commands.get(i)) : CommandResult.dropped(commands.get(i)));
+            } catch (RuntimeException e) {
+                results.add(CommandResult.failure(commands.get(i), e));
+            }
+        }
+        return results;
+    }
+
+    /**
+     * Retrieves a summary of matches sorted by total score and start order.
+     * Commands submitted but not applied yet are not included.
+     * @return An immutable list containing the sorted matches.
+     */
+    @Override
+    public List<FootballMatch> getSummary() {
+        return delegate.getSummary();
+    }
+
+    /**
+     * Retrieves the matches with the highest rank in summary order.
+     * @param n Maximum number of matches to return.
+     * @return An immutable list containing at most n sorted matches.
+     * @throws IllegalArgumentException if n is negative.
+     */
+    @Override
+    public List<FootballMatch> getTopMatches(int n) {
+        return delegate.getTopMatches(n);
+    }
+
+    /**
+     * Retrieves a page of the summary.
+     * @param offset Zero-based position of the first match of the page.
+     * @param limit Maximum number of matches in the page.
+     * @return An immutable list containing at most limit sorted matches.
+     * @throws IllegalArgumentException if the offset or the limit is negative.
+     */
+    @Override
+    public List<FootballMatch> getSummaryPage(int offset, int limit) {
+        return delegate.getSummaryPage(offset, limit);
+    }
+
+    /**
+     * Retrieves the latest published summary together with its version.
+     * @return The latest immutable summary snapshot.
+     */
+    @Override
+    public SummarySnapshot getSummarySnapshot() {
+        return delegate.getSummarySnapshot();
+    }
+
+    /**
+     * Retrieves the live match a team is playing in from the underlying scoreboard.
+     * Commands submitted but not applied yet are not taken into account.
+     * @param team Name of the team, playing at home or away.
+     * @return The live match of the team, or null if the team is not playing.
+     */
+    @Override
+    public FootballMatch findMatchByTeam(String team) {
+        return delegate.findMatchByTeam(team);
+    }
+
+    /**
+     * Retrieves the current version of the underlying scoreboard.
+     * @return The current scoreboard version.
+     */
+    @Override
+    public long version() {
+        return delegate.version();
+    }
+
+    /**
+     * Stops accepting commands and waits until the applier has applied all commands submitted before.
+     */
+    @Override
+    public void close() {
+        commands.close();
+        LockSupport.unpark(applier);
+        boolean interrupted = false;
+        while (applier.isAlive()) {
+            try {
+                applier.join();
+            } catch (InterruptedException e) {
+                interrupted = true;
+            }
+        }
+        if (interrupted) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private void publish(ScoreboardCommand command, CompletableFuture<Boolean> acknowledgement) {
+        Throwable failure = applierFailure;
+        if (failure != null) {
+            throw new IllegalStateException(APPLIER_FAILED_ERROR, failure);
+        }
+        commands.put(command, acknowledgement);
+        wakeUpApplier();
+    }
+
+    private void wakeUpApplier() {
+        if (applierParked) {
+            LockSupport.unpark(applier);
+        }
+    }
+
+    /**
+     * Main loop of the applier thread: takes all available commands and applies them as one batch,
+     * so that the summary is published once per batch.
+     */
+    private void applyCommands() {
+        List<ScoreboardCommand> batch = new ArrayList<>(MAX_BATCH_SIZE);
+        List<CompletableFuture<Boolean>> acknowledgements = new ArrayList<>(MAX_BATCH_SIZE);
+        int idleSpins = 0;
+        try {
+            while (!commands.isDrained()) {
+                if (commands.drainTo(batch, acknowledgements, MAX_BATCH_SIZE) == 0) {
+                    idle(idleSpins++);
+                    continue;
+                }
+                idleSpins = 0;
+                applyBatch(batch, acknowledgements);
+                batch.clear();
+                acknowledgements.clear();
+            }
+        } catch (Throwable e) {
+            failRemainingCommands(e, acknowledgements);
+        }
+    }
+
+    /**
+     * Stops the applier after an error: fails the commands of the current batch and every command left in
+     * or still being published to the ring buffer, so that no caller waits for an acknowledgement forever.
+     * @param failure The error that stopped the applier.
+     * @param acknowledgements Acknowledgements of the batch being applied when it failed.
+     */
+    private void failRemainingCommands(Throwable failure, List<CompletableFuture<Boolean>> acknowledgements) {
+        applierFailure = failure;
+        commands.close();
+        IllegalStateException rejection = new IllegalStateException(APPLIER_FAILED_ERROR, failure);
+        List<ScoreboardCommand> remaining = new ArrayList<>(MAX_BATCH_SIZE);
+        while (true) {
+            for (CompletableFuture<Boolean> acknowledgement : acknowledgements) {
+                complete(acknowledgement, rejection);
+            }
+            if (commands.isDrained()) {
+                return;
+            }
+            remaining.clear();
+            acknowledgements.clear();
+            if (commands.drainTo(remaining, acknowledgements, MAX_BATCH_SIZE) == 0) {
+                // A producer claimed a slot before the close and is about to publish into it
+                Thread.onSpinWait();
+            }
+        }
+    }
+
+    private void applyBatch(List<ScoreboardCommand> batch, List<CompletableFuture<Boolean>> acknowledgements) {
+        List<CommandResult> results;
+        try {
+            results = delegate.applyAll(batch);
+        } catch (RuntimeException e) {
+            // Not a rejection of a single command, e.g. a journal failure: the whole batch fails
+            for (CompletableFuture<Boolean> acknowledgement : acknowledgements) {
+                complete(acknowledgement, e);
+            }
+            return;
+        }
+        for (int i = 0; i < results.size(); i++) {
+            CommandResult result = results.get(i);
+            if (result.isSuccess()) {
+                complete(acknowledgements.get(i), !result.dropped());
+            } else {
+                complete(acknowledgements.get(i), result.failure());
+            }
+        }
+    }
+
+    private static void complete(CompletableFuture<Boolean> acknowledgement, boolean applied) {
+        if (acknowledgement != null) {
+            acknowledgement.complete(applied);
+        }
+    }
+
+    private void complete(CompletableFuture<Boolean> acknowledgement, RuntimeException failure) {
+        if (acknowledgement == null) {
+            rejectedCommands.increment();
+        } else {
+            acknowledgement.completeExceptionally(failure);
+        }
+    }
+
+    /**
+     * Waits for new commands: spins briefly, then parks until a producer wakes the applier up.
+     * The parked flag is set before the buffer is checked again, so a command published concurrently is never missed.
+     * @param idleSpins Number of consecutive idle iterations.
+     */
+    private void idle(int idleSpins) {
+        if (idleSpins < IDLE_SPINS) {
+            Thread.onSpinWait();
+            return;
+        }
+        applierParked = true;
+        if (commands.isEmpty() && !commands.isClosed()) {
+            LockSupport.parkNanos(this, IDLE_PARK_NANOS);
+        }
+        applierParked = false;
+    }
+
+    private static boolean await(CompletableFuture<Boolean> acknowledgement) {
+        try {
+            return acknowledgement.join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof RuntimeException failure) {
+                throw failure;
+            }
+            throw e;
+        }
+    }
+}
@@ -1,8 +1,18 @@
 package com.sportradar.test.lib;
 
+import com.sportradar.test.lib.command.CommandResult;
+import com.sportradar.test.lib.command.OperationStatus;
+import com.sportradar.test.lib.command.ScoreboardCommand;
 import com.sportradar.test.lib.domain.FootballMatch;
 import com.sportradar.test.lib.exception.MatchAlreadyExistsException;
+import com.sportradar.test.lib.exception.MatchException;
 import com.sportradar.test.lib.exception.MatchNotFoundException;
+import com.sportradar.test.lib.exception.TeamAlreadyPlayingException;
+import com.sportradar.test.lib.exception.UnsupportedScoreboardOperationException;
+import com.sportradar.test.lib.ranking.RankedMatch;
+import com.sportradar.test.lib.ranking.SummarySnapshot;
+import com.sportradar.test.lib.validation.Validator;
+import java.util.ArrayList;
 import java.util.List;
 
 /**
@@ -30,6 +40,64 @@ public interface Scoreboard {
      */
     void updateScore(String homeTeam, String awayTeam, int homeScore, int awayScore);
 
+    /**
+     * Updates the score of an existing match from a feed event numbered by its source, unless an event
+     * of the match with the same or a higher sequence number was applied before.
+     * Redelivered and reordered events are dropped instead of overwriting a newer score.
+     * The default implementation cannot track sequence numbers and rejects the update; implementations
+     * should record the last applied sequence number of every match.
+     * @param homeTeam Name of the home team.
+     * @param awayTeam Name of the away team.
+     * @param homeScore Updated home team score.
+     * @param awayScore Updated away team score.
+     * @param sourceSequence Sequence number of the event at its source, increasing for every event of the match.
+     * @return true if the update was applied, false if it was dropped as stale or duplicate.
+     * @throws IllegalArgumentException if the match data is not correct.
+     * @throws MatchNotFoundException if the match does not exist.
+     * @throws UnsupportedScoreboardOperationException if the scoreboard does not support sequenced updates.
+     */
+    default boolean updateScore(String homeTeam, String awayTeam, int homeScore, int awayScore,
+                                long sourceSequence) {
+        throw new UnsupportedScoreboardOperationException("sequenced score update");
+    }
+
+    /**
+     * Updates the score of an existing match only if its current score is the expected one.
+     * The default implementation reads the score from the summary snapshot and then calls
+     * {@link #updateScore(String, String, int, int)}, so it is not atomic: a concurrent update between the
+     * comparison and the write is overwritten. Implementations should compare and write under one lock.
+     * @param homeTeam Name of the home team.
+     * @param awayTeam Name of the away team.
+     * @param expectedHomeScore Home team score the match must have.
+     * @param expectedAwayScore Away team score the match must have.
+     * @param homeScore Updated home team score.
+     * @param awayScore Updated away team score.
+     * @return true if the update was applied, false if the match had another score.
+     * @throws IllegalArgumentException if the match data is not correct.
+     * @throws MatchNotFoundException if the match does not exist.
+     */
+    default boolean compareAndSetScore(String homeTeam, String awayTeam, int expectedHomeScore,
+                                       int expectedAwayScore, int homeScore, int awayScore) {
+        Validator validator = new Validator();
+        validator.validateScores(expectedHomeScore, expectedAwayScore);
+        validator.validateScores(homeScore, awayScore);
+        validator.validateTeams(homeTeam, awayTeam);
+        FootballMatch current = null;
+        for (RankedMatch rankedMatch : getSummarySnapshot().ranking()) {
+            FootballMatch match = rankedMatch.match();
+            if (match.homeTeam().equals(homeTeam) && match.awayTeam().equals(awayTeam)) {
+                current = match;
+                break;
+            }
+        }
+        validator.validateExistingMatch(homeTeam, awayTeam, current != null);
+        if (current.getHomeScore() != expectedHomeScore || current.getAwayScore() != expectedAwayScore) {
+            return false;
+        }
+        updateScore(homeTeam, awayTeam, homeScore, awayScore);
+        return true;
+    }
+
     /**
      * Finishes match and removes it from the scoreboard.
      * @param homeTeam Name of the home team.
@@ -40,8 +108,137 @@ public interface Scoreboard {
     void finishMatch(String homeTeam, String awayTeam);
 
     /**
-     * Retrieves a summary of matches sorted by total score and start time.
-     * @return A new list containing the sorted matches.
+     * Starts a new match with an initial score of 0-0, reporting rejections as a status instead of an exception.
+     * Intended for feeds in which duplicate starts are routine. The default implementation translates the
+     * exceptions of {@link #startMatch(String, String)}; implementations should avoid creating them.
+     * @param homeTeam Name of the home team.
+     * @param awayTeam Name of the away team.
+     * @return The status of the operation.
+     */
+    default OperationStatus tryStartMatch(String homeTeam, String awayTeam) {
+        try {
+            startMatch(homeTeam, awayTeam);
+            return OperationStatus.APPLIED;
+        } catch (MatchAlreadyExistsException e) {
+            return OperationStatus.MATCH_ALREADY_EXISTS;
+        } catch (TeamAlreadyPlayingException e) {
+            return OperationStatus.TEAM_ALREADY_PLAYING;
+        } catch (IllegalArgumentException e) {
+            return OperationStatus.INVALID_ARGUMENT;
+        }
+    }
+
+    /**
+     * Updates the score of an existing match, reporting rejections as a status instead of an exception.
+     * Intended for feeds in which updates of unknown matches are routine. The default implementation translates
+     * the exceptions of {@link #updateScore(String, String, int, int)}; implementations should avoid creating them.
+     * @param homeTeam Name of the home team.
+     * @param awayTeam Name of the away team.
+     * @param homeScore Updated home team score.
+     * @param awayScore Updated away team score.
+     * @return The status of the operation.
+     */
+    default OperationStatus tryUpdateScore(String homeTeam, String awayTeam, int homeScore, int awayScore) {
+        try {
+            updateScore(homeTeam, awayTeam, homeScore, awayScore);
+            return OperationStatus.APPLIED;
+        } catch (MatchNotFoundException e) {
+            return OperationStatus.MATCH_NOT_FOUND;
+        } catch (IllegalArgumentException e) {
+            return OperationStatus.INVALID_ARGUMENT;
+        }
+    }
+
+    /**
+     * Finishes a match, reporting rejections as a status instead of an exception.
+     * Intended for feeds in which out-of-order finishes are routine. The default implementation translates the
+     * exceptions of {@link #finishMatch(String, String)}; implementations should avoid creating them.
+     * @param homeTeam Name of the home team.
+     * @param awayTeam Name of the away team.
+     * @return The status of the operation.
+     */
+    default OperationStatus tryFinishMatch(String homeTeam, String awayTeam) {
+        try {
+            finishMatch(homeTeam, awayTeam);
+            return OperationStatus.APPLIED;
+        } catch (MatchNotFoundException e) {
+            return OperationStatus.MATCH_NOT_FOUND;
+        } catch (IllegalArgumentException e) {
+            return OperationStatus.INVALID_ARGUMENT;
+        }
+    }
+
+    /**
+     * Applies a batch of start, update and finish commands in order.
+     * A failing command does not prevent the following commands from being applied.
+     * Implementations may rebuild the summary once per batch instead of once per command.
+     * @param commands Commands to apply, in order.
+     * @return The result of each command, in the order of the commands.
+     */
+    default List<CommandResult> applyAll(List<ScoreboardCommand> commands) {
+        List<CommandResult> results = new ArrayList<>(commands.size());
+        for (ScoreboardCommand command : commands) {
+            try {
+                results.add(command.applyTo(this) ? CommandResult.success(command) : CommandResult.dropped(command));
+            } catch (MatchException | IllegalArgumentException e) {
+                results.add(CommandResult.failure(command, e));
+            }
+        }
+        return results;
+    }
+
+    /**
+     * Retrieves a summary of matches sorted by total score and start order.
+     * @return An immutable list containing the sorted matches.
      */
     List<FootballMatch> getSummary();
+
+    /**
+     * Retrieves the matches with the highest rank in summary order.
+     * @param n Maximum number of matches to return.
+     * @return An immutable list containing at most n sorted matches.
+     * @throws IllegalArgumentException if n is negative.
+     */
+    List<FootballMatch> getTopMatches(int n);
+
+    /**
+     * Retrieves a page of the summary, with cost proportional to the page size.
+     * @param offset Zero-based position of the first match of the page.
+     * @param limit Maximum number of matches in the page.
+     * @return An immutable list containing at most limit sorted matches.
+     * @throws IllegalArgumentException if the offset or the limit is negative.
+     */
+    List<FootballMatch> getSummaryPage(int offset, int limit);
+
+    /**
+     * Retrieves the latest published summary together with its version.
+     * @return The latest immutable summary snapshot.
+     */
+    SummarySnapshot getSummarySnapshot();
+
+    /**
+     * Retrieves the live match a team is playing in. If the team plays in several live matches,
+     * the most recently started one by start sequence is returned. The default implementation scans
+     * the summary snapshot; implementations should look the team up in an index.
+     * @param team Name of the team, playing at home or away.
+     * @return The live match of the team, or null if the team is not playing.
+     */
+    default FootballMatch findMatchByTeam(String team) {
+        RankedMatch latest = null;
+        for (RankedMatch rankedMatch : getSummarySnapshot().ranking()) {
+            FootballMatch match = rankedMatch.match();
+            if ((match.homeTeam().equals(team) || match.awayTeam().equals(team))
+                    && (latest == null || rankedMatch.startSequence() > latest.startSequence())) {
+                latest = rankedMatch;
+            }
+        }
+        return latest != null ? latest.match() : null;
+    }
+
+    /**
+     * Retrieves the current version of the scoreboard.
+     * The version grows with every successful modification or batch, so callers can skip work when it has not changed.
+     * @return The current scoreboard version.
+     */
+    long version();
 }
@@ -0,0 +1,445 @@
+package com.sportradar.test.lib;
+
+import com.sportradar.test.lib.archive.MatchArchive;
+import com.sportradar.test.lib.command.CommandResult;
+import com.sportradar.test.lib.command.OperationStatus;
+import com.sportradar.test.lib.command.ScoreboardCommand;
+import com.sportradar.test.lib.domain.FootballMatch;
+import com.sportradar.test.lib.exception.MatchAlreadyExistsException;
+import com.sportradar.test.lib.exception.MatchNotFoundException;
+import com.sportradar.test.lib.ranking.RankedMatch;
+import com.sportradar.test.lib.ranking.RankingMerger;
+import com.sportradar.test.lib.ranking.SummarySnapshot;
+import com.sportradar.test.lib.validation.Validator;
+import java.time.Clock;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Objects;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Function;
+import java.util.function.Supplier;
+
+/**
+ * Scoreboard partitioning matches across independent shards by the hash of the match teams.
+ * Each shard is a {@link FootballWorldCupScoreboard} with its own lock and ranking, so writes to different
+ * shards do not contend. All shards share one start sequence, which keeps the tie-break order global.
+ * Summaries are produced by a lazy k-way merge of the shard snapshots.
+ * Versions and summaries are read from a consistent cut of the shards, a state all shards were in at the same
+ * instant. Shard versions only grow, so the sum of the shard versions of a consistent cut identifies it, and
+ * two summaries with the same version have the same matches.
+ */
+public class ShardedScoreboard implements Scoreboard {
+
+    /** Error message for an invalid number of shards. */
+    public static final String INVALID_SHARD_COUNT_ERROR = "Shard count must be positive.";
+
+    // Lock-free attempts at a consistent cut before the shard monitors are taken to stop the writers
+    private static final int CONSISTENT_CUT_ATTEMPTS = 8;
+
+    private final FootballWorldCupScoreboard[] shards;
+
+    // Final results of the matches finished on any shard
+    private final MatchArchive archive;
+
+    // Last fully merged summary, rebuilt lazily when any shard version changes
+    private final AtomicReference<SummarySnapshot> mergedSummary = new AtomicReference<>(SummarySnapshot.EMPTY);
+
+    // Validator for edge cases
+    private final Validator validator = new Validator();
+
+    /**
+     * Constructs a scoreboard with one shard per available processor.
+     * @param clock Clock instance used to record match start time.
+     */
+    public ShardedScoreboard(Clock clock) {
+        this(clock, Runtime.getRuntime().availableProcessors());
+    }
+
+    /**
+     * Constructs a scoreboard with the given number of shards.
+     * @param clock Clock instance used to record match start time.
+     * @param shardCount Number of independent shards.
+     * @throws IllegalArgumentException if the shard count is not positive.
+     */
+    public ShardedScoreboard(Clock clock, int shardCount) {
+        if (shardCount <= 0) {
+            throw new IllegalArgumentException(INVALID_SHARD_COUNT_ERROR);
+        }
+        AtomicLong startSequence = new AtomicLong();
+        archive = new MatchArchive(clock);
+        shards = new FootballWorldCupScoreboard[shardCount];
+        for (int i = 0; i < shardCount; i++) {
+            shards[i] = new FootballWorldCupScoreboard(clock, startSequence, archive);
+        }
+    }
+
+    /**
+     * Starts a new match with an initial score of 0-0.
+     * @param homeTeam Name of the home team.
+     * @param awayTeam Name of the away team.
+     * @throws IllegalArgumentException if the match data is not correct.
+     * @throws MatchAlreadyExistsException if the match already exists.
+     */
+    @Override
+    public void startMatch(String homeTeam, String awayTeam) {
+        shardOf(homeTeam, awayTeam).startMatch(homeTeam, awayTeam);
+    }
+
+    /**
+     * Updates the score of an existing match.
+     * @param homeTeam Name of the home team.
+     * @param awayTeam Name of the away team.
+     * @param homeScore Updated home team score.
+     * @param awayScore Updated away team score.
+     * @throws IllegalArgumentException if the match data is not correct.
+     * @throws MatchNotFoundException if the match does not exist.
+     */
+    @Override
+    public void updateScore(String homeTeam, String awayTeam, int homeScore, int awayScore) {
+        shardOf(homeTeam, awayTeam).updateScore(homeTeam, awayTeam, homeScore, awayScore);
+    }
+
+    /**
+     * Updates the score of an existing match from a feed event numbered by its source, dropping the event if it is
+     * not newer than the last sequenced update of the match. Only the shard owning the match is involved.
+     * @param homeTeam Name of the home team.
+     * @param awayTeam Name of the away team.
+     * @param homeScore Updated home team score.
+     * @param awayScore Updated away team score.
+     * @param sourceSequence Sequence number of the event at its source, increasing for every event of the match.
+     * @return true if the update was applied, false if it was dropped as stale or duplicate.
+     * @throws IllegalArgumentException if the match data is not correct.
+     * @throws MatchNotFoundException if the match does not exist.
+     * @see FootballWorldCupScoreboard#updateScore(String, String, int, int, long)
+     */
+    @Override
+    public boolean updateScore(String homeTeam, String awayTeam, int homeScore, int awayScore, long sourceSequence) {
+        return shardOf(homeTeam, awayTeam).updateScore(homeTeam, awayTeam, homeScore, awayScore, sourceSequence);
+    }
+
+    /**
+     * Updates the score of an existing match only if its current score is the expected one.
+     * @param homeTeam Name of the home team.
+     * @param awayTeam Name of the away team.
+     * @param expectedHomeScore Home team score the match must have.
+     * @param expectedAwayScore Away team score the match must have.
+     * @param homeScore Updated home team score.
+     * @param awayScore Updated away team score.
+     * @return true if the update was applied, false if the match had another score.
+     * @throws IllegalArgumentException if the match data is not correct.
+     * @throws MatchNotFoundException if the match does not exist.
+     */
+    @Override
+    public boolean compareAndSetScore(String homeTeam, String awayTeam, int expectedHomeScore, int expectedAwayScore,
+                                      int homeScore, int awayScore) {
+        return shardOf(homeTeam, awayTeam).compareAndSetScore(homeTeam, awayTeam, expectedHomeScore, expectedAwayScore,
+                homeScore, awayScore);
+    }
+
+    /**
+     * Returns the number of sequenced updates dropped by all shards as stale or duplicate.
+     * @return The number of stale or duplicate updates.
+     */
+    public long droppedStaleUpdates() {
+        long dropped = 0;
+        for (FootballWorldCupScoreboard shard : shards) {
+            dropped += shard.droppedStaleUpdates();
+        }
+        return dropped;
+    }
+
+    /**
+     * Returns the number of conditional updates dropped by all shards because the match had another score.
+     * @return The number of failed compare-and-set updates.
+     */
+    public long failedCompareAndSets() {
+        long failed = 0;
+        for (FootballWorldCupScoreboard shard : shards) {
+            failed += shard.failedCompareAndSets();
+        }
+        return failed;
+    }
+
+    /**
+     * Returns the number of summary snapshots of all matches taken by the shards.
+     * @return The number of full shard snapshots.
+     */
+    public long summarySnapshots() {
+        long taken = 0;
+        for (FootballWorldCupScoreboard shard : shards) {
+            taken += shard.summarySnapshots();
+        }
+        return taken;
+    }
+
+    /**
+     * Finishes match and removes it from the scoreboard.
+     * @param homeTeam Name of the home team.
+     * @param awayTeam Name of the away team.
+     * @throws IllegalArgumentException if the match data is not correct.
+     * @throws MatchNotFoundException if the match does not exist.
+     */
+    @Override
+    public void finishMatch(String homeTeam, String awayTeam) {
+        shardOf(homeTeam, awayTeam).finishMatch(homeTeam, awayTeam);
+    }
+
+    /**
+     * Starts a new match with an initial score of 0-0, reporting rejections as a status instead of an exception.
+     * @param homeTeam Name of the home team.
+     * @param awayTeam Name of the away team.
+     * @return The status of the operation.
+     */
+    @Override
+    public OperationStatus tryStartMatch(String homeTeam, String awayTeam) {
+        return shardOf(homeTeam, awayTeam).tryStartMatch(homeTeam, awayTeam);
+    }
+
+    /**
+     * Updates the score of an existing match, reporting rejections as a status instead of an exception.
+     * @param homeTeam Name of the home team.
+     * @param awayTeam Name of the away team.
+     * @param homeScore Updated home team score.
+     * @param awayScore Updated away team score.
+     * @return The status of the operation.
+     */
+    @Override
+    public OperationStatus tryUpdateScore(String homeTeam, String awayTeam, int homeScore, int awayScore) {
+        return shardOf(homeTeam, awayTeam).tryUpdateScore(homeTeam, awayTeam, homeScore, awayScore);
+    }
+
+    /**
+     * Finishes a match, reporting rejections as a status instead of an exception.
+     * @param homeTeam Name of the home team.
+     * @param awayTeam Name of the away team.
+     * @return The status of the operation.
+     */
+    @Override
+    public OperationStatus tryFinishMatch(String homeTeam, String awayTeam) {
+        return shardOf(homeTeam, awayTeam).tryFinishMatch(homeTeam, awayTeam);
+    }
+
+    /**
+     * Applies a batch of commands, splitting it into one sub-batch per shard.
+     * Commands of the same match always go to the same shard, so their relative order is kept.
+     * @param commands Commands to apply, in order.
+     * @return The result of each command, in the order of the commands.
+     */
+    @Override
+    public List<CommandResult> applyAll(List<ScoreboardCommand> commands) {
+        List<List<ScoreboardCommand>> shardCommands = new ArrayList<>(shards.length);
+        List<List<Integer>> shardPositions = new ArrayList<>(shards.length);
+        for (int i = 0; i < shards.length; i++) {
+            shardCommands.add(new ArrayList<>());
+            shardPositions.add(new ArrayList<>());
+        }
+        for (int position = 0; position < commands.size(); position++) {
+            ScoreboardCommand command = commands.get(position);
+            int shard = shardIndex(command.homeTeam(), command.awayTeam());
+            shardCommands.get(shard).add(command);
+            shardPositions.get(shard).add(position);
+        }
+
+        CommandResult[] results = new CommandResult[commands.size()];
+        for (int shard = 0; shard < shards.length; shard++) {
+            if (!shardCommands.get(shard).isEmpty()) {
+                List<CommandResult> shardResults = shards[shard].applyAll(shardCommands.get(shard));
+                List<Integer> positions = shardPositions.get(shard);
+                for (int i = 0; i < positions.size(); i++) {
+                    results[positions.get(i)] = shardResults.get(i);
+                }
+            }
+        }
+        return Arrays.asList(results);
+    }
+
+    /**
+     * Retrieves a summary of matches sorted by total score and start order.
+     * @return An immutable list containing the sorted matches.
+     */
+    @Override
+    public List<FootballMatch> getSummary() {
+        return getSummarySnapshot().matches();
+    }
+
+    /**
+     * Retrieves the matches with the highest rank in summary order.
+     * @param n Maximum number of matches to return.
+     * @return An immutable list containing at most n sorted matches.
+     * @throws IllegalArgumentException if n is negative.
+     */
+    @Override
+    public List<FootballMatch> getTopMatches(int n) {
+        return getSummaryPage(0, n);
+    }
+
+    /**
+     * Retrieves a page of the summary, unless an up-to-date full merge is already available, by merging the
+     * first offset + limit matches of each shard. Shards whose summary is not materialized read only those
+     * matches from their ranked index, so a page read after a write takes no snapshot of all matches.
+     * @param offset Zero-based position of the first match of the page.
+     * @param limit Maximum number of matches in the page.
+     * @return An immutable list containing at most limit sorted matches.
+     * @throws IllegalArgumentException if the offset or the limit is negative.
+     */
+    @Override
+    public List<FootballMatch> getSummaryPage(int offset, int limit) {
+        validator.validatePage(offset, limit);
+        int end = (int) Math.min((long) offset + limit, Integer.MAX_VALUE);
+        List<SummarySnapshot> leadingSummaries = shardSnapshots(shard -> shard.getLeadingSummary(end));
+        long version = versionOf(leadingSummaries);
+        SummarySnapshot merged = mergedSummary.get();
+        if (merged.version() == version) {
+            return merged.page(offset, limit);
+        }
+        return new SummarySnapshot(version, RankingMerger.merge(leadingSummaries, end)).page(offset, limit);
+    }
+
+    /**
+     * Retrieves the merged summary of all shards together with its version.
+     * The merge runs at most once per combination of shard versions.
+     * @return The latest immutable summary snapshot.
+     */
+    @Override
+    public SummarySnapshot getSummarySnapshot() {
+        List<SummarySnapshot> snapshots = shardSnapshots(FootballWorldCupScoreboard::getSummarySnapshot);
+        long version = versionOf(snapshots);
+        SummarySnapshot merged = mergedSummary.get();
+        if (merged.version() >= version) {
+            return merged;
+        }
+        SummarySnapshot rebuilt = new SummarySnapshot(version, RankingMerger.merge(snapshots, Integer.MAX_VALUE));
+        // Keeps the newest merge if several readers rebuilt concurrently
+        mergedSummary.accumulateAndGet(rebuilt, (current, candidate) ->
+                candidate.version() > current.version() ? candidate : current);
+        return rebuilt;
+    }
+
+    /**
+     * Retrieves the live match a team is playing in. A team may play in matches owned by different shards,
+     * so every shard is asked and the most recently started match is returned. Shards do not restrict
+     * teams to one live match, as they do not know the matches of the other shards.
+     * @param team Name of the team, playing at home or away.
+     * @return The most recently started live match of the team, or null if the team is not playing.
+     */
+    @Override
+    public FootballMatch findMatchByTeam(String team) {
+        RankedMatch latest = null;
+        for (FootballWorldCupScoreboard shard : shards) {
+            // Shards share the start sequence, so it orders matches of different shards like the summary does
+            RankedMatch match = shard.findRankedMatchByTeam(team);
+            if (match != null && (latest == null || match.startSequence() > latest.startSequence())) {
+                latest = match;
+            }
+        }
+        return latest != null ? latest.match() : null;
+    }
+
+    /**
+     * Retrieves the archive of the final results of the matches finished on any shard.
+     * @return The match archive shared by the shards.
+     */
+    public MatchArchive archive() {
+        return archive;
+    }
+
+    /**
+     * Retrieves the current version of the scoreboard, the sum of the shard versions of a consistent cut.
+     * @return The current scoreboard version.
+     */
+    @Override
+    public long version() {
+        for (int attempt = 0; attempt < CONSISTENT_CUT_ATTEMPTS; attempt++) {
+            // The second pass starts after the first one ends and versions only grow, so equal sums mean that
+            // no shard changed in between and all shards had these versions when the first pass ended
+            long version = versionSum();
+            if (versionSum() == version) {
+                return version;
+            }
+        }
+        return holdingShardMonitors(0, this::versionSum);
+    }
+
+    /**
+     * Takes the snapshots of all shards from a consistent cut. The snapshots are taken one after another and
+     * kept if no shard has published a newer version by the time the last one was taken. If writers keep
+     * changing the shards, the snapshots are taken holding the monitors of all shards.
+     * @param snapshotOf Takes the snapshot of the current version of a shard.
+     * @return The shard snapshots, in shard order.
+     */
+    private List<SummarySnapshot> shardSnapshots(Function<FootballWorldCupScoreboard, SummarySnapshot> snapshotOf) {
+        for (int attempt = 0; attempt < CONSISTENT_CUT_ATTEMPTS; attempt++) {
+            List<SummarySnapshot> snapshots = takeShardSnapshots(snapshotOf);
+            if (isCurrent(snapshots)) {
+                return snapshots;
+            }
+        }
+        return holdingShardMonitors(0, () -> takeShardSnapshots(snapshotOf));
+    }
+
+    private List<SummarySnapshot> takeShardSnapshots(Function<FootballWorldCupScoreboard, SummarySnapshot> snapshotOf) {
+        List<SummarySnapshot> snapshots = new ArrayList<>(shards.length);
+        for (FootballWorldCupScoreboard shard : shards) {
+            snapshots.add(snapshotOf.apply(shard));
+        }
+        return snapshots;
+    }
+
+    private boolean isCurrent(List<SummarySnapshot> snapshots) {
+        for (int i = 0; i < shards.length; i++) {
+            if (shards[i].version() != snapshots.get(i).version()) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private long versionSum() {
+        long version = 0;
+        for (FootballWorldCupScoreboard shard : shards) {
+            version += shard.version();
+        }
+        return version;
+    }
+
+    /**
+     * Runs a read while holding the writer monitors of the shards from the given one on, taken in shard order.
+     * Shards publish their versions under their monitor, so the read sees a consistent cut.
+     * @param shard Index of the next shard to lock.
+     * @param read The read to run.
+     * @return The result of the read.
+     */
+    private <T> T holdingShardMonitors(int shard, Supplier<T> read) {
+        if (shard == shards.length) {
+            return read.get();
+        }
+        synchronized (shards[shard]) {
+            return holdingShardMonitors(shard + 1, read);
+        }
+    }
+
+    private static long versionOf(List<SummarySnapshot> snapshots) {
+        long version = 0;
+        for (SummarySnapshot snapshot : snapshots) {
+            version += snapshot.version();
+        }
+        return version;
+    }
+
+    private FootballWorldCupScoreboard shardOf(String homeTeam, String awayTeam) {
+        return shards[shardIndex(homeTeam, awayTeam)];
+    }
+
+    /**
+     * Selects the shard of a match. Invalid team names are routed too; the shard rejects them.
+     * @param homeTeam Name of the home team.
+     * @param awayTeam Name of the away team.
+     * @return The index of the shard owning the match.
+     */
+    private int shardIndex(String homeTeam, String awayTeam) {
+        int hash = 31 * Objects.hashCode(homeTeam) + Objects.hashCode(awayTeam);
+        return Math.floorMod(hash ^ (hash >>> 16), shards.length);
+    }
+}
@@ -0,0 +1,21 @@
+package com.sportradar.test.lib.archive;
+
+import com.sportradar.test.lib.domain.FootballMatch;
+import java.time.Instant;
+
+/**
+ * Final result of a finished match.
+ * @param match The match with its final score.
+ * @param finishTime The time the match was finished.
+ */
+public record FinishedMatch(FootballMatch match, Instant finishTime) {
+
+    /**
+     * Checks whether a team played in the match.
+     * @param team Name of the team.
+     * @return True if the team was the home or the away team.
+     */
+    public boolean involves(String team) {
+        return match.homeTeam().equals(team) || match.awayTeam().equals(team);
+    }
+}
@@ -0,0 +1,158 @@
+package com.sportradar.test.lib.archive;
+
+import com.sportradar.test.lib.domain.FootballMatch;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import java.util.function.Predicate;
+
+/**
+ * Bounded archive of the final results of finished matches, for "full time" views and post-match queries.
+ * <p>
+ * Results are kept in a ring of fixed capacity: archiving a result is a sequence increment and a slot write,
+ * and overwrites the oldest result once the ring is full. Results older than the maximum age are no longer
+ * returned and their slots are cleared by the queries that come across them.
+ * Thread-safe and lock-free: several scoreboards (e.g. the shards of a {@code ShardedScoreboard}) may archive
+ * into one archive while it is queried. All queries return results newest first.
+ */
+public class MatchArchive {
+
+    /** Default number of archived results. */
+    public static final int DEFAULT_CAPACITY = 1024;
+
+    /** Default time results are kept after the match was finished. */
+    public static final Duration DEFAULT_MAX_AGE = Duration.ofHours(12);
+
+    /** Error message for an invalid capacity. */
+    public static final String INVALID_CAPACITY_ERROR = "Archive capacity must be positive.";
+
+    /** Error message for an invalid maximum age. */
+    public static final String INVALID_MAX_AGE_ERROR = "Archive maximum age must be positive.";
+
+    /** Error message for a negative number of results. */
+    public static final String NEGATIVE_COUNT_ERROR = "Number of results must not be negative.";
+
+    private final AtomicReferenceArray<Entry> slots;
+    private final Duration maxAge;
+    private final Clock clock;
+
+    // Sequence of the next archived result; result n is stored in slot n % capacity
+    private final AtomicLong nextSequence = new AtomicLong();
+
+    /**
+     * Constructs an archive with the default capacity and maximum age.
+     * @param clock Clock the age of results is measured with.
+     */
+    public MatchArchive(Clock clock) {
+        this(DEFAULT_CAPACITY, DEFAULT_MAX_AGE, clock);
+    }
+
+    /**
+     * Constructs an archive.
+     * @param capacity Maximum number of archived results.
+     * @param maxAge Time results are kept after the match was finished.
+     * @param clock Clock the age of results is measured with.
+     * @throws IllegalArgumentException if the capacity or the maximum age is not positive.
+     */
+    public MatchArchive(int capacity, Duration maxAge, Clock clock) {
+        if (capacity <= 0) {
+            throw new IllegalArgumentException(INVALID_CAPACITY_ERROR);
+        }
+        if (maxAge.isNegative() || maxAge.isZero()) {
+            throw new IllegalArgumentException(INVALID_MAX_AGE_ERROR);
+        }
+        this.slots = new AtomicReferenceArray<>(capacity);
+        this.maxAge = maxAge;
+        this.clock = clock;
+    }
+
+    /**
+     * Archives the final result of a match in constant time, evicting the oldest result if the archive is full.
+     * @param match The match with its final score.
+     * @param finishTime The time the match was finished.
+     */
+    public void archive(FootballMatch match, Instant finishTime) {
+        long sequence = nextSequence.getAndIncrement();
+        slots.set(slotOf(sequence), new Entry(sequence, new FinishedMatch(match, finishTime)));
+    }
+
+    /**
+     * Retrieves the most recently finished matches.
+     * @param n Maximum number of results to return.
+     * @return At most n results, newest first.
+     * @throws IllegalArgumentException if n is negative.
+     */
+    public List<FinishedMatch> mostRecent(int n) {
+        if (n < 0) {
+            throw new IllegalArgumentException(NEGATIVE_COUNT_ERROR);
+        }
+        return scan(finished -> true, n);
+    }
+
+    /**
+     * Retrieves the finished matches a team played in.
+     * @param team Name of the team.
+     * @return The results of the team, newest first.
+     */
+    public List<FinishedMatch> byTeam(String team) {
+        return scan(finished -> finished.involves(team), Integer.MAX_VALUE);
+    }
+
+    /**
+     * Retrieves the matches finished within a time range.
+     * @param from Start of the range, inclusive.
+     * @param to End of the range, exclusive.
+     * @return The results finished in the range, newest first.
+     */
+    public List<FinishedMatch> finishedBetween(Instant from, Instant to) {
+        return scan(finished -> !finished.finishTime().isBefore(from) && finished.finishTime().isBefore(to),
+                Integer.MAX_VALUE);
+    }
+
+    /**
+     * Retrieves the capacity of the archive.
+     * @return The maximum number of archived results.
+     */
+    public int capacity() {
+        return slots.length();
+    }
+
+    /**
+     * Walks the results from the newest to the oldest one still in the ring, skipping and clearing expired
+     * results and skipping slots that have been overwritten or are still being written.
+     */
+    private List<FinishedMatch> scan(Predicate<FinishedMatch> filter, int limit) {
+        List<FinishedMatch> results = new ArrayList<>(Math.min(limit, 16));
+        Instant expiry = clock.instant().minus(maxAge);
+        long newest = nextSequence.get() - 1;
+        long oldest = Math.max(0, newest - slots.length() + 1);
+        for (long sequence = newest; sequence >= oldest && results.size() < limit; sequence--) {
+            int slot = slotOf(sequence);
+            Entry entry = slots.get(slot);
+            if (entry == null || entry.sequence() != sequence) {
+                continue;
+            }
+            if (entry.finished().finishTime().isBefore(expiry)) {
+                // Frees the result unless a writer has just reused the slot
+                slots.compareAndSet(slot, entry, null);
+            } else if (filter.test(entry.finished())) {
+                results.add(entry.finished());
+            }
+        }
+        return results;
+    }
+
+    private int slotOf(long sequence) {
+        return (int) (sequence % slots.length());
+    }
+
+    /**
+     * Archived result together with its sequence, which tells current slots from overwritten ones.
+     */
+    private record Entry(long sequence, FinishedMatch finished) {
+    }
+}
@@ -0,0 +1,21 @@
+package com.sportradar.test.lib.checkpoint;
+
+import java.time.Instant;
+
+/**
+ * Receives the matches of a scoreboard checkpoint while it is read, in summary order.
+ */
+@FunctionalInterface
+public interface CheckpointVisitor {
+
+    /**
+     * Called for each live match of the checkpoint.
+     * @param homeTeam Name of the home team, shared by all matches of the team.
+     * @param awayTeam Name of the away team, shared by all matches of the team.
+     * @param homeScore Home team score.
+     * @param awayScore Away team score.
+     * @param startTime Recorded start time of the match.
+     * @param startSequence Start sequence number of the match.
+     */
+    void match(String homeTeam, String awayTeam, int homeScore, int awayScore, Instant startTime, long startSequence);
+}
@@ -0,0 +1,204 @@
+package com.sportradar.test.lib.checkpoint;
+
+import com.sportradar.test.lib.domain.FootballMatch;
+import com.sportradar.test.lib.ranking.RankedMatch;
+import com.sportradar.test.lib.ranking.SummarySnapshot;
+import com.sportradar.test.lib.validation.Validator;
+import java.io.EOFException;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.ReadableByteChannel;
+import java.nio.channels.WritableByteChannel;
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.zip.CRC32C;
+
+/**
+ * Versioned binary checkpoint of a full scoreboard.
+ * <p>
+ * Layout: {@code [int magic][short format version][int payload length][payload][int CRC32C of payload]}.
+ * The payload holds the scoreboard version, a dictionary of the teams of the live matches and the matches
+ * in summary order, each referring to teams by their dictionary index:
+ * {@code [int home][int away][int home score][int away score][long epoch second][int nano][long start sequence]}.
+ */
+public final class ScoreboardCheckpoint {
+
+    /** Current version of the checkpoint format. */
+    public static final short FORMAT_VERSION = 1;
+
+    /**
+     * Largest payload written and read, enough for about four million matches with short team names.
+     * The length in the header is checked against it before any memory is allocated for the payload.
+     */
+    public static final int MAX_PAYLOAD_BYTES = 256 << 20;
+
+    /** Error message for checkpoints that cannot be read. */
+    public static final String INVALID_CHECKPOINT_ERROR = "Invalid scoreboard checkpoint: ";
+
+    // "FWCB", identifies checkpoint streams
+    private static final int MAGIC = 0x46574342;
+
+    private static final int HEADER_BYTES = Integer.BYTES + Short.BYTES + Integer.BYTES;
+    private static final int MATCH_BYTES = 4 * Integer.BYTES + Long.BYTES + Integer.BYTES + Long.BYTES;
+
+    // Initial size of the payload buffer, which grows as the payload arrives rather than as the header claims
+    private static final int READ_CHUNK_BYTES = 64 << 10;
+
+    private ScoreboardCheckpoint() {
+    }
+
+    /**
+     * Writes a checkpoint of a summary snapshot.
+     * @param channel Channel to write the checkpoint to.
+     * @param snapshot Snapshot to write.
+     * @throws IOException if the checkpoint cannot be written or exceeds {@link #MAX_PAYLOAD_BYTES}.
+     */
+    public static void write(WritableByteChannel channel, SummarySnapshot snapshot) throws IOException {
+        List<RankedMatch> ranking = snapshot.ranking();
+        Map<String, Integer> teamIndexes = new HashMap<>();
+        List<byte[]> teamNames = new ArrayList<>();
+        int[] matchTeams = new int[2 * ranking.size()];
+        long payloadBytes = Long.BYTES + Integer.BYTES + Integer.BYTES + (long) ranking.size() * MATCH_BYTES;
+        for (int i = 0; i < ranking.size(); i++) {
+            FootballMatch match = ranking.get(i).match();
+            for (int side = 0; side < 2; side++) {
+                String team = side == 0 ? match.homeTeam() : match.awayTeam();
+                Integer index = teamIndexes.get(team);
+                if (index == null) {
+                    index = teamNames.size();
+                    teamIndexes.put(team, index);
+                    byte[] name = team.getBytes(StandardCharsets.UTF_8);
+                    teamNames.add(name);
+                    payloadBytes += Integer.BYTES + name.length;
+                }
+                matchTeams[2 * i + side] = index;
+            }
+        }
+        if (payloadBytes > MAX_PAYLOAD_BYTES) {
+            throw new IOException(INVALID_CHECKPOINT_ERROR + "payload length " + payloadBytes + " exceeds "
+                    + MAX_PAYLOAD_BYTES);
+        }
+
+        ByteBuffer buffer = ByteBuffer.allocate(HEADER_BYTES + (int) payloadBytes + Integer.BYTES);
+        buffer.putInt(MAGIC).putShort(FORMAT_VERSION).putInt((int) payloadBytes);
+        buffer.putLong(snapshot.version()).putInt(teamNames.size());
+        for (byte[] name : teamNames) {
+            buffer.putInt(name.length).put(name);
+        }
+        buffer.putInt(ranking.size());
+        for (int i = 0; i < ranking.size(); i++) {
+            RankedMatch rankedMatch = ranking.get(i);
+            FootballMatch match = rankedMatch.match();
+            buffer.putInt(matchTeams[2 * i]).putInt(matchTeams[2 * i + 1])
+                    .putInt(match.getHomeScore()).putInt(match.getAwayScore())
+                    .putLong(match.startTime().getEpochSecond()).putInt(match.startTime().getNano())
+                    .putLong(rankedMatch.startSequence());
+        }
+        CRC32C checksum = new CRC32C();
+        checksum.update(buffer.array(), HEADER_BYTES, (int) payloadBytes);
+        buffer.putInt((int) checksum.getValue());
+
+        buffer.flip();
+        while (buffer.hasRemaining()) {
+            channel.write(buffer);
+        }
+    }
+
+    /**
+     * Reads a checkpoint and passes its matches to the visitor in summary order.
+     * The whole checkpoint is verified against its checksum before the first match is passed on.
+     * The payload length is checked against {@link #MAX_PAYLOAD_BYTES} and the payload is read in chunks,
+     * so a corrupted header cannot make the reader allocate more than the channel actually delivers.
+     * @param channel Channel to read the checkpoint from.
+     * @param visitor Receiver of the matches.
+     * @return The scoreboard version the checkpoint was taken at.
+     * @throws IOException if the checkpoint cannot be read, has an unsupported format or is corrupted.
+     */
+    public static long read(ReadableByteChannel channel, CheckpointVisitor visitor) throws IOException {
+        ByteBuffer header = readFully(channel, ByteBuffer.allocate(HEADER_BYTES));
+        if (header.getInt() != MAGIC) {
+            throw new IOException(INVALID_CHECKPOINT_ERROR + "not a scoreboard checkpoint");
+        }
+        short formatVersion = header.getShort();
+        if (formatVersion != FORMAT_VERSION) {
+            throw new IOException(INVALID_CHECKPOINT_ERROR + "unsupported format version " + formatVersion);
+        }
+        int payloadBytes = header.getInt();
+        if (payloadBytes < Long.BYTES + 2 * Integer.BYTES || payloadBytes > MAX_PAYLOAD_BYTES) {
+            throw new IOException(INVALID_CHECKPOINT_ERROR + "payload length " + payloadBytes);
+        }
+
+        ByteBuffer payload = readPayload(channel, payloadBytes + Integer.BYTES);
+        CRC32C checksum = new CRC32C();
+        checksum.update(payload.array(), 0, payloadBytes);
+        if ((int) checksum.getValue() != payload.getInt(payloadBytes)) {
+            throw new IOException(INVALID_CHECKPOINT_ERROR + "checksum mismatch");
+        }
+
+        long version = payload.getLong();
+        int teamCount = payload.getInt();
+        // Every team takes at least its length and one byte of name, every match a fixed number of bytes
+        if (teamCount < 0 || teamCount > (payloadBytes - payload.position()) / (Integer.BYTES + 1)) {
+            throw new IOException(INVALID_CHECKPOINT_ERROR + "team count " + teamCount);
+        }
+        String[] teamNames = new String[teamCount];
+        for (int i = 0; i < teamNames.length; i++) {
+            int nameBytes = payload.getInt();
+            if (nameBytes <= 0 || nameBytes > Validator.MAX_TEAM_NAME_BYTES
+                    || nameBytes > payloadBytes - payload.position()) {
+                throw new IOException(INVALID_CHECKPOINT_ERROR + "team name length " + nameBytes);
+            }
+            byte[] name = new byte[nameBytes];
+            payload.get(name);
+            teamNames[i] = new String(name, StandardCharsets.UTF_8);
+        }
+        int matchCount = payload.getInt();
+        if (matchCount < 0 || (long) matchCount * MATCH_BYTES != payloadBytes - payload.position()) {
+            throw new IOException(INVALID_CHECKPOINT_ERROR + "match count " + matchCount);
+        }
+        for (int i = 0; i < matchCount; i++) {
+            String homeTeam = teamName(teamNames, payload.getInt());
+            String awayTeam = teamName(teamNames, payload.getInt());
+            int homeScore = payload.getInt();
+            int awayScore = payload.getInt();
+            Instant startTime = Instant.ofEpochSecond(payload.getLong(), payload.getInt());
+            visitor.match(homeTeam, awayTeam, homeScore, awayScore, startTime, payload.getLong());
+        }
+        return version;
+    }
+
+    private static String teamName(String[] teamNames, int index) throws IOException {
+        if (index < 0 || index >= teamNames.length) {
+            throw new IOException(INVALID_CHECKPOINT_ERROR + "unknown team index " + index);
+        }
+        return teamNames[index];
+    }
+
+    /**
+     * Reads a payload of the given length into a buffer that starts small and doubles while it fills up.
+     */
+    private static ByteBuffer readPayload(ReadableByteChannel channel, int bytes) throws IOException {
+        ByteBuffer buffer = ByteBuffer.allocate(Math.min(bytes, READ_CHUNK_BYTES));
+        while (true) {
+            readFully(channel, buffer);
+            if (buffer.limit() == bytes) {
+                return buffer;
+            }
+            ByteBuffer grown = ByteBuffer.allocate((int) Math.min(bytes, 2L * buffer.capacity()));
+            buffer = grown.put(buffer);
+        }
+    }
+
+    private static ByteBuffer readFully(ReadableByteChannel channel, ByteBuffer buffer) throws IOException {
+        while (buffer.hasRemaining()) {
+            if (channel.read(buffer) < 0) {
+                throw new EOFException(INVALID_CHECKPOINT_ERROR + "unexpected end of checkpoint");
+            }
+        }
+        return buffer.flip();
+    }
+}
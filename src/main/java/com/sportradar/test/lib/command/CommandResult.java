@@ -0,0 +1,57 @@
+package com.sportradar.test.lib.command;
+
+/**
+ * Immutable result of applying a single command of a batch.
+ * A sequenced or conditional update that is stale or conflicting is dropped: it is not applied,
+ * but it is not rejected either, as feeds deliver such updates routinely.
+ *
+ * @param command The applied command.
+ * @param failure The exception that rejected the command, or null if it was applied or dropped.
+ * @param dropped Whether a sequenced or conditional update was dropped.
+ */
+public record CommandResult(ScoreboardCommand command, RuntimeException failure, boolean dropped) {
+
+    /**
+     * Creates a result for a command that was applied.
+     * @param command The applied command.
+     * @return A new successful CommandResult.
+     */
+    public static CommandResult success(ScoreboardCommand command) {
+        return new CommandResult(command, null, false);
+    }
+
+    /**
+     * Creates a result for a sequenced or conditional update that was dropped as stale or conflicting.
+     * @param command The dropped command.
+     * @return A new successful CommandResult that was not applied.
+     */
+    public static CommandResult dropped(ScoreboardCommand command) {
+        return new CommandResult(command, null, true);
+    }
+
+    /**
+     * Creates a result for a command that was rejected.
+     * @param command The rejected command.
+     * @param failure The exception describing why the command was rejected.
+     * @return A new failed CommandResult.
+     */
+    public static CommandResult failure(ScoreboardCommand command, RuntimeException failure) {
+        return new CommandResult(command, failure, false);
+    }
+
+    /**
+     * Checks whether the command was accepted.
+     * @return true if the command was applied or dropped, false if it was rejected.
+     */
+    public boolean isSuccess() {
+        return failure == null;
+    }
+
+    /**
+     * Checks whether the command changed the scoreboard.
+     * @return true if the command was applied, false if it was dropped or rejected.
+     */
+    public boolean isApplied() {
+        return failure == null && !dropped;
+    }
+}
@@ -0,0 +1,31 @@
+package com.sportradar.test.lib.command;
+
+/**
+ * Outcome of a scoreboard operation called through the exception-free API,
+ * e.g. {@code Scoreboard.tryStartMatch(String, String)}.
+ */
+public enum OperationStatus {
+
+    /** The operation was applied. */
+    APPLIED,
+
+    /** A match of the same teams is already live; the start was ignored. */
+    MATCH_ALREADY_EXISTS,
+
+    /** A team is already playing in another live match and the scoreboard allows only one; the start was ignored. */
+    TEAM_ALREADY_PLAYING,
+
+    /** No live match of the teams exists; the update or finish was ignored. */
+    MATCH_NOT_FOUND,
+
+    /** A team name is null or blank, or a score is negative; the operation was ignored. */
+    INVALID_ARGUMENT;
+
+    /**
+     * Checks whether the operation was applied.
+     * @return true if the status is {@link #APPLIED}.
+     */
+    public boolean isApplied() {
+        return this == APPLIED;
+    }
+}
@@ -0,0 +1,169 @@
+package com.sportradar.test.lib.command;
+
+import com.sportradar.test.lib.Scoreboard;
+
+/**
+ * Immutable command describing a single scoreboard modification.
+ * Commands are used to apply batches of modifications with {@link Scoreboard#applyAll(java.util.List)}.
+ */
+public sealed interface ScoreboardCommand {
+
+    /**
+     * Retrieves the name of the home team of the affected match.
+     * @return The home team name.
+     */
+    String homeTeam();
+
+    /**
+     * Retrieves the name of the away team of the affected match.
+     * @return The away team name.
+     */
+    String awayTeam();
+
+    /**
+     * Applies the command to a scoreboard through its single-operation API.
+     * @param scoreboard The scoreboard to modify.
+     * @return true if the command was applied, false if a sequenced or conditional update was dropped.
+     */
+    boolean applyTo(Scoreboard scoreboard);
+
+    /**
+     * Creates a command starting a new match.
+     * @param homeTeam Name of the home team.
+     * @param awayTeam Name of the away team.
+     * @return A new StartMatch command.
+     */
+    static StartMatch start(String homeTeam, String awayTeam) {
+        return new StartMatch(homeTeam, awayTeam);
+    }
+
+    /**
+     * Creates a command updating the score of a match.
+     * @param homeTeam Name of the home team.
+     * @param awayTeam Name of the away team.
+     * @param homeScore Updated home team score.
+     * @param awayScore Updated away team score.
+     * @return A new UpdateScore command.
+     */
+    static UpdateScore update(String homeTeam, String awayTeam, int homeScore, int awayScore) {
+        return new UpdateScore(homeTeam, awayTeam, homeScore, awayScore);
+    }
+
+    /**
+     * Creates a command updating the score of a match from a feed event numbered by its source.
+     * @param homeTeam Name of the home team.
+     * @param awayTeam Name of the away team.
+     * @param homeScore Updated home team score.
+     * @param awayScore Updated away team score.
+     * @param sourceSequence Sequence number of the event at its source, increasing for every event of the match.
+     * @return A new SequencedUpdate command.
+     */
+    static SequencedUpdate update(String homeTeam, String awayTeam, int homeScore, int awayScore, long sourceSequence) {
+        return new SequencedUpdate(homeTeam, awayTeam, homeScore, awayScore, sourceSequence);
+    }
+
+    /**
+     * Creates a command updating the score of a match only if it still has the expected score.
+     * @param homeTeam Name of the home team.
+     * @param awayTeam Name of the away team.
+     * @param expectedHomeScore Home team score the match must have.
+     * @param expectedAwayScore Away team score the match must have.
+     * @param homeScore Updated home team score.
+     * @param awayScore Updated away team score.
+     * @return A new ConditionalUpdate command.
+     */
+    static ConditionalUpdate compareAndSet(String homeTeam, String awayTeam, int expectedHomeScore,
+                                           int expectedAwayScore, int homeScore, int awayScore) {
+        return new ConditionalUpdate(homeTeam, awayTeam, expectedHomeScore, expectedAwayScore, homeScore, awayScore);
+    }
+
+    /**
+     * Creates a command finishing a match.
+     * @param homeTeam Name of the home team.
+     * @param awayTeam Name of the away team.
+     * @return A new FinishMatch command.
+     */
+    static FinishMatch finish(String homeTeam, String awayTeam) {
+        return new FinishMatch(homeTeam, awayTeam);
+    }
+
+    /**
+     * Command starting a new match with an initial score of 0-0.
+     *
+     * @param homeTeam Name of the home team.
+     * @param awayTeam Name of the away team.
+     */
+    record StartMatch(String homeTeam, String awayTeam) implements ScoreboardCommand {
+        @Override
+        public boolean applyTo(Scoreboard scoreboard) {
+            scoreboard.startMatch(homeTeam, awayTeam);
+            return true;
+        }
+    }
+
+    /**
+     * Command updating the score of an existing match.
+     *
+     * @param homeTeam Name of the home team.
+     * @param awayTeam Name of the away team.
+     * @param homeScore Updated home team score.
+     * @param awayScore Updated away team score.
+     */
+    record UpdateScore(String homeTeam, String awayTeam, int homeScore, int awayScore) implements ScoreboardCommand {
+        @Override
+        public boolean applyTo(Scoreboard scoreboard) {
+            scoreboard.updateScore(homeTeam, awayTeam, homeScore, awayScore);
+            return true;
+        }
+    }
+
+    /**
+     * Command updating the score of an existing match unless a newer event of its source was applied.
+     *
+     * @param homeTeam Name of the home team.
+     * @param awayTeam Name of the away team.
+     * @param homeScore Updated home team score.
+     * @param awayScore Updated away team score.
+     * @param sourceSequence Sequence number of the event at its source.
+     */
+    record SequencedUpdate(String homeTeam, String awayTeam, int homeScore, int awayScore, long sourceSequence)
+            implements ScoreboardCommand {
+        @Override
+        public boolean applyTo(Scoreboard scoreboard) {
+            return scoreboard.updateScore(homeTeam, awayTeam, homeScore, awayScore, sourceSequence);
+        }
+    }
+
+    /**
+     * Command updating the score of an existing match only if it has the expected score.
+     *
+     * @param homeTeam Name of the home team.
+     * @param awayTeam Name of the away team.
+     * @param expectedHomeScore Home team score the match must have.
+     * @param expectedAwayScore Away team score the match must have.
+     * @param homeScore Updated home team score.
+     * @param awayScore Updated away team score.
+     */
+    record ConditionalUpdate(String homeTeam, String awayTeam, int expectedHomeScore, int expectedAwayScore,
+                             int homeScore, int awayScore) implements ScoreboardCommand {
+        @Override
+        public boolean applyTo(Scoreboard scoreboard) {
+            return scoreboard.compareAndSetScore(homeTeam, awayTeam, expectedHomeScore, expectedAwayScore,
+                    homeScore, awayScore);
+        }
+    }
+
+    /**
+     * Command finishing a match currently in progress.
+     *
+     * @param homeTeam Name of the home team.
+     * @param awayTeam Name of the away team.
+     */
+    record FinishMatch(String homeTeam, String awayTeam) implements ScoreboardCommand {
+        @Override
+        public boolean applyTo(Scoreboard scoreboard) {
+            scoreboard.finishMatch(homeTeam, awayTeam);
+            return true;
+        }
+    }
+}
@@ -45,4 +45,14 @@ public record FootballMatch(String homeTeam, String awayTeam, MatchScores scores
     public static FootballMatch withScores(String homeTeam, String awayTeam, int homeScore, int awayScore, Clock clock) {
         return new FootballMatch(homeTeam, awayTeam, new MatchScores(homeScore, awayScore), Instant.now(clock));
     }
+
+    /**
+     * Creates a copy of this match with updated scores, keeping the original start time.
+     * @param homeScore Updated score of the home team.
+     * @param awayScore Updated score of the away team.
+     * @return A new FootballMatch instance with the given scores.
+     */
+    public FootballMatch withUpdatedScores(int homeScore, int awayScore) {
+        return new FootballMatch(homeTeam, awayTeam, new MatchScores(homeScore, awayScore), startTime);
+    }
 }
@@ -0,0 +1,66 @@
+package com.sportradar.test.lib.events;
+
+import com.sportradar.test.lib.domain.FootballMatch;
+import com.sportradar.test.lib.domain.MatchScores;
+
+/**
+ * Immutable notification about a change of the scoreboard.
+ * Every event carries the scoreboard version that contains the change.
+ */
+public sealed interface ScoreboardEvent {
+
+    /**
+     * Retrieves the scoreboard version that contains the change.
+     * @return The scoreboard version.
+     */
+    long version();
+
+    /**
+     * Retrieves the match affected by the change.
+     * @return The state of the match after the change.
+     */
+    FootballMatch match();
+
+    /**
+     * A new match was started.
+     *
+     * @param version Scoreboard version that contains the change.
+     * @param match The started match.
+     */
+    record MatchStarted(long version, FootballMatch match) implements ScoreboardEvent {
+    }
+
+    /**
+     * The score of a match was updated.
+     *
+     * @param version Scoreboard version that contains the change.
+     * @param match The match after the update.
+     * @param previousScores Scores before the update.
+     * @param currentScores Scores after the update.
+     */
+    record ScoreChanged(long version, FootballMatch match, MatchScores previousScores, MatchScores currentScores)
+            implements ScoreboardEvent {
+    }
+
+    /**
+     * A match was finished and removed from the scoreboard.
+     *
+     * @param version Scoreboard version that contains the change.
+     * @param match The match as it was when finished.
+     */
+    record MatchFinished(long version, FootballMatch match) implements ScoreboardEvent {
+    }
+
+    /**
+     * The position of an updated match in the summary changed.
+     * Positions are zero-based indexes in {@code getSummary()}; matches shifted by the move are not reported.
+     *
+     * @param version Scoreboard version that contains the change.
+     * @param match The moved match.
+     * @param previousPosition Position in the previous summary.
+     * @param currentPosition Position in the current summary.
+     */
+    record RankMoved(long version, FootballMatch match, int previousPosition, int currentPosition)
+            implements ScoreboardEvent {
+    }
+}
@@ -0,0 +1,161 @@
+package com.sportradar.test.lib.events;
+
+import com.sportradar.test.lib.ranking.RankedMatch;
+import com.sportradar.test.lib.ranking.SummarySnapshot;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.Executor;
+import java.util.concurrent.Flow;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.SubmissionPublisher;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Publisher of scoreboard change events.
+ * Changes are collected by the writer while it holds the scoreboard lock and offered to subscribers
+ * when the summary is published. Every subscriber has its own bounded buffer and is served asynchronously;
+ * events that do not fit into the buffer of a slow subscriber are dropped for that subscriber only,
+ * so the writer never blocks.
+ */
+public class ScoreboardEventPublisher implements Flow.Publisher<ScoreboardEvent> {
+
+    /** Default number of buffered events per subscriber. */
+    public static final int DEFAULT_BUFFER_CAPACITY = Flow.defaultBufferSize();
+
+    private final SubmissionPublisher<ScoreboardEvent> publisher;
+
+    // Events of the changes applied since the last publish, guarded by the scoreboard lock
+    private final List<ScoreboardEvent> pendingEvents = new ArrayList<>();
+
+    // Rescored matches since the last publish by match key, guarded by the scoreboard lock
+    private final Map<Long, Rescore> rescoredMatches = new LinkedHashMap<>();
+
+    private final LongAdder droppedEvents = new LongAdder();
+
+    /**
+     * Constructs a publisher delivering events on the common pool with the default buffer capacity.
+     */
+    public ScoreboardEventPublisher() {
+        this(ForkJoinPool.commonPool(), DEFAULT_BUFFER_CAPACITY);
+    }
+
+    /**
+     * Constructs a publisher.
+     * @param executor Executor delivering events to subscribers.
+     * @param bufferCapacity Maximum number of buffered events per subscriber.
+     */
+    public ScoreboardEventPublisher(Executor executor, int bufferCapacity) {
+        this.publisher = new SubmissionPublisher<>(executor, bufferCapacity);
+    }
+
+    @Override
+    public void subscribe(Flow.Subscriber<? super ScoreboardEvent> subscriber) {
+        publisher.subscribe(subscriber);
+    }
+
+    /**
+     * Checks whether anybody listens, so that writers can skip creating events.
+     * @return true if there is at least one subscriber.
+     */
+    public boolean hasSubscribers() {
+        return publisher.hasSubscribers();
+    }
+
+    /**
+     * Checks whether changes were recorded since the last publish, so that writers can skip taking summaries.
+     * @return true if there are events to publish.
+     */
+    public boolean hasPendingEvents() {
+        return !pendingEvents.isEmpty();
+    }
+
+    /**
+     * Returns the number of events dropped because a subscriber buffer was full.
+     * @return The number of dropped events, counted once per subscriber.
+     */
+    public long droppedEvents() {
+        return droppedEvents.sum();
+    }
+
+    /**
+     * Records a started match.
+     * @param version Scoreboard version that will contain the change.
+     * @param match The started match.
+     */
+    public void matchStarted(long version, RankedMatch match) {
+        pendingEvents.add(new ScoreboardEvent.MatchStarted(version, match.match()));
+    }
+
+    /**
+     * Records a score update and remembers the match for rank move detection.
+     * @param version Scoreboard version that will contain the change.
+     * @param matchKey Packed key of the match.
+     * @param previous The match before the update.
+     * @param current The match after the update.
+     */
+    public void scoreChanged(long version, long matchKey, RankedMatch previous, RankedMatch current) {
+        pendingEvents.add(new ScoreboardEvent.ScoreChanged(
+                version, current.match(), previous.match().scores(), current.match().scores()));
+        Rescore rescore = rescoredMatches.get(matchKey);
+        rescoredMatches.put(matchKey, new Rescore(rescore == null ? previous : rescore.previous(), current));
+    }
+
+    /**
+     * Records a finished match.
+     * @param version Scoreboard version that will contain the change.
+     * @param matchKey Packed key of the match.
+     * @param match The finished match.
+     */
+    public void matchFinished(long version, long matchKey, RankedMatch match) {
+        pendingEvents.add(new ScoreboardEvent.MatchFinished(version, match.match()));
+        rescoredMatches.remove(matchKey);
+    }
+
+    /**
+     * Offers the recorded events to subscribers, followed by rank moves between two summaries.
+     * Rank moves are only detected between consecutive versions; they are skipped for the first changes
+     * after a subscription, when the summary before the changes was never taken.
+     * @param previous Summary published before the recorded changes.
+     * @param current Summary containing the recorded changes.
+     */
+    public void publish(SummarySnapshot previous, SummarySnapshot current) {
+        if (previous.version() != current.version() - 1) {
+            rescoredMatches.clear();
+        }
+        for (Rescore rescore : rescoredMatches.values()) {
+            int previousPosition = Collections.binarySearch(previous.ranking(), rescore.previous(), RankedMatch.SUMMARY_ORDER);
+            int currentPosition = Collections.binarySearch(current.ranking(), rescore.current(), RankedMatch.SUMMARY_ORDER);
+            if (previousPosition >= 0 && currentPosition >= 0 && previousPosition != currentPosition) {
+                pendingEvents.add(new ScoreboardEvent.RankMoved(
+                        current.version(), rescore.current().match(), previousPosition, currentPosition));
+            }
+        }
+        for (ScoreboardEvent event : pendingEvents) {
+            publisher.offer(event, this::onDrop);
+        }
+        pendingEvents.clear();
+        rescoredMatches.clear();
+    }
+
+    /**
+     * Completes all subscriptions; no further events are delivered.
+     */
+    public void close() {
+        publisher.close();
+    }
+
+    private boolean onDrop(Flow.Subscriber<? super ScoreboardEvent> subscriber, ScoreboardEvent event) {
+        droppedEvents.increment();
+        // Never retry: the writer must not wait for slow subscribers
+        return false;
+    }
+
+    /**
+     * State of a match before its first and after its last update since the last publish.
+     */
+    private record Rescore(RankedMatch previous, RankedMatch current) {
+    }
+}
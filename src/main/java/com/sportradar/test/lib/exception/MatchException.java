@@ -3,14 +3,24 @@ package com.sportradar.test.lib.exception;
 /**
  * Base exception for match-related errors in the scoreboard.
  * This abstract class provides a foundation for specific match-related exceptions.
+ * <p>
+ * Duplicate starts and unknown matches are routine in high-rate feeds. Setting the
+ * {@value #STACKLESS_PROPERTY} system property to {@code true} makes all match exceptions skip capturing
+ * the stack trace, which is the expensive part of throwing them. Feeds that reject many operations should
+ * prefer the exception-free {@code try} methods of the scoreboard.
  */
 public abstract class MatchException extends RuntimeException {
 
+    /** System property that disables stack traces of match exceptions when set to {@code true}. */
+    public static final String STACKLESS_PROPERTY = "scoreboard.exceptions.stackless";
+
+    private static final boolean STACKLESS = Boolean.getBoolean(STACKLESS_PROPERTY);
+
     /**
      * Constructs a new MatchException with the specified message.
      * @param message The detail message describing the exception.
      */
     public MatchException(String message) {
-        super(message);
+        super(message, null, true, !STACKLESS);
     }
 }
@@ -0,0 +1,19 @@
+package com.sportradar.test.lib.exception;
+
+/**
+ * Exception thrown when attempting to start a match of a team that is already playing in another live match,
+ * on a scoreboard that allows only one live match per team.
+ */
+public class TeamAlreadyPlayingException extends MatchException {
+
+    /** Prefix for the exception message. */
+    public static final String MESSAGE_PREFIX = "A team is already playing in another live match: ";
+
+    /**
+     * Constructs a new TeamAlreadyPlayingException with a message containing the match key.
+     * @param matchKey The unique identifier of the match that could not be started.
+     */
+    public TeamAlreadyPlayingException(String matchKey) {
+        super(MESSAGE_PREFIX + matchKey);
+    }
+}
@@ -0,0 +1,19 @@
+package com.sportradar.test.lib.exception;
+
+/**
+ * Exception thrown when a scoreboard implementation does not support an optional operation,
+ * such as sequenced score updates.
+ */
+public class UnsupportedScoreboardOperationException extends MatchException {
+
+    /** Prefix for the exception message. */
+    public static final String MESSAGE_PREFIX = "Operation not supported by this scoreboard: ";
+
+    /**
+     * Constructs a new UnsupportedScoreboardOperationException with a message containing the operation.
+     * @param operation Name of the unsupported operation.
+     */
+    public UnsupportedScoreboardOperationException(String operation) {
+        super(MESSAGE_PREFIX + operation);
+    }
+}
@@ -0,0 +1,12 @@
+package com.sportradar.test.lib.feed;
+
+/**
+ * Immutable counters of an ingested feed.
+ *
+ * @param lines Number of non-blank lines read.
+ * @param applied Number of lines applied to the scoreboard.
+ * @param rejected Number of well-formed lines rejected by the scoreboard, e.g. updates of unknown matches.
+ * @param malformed Number of lines that could not be parsed.
+ */
+public record FeedStats(long lines, long applied, long rejected, long malformed) {
+}
@@ -0,0 +1,117 @@
+package com.sportradar.test.lib.feed;
+
+import com.sportradar.test.lib.Scoreboard;
+import java.io.IOException;
+import java.nio.channels.FileChannel;
+import java.nio.channels.ReadableByteChannel;
+import java.nio.channels.ServerSocketChannel;
+import java.nio.channels.SocketChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Drives a scoreboard from line-delimited score feeds, with one virtual thread per feed source.
+ * Sources are channels (e.g. TCP connections accepted from a server socket) and recorded match-day files,
+ * which are replayed at maximum speed for load testing. See {@link ScoreFeedReader} for the line format.
+ */
+public class ScoreFeedAdapter implements AutoCloseable {
+
+    /** Read buffer size used for replaying files. */
+    public static final int REPLAY_BUFFER_SIZE = 1024 * 1024;
+
+    private final Scoreboard scoreboard;
+    private final ExecutorService sources = Executors.newVirtualThreadPerTaskExecutor();
+
+    // Totals of the sources that have ended
+    private final LongAdder lines = new LongAdder();
+    private final LongAdder applied = new LongAdder();
+    private final LongAdder rejected = new LongAdder();
+    private final LongAdder malformed = new LongAdder();
+
+    /**
+     * Constructs an adapter driving a scoreboard.
+     * @param scoreboard Scoreboard to apply the feeds to.
+     */
+    public ScoreFeedAdapter(Scoreboard scoreboard) {
+        this.scoreboard = scoreboard;
+    }
+
+    /**
+     * Reads a feed from a channel on a new virtual thread until the end of the channel, then closes it.
+     * @param channel Channel to read the feed from, in blocking mode.
+     * @return A future completed with the counters of the feed.
+     */
+    public Future<FeedStats> ingest(ReadableByteChannel channel) {
+        return sources.submit(() -> read(channel, ScoreFeedReader.DEFAULT_BUFFER_SIZE));
+    }
+
+    /**
+     * Replays a recorded feed file at maximum speed on a new virtual thread.
+     * @param file File containing the recorded feed.
+     * @return A future completed with the counters of the feed.
+     */
+    public Future<FeedStats> replay(Path file) {
+        return sources.submit(() -> read(FileChannel.open(file, StandardOpenOption.READ), REPLAY_BUFFER_SIZE));
+    }
+
+    /**
+     * Accepts connections on a new virtual thread and reads each connection on a virtual thread of its own,
+     * until the server socket or the adapter is closed.
+     * @param server Bound server socket channel, in blocking mode.
+     * @return A future completed when the server socket stops accepting connections.
+     */
+    public Future<?> serve(ServerSocketChannel server) {
+        return sources.submit(() -> {
+            while (server.isOpen()) {
+                SocketChannel connection;
+                try {
+                    connection = server.accept();
+                } catch (IOException e) {
+                    // The server socket was closed
+                    return null;
+                }
+                ingest(connection);
+            }
+            return null;
+        });
+    }
+
+    /**
+     * Retrieves the totals of all feed sources that have ended.
+     * @return A new FeedStats.
+     */
+    public FeedStats totals() {
+        return new FeedStats(lines.sum(), applied.sum(), rejected.sum(), malformed.sum());
+    }
+
+    /**
+     * Stops all feed sources by interrupting their threads, which closes their channels, and waits for them to end.
+     */
+    @Override
+    public void close() {
+        sources.shutdownNow();
+        try {
+            sources.awaitTermination(1, TimeUnit.MINUTES);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private FeedStats read(ReadableByteChannel channel, int bufferSize) throws IOException {
+        ScoreFeedReader reader = new ScoreFeedReader(scoreboard, bufferSize);
+        try (channel) {
+            return reader.readFrom(channel);
+        } finally {
+            FeedStats stats = reader.stats();
+            lines.add(stats.lines());
+            applied.add(stats.applied());
+            rejected.add(stats.rejected());
+            malformed.add(stats.malformed());
+        }
+    }
+}
@@ -0,0 +1,208 @@
+package com.sportradar.test.lib.feed;
+
+import com.sportradar.test.lib.Scoreboard;
+import com.sportradar.test.lib.command.OperationStatus;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.ReadableByteChannel;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+
+/**
+ * Reads a newline-delimited score feed from a channel and applies it to a scoreboard.
+ * <p>
+ * Supported lines, with fields separated by spaces or tabs:
+ * <pre>
+ * START &lt;home team&gt; &lt;away team&gt;
+ * SCORE &lt;home team&gt; &lt;away team&gt; &lt;home score&gt; &lt;away score&gt;
+ * FINISH &lt;home team&gt; &lt;away team&gt;
+ * </pre>
+ * Lines are parsed in place in the read buffer: keywords and scores are compared and decoded byte by byte,
+ * and team names come from a per-source cache, so no String is allocated per field once the teams are known.
+ * Lines are applied with the exception-free operations, so rejected lines cost no exception.
+ * Blank lines are ignored; lines that cannot be parsed or that do not fit into the buffer are counted as malformed.
+ * Not thread-safe: every feed source needs its own reader.
+ */
+public class ScoreFeedReader {
+
+    /** Default size of the read buffer, which is also the maximum line length. */
+    public static final int DEFAULT_BUFFER_SIZE = 64 * 1024;
+
+    private static final byte[] START = "START".getBytes(StandardCharsets.US_ASCII);
+    private static final byte[] SCORE = "SCORE".getBytes(StandardCharsets.US_ASCII);
+    private static final byte[] FINISH = "FINISH".getBytes(StandardCharsets.US_ASCII);
+    private static final int MAX_FIELDS = 5;
+
+    private final Scoreboard scoreboard;
+    private final ByteBuffer buffer;
+    private final TeamNameCache teamNames = new TeamNameCache();
+
+    // Bounds of the fields of the current line
+    private final int[] fieldStarts = new int[MAX_FIELDS];
+    private final int[] fieldEnds = new int[MAX_FIELDS];
+
+    private long lines;
+    private long applied;
+    private long rejected;
+    private long malformed;
+
+    /**
+     * Constructs a reader with the default buffer size.
+     * @param scoreboard Scoreboard to apply the feed to.
+     */
+    public ScoreFeedReader(Scoreboard scoreboard) {
+        this(scoreboard, DEFAULT_BUFFER_SIZE);
+    }
+
+    /**
+     * Constructs a reader.
+     * @param scoreboard Scoreboard to apply the feed to.
+     * @param bufferSize Size of the read buffer, which is also the maximum line length.
+     */
+    public ScoreFeedReader(Scoreboard scoreboard, int bufferSize) {
+        this.scoreboard = scoreboard;
+        this.buffer = ByteBuffer.allocate(bufferSize);
+    }
+
+    /**
+     * Reads and applies lines until the end of the channel. A last line without a line break is applied as well.
+     * @param channel Channel to read the feed from, in blocking mode.
+     * @return The counters of this reader, including previous reads.
+     * @throws IOException if the channel cannot be read.
+     */
+    public FeedStats readFrom(ReadableByteChannel channel) throws IOException {
+        byte[] bytes = buffer.array();
+        // Position up to which the buffer has been searched for line breaks
+        int scanned = 0;
+        // Set while skipping the rest of a line that did not fit into the buffer
+        boolean discarding = false;
+        while (channel.read(buffer) >= 0) {
+            int end = buffer.position();
+            int lineStart = 0;
+            for (int i = scanned; i < end; i++) {
+                if (bytes[i] == '\n') {
+                    if (discarding) {
+                        discarding = false;
+                    } else {
+                        applyLine(bytes, lineStart, i);
+                    }
+                    lineStart = i + 1;
+                }
+            }
+            if (lineStart == 0 && end == bytes.length) {
+                // The line does not fit into the buffer
+                if (!discarding) {
+                    lines++;
+                    malformed++;
+                    discarding = true;
+                }
+                buffer.clear();
+                scanned = 0;
+                continue;
+            }
+            System.arraycopy(bytes, lineStart, bytes, 0, end - lineStart);
+            buffer.position(end - lineStart);
+            scanned = end - lineStart;
+        }
+        if (buffer.position() > 0 && !discarding) {
+            applyLine(bytes, 0, buffer.position());
+        }
+        buffer.clear();
+        return stats();
+    }
+
+    /**
+     * Retrieves the counters of this reader.
+     * @return A new FeedStats.
+     */
+    public FeedStats stats() {
+        return new FeedStats(lines, applied, rejected, malformed);
+    }
+
+    private void applyLine(byte[] bytes, int from, int to) {
+        int fields = split(bytes, from, to);
+        if (fields == 0) {
+            return;
+        }
+        lines++;
+        OperationStatus status;
+        if (fields == 3 && isKeyword(bytes, START)) {
+            status = scoreboard.tryStartMatch(field(bytes, 1), field(bytes, 2));
+        } else if (fields == 5 && isKeyword(bytes, SCORE)) {
+            int homeScore = parseScore(bytes, 3);
+            int awayScore = parseScore(bytes, 4);
+            if (homeScore < 0 || awayScore < 0) {
+                malformed++;
+                return;
+            }
+            status = scoreboard.tryUpdateScore(field(bytes, 1), field(bytes, 2), homeScore, awayScore);
+        } else if (fields == 3 && isKeyword(bytes, FINISH)) {
+            status = scoreboard.tryFinishMatch(field(bytes, 1), field(bytes, 2));
+        } else {
+            malformed++;
+            return;
+        }
+        if (status.isApplied()) {
+            applied++;
+        } else {
+            rejected++;
+        }
+    }
+
+    /**
+     * Finds the fields of a line.
+     * @return The number of fields, or MAX_FIELDS + 1 if the line has too many fields.
+     */
+    private int split(byte[] bytes, int from, int to) {
+        if (to > from && bytes[to - 1] == '\r') {
+            to--;
+        }
+        int fields = 0;
+        int i = from;
+        while (i < to) {
+            while (i < to && isSeparator(bytes[i])) {
+                i++;
+            }
+            if (i == to) {
+                break;
+            }
+            if (fields == MAX_FIELDS) {
+                return MAX_FIELDS + 1;
+            }
+            fieldStarts[fields] = i;
+            while (i < to && !isSeparator(bytes[i])) {
+                i++;
+            }
+            fieldEnds[fields++] = i;
+        }
+        return fields;
+    }
+
+    private boolean isKeyword(byte[] bytes, byte[] keyword) {
+        return Arrays.equals(bytes, fieldStarts[0], fieldEnds[0], keyword, 0, keyword.length);
+    }
+
+    private String field(byte[] bytes, int field) {
+        return teamNames.nameOf(bytes, fieldStarts[field], fieldEnds[field]);
+    }
+
+    /**
+     * Decodes a score field.
+     * @return The score, or -1 if the field is not a non-negative int.
+     */
+    private int parseScore(byte[] bytes, int field) {
+        int value = 0;
+        for (int i = fieldStarts[field]; i < fieldEnds[field]; i++) {
+            int digit = bytes[i] - '0';
+            if (digit < 0 || digit > 9 || value > (Integer.MAX_VALUE - digit) / 10) {
+                return -1;
+            }
+            value = value * 10 + digit;
+        }
+        return value;
+    }
+
+    private static boolean isSeparator(byte b) {
+        return b == ' ' || b == '\t';
+    }
+}
@@ -0,0 +1,74 @@
+package com.sportradar.test.lib.feed;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+
+/**
+ * Cache from the UTF-8 bytes of a team name to its String, looked up directly in a read buffer.
+ * A name is decoded only the first time it is seen, so parsing known teams allocates nothing.
+ * Not thread-safe: every feed source has its own cache.
+ */
+class TeamNameCache {
+
+    // Names beyond this number are decoded on every lookup instead of being cached
+    private static final int MAX_CACHED_NAMES = 1 << 16;
+    private static final int INITIAL_CAPACITY = 256;
+
+    private byte[][] keys = new byte[INITIAL_CAPACITY][];
+    private String[] names = new String[INITIAL_CAPACITY];
+    private int size;
+
+    /**
+     * Returns the team name stored in a range of bytes.
+     * @param bytes Buffer containing the name.
+     * @param from Index of the first byte of the name.
+     * @param to Index after the last byte of the name.
+     * @return The cached or newly decoded name.
+     */
+    String nameOf(byte[] bytes, int from, int to) {
+        int mask = keys.length - 1;
+        int index = hash(bytes, from, to) & mask;
+        while (keys[index] != null) {
+            if (Arrays.equals(keys[index], 0, keys[index].length, bytes, from, to)) {
+                return names[index];
+            }
+            index = (index + 1) & mask;
+        }
+        String name = new String(bytes, from, to - from, StandardCharsets.UTF_8);
+        if (size < MAX_CACHED_NAMES) {
+            keys[index] = Arrays.copyOfRange(bytes, from, to);
+            names[index] = name;
+            if (++size * 2 > keys.length) {
+                grow();
+            }
+        }
+        return name;
+    }
+
+    private void grow() {
+        byte[][] oldKeys = keys;
+        String[] oldNames = names;
+        keys = new byte[oldKeys.length * 2][];
+        names = new String[oldKeys.length * 2];
+        int mask = keys.length - 1;
+        for (int i = 0; i < oldKeys.length; i++) {
+            if (oldKeys[i] != null) {
+                int index = hash(oldKeys[i], 0, oldKeys[i].length) & mask;
+                while (keys[index] != null) {
+                    index = (index + 1) & mask;
+                }
+                keys[index] = oldKeys[i];
+                names[index] = oldNames[i];
+            }
+        }
+    }
+
+    private static int hash(byte[] bytes, int from, int to) {
+        int hash = 1;
+        for (int i = from; i < to; i++) {
+            hash = 31 * hash + bytes[i];
+        }
+        // Spreads the high bits, as the table index uses the low ones
+        return hash ^ (hash >>> 16);
+    }
+}
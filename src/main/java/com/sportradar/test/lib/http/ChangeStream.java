@@ -0,0 +1,197 @@
+package com.sportradar.test.lib.http;
+
+import com.sportradar.test.lib.Scoreboard;
+import com.sportradar.test.lib.events.ScoreboardEvent;
+import java.util.Set;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Flow;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * Changes of a scoreboard, fanned out to long-polling requests and event streams.
+ * The change events are subscribed to only while at least one event stream is connected, as a subscribed
+ * scoreboard prepares events and summaries on every write. Long-polling requests poll the scoreboard version,
+ * and are woken up early by change events while they are subscribed.
+ * Waits use a {@link ReentrantLock} rather than monitors, so waiting virtual threads do not pin their carriers.
+ */
+final class ChangeStream {
+
+    // Upper bound of a single wait, so new versions are noticed without change events
+    private static final long RECHECK_NANOS = TimeUnit.MILLISECONDS.toNanos(10);
+
+    private final Scoreboard scoreboard;
+    private final Flow.Publisher<ScoreboardEvent> changeEvents;
+    private final int clientCapacity;
+
+    private final ReentrantLock lock = new ReentrantLock();
+    private final Condition changed = lock.newCondition();
+
+    // Pending events of every connected event stream
+    private final Set<BlockingQueue<ScoreboardEvent>> clients = ConcurrentHashMap.newKeySet();
+    private final LongAdder droppedEvents = new LongAdder();
+
+    // Subscription to the change events while event streams are connected, guarded by the lock
+    private Feed feed;
+    private boolean cancelled;
+
+    /**
+     * Constructs a stream of the changes of a scoreboard.
+     * @param scoreboard The scoreboard whose version is awaited.
+     * @param changeEvents Publisher of the change events of the scoreboard, or null if it has none.
+     * @param clientCapacity Maximum number of pending events per event stream.
+     */
+    ChangeStream(Scoreboard scoreboard, Flow.Publisher<ScoreboardEvent> changeEvents, int clientCapacity) {
+        this.scoreboard = scoreboard;
+        this.changeEvents = changeEvents;
+        this.clientCapacity = clientCapacity;
+    }
+
+    /**
+     * Waits until the scoreboard version is greater than a known version.
+     * @param version The version the caller already has.
+     * @param timeoutNanos Maximum time to wait.
+     * @return True if the version is greater than the given version, false if the wait timed out.
+     * @throws InterruptedException if the waiting thread is interrupted.
+     */
+    boolean awaitVersionAfter(long version, long timeoutNanos) throws InterruptedException {
+        long deadline = System.nanoTime() + timeoutNanos;
+        lock.lock();
+        try {
+            while (scoreboard.version() <= version) {
+                long remaining = deadline - System.nanoTime();
+                if (remaining <= 0) {
+                    return false;
+                }
+                changed.awaitNanos(Math.min(remaining, RECHECK_NANOS));
+            }
+            return true;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Registers a new event stream, subscribing to the change events if it is the first one.
+     * @return The queue receiving the events of the stream.
+     */
+    BlockingQueue<ScoreboardEvent> register() {
+        BlockingQueue<ScoreboardEvent> client = new ArrayBlockingQueue<>(clientCapacity);
+        lock.lock();
+        try {
+            clients.add(client);
+            if (feed == null && !cancelled) {
+                feed = new Feed();
+                changeEvents.subscribe(feed);
+            }
+        } finally {
+            lock.unlock();
+        }
+        return client;
+    }
+
+    /**
+     * Unregisters an event stream, cancelling the subscription to the change events if it was the last one.
+     * @param client The queue of the stream.
+     */
+    void unregister(BlockingQueue<ScoreboardEvent> client) {
+        lock.lock();
+        try {
+            clients.remove(client);
+            if (clients.isEmpty() && feed != null) {
+                feed.cancel();
+                feed = null;
+            }
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Returns the number of events dropped because an event stream did not keep up.
+     * @return The number of dropped events, counted once per stream.
+     */
+    long droppedEvents() {
+        return droppedEvents.sum();
+    }
+
+    /**
+     * Stops receiving changes; later event streams do not subscribe again.
+     */
+    void cancel() {
+        lock.lock();
+        try {
+            cancelled = true;
+            if (feed != null) {
+                feed.cancel();
+                feed = null;
+            }
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    private void signalChanged() {
+        lock.lock();
+        try {
+            changed.signalAll();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * One subscription to the change events. A new subscriber is used for every subscription,
+     * so a cancelled one that still receives events can be told apart.
+     */
+    private final class Feed implements Flow.Subscriber<ScoreboardEvent> {
+
+        private volatile Flow.Subscription subscription;
+        private volatile boolean cancelled;
+
+        @Override
+        public void onSubscribe(Flow.Subscription subscription) {
+            this.subscription = subscription;
+            if (cancelled) {
+                subscription.cancel();
+            } else {
+                subscription.request(Long.MAX_VALUE);
+            }
+        }
+
+        @Override
+        public void onNext(ScoreboardEvent event) {
+            if (cancelled) {
+                return;
+            }
+            signalChanged();
+            for (BlockingQueue<ScoreboardEvent> client : clients) {
+                if (!client.offer(event)) {
+                    droppedEvents.increment();
+                }
+            }
+        }
+
+        @Override
+        public void onError(Throwable throwable) {
+            signalChanged();
+        }
+
+        @Override
+        public void onComplete() {
+            signalChanged();
+        }
+
+        void cancel() {
+            cancelled = true;
+            Flow.Subscription current = subscription;
+            if (current != null) {
+                current.cancel();
+            }
+        }
+    }
+}
@@ -0,0 +1,240 @@
+package com.sportradar.test.lib.http;
+
+import com.sportradar.test.lib.FootballWorldCupScoreboard;
+import com.sportradar.test.lib.Scoreboard;
+import com.sportradar.test.lib.events.ScoreboardEvent;
+import com.sportradar.test.lib.render.Json;
+import com.sportradar.test.lib.render.RenderedSummary;
+import com.sportradar.test.lib.render.SummaryFormat;
+import com.sportradar.test.lib.render.SummaryRenderCache;
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.nio.channels.Channels;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.Locale;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Flow;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Exposes a scoreboard over HTTP with the JDK's built-in server, handling every exchange on a virtual thread.
+ * <ul>
+ *   <li>{@code GET /summary} – the summary as JSON, or in the binary format with {@code ?format=binary}.
+ *   The ETag identifies the scoreboard version and format, so a matching {@code If-None-Match} is answered
+ *   with {@code 304 Not Modified}. With {@code ?since=<version>} the request waits until the scoreboard is newer
+ *   than that version, and is answered with {@code 304} if the long-poll timeout elapses first.</li>
+ *   <li>{@code GET /events} – a Server-Sent Events stream of the change events, with the scoreboard version as
+ *   event id and the event type as event name. Events that do not fit into the buffer of a slow stream are
+ *   dropped for that stream.</li>
+ * </ul>
+ * Summaries are served from a {@link SummaryRenderCache}, so all clients share one rendering per version.
+ * The change events are subscribed to only while event streams are connected; long-polling requests poll
+ * the scoreboard version.
+ */
+public class ScoreboardHttpServer implements AutoCloseable {
+
+    /** Path of the summary resource. */
+    public static final String SUMMARY_PATH = "/summary";
+
+    /** Path of the change event stream. */
+    public static final String EVENTS_PATH = "/events";
+
+    /** Default maximum time a long-polling request waits for a new version. */
+    public static final Duration DEFAULT_LONG_POLL_TIMEOUT = Duration.ofSeconds(30);
+
+    /** Maximum number of pending events per event stream. */
+    public static final int EVENT_STREAM_CAPACITY = 1024;
+
+    // Interval of comments sent on idle event streams, which also detects disconnected clients
+    private static final long HEARTBEAT_MILLIS = 15_000;
+
+    private final HttpServer server;
+    private final ExecutorService exchanges = Executors.newVirtualThreadPerTaskExecutor();
+    private final SummaryRenderCache renderCache;
+    private final ChangeStream changes;
+    private final boolean eventsEnabled;
+    private final long longPollTimeoutNanos;
+
+    /**
+     * Starts a server exposing a scoreboard and its change events.
+     * @param scoreboard The scoreboard to expose.
+     * @param address Address to bind to; port 0 selects a free port.
+     * @throws IOException if the server cannot be bound.
+     */
+    public ScoreboardHttpServer(FootballWorldCupScoreboard scoreboard, InetSocketAddress address) throws IOException {
+        this(scoreboard, scoreboard.changes(), address, DEFAULT_LONG_POLL_TIMEOUT);
+    }
+
+    /**
+     * Starts a server exposing a scoreboard.
+     * @param scoreboard The scoreboard to expose.
+     * @param changeEvents Publisher of the change events of the scoreboard, or null if it has none; without it
+     *                     {@code /events} is not available. It is subscribed to only while event streams are
+     *                     connected, so a server without them adds no work to the writers of the scoreboard.
+     * @param address Address to bind to; port 0 selects a free port.
+     * @param longPollTimeout Maximum time a long-polling request waits for a new version.
+     * @throws IOException if the server cannot be bound.
+     */
+    public ScoreboardHttpServer(Scoreboard scoreboard, Flow.Publisher<ScoreboardEvent> changeEvents,
+                                InetSocketAddress address, Duration longPollTimeout) throws IOException {
+        this.renderCache = new SummaryRenderCache(scoreboard);
+        this.changes = new ChangeStream(scoreboard, changeEvents, EVENT_STREAM_CAPACITY);
+        this.eventsEnabled = changeEvents != null;
+        this.longPollTimeoutNanos = longPollTimeout.toNanos();
+        server = HttpServer.create(address, 0);
+        server.setExecutor(exchanges);
+        server.createContext(SUMMARY_PATH, exchange -> handle(exchange, this::serveSummary));
+        server.createContext(EVENTS_PATH, exchange -> handle(exchange, this::serveEvents));
+        server.start();
+    }
+
+    /**
+     * Retrieves the address the server is bound to.
+     * @return The bound address, with the selected port.
+     */
+    public InetSocketAddress address() {
+        return server.getAddress();
+    }
+
+    /**
+     * Returns the number of change events dropped because an event stream did not keep up.
+     * @return The number of dropped events, counted once per stream.
+     */
+    public long droppedEvents() {
+        return changes.droppedEvents();
+    }
+
+    /**
+     * Stops the server, ends open event streams and long-polling requests, and waits for their threads to end.
+     */
+    @Override
+    public void close() {
+        changes.cancel();
+        server.stop(0);
+        exchanges.shutdownNow();
+        try {
+            exchanges.awaitTermination(1, TimeUnit.MINUTES);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private void serveSummary(HttpExchange exchange) throws IOException, InterruptedException {
+        SummaryFormat format;
+        long since = -1;
+        try {
+            format = SummaryFormat.valueOf(queryParameter(exchange, "format", "json").toUpperCase(Locale.ROOT));
+            String sinceParameter = queryParameter(exchange, "since", null);
+            if (sinceParameter != null) {
+                since = Long.parseLong(sinceParameter);
+            }
+        } catch (IllegalArgumentException e) {
+            exchange.sendResponseHeaders(400, -1);
+            return;
+        }
+        if (since >= 0) {
+            changes.awaitVersionAfter(since, longPollTimeoutNanos);
+        }
+
+        RenderedSummary summary = renderCache.render(format);
+        String etag = "\"" + summary.version() + "-" + format.name().toLowerCase(Locale.ROOT) + "\"";
+        exchange.getResponseHeaders().set("ETag", etag);
+        exchange.getResponseHeaders().set("Cache-Control", "no-cache");
+        if (summary.version() <= since || etag.equals(exchange.getRequestHeaders().getFirst("If-None-Match"))) {
+            exchange.sendResponseHeaders(304, -1);
+            return;
+        }
+        exchange.getResponseHeaders().set("Content-Type", format.contentType());
+        exchange.sendResponseHeaders(200, summary.size());
+        try (OutputStream body = exchange.getResponseBody()) {
+            Channels.newChannel(body).write(summary.content());
+        }
+    }
+
+    private void serveEvents(HttpExchange exchange) throws IOException, InterruptedException {
+        if (!eventsEnabled) {
+            exchange.sendResponseHeaders(404, -1);
+            return;
+        }
+        BlockingQueue<ScoreboardEvent> events = changes.register();
+        try {
+            exchange.getResponseHeaders().set("Content-Type", "text/event-stream");
+            exchange.getResponseHeaders().set("Cache-Control", "no-cache");
+            exchange.sendResponseHeaders(200, 0);
+            OutputStream body = exchange.getResponseBody();
+            body.write(": connected\n\n".getBytes(StandardCharsets.UTF_8));
+            body.flush();
+            while (true) {
+                ScoreboardEvent event = events.poll(HEARTBEAT_MILLIS, TimeUnit.MILLISECONDS);
+                String message = event == null ? ": heartbeat\n\n" : serverSentEvent(event);
+                body.write(message.getBytes(StandardCharsets.UTF_8));
+                body.flush();
+            }
+        } finally {
+            changes.unregister(events);
+        }
+    }
+
+    /**
+     * Formats a change event as a Server-Sent Event whose data is a JSON object with the version, the match
+     * and the type-specific fields.
+     */
+    private static String serverSentEvent(ScoreboardEvent event) {
+        StringBuilder json = new StringBuilder(256);
+        json.append("{\"version\":").append(event.version()).append(",\"match\":");
+        Json.appendMatch(json, event.match());
+        if (event instanceof ScoreboardEvent.RankMoved moved) {
+            json.append(",\"previousPosition\":").append(moved.previousPosition())
+                    .append(",\"currentPosition\":").append(moved.currentPosition());
+        } else if (event instanceof ScoreboardEvent.ScoreChanged changed) {
+            json.append(",\"previousHomeScore\":").append(changed.previousScores().homeTeamScore())
+                    .append(",\"previousAwayScore\":").append(changed.previousScores().awayTeamScore());
+        }
+        json.append('}');
+        return "id: " + event.version() + "\nevent: " + event.getClass().getSimpleName() + "\ndata: " + json + "\n\n";
+    }
+
+    private static String queryParameter(HttpExchange exchange, String name, String defaultValue) {
+        String query = exchange.getRequestURI().getRawQuery();
+        if (query != null) {
+            for (String parameter : query.split("&")) {
+                int separator = parameter.indexOf('=');
+                if (separator > 0 && parameter.substring(0, separator).equals(name)) {
+                    return parameter.substring(separator + 1);
+                }
+            }
+        }
+        return defaultValue;
+    }
+
+    /**
+     * Answers requests for unknown paths and methods other than GET, runs the handler otherwise,
+     * and always closes the exchange.
+     */
+    private static void handle(HttpExchange exchange, Handler handler) throws IOException {
+        try (exchange) {
+            if (!exchange.getRequestURI().getPath().equals(exchange.getHttpContext().getPath())) {
+                exchange.sendResponseHeaders(404, -1);
+            } else if (!"GET".equals(exchange.getRequestMethod())) {
+                exchange.getResponseHeaders().set("Allow", "GET");
+                exchange.sendResponseHeaders(405, -1);
+            } else {
+                handler.handle(exchange);
+            }
+        } catch (InterruptedException e) {
+            // The server is closing
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    @FunctionalInterface
+    private interface Handler {
+        void handle(HttpExchange exchange) throws IOException, InterruptedException;
+    }
+}
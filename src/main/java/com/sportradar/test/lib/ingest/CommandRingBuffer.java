@@ -0,0 +1,174 @@
+package com.sportradar.test.lib.ingest;
+
+import com.sportradar.test.lib.command.ScoreboardCommand;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * Bounded, lock-free multi-producer single-consumer ring buffer of scoreboard commands.
+ * <p>
+ * Slots are preallocated and reused. Each slot carries a sequence number telling whether it is free for
+ * the producer of a given position or holds a command published for the consumer, so producers only
+ * contend on a single compare-and-set of the claim counter. When the buffer is full, producers back off
+ * until the consumer frees a slot; commands are never dropped.
+ * <p>
+ * Closing sets the highest bit of the claim counter, so no position can be claimed afterwards and the
+ * consumer knows exactly which positions remain to be drained.
+ */
+public class CommandRingBuffer {
+
+    /** Error message for a capacity that is not a positive power of two. */
+    public static final String INVALID_CAPACITY_ERROR = "Ring buffer capacity must be a positive power of two.";
+
+    /** Error message for commands submitted after the buffer was closed. */
+    public static final String CLOSED_ERROR = "Ring buffer is closed.";
+
+    private static final long CLOSED = Long.MIN_VALUE;
+    private static final int SPINS_BEFORE_PARKING = 64;
+    private static final long FULL_BACKOFF_NANOS = 1_000;
+
+    private final Slot[] slots;
+    private final int mask;
+
+    // Next position to claim by producers, with the CLOSED bit set once the buffer is closed
+    private final AtomicLong claimed = new AtomicLong();
+
+    // Next position to take by the consumer, only accessed by the consumer thread
+    private long consumed;
+
+    /**
+     * Constructs an empty ring buffer.
+     * @param capacity Number of slots, a positive power of two.
+     * @throws IllegalArgumentException if the capacity is not a positive power of two.
+     */
+    public CommandRingBuffer(int capacity) {
+        if (capacity <= 0 || Integer.bitCount(capacity) != 1) {
+            throw new IllegalArgumentException(INVALID_CAPACITY_ERROR);
+        }
+        slots = new Slot[capacity];
+        for (int i = 0; i < capacity; i++) {
+            slots[i] = new Slot(i);
+        }
+        mask = capacity - 1;
+    }
+
+    /**
+     * Retrieves the number of slots.
+     * @return The capacity of the buffer.
+     */
+    public int capacity() {
+        return slots.length;
+    }
+
+    /**
+     * Publishes a command, waiting for a free slot if the buffer is full.
+     * @param command The command to publish.
+     * @param acknowledgement Future to complete once the command is applied, or null.
+     * @throws IllegalStateException if the buffer is closed.
+     */
+    public void put(ScoreboardCommand command, CompletableFuture<Boolean> acknowledgement) {
+        int attempts = 0;
+        while (true) {
+            long position = claimed.get();
+            if (position < 0) {
+                throw new IllegalStateException(CLOSED_ERROR);
+            }
+            Slot slot = slots[(int) position & mask];
+            long distance = slot.sequence - position;
+            if (distance == 0) {
+                if (claimed.compareAndSet(position, position + 1)) {
+                    slot.command = command;
+                    slot.acknowledgement = acknowledgement;
+                    // Publishes the command to the consumer
+                    slot.sequence = position + 1;
+                    return;
+                }
+            } else if (distance < 0) {
+                // The slot still holds a command from the previous lap: the buffer is full
+                if (++attempts < SPINS_BEFORE_PARKING) {
+                    Thread.onSpinWait();
+                } else {
+                    LockSupport.parkNanos(this, FULL_BACKOFF_NANOS);
+                }
+            }
+        }
+    }
+
+    /**
+     * Takes published commands in order. Must only be called by the consumer thread.
+     * @param commands List receiving the commands.
+     * @param acknowledgements List receiving the acknowledgement of each command, null for fire-and-forget ones.
+     * @param maxCommands Maximum number of commands to take.
+     * @return The number of commands taken.
+     */
+    public int drainTo(List<ScoreboardCommand> commands, List<CompletableFuture<Boolean>> acknowledgements,
+                       int maxCommands) {
+        int drained = 0;
+        while (drained < maxCommands) {
+            Slot slot = slots[(int) consumed & mask];
+            if (slot.sequence != consumed + 1) {
+                break;
+            }
+            commands.add(slot.command);
+            acknowledgements.add(slot.acknowledgement);
+            slot.command = null;
+            slot.acknowledgement = null;
+            // Frees the slot for the producer of the next lap
+            slot.sequence = consumed + slots.length;
+            consumed++;
+            drained++;
+        }
+        return drained;
+    }
+
+    /**
+     * Checks whether a published command is ready to be taken. Must only be called by the consumer thread.
+     * @return true if no command is ready.
+     */
+    public boolean isEmpty() {
+        return slots[(int) consumed & mask].sequence != consumed + 1;
+    }
+
+    /**
+     * Stops accepting commands. Commands published before are still drained.
+     */
+    public void close() {
+        long position = claimed.get();
+        while (position >= 0 && !claimed.compareAndSet(position, position | CLOSED)) {
+            position = claimed.get();
+        }
+    }
+
+    /**
+     * Checks whether the buffer is closed.
+     * @return true if no more commands are accepted.
+     */
+    public boolean isClosed() {
+        return claimed.get() < 0;
+    }
+
+    /**
+     * Checks whether the buffer is closed and every claimed command was taken. Must only be called by the consumer thread.
+     * @return true if no command will ever be published again.
+     */
+    public boolean isDrained() {
+        long position = claimed.get();
+        return position < 0 && consumed == (position & ~CLOSED);
+    }
+
+    /**
+     * Preallocated slot, reused on every lap of the buffer.
+     */
+    private static final class Slot {
+        // Equal to the position for a free slot and to the position + 1 for a published command
+        private volatile long sequence;
+        private ScoreboardCommand command;
+        private CompletableFuture<Boolean> acknowledgement;
+
+        private Slot(long sequence) {
+            this.sequence = sequence;
+        }
+    }
+}
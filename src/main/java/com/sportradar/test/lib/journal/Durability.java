@@ -0,0 +1,19 @@
+package com.sportradar.test.lib.journal;
+
+/**
+ * Durability level of the match journal.
+ */
+public enum Durability {
+
+    /** Records are written to the file, flushing to disk is left to the operating system. */
+    NONE,
+
+    /** Records are written to the file and flushed to disk periodically by a background thread. */
+    ASYNC,
+
+    /**
+     * Every operation or batch returns only after its records are flushed to disk.
+     * Concurrent writers share flushes (group commit).
+     */
+    SYNC
+}
@@ -0,0 +1,33 @@
+package com.sportradar.test.lib.journal;
+
+import java.time.Instant;
+
+/**
+ * Receives the records of a match journal during replay, in the order they were written.
+ */
+public interface JournalVisitor {
+
+    /**
+     * Called for a started match.
+     * @param homeTeam Name of the home team.
+     * @param awayTeam Name of the away team.
+     * @param startTime Recorded start time of the match.
+     */
+    void matchStarted(String homeTeam, String awayTeam, Instant startTime);
+
+    /**
+     * Called for a score update.
+     * @param homeTeam Name of the home team.
+     * @param awayTeam Name of the away team.
+     * @param homeScore Updated home team score.
+     * @param awayScore Updated away team score.
+     */
+    void scoreUpdated(String homeTeam, String awayTeam, int homeScore, int awayScore);
+
+    /**
+     * Called for a finished match.
+     * @param homeTeam Name of the home team.
+     * @param awayTeam Name of the away team.
+     */
+    void matchFinished(String homeTeam, String awayTeam);
+}
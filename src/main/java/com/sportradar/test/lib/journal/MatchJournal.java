@@ -0,0 +1,355 @@
+package com.sportradar.test.lib.journal;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.time.Instant;
+import java.util.BitSet;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.zip.CRC32C;
+
+/**
+ * Append-only binary journal of scoreboard modifications.
+ * Records of one operation or batch are written as a single checksummed frame:
+ * {@code [int payload length][int CRC32C][payload]}. A torn frame at the end of the file,
+ * left by a crash during a write, is detected by its length or checksum and truncated on replay.
+ * <p>
+ * Team names are written in a team record before the first record of a session that uses them, and matches
+ * refer to teams by id, which keeps start, update and finish records at a fixed, small size. Team ids are only
+ * valid within a session: after a restart the same team may get a different id, so every session defines
+ * its teams again, including teams of matches started in an earlier session.
+ * <p>
+ * Record staging and {@link #commit()} must be called by a single writer at a time; the owning
+ * scoreboard calls them while holding its writer lock. {@link #awaitDurable(long)} may be called
+ * from any thread after the lock is released, so that concurrent writers share flushes.
+ */
+public class MatchJournal implements AutoCloseable {
+
+    /** Interval of background flushes for {@link Durability#ASYNC}. */
+    public static final long ASYNC_FLUSH_INTERVAL_MILLIS = 10;
+
+    /** Error message for team names that do not fit into a team record. */
+    public static final String TEAM_NAME_TOO_LONG_ERROR = "Team name is too long for the journal: ";
+
+    /** Error message for a journal record referring to a team that no earlier record defined. */
+    public static final String UNDEFINED_TEAM_ERROR = "Journal refers to an undefined team: ";
+
+    private static final int FRAME_HEADER_BYTES = 2 * Integer.BYTES;
+    private static final int INITIAL_FRAME_CAPACITY = 4096;
+    private static final int MAX_TEAM_NAME_BYTES = 0xFFFF;
+
+    private static final byte TEAM_RECORD = 1;
+    private static final byte START_RECORD = 2;
+    private static final byte UPDATE_RECORD = 3;
+    private static final byte FINISH_RECORD = 4;
+
+    private final FileChannel channel;
+    private final Durability durability;
+    private final ScheduledExecutorService flusher;
+    private final CRC32C checksum = new CRC32C();
+
+    // Frame being staged by the writer, header space reserved at the beginning
+    private ByteBuffer frame = newFrame(INITIAL_FRAME_CAPACITY);
+
+    // Teams defined by a written frame of this session; ids of earlier sessions may name other teams
+    private final BitSet definedTeams = new BitSet();
+
+    // Teams defined by the frame being staged, only counted as defined once the frame is written
+    private final BitSet stagedTeams = new BitSet();
+
+    // End of the last written frame
+    private volatile long writePosition;
+
+    // End of the last frame known to be flushed to disk
+    private volatile long durablePosition;
+
+    // Serialises flushes, so that one force covers all writers waiting for it
+    private final Object flushLock = new Object();
+
+    private MatchJournal(FileChannel channel, Durability durability) throws IOException {
+        this.channel = channel;
+        this.durability = durability;
+        this.writePosition = channel.size();
+        this.durablePosition = writePosition;
+        this.flusher = durability == Durability.ASYNC ? startFlusher() : null;
+    }
+
+    /**
+     * Opens a journal file, creating it if it does not exist.
+     * New records are appended after the existing ones; call {@link #replay(JournalVisitor)} first to restore state.
+     * @param path Path of the journal file.
+     * @param durability Durability level of the written records.
+     * @return The opened journal.
+     * @throws IOException if the file cannot be opened.
+     */
+    public static MatchJournal open(Path path, Durability durability) throws IOException {
+        FileChannel channel = FileChannel.open(path,
+                StandardOpenOption.CREATE, StandardOpenOption.READ, StandardOpenOption.WRITE);
+        return new MatchJournal(channel, durability);
+    }
+
+    /**
+     * Retrieves the durability level of the journal.
+     * @return The durability level.
+     */
+    public Durability durability() {
+        return durability;
+    }
+
+    /**
+     * Reads all complete frames from the beginning of the file and passes their records to the visitor.
+     * A torn or corrupted frame and everything after it is truncated, so new records follow the last valid frame.
+     * @param visitor Receiver of the replayed records.
+     * @throws IOException if the file cannot be read or truncated, or if a valid frame refers to an undefined team.
+     */
+    public void replay(JournalVisitor visitor) throws IOException {
+        Map<Integer, String> teamNames = new HashMap<>();
+        ByteBuffer header = ByteBuffer.allocate(FRAME_HEADER_BYTES);
+        long position = 0;
+        long size = channel.size();
+        while (position + FRAME_HEADER_BYTES <= size) {
+            header.clear();
+            readFully(header, position);
+            int length = header.getInt(0);
+            int expectedChecksum = header.getInt(Integer.BYTES);
+            if (length <= 0 || position + FRAME_HEADER_BYTES + length > size) {
+                break;
+            }
+            ByteBuffer payload = ByteBuffer.allocate(length);
+            readFully(payload, position + FRAME_HEADER_BYTES);
+            checksum.reset();
+            checksum.update(payload.array(), 0, length);
+            if ((int) checksum.getValue() != expectedChecksum) {
+                break;
+            }
+            replayFrame(payload, teamNames, visitor);
+            position += FRAME_HEADER_BYTES + length;
+        }
+        if (position < size) {
+            channel.truncate(position);
+        }
+        writePosition = position;
+        durablePosition = position;
+    }
+
+    /**
+     * Stages a started match.
+     * @param homeTeamId Identifier of the home team.
+     * @param homeTeam Name of the home team.
+     * @param awayTeamId Identifier of the away team.
+     * @param awayTeam Name of the away team.
+     * @param startTime Start time of the match.
+     */
+    public void matchStarted(int homeTeamId, String homeTeam, int awayTeamId, String awayTeam, Instant startTime) {
+        defineTeam(homeTeamId, homeTeam);
+        defineTeam(awayTeamId, awayTeam);
+        ensureCapacity(1 + 2 * Integer.BYTES + Long.BYTES + Integer.BYTES);
+        frame.put(START_RECORD).putInt(homeTeamId).putInt(awayTeamId)
+                .putLong(startTime.getEpochSecond()).putInt(startTime.getNano());
+    }
+
+    /**
+     * Stages a score update.
+     * @param homeTeamId Identifier of the home team.
+     * @param homeTeam Name of the home team.
+     * @param awayTeamId Identifier of the away team.
+     * @param awayTeam Name of the away team.
+     * @param homeScore Updated home team score.
+     * @param awayScore Updated away team score.
+     */
+    public void scoreUpdated(int homeTeamId, String homeTeam, int awayTeamId, String awayTeam,
+                             int homeScore, int awayScore) {
+        defineTeam(homeTeamId, homeTeam);
+        defineTeam(awayTeamId, awayTeam);
+        ensureCapacity(1 + 4 * Integer.BYTES);
+        frame.put(UPDATE_RECORD).putInt(homeTeamId).putInt(awayTeamId).putInt(homeScore).putInt(awayScore);
+    }
+
+    /**
+     * Stages a finished match.
+     * @param homeTeamId Identifier of the home team.
+     * @param homeTeam Name of the home team.
+     * @param awayTeamId Identifier of the away team.
+     * @param awayTeam Name of the away team.
+     */
+    public void matchFinished(int homeTeamId, String homeTeam, int awayTeamId, String awayTeam) {
+        defineTeam(homeTeamId, homeTeam);
+        defineTeam(awayTeamId, awayTeam);
+        ensureCapacity(1 + 2 * Integer.BYTES);
+        frame.put(FINISH_RECORD).putInt(homeTeamId).putInt(awayTeamId);
+    }
+
+    /**
+     * Writes the staged records as one frame. Teams defined by the frame only count as defined once it is
+     * written, so a frame that fails to write does not leave later frames without the names of their teams.
+     * @return The end position of the written frame, to be passed to {@link #awaitDurable(long)}.
+     * @throws UncheckedIOException if the frame cannot be written.
+     */
+    public long commit() {
+        int length = frame.position() - FRAME_HEADER_BYTES;
+        if (length == 0) {
+            return writePosition;
+        }
+        checksum.reset();
+        checksum.update(frame.array(), FRAME_HEADER_BYTES, length);
+        frame.putInt(0, length).putInt(Integer.BYTES, (int) checksum.getValue());
+        frame.flip();
+        long position = writePosition;
+        boolean written = false;
+        try {
+            while (frame.hasRemaining()) {
+                position += channel.write(frame, position);
+            }
+            written = true;
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        } finally {
+            // The staged records are dropped either way, and with them the team definitions of a failed frame
+            frame.clear().position(FRAME_HEADER_BYTES);
+            if (written) {
+                definedTeams.or(stagedTeams);
+            }
+            stagedTeams.clear();
+        }
+        writePosition = position;
+        return position;
+    }
+
+    /**
+     * Waits until the journal is durable up to the given position, if the durability level requires it.
+     * A single flush covers every frame written before it, so concurrent writers share the cost.
+     * @param position End position returned by {@link #commit()}.
+     * @throws UncheckedIOException if the journal cannot be flushed.
+     */
+    public void awaitDurable(long position) {
+        if (durability == Durability.SYNC && durablePosition < position) {
+            flush(position);
+        }
+    }
+
+    /**
+     * Flushes all written frames and closes the file.
+     * @throws IOException if the journal cannot be flushed or closed.
+     */
+    @Override
+    public void close() throws IOException {
+        if (flusher != null) {
+            flusher.shutdownNow();
+        }
+        synchronized (flushLock) {
+            if (channel.isOpen()) {
+                channel.force(false);
+                channel.close();
+            }
+        }
+    }
+
+    private void flush(long position) {
+        synchronized (flushLock) {
+            // Another writer may have flushed past our frame while we waited
+            if (durablePosition >= position) {
+                return;
+            }
+            long target = writePosition;
+            try {
+                channel.force(false);
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+            durablePosition = target;
+        }
+    }
+
+    private ScheduledExecutorService startFlusher() {
+        ScheduledExecutorService executor = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "match-journal-flusher");
+            thread.setDaemon(true);
+            return thread;
+        });
+        executor.scheduleWithFixedDelay(() -> {
+            if (durablePosition < writePosition && channel.isOpen()) {
+                flush(writePosition);
+            }
+        }, ASYNC_FLUSH_INTERVAL_MILLIS, ASYNC_FLUSH_INTERVAL_MILLIS, TimeUnit.MILLISECONDS);
+        return executor;
+    }
+
+    private void defineTeam(int teamId, String teamName) {
+        if (definedTeams.get(teamId) || stagedTeams.get(teamId)) {
+            return;
+        }
+        byte[] name = teamName.getBytes(StandardCharsets.UTF_8);
+        if (name.length > MAX_TEAM_NAME_BYTES) {
+            throw new IllegalArgumentException(TEAM_NAME_TOO_LONG_ERROR + teamName);
+        }
+        ensureCapacity(1 + Integer.BYTES + Short.BYTES + name.length);
+        frame.put(TEAM_RECORD).putInt(teamId).putShort((short) name.length).put(name);
+        stagedTeams.set(teamId);
+    }
+
+    private void replayFrame(ByteBuffer payload, Map<Integer, String> teamNames, JournalVisitor visitor)
+            throws IOException {
+        while (payload.hasRemaining()) {
+            byte type = payload.get();
+            switch (type) {
+                case TEAM_RECORD -> {
+                    int teamId = payload.getInt();
+                    byte[] name = new byte[Short.toUnsignedInt(payload.getShort())];
+                    payload.get(name);
+                    teamNames.put(teamId, new String(name, StandardCharsets.UTF_8));
+                }
+                case START_RECORD -> visitor.matchStarted(teamName(teamNames, payload), teamName(teamNames, payload),
+                        Instant.ofEpochSecond(payload.getLong(), payload.getInt()));
+                case UPDATE_RECORD -> visitor.scoreUpdated(teamName(teamNames, payload), teamName(teamNames, payload),
+                        payload.getInt(), payload.getInt());
+                case FINISH_RECORD -> visitor.matchFinished(teamName(teamNames, payload), teamName(teamNames, payload));
+                default -> throw new IllegalStateException("Unknown journal record type: " + type);
+            }
+        }
+    }
+
+    /**
+     * Reads a team id and resolves it to the name defined earlier in the session.
+     * A frame with a valid checksum that refers to an undefined team cannot be replayed safely.
+     */
+    private static String teamName(Map<Integer, String> teamNames, ByteBuffer payload) throws IOException {
+        int teamId = payload.getInt();
+        String name = teamNames.get(teamId);
+        if (name == null) {
+            throw new IOException(UNDEFINED_TEAM_ERROR + teamId);
+        }
+        return name;
+    }
+
+    private void readFully(ByteBuffer buffer, long position) throws IOException {
+        while (buffer.hasRemaining()) {
+            int read = channel.read(buffer, position);
+            if (read < 0) {
+                throw new IOException("Unexpected end of journal at " + position);
+            }
+            position += read;
+        }
+        buffer.flip();
+    }
+
+    private void ensureCapacity(int bytes) {
+        if (frame.remaining() < bytes) {
+            ByteBuffer grown = ByteBuffer.allocate(Math.max(frame.capacity() * 2, frame.position() + bytes));
+            frame.flip();
+            grown.put(frame);
+            frame = grown;
+        }
+    }
+
+    private static ByteBuffer newFrame(int capacity) {
+        return ByteBuffer.allocate(capacity).position(FRAME_HEADER_BYTES);
+    }
+}
@@ -0,0 +1,293 @@
+package com.sportradar.test.lib.load;
+
+import com.sportradar.test.lib.FootballWorldCupScoreboard;
+import com.sportradar.test.lib.RingBufferScoreboard;
+import com.sportradar.test.lib.Scoreboard;
+import com.sportradar.test.lib.ShardedScoreboard;
+import com.sportradar.test.lib.command.OperationStatus;
+import com.sportradar.test.lib.metrics.LatencyHistogram;
+import java.lang.management.ManagementFactory;
+import java.time.Clock;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.SplittableRandom;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Simulates a tournament against any {@link Scoreboard} to compare configurations before it starts.
+ * <p>
+ * The generator starts the live matches of the {@link TournamentProfile}, then releases the writer threads,
+ * which score goals in and restart their own matches, and the reader threads, which read the summary until
+ * the last writer is done. Every call is timed into a {@link LatencyHistogram}, and the bytes allocated by
+ * the load threads are measured with the thread allocation counters of the JVM.
+ * <p>
+ * Writers own disjoint matches and draw from generators derived from the seed, so the final scores of all
+ * matches only depend on the profile. With a single writer the whole run, including the summary order,
+ * is reproducible. The scoreboard should be empty, as the generator uses its own team names.
+ * Can be run from the command line, see {@link #main(String[])}.
+ */
+public class LoadGenerator {
+
+    /** System property selecting the scoreboard of {@link #main(String[])}: single, sharded or ring-buffer. */
+    public static final String SCOREBOARD_PROPERTY = TournamentProfile.PROPERTY_PREFIX + "scoreboard";
+
+    /** Error message for a run aborted by an exception in a writer or reader thread. */
+    public static final String LOAD_THREAD_FAILED_ERROR = "A load thread failed, the run is incomplete.";
+
+    // Decorrelates the seeds of the writers
+    private static final long SEED_INCREMENT = 0x9E3779B97F4A7C15L;
+
+    private final TournamentProfile profile;
+
+    /**
+     * Constructs a generator for a tournament profile.
+     * @param profile Shape of the simulated tournament.
+     */
+    public LoadGenerator(TournamentProfile profile) {
+        this.profile = profile;
+    }
+
+    /**
+     * Runs the simulated tournament against a scoreboard and waits until it is done.
+     * Matches are left live on the scoreboard afterwards.
+     * @param scoreboard The scoreboard to load, preferably empty.
+     * @return The report of the run.
+     * @throws InterruptedException if the calling thread is interrupted while waiting for the load threads.
+     * @throws IllegalStateException if a writer or reader thread failed; the first failure is the cause.
+     */
+    public LoadReport run(Scoreboard scoreboard) throws InterruptedException {
+        LongAdder rejectedWrites = new LongAdder();
+        for (int match = 0; match < profile.matches(); match++) {
+            if (!scoreboard.tryStartMatch(teamName(match, 0), teamName(match, 1)).isApplied()) {
+                rejectedWrites.increment();
+            }
+        }
+
+        LatencyHistogram writeLatency = new LatencyHistogram();
+        LatencyHistogram readLatency = new LatencyHistogram();
+        LongAdder writes = new LongAdder();
+        LongAdder reads = new LongAdder();
+        AllocationCounter allocations = new AllocationCounter();
+        CountDownLatch start = new CountDownLatch(1);
+        CountDownLatch writersDone = new CountDownLatch(profile.writerThreads());
+        AtomicReference<Throwable> failure = new AtomicReference<>();
+
+        List<Thread> threads = new ArrayList<>();
+        for (int writer = 0; writer < profile.writerThreads(); writer++) {
+            Writer task = new Writer(scoreboard, writer, writeLatency, writes, rejectedWrites);
+            threads.add(new Thread(() -> {
+                try {
+                    awaitStart(start);
+                    allocations.measure(task);
+                } catch (Throwable e) {
+                    recordFailure(failure, e);
+                } finally {
+                    // Readers stop once all writers are done, also when a writer failed
+                    writersDone.countDown();
+                }
+            }, "load-writer-" + writer));
+        }
+        for (int reader = 0; reader < profile.readerThreads(); reader++) {
+            threads.add(new Thread(() -> {
+                try {
+                    awaitStart(start);
+                    allocations.measure(() -> read(scoreboard, writersDone, readLatency, reads));
+                } catch (Throwable e) {
+                    recordFailure(failure, e);
+                }
+            }, "load-reader-" + reader));
+        }
+        for (Thread thread : threads) {
+            thread.setDaemon(true);
+            thread.start();
+        }
+
+        long started = System.nanoTime();
+        start.countDown();
+        writersDone.await();
+        Duration elapsed = Duration.ofNanos(System.nanoTime() - started);
+        for (Thread thread : threads) {
+            thread.join();
+        }
+        if (failure.get() != null) {
+            throw new IllegalStateException(LOAD_THREAD_FAILED_ERROR, failure.get());
+        }
+        return new LoadReport(writes.sum(), rejectedWrites.sum(), reads.sum(), elapsed, writeLatency.snapshot(),
+                readLatency.snapshot(), allocations.total(), scoreboard.version());
+    }
+
+    /**
+     * Runs a tournament from the command line and prints the report. The profile is read from system
+     * properties, see {@link TournamentProfile#fromSystemProperties()}, and the scoreboard is selected with
+     * {@value #SCOREBOARD_PROPERTY}, e.g.
+     * <pre>
+     * java -cp target/classes -Dload.scoreboard=sharded -Dload.seed=7 com.sportradar.test.lib.load.LoadGenerator
+     * </pre>
+     * @param args Not used.
+     * @throws InterruptedException if the main thread is interrupted.
+     */
+    public static void main(String[] args) throws InterruptedException {
+        TournamentProfile profile = TournamentProfile.fromSystemProperties();
+        String kind = System.getProperty(SCOREBOARD_PROPERTY, "single").toLowerCase(Locale.ROOT);
+        Scoreboard scoreboard = switch (kind) {
+            case "single" -> new FootballWorldCupScoreboard(Clock.systemUTC());
+            case "sharded" -> new ShardedScoreboard(Clock.systemUTC());
+            case "ring-buffer" -> new RingBufferScoreboard(Clock.systemUTC());
+            default -> throw new IllegalArgumentException("Unknown scoreboard: " + kind);
+        };
+        System.out.println(kind + " scoreboard, " + profile);
+        System.out.print(new LoadGenerator(profile).run(scoreboard).format());
+        if (scoreboard instanceof AutoCloseable closeable) {
+            try {
+                closeable.close();
+            } catch (Exception e) {
+                throw new IllegalStateException(e);
+            }
+        }
+    }
+
+    /**
+     * Names the teams of a match; the teams swap home and away on every restart of the match.
+     */
+    private static String teamName(int match, int side) {
+        return "Team " + (2 * match + side);
+    }
+
+    private static void read(Scoreboard scoreboard, CountDownLatch writersDone, LatencyHistogram readLatency,
+                             LongAdder reads) {
+        long count = 0;
+        while (writersDone.getCount() > 0) {
+            long started = System.nanoTime();
+            scoreboard.getSummary();
+            readLatency.record(System.nanoTime() - started);
+            count++;
+        }
+        reads.add(count);
+    }
+
+    /**
+     * Keeps the first failure of a load thread and attaches later ones to it as suppressed exceptions.
+     */
+    private static void recordFailure(AtomicReference<Throwable> failure, Throwable e) {
+        if (!failure.compareAndSet(null, e)) {
+            failure.get().addSuppressed(e);
+        }
+    }
+
+    private static void awaitStart(CountDownLatch start) {
+        try {
+            start.await();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    /**
+     * Operations of one writer on the matches it owns: every writer-count-th match, starting at its index.
+     * Team names are built up front, so that only the scoreboard allocates while the writer is timed.
+     */
+    private final class Writer implements Runnable {
+        private final Scoreboard scoreboard;
+        private final SplittableRandom random;
+        private final LatencyHistogram latency;
+        private final LongAdder writes;
+        private final LongAdder rejectedWrites;
+
+        private final String[][] teams;
+        private final int[] homeScores;
+        private final int[] awayScores;
+        // Number of restarts of each match, whose parity tells which team plays at home
+        private final int[] restarts;
+
+        Writer(Scoreboard scoreboard, int index, LatencyHistogram latency, LongAdder writes, LongAdder rejectedWrites) {
+            this.scoreboard = scoreboard;
+            this.random = new SplittableRandom(profile.seed() + SEED_INCREMENT * (index + 1));
+            this.latency = latency;
+            this.writes = writes;
+            this.rejectedWrites = rejectedWrites;
+            int owned = (profile.matches() - index + profile.writerThreads() - 1) / profile.writerThreads();
+            this.teams = new String[owned][];
+            for (int i = 0; i < owned; i++) {
+                int match = index + i * profile.writerThreads();
+                teams[i] = new String[] {teamName(match, 0), teamName(match, 1)};
+            }
+            this.homeScores = new int[owned];
+            this.awayScores = new int[owned];
+            this.restarts = new int[owned];
+        }
+
+        @Override
+        public void run() {
+            long count = 0;
+            long rejected = 0;
+            for (long operation = 0; operation < profile.operationsPerWriter(); operation++) {
+                // Skewed selection: low indexes are drawn more often the larger the skew
+                int match = (int) (teams.length * Math.pow(random.nextDouble(), profile.goalSkew()));
+                String homeTeam = teams[match][restarts[match] & 1];
+                String awayTeam = teams[match][1 - (restarts[match] & 1)];
+                long started = System.nanoTime();
+                if (random.nextDouble() < profile.churnProbability()) {
+                    rejected += completed(started, scoreboard.tryFinishMatch(homeTeam, awayTeam));
+                    restarts[match]++;
+                    homeScores[match] = 0;
+                    awayScores[match] = 0;
+                    started = System.nanoTime();
+                    rejected += completed(started, scoreboard.tryStartMatch(awayTeam, homeTeam));
+                    count += 2;
+                } else {
+                    if (random.nextBoolean()) {
+                        homeScores[match]++;
+                    } else {
+                        awayScores[match]++;
+                    }
+                    rejected += completed(started,
+                            scoreboard.tryUpdateScore(homeTeam, awayTeam, homeScores[match], awayScores[match]));
+                    count++;
+                }
+            }
+            writes.add(count);
+            rejectedWrites.add(rejected);
+        }
+
+        /**
+         * Records the latency of a write call that started at the given time and has just returned.
+         * @return 1 if the call was rejected, 0 otherwise.
+         */
+        private int completed(long started, OperationStatus status) {
+            latency.record(System.nanoTime() - started);
+            return status.isApplied() ? 0 : 1;
+        }
+    }
+
+    /**
+     * Sums the bytes allocated by the load threads, using the allocation counters of the HotSpot thread bean.
+     */
+    private static final class AllocationCounter {
+        private final com.sun.management.ThreadMXBean threads = threadBean();
+        private final LongAdder allocated = new LongAdder();
+
+        void measure(Runnable task) {
+            long before = threads != null ? threads.getCurrentThreadAllocatedBytes() : 0;
+            task.run();
+            if (threads != null) {
+                allocated.add(threads.getCurrentThreadAllocatedBytes() - before);
+            }
+        }
+
+        long total() {
+            return threads != null ? allocated.sum() : -1;
+        }
+
+        private static com.sun.management.ThreadMXBean threadBean() {
+            if (ManagementFactory.getThreadMXBean() instanceof com.sun.management.ThreadMXBean bean
+                    && bean.isThreadAllocatedMemorySupported() && bean.isThreadAllocatedMemoryEnabled()) {
+                return bean;
+            }
+            return null;
+        }
+    }
+}
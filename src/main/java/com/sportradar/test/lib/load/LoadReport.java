@@ -0,0 +1,76 @@
+package com.sportradar.test.lib.load;
+
+import com.sportradar.test.lib.metrics.HistogramSnapshot;
+import java.time.Duration;
+import java.util.Locale;
+
+/**
+ * Result of a {@link LoadGenerator} run.
+ *
+ * @param writes Number of start, update and finish calls.
+ * @param rejectedWrites Number of write calls the scoreboard rejected; 0 unless the scoreboard was not empty.
+ * @param reads Number of summary reads.
+ * @param elapsed Time from the start of the writers until the last writer was done.
+ * @param writeLatency Latency of the write calls.
+ * @param readLatency Latency of the summary reads.
+ * @param allocatedBytes Bytes allocated by the writer and reader threads, or -1 if the JVM cannot measure it.
+ * @param finalVersion Version of the scoreboard after the run.
+ */
+public record LoadReport(long writes, long rejectedWrites, long reads, Duration elapsed,
+                         HistogramSnapshot writeLatency, HistogramSnapshot readLatency,
+                         long allocatedBytes, long finalVersion) {
+
+    /**
+     * Calculates the write throughput.
+     * @return Write calls per second.
+     */
+    public double writesPerSecond() {
+        return perSecond(writes);
+    }
+
+    /**
+     * Calculates the read throughput.
+     * @return Summary reads per second.
+     */
+    public double readsPerSecond() {
+        return perSecond(reads);
+    }
+
+    /**
+     * Calculates the allocation rate of the writer and reader threads.
+     * @return Allocated bytes per second, or -1 if the JVM cannot measure allocations.
+     */
+    public double allocationRate() {
+        return allocatedBytes < 0 ? -1 : perSecond(allocatedBytes);
+    }
+
+    /**
+     * Formats the report as human-readable text, with latencies in microseconds.
+     * @return A multi-line report.
+     */
+    public String format() {
+        return String.format(Locale.ROOT, """
+                elapsed      %d ms, final version %d
+                writes       %d (%d rejected), %.0f ops/s
+                reads        %d, %.0f ops/s
+                write us     %s
+                read us      %s
+                allocation   %s
+                """, elapsed.toMillis(), finalVersion, writes, rejectedWrites, writesPerSecond(), reads,
+                readsPerSecond(), formatLatency(writeLatency), formatLatency(readLatency),
+                allocatedBytes < 0 ? "not supported by the JVM"
+                        : String.format(Locale.ROOT, "%.1f MB/s, %.1f bytes/op", allocationRate() / 1_000_000,
+                                (double) allocatedBytes / Math.max(1, writes + reads)));
+    }
+
+    private double perSecond(long count) {
+        long nanos = elapsed.toNanos();
+        return nanos > 0 ? count * 1e9 / nanos : 0;
+    }
+
+    private static String formatLatency(HistogramSnapshot latency) {
+        return String.format(Locale.ROOT, "p50 %.1f  p90 %.1f  p99 %.1f  p99.9 %.1f  max %.1f",
+                latency.p50Nanos() / 1e3, latency.p90Nanos() / 1e3, latency.p99Nanos() / 1e3,
+                latency.p999Nanos() / 1e3, latency.maxNanos() / 1e3);
+    }
+}
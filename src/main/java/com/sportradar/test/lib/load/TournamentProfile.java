@@ -0,0 +1,80 @@
+package com.sportradar.test.lib.load;
+
+/**
+ * Shape of a simulated tournament run by the {@link LoadGenerator}.
+ * <p>
+ * The live matches are split between the writer threads, each of which runs a fixed number of operations on its
+ * own matches: mostly goals, and with the churn probability a finish of the match followed by a restart of it.
+ * The goal skew shapes which matches score: 1 spreads goals evenly, larger values concentrate them in a few
+ * "hot" matches. Writers draw from random generators derived from the seed, so a profile always produces
+ * the same operations per writer.
+ *
+ * @param matches Number of concurrently live matches.
+ * @param writerThreads Number of threads starting, scoring and finishing matches.
+ * @param readerThreads Number of threads reading the summary while the writers run.
+ * @param operationsPerWriter Number of goals and restarts each writer performs.
+ * @param goalSkew Exponent of the match selection; 1 for uniform goals, larger for hotter matches.
+ * @param churnProbability Probability that an operation finishes and restarts a match instead of scoring.
+ * @param seed Seed of the random generators of the writers.
+ */
+public record TournamentProfile(int matches, int writerThreads, int readerThreads, long operationsPerWriter,
+                                double goalSkew, double churnProbability, long seed) {
+
+    /** Profile of a group stage day: 64 live matches, 4 writers, 2 readers and a few restarts. */
+    public static final TournamentProfile DEFAULT = new TournamentProfile(64, 4, 2, 250_000, 2.0, 0.01, 42);
+
+    /** Prefix of the system properties read by {@link #fromSystemProperties()}. */
+    public static final String PROPERTY_PREFIX = "load.";
+
+    /** Error message for an invalid number of matches or writers. */
+    public static final String INVALID_MATCHES_ERROR = "Every writer thread needs at least one match.";
+
+    /** Error message for a negative number of readers or operations. */
+    public static final String NEGATIVE_COUNT_ERROR = "Number of readers and operations must not be negative.";
+
+    /** Error message for an invalid goal skew. */
+    public static final String INVALID_GOAL_SKEW_ERROR = "Goal skew must be at least 1.";
+
+    /** Error message for an invalid churn probability. */
+    public static final String INVALID_CHURN_ERROR = "Churn probability must be between 0 and 1.";
+
+    /**
+     * Validates the profile.
+     * @throws IllegalArgumentException if a parameter is out of range.
+     */
+    public TournamentProfile {
+        if (writerThreads < 1 || matches < writerThreads) {
+            throw new IllegalArgumentException(INVALID_MATCHES_ERROR);
+        }
+        if (readerThreads < 0 || operationsPerWriter < 0) {
+            throw new IllegalArgumentException(NEGATIVE_COUNT_ERROR);
+        }
+        if (!(goalSkew >= 1)) {
+            throw new IllegalArgumentException(INVALID_GOAL_SKEW_ERROR);
+        }
+        if (!(churnProbability >= 0 && churnProbability <= 1)) {
+            throw new IllegalArgumentException(INVALID_CHURN_ERROR);
+        }
+    }
+
+    /**
+     * Creates the default profile with the parameters overridden by system properties named after the record
+     * components, e.g. {@code -Dload.matches=128 -Dload.seed=7}.
+     * @return A new TournamentProfile.
+     * @throws IllegalArgumentException if a property is not a number or out of range.
+     */
+    public static TournamentProfile fromSystemProperties() {
+        return new TournamentProfile(
+                Integer.parseInt(property("matches", DEFAULT.matches())),
+                Integer.parseInt(property("writerThreads", DEFAULT.writerThreads())),
+                Integer.parseInt(property("readerThreads", DEFAULT.readerThreads())),
+                Long.parseLong(property("operationsPerWriter", DEFAULT.operationsPerWriter())),
+                Double.parseDouble(property("goalSkew", DEFAULT.goalSkew())),
+                Double.parseDouble(property("churnProbability", DEFAULT.churnProbability())),
+                Long.parseLong(property("seed", DEFAULT.seed())));
+    }
+
+    private static String property(String name, Object defaultValue) {
+        return System.getProperty(PROPERTY_PREFIX + name, String.valueOf(defaultValue));
+    }
+}
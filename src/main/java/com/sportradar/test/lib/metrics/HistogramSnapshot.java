@@ -0,0 +1,20 @@
+package com.sportradar.test.lib.metrics;
+
+/**
+ * Immutable summary of a latency histogram.
+ * Percentiles are upper bounds of the histogram buckets, within about 6% of the recorded values.
+ *
+ * @param count Number of recorded values.
+ * @param meanNanos Mean of the recorded values in nanoseconds.
+ * @param p50Nanos Median in nanoseconds.
+ * @param p90Nanos 90th percentile in nanoseconds.
+ * @param p99Nanos 99th percentile in nanoseconds.
+ * @param p999Nanos 99.9th percentile in nanoseconds.
+ * @param maxNanos Largest recorded value in nanoseconds.
+ */
+public record HistogramSnapshot(long count, double meanNanos, long p50Nanos, long p90Nanos, long p99Nanos,
+                                long p999Nanos, long maxNanos) {
+
+    /** Snapshot of a histogram without recorded values. */
+    public static final HistogramSnapshot EMPTY = new HistogramSnapshot(0, 0, 0, 0, 0, 0, 0);
+}
@@ -0,0 +1,99 @@
+package com.sportradar.test.lib.metrics;
+
+import java.util.concurrent.atomic.LongAccumulator;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Concurrent log-linear latency histogram in the style of HdrHistogram.
+ * Values below 16 ns get their own bucket; larger values are grouped by power of two, and every power of two
+ * is split into 16 linear sub-buckets, which bounds the relative error to about 6%.
+ * Buckets are striped counters, so concurrent recording threads do not contend on a shared cache line.
+ */
+public class LatencyHistogram {
+
+    // Number of linear sub-buckets per power of two, as a power of two
+    private static final int SUB_BUCKET_BITS = 4;
+    private static final int SUB_BUCKETS = 1 << SUB_BUCKET_BITS;
+
+    // Values from 2^MAX_EXPONENT ns (about 68 seconds) on are counted in the last bucket
+    private static final int MAX_EXPONENT = 36;
+    private static final int BUCKET_COUNT = SUB_BUCKETS + (MAX_EXPONENT - SUB_BUCKET_BITS) * SUB_BUCKETS;
+
+    private final LongAdder[] buckets = new LongAdder[BUCKET_COUNT];
+    private final LongAdder sum = new LongAdder();
+    private final LongAccumulator max = new LongAccumulator(Math::max, 0);
+
+    /**
+     * Constructs an empty histogram.
+     */
+    public LatencyHistogram() {
+        for (int i = 0; i < BUCKET_COUNT; i++) {
+            buckets[i] = new LongAdder();
+        }
+    }
+
+    /**
+     * Records a single value.
+     * @param nanos Measured latency in nanoseconds, negative values are recorded as 0.
+     */
+    public void record(long nanos) {
+        long value = Math.max(0, nanos);
+        buckets[bucketOf(value)].increment();
+        sum.add(value);
+        max.accumulate(value);
+    }
+
+    /**
+     * Summarises the recorded values. Values recorded concurrently may or may not be included.
+     * @return A new HistogramSnapshot.
+     */
+    public HistogramSnapshot snapshot() {
+        long[] counts = new long[BUCKET_COUNT];
+        long count = 0;
+        for (int i = 0; i < BUCKET_COUNT; i++) {
+            counts[i] = buckets[i].sum();
+            count += counts[i];
+        }
+        if (count == 0) {
+            return HistogramSnapshot.EMPTY;
+        }
+        long maxNanos = max.get();
+        return new HistogramSnapshot(count, (double) sum.sum() / count,
+                percentile(counts, count, 0.5, maxNanos), percentile(counts, count, 0.9, maxNanos),
+                percentile(counts, count, 0.99, maxNanos), percentile(counts, count, 0.999, maxNanos), maxNanos);
+    }
+
+    private static long percentile(long[] counts, long count, double quantile, long maxNanos) {
+        long rank = Math.max(1, (long) Math.ceil(quantile * count));
+        long seen = 0;
+        for (int i = 0; i < counts.length; i++) {
+            seen += counts[i];
+            if (seen >= rank) {
+                return Math.min(upperBoundOf(i), maxNanos);
+            }
+        }
+        return maxNanos;
+    }
+
+    private static int bucketOf(long value) {
+        if (value < SUB_BUCKETS) {
+            return (int) value;
+        }
+        int exponent = 63 - Long.numberOfLeadingZeros(value);
+        if (exponent >= MAX_EXPONENT) {
+            return BUCKET_COUNT - 1;
+        }
+        int shift = exponent - SUB_BUCKET_BITS;
+        int subBucket = (int) (value >>> shift) - SUB_BUCKETS;
+        return SUB_BUCKETS + shift * SUB_BUCKETS + subBucket;
+    }
+
+    private static long upperBoundOf(int bucket) {
+        if (bucket < SUB_BUCKETS) {
+            return bucket;
+        }
+        int shift = (bucket - SUB_BUCKETS) / SUB_BUCKETS;
+        int subBucket = (bucket - SUB_BUCKETS) % SUB_BUCKETS;
+        return ((long) (SUB_BUCKETS + subBucket + 1) << shift) - 1;
+    }
+}
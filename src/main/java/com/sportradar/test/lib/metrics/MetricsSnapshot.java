@@ -0,0 +1,27 @@
+package com.sportradar.test.lib.metrics;
+
+import java.util.Map;
+
+/**
+ * Immutable point-in-time view of the scoreboard metrics.
+ *
+ * @param operations Metrics of each scoreboard operation.
+ * @param failuresByType Number of failures by simple name of the exception class, e.g. MatchNotFoundException.
+ * @param summaryPublish Time writers spent rebuilding and publishing the summary.
+ * @param lockWait Time writers waited for the writer lock.
+ * @param contendedLockAcquisitions Number of writer lock acquisitions that had to wait.
+ */
+public record MetricsSnapshot(Map<ScoreboardOperation, OperationMetrics> operations,
+                              Map<String, Long> failuresByType,
+                              HistogramSnapshot summaryPublish,
+                              HistogramSnapshot lockWait,
+                              long contendedLockAcquisitions) {
+
+    /**
+     * Constructs a new snapshot with immutable copies of the maps.
+     */
+    public MetricsSnapshot {
+        operations = Map.copyOf(operations);
+        failuresByType = Map.copyOf(failuresByType);
+    }
+}
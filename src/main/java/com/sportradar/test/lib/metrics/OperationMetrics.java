@@ -0,0 +1,11 @@
+package com.sportradar.test.lib.metrics;
+
+/**
+ * Immutable metrics of a single scoreboard operation.
+ *
+ * @param count Number of calls, including failed ones.
+ * @param failures Number of calls or batch commands rejected with an exception.
+ * @param latency Latency of the calls.
+ */
+public record OperationMetrics(long count, long failures, HistogramSnapshot latency) {
+}
@@ -0,0 +1,193 @@
+package com.sportradar.test.lib.metrics;
+
+import com.sportradar.test.lib.command.OperationStatus;
+import com.sportradar.test.lib.exception.MatchAlreadyExistsException;
+import com.sportradar.test.lib.exception.MatchNotFoundException;
+import com.sportradar.test.lib.exception.TeamAlreadyPlayingException;
+import java.lang.management.ManagementFactory;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.ToLongFunction;
+import javax.management.JMException;
+import javax.management.ObjectName;
+
+/**
+ * Low-overhead metrics of a scoreboard: call and failure counts, latency histograms,
+ * summary publish time and writer lock contention.
+ * All counters are striped, so recording from many threads does not serialise them.
+ * Operations are recorded by {@code InstrumentedScoreboard}; publish time and lock waits by a
+ * {@code FootballWorldCupScoreboard} constructed with the metrics.
+ */
+public class ScoreboardMetrics implements ScoreboardMetricsMXBean {
+
+    /** Lock waits longer than this are counted as contended acquisitions. */
+    public static final long CONTENDED_LOCK_WAIT_NANOS = 1_000;
+
+    /** JMX domain of registered metrics. */
+    public static final String JMX_DOMAIN = "com.sportradar.test.lib";
+
+    private final Map<ScoreboardOperation, LongAdder> calls = new EnumMap<>(ScoreboardOperation.class);
+    private final Map<ScoreboardOperation, LongAdder> failures = new EnumMap<>(ScoreboardOperation.class);
+    private final Map<ScoreboardOperation, LatencyHistogram> latencies = new EnumMap<>(ScoreboardOperation.class);
+
+    // Failure counts by exception class, created on the first failure of each type
+    private final Map<Class<?>, LongAdder> failuresByType = new ConcurrentHashMap<>();
+
+    private final LatencyHistogram summaryPublish = new LatencyHistogram();
+    private final LatencyHistogram lockWait = new LatencyHistogram();
+    private final LongAdder contendedLockAcquisitions = new LongAdder();
+
+    /**
+     * Constructs metrics with all counters at zero.
+     */
+    public ScoreboardMetrics() {
+        for (ScoreboardOperation operation : ScoreboardOperation.values()) {
+            calls.put(operation, new LongAdder());
+            failures.put(operation, new LongAdder());
+            latencies.put(operation, new LatencyHistogram());
+        }
+    }
+
+    /**
+     * Records a call of an operation.
+     * @param operation The called operation.
+     * @param nanos Duration of the call in nanoseconds.
+     */
+    public void recordCall(ScoreboardOperation operation, long nanos) {
+        calls.get(operation).increment();
+        latencies.get(operation).record(nanos);
+    }
+
+    /**
+     * Records a failed call of an operation, or a failed command of a batch.
+     * @param operation The failed operation.
+     * @param failure The exception the operation failed with.
+     */
+    public void recordFailure(ScoreboardOperation operation, Throwable failure) {
+        recordFailure(operation, failure.getClass());
+    }
+
+    /**
+     * Records a call of the exception-free API that was rejected. It is counted under the exception type
+     * the throwing API would have failed with, so both APIs report the same failure types.
+     * @param operation The rejected operation.
+     * @param status The status the operation was rejected with, not {@link OperationStatus#APPLIED}.
+     */
+    public void recordRejection(ScoreboardOperation operation, OperationStatus status) {
+        recordFailure(operation, switch (status) {
+            case MATCH_ALREADY_EXISTS -> MatchAlreadyExistsException.class;
+            case TEAM_ALREADY_PLAYING -> TeamAlreadyPlayingException.class;
+            case MATCH_NOT_FOUND -> MatchNotFoundException.class;
+            case INVALID_ARGUMENT, APPLIED -> IllegalArgumentException.class;
+        });
+    }
+
+    private void recordFailure(ScoreboardOperation operation, Class<?> failureType) {
+        failures.get(operation).increment();
+        failuresByType.computeIfAbsent(failureType, type -> new LongAdder()).increment();
+    }
+
+    /**
+     * Records the time spent rebuilding and publishing the summary.
+     * @param nanos Publish time in nanoseconds.
+     */
+    public void recordSummaryPublish(long nanos) {
+        summaryPublish.record(nanos);
+    }
+
+    /**
+     * Records the time a writer waited for the writer lock.
+     * @param nanos Wait time in nanoseconds.
+     */
+    public void recordLockWait(long nanos) {
+        lockWait.record(nanos);
+        if (nanos > CONTENDED_LOCK_WAIT_NANOS) {
+            contendedLockAcquisitions.increment();
+        }
+    }
+
+    /**
+     * Takes a point-in-time view of all metrics. Values recorded concurrently may or may not be included.
+     * @return A new MetricsSnapshot.
+     */
+    public MetricsSnapshot snapshot() {
+        Map<ScoreboardOperation, OperationMetrics> operations = new EnumMap<>(ScoreboardOperation.class);
+        for (ScoreboardOperation operation : ScoreboardOperation.values()) {
+            operations.put(operation, new OperationMetrics(calls.get(operation).sum(),
+                    failures.get(operation).sum(), latencies.get(operation).snapshot()));
+        }
+        Map<String, Long> failureTypes = new HashMap<>();
+        failuresByType.forEach((type, count) -> failureTypes.put(type.getSimpleName(), count.sum()));
+        return new MetricsSnapshot(operations, failureTypes, summaryPublish.snapshot(), lockWait.snapshot(),
+                contendedLockAcquisitions.sum());
+    }
+
+    /**
+     * Registers the metrics in the platform MBean server as
+     * {@code com.sportradar.test.lib:type=ScoreboardMetrics,name=<name>}.
+     * @param name Name distinguishing this scoreboard from others in the same JVM.
+     * @return The name the metrics were registered under, to be used for unregistering.
+     * @throws JMException if the metrics cannot be registered, e.g. because the name is already taken.
+     */
+    public ObjectName registerMBean(String name) throws JMException {
+        ObjectName objectName = new ObjectName(JMX_DOMAIN + ":type=ScoreboardMetrics,name=" + ObjectName.quote(name));
+        ManagementFactory.getPlatformMBeanServer().registerMBean(this, objectName);
+        return objectName;
+    }
+
+    @Override
+    public Map<String, Long> getOperationCounts() {
+        return byOperation(operation -> calls.get(operation).sum());
+    }
+
+    @Override
+    public Map<String, Long> getOperationFailures() {
+        return byOperation(operation -> failures.get(operation).sum());
+    }
+
+    @Override
+    public Map<String, Long> getFailuresByType() {
+        return snapshot().failuresByType();
+    }
+
+    @Override
+    public Map<String, Long> getMedianLatencyNanos() {
+        return byOperation(operation -> latencies.get(operation).snapshot().p50Nanos());
+    }
+
+    @Override
+    public Map<String, Long> getP99LatencyNanos() {
+        return byOperation(operation -> latencies.get(operation).snapshot().p99Nanos());
+    }
+
+    @Override
+    public Map<String, Long> getMaxLatencyNanos() {
+        return byOperation(operation -> latencies.get(operation).snapshot().maxNanos());
+    }
+
+    @Override
+    public long getSummaryPublishP99Nanos() {
+        return summaryPublish.snapshot().p99Nanos();
+    }
+
+    @Override
+    public long getLockWaitP99Nanos() {
+        return lockWait.snapshot().p99Nanos();
+    }
+
+    @Override
+    public long getContendedLockAcquisitions() {
+        return contendedLockAcquisitions.sum();
+    }
+
+    private static Map<String, Long> byOperation(ToLongFunction<ScoreboardOperation> value) {
+        Map<String, Long> values = new HashMap<>();
+        for (ScoreboardOperation operation : ScoreboardOperation.values()) {
+            values.put(operation.name(), value.applyAsLong(operation));
+        }
+        return values;
+    }
+}
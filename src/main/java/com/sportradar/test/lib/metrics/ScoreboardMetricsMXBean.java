@@ -0,0 +1,64 @@
+package com.sportradar.test.lib.metrics;
+
+import java.util.Map;
+
+/**
+ * JMX view of the scoreboard metrics. Maps are keyed by {@link ScoreboardOperation} name
+ * unless stated otherwise; latencies are in nanoseconds.
+ */
+public interface ScoreboardMetricsMXBean {
+
+    /**
+     * Retrieves the number of calls of each operation.
+     * @return Call counts by operation.
+     */
+    Map<String, Long> getOperationCounts();
+
+    /**
+     * Retrieves the number of failures of each operation.
+     * @return Failure counts by operation.
+     */
+    Map<String, Long> getOperationFailures();
+
+    /**
+     * Retrieves the number of failures by exception type.
+     * @return Failure counts by simple name of the exception class.
+     */
+    Map<String, Long> getFailuresByType();
+
+    /**
+     * Retrieves the median latency of each operation.
+     * @return Median latencies by operation.
+     */
+    Map<String, Long> getMedianLatencyNanos();
+
+    /**
+     * Retrieves the 99th percentile latency of each operation.
+     * @return 99th percentile latencies by operation.
+     */
+    Map<String, Long> getP99LatencyNanos();
+
+    /**
+     * Retrieves the largest latency of each operation.
+     * @return Largest latencies by operation.
+     */
+    Map<String, Long> getMaxLatencyNanos();
+
+    /**
+     * Retrieves the 99th percentile of the time spent rebuilding and publishing the summary.
+     * @return The 99th percentile publish time.
+     */
+    long getSummaryPublishP99Nanos();
+
+    /**
+     * Retrieves the 99th percentile of the time writers waited for the writer lock.
+     * @return The 99th percentile lock wait.
+     */
+    long getLockWaitP99Nanos();
+
+    /**
+     * Retrieves the number of writer lock acquisitions that had to wait.
+     * @return The number of contended acquisitions.
+     */
+    long getContendedLockAcquisitions();
+}
@@ -0,0 +1,25 @@
+package com.sportradar.test.lib.metrics;
+
+/**
+ * Scoreboard operations measured by the instrumentation layer.
+ */
+public enum ScoreboardOperation {
+
+    /** Starting a match. */
+    START_MATCH,
+
+    /** Updating the score of a match. */
+    UPDATE_SCORE,
+
+    /** Finishing a match. */
+    FINISH_MATCH,
+
+    /** Applying a batch of commands, measured once per batch. */
+    APPLY_ALL,
+
+    /** Reading the whole summary or the summary snapshot. */
+    GET_SUMMARY,
+
+    /** Reading the top matches or a page of the summary. */
+    GET_SUMMARY_PAGE
+}
@@ -0,0 +1,202 @@
+package com.sportradar.test.lib.ranking;
+
+import com.sportradar.test.lib.domain.FootballMatch;
+import com.sportradar.test.lib.domain.MatchScores;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.VarHandle;
+import java.time.Instant;
+
+/**
+ * Mutable slot of a live match, updated in place on every goal.
+ * Both scores are packed into a single long, written with release semantics, so a score can be read
+ * without locking and never shows a home score and an away score of different updates.
+ * Immutable {@link FootballMatch} records are only created when a reader asks for them.
+ * <p>
+ * Slots are linked into a {@link RankedMatchIndex} through their forward pointers.
+ */
+public final class MatchSlot {
+
+    /** Source sequence of a slot that has not received a sequenced update yet. */
+    public static final long NO_SOURCE_SEQUENCE = Long.MIN_VALUE;
+
+    private static final VarHandle SCORES;
+
+    static {
+        try {
+            SCORES = MethodHandles.lookup().findVarHandle(MatchSlot.class, "scores", long.class);
+        } catch (ReflectiveOperationException e) {
+            throw new ExceptionInInitializerError(e);
+        }
+    }
+
+    private final String homeTeam;
+    private final String awayTeam;
+    private final Instant startTime;
+    private final long startSequence;
+
+    // Home score in the high and away score in the low 32 bits, accessed through SCORES
+    private long scores;
+
+    // Source sequence of the last sequenced update, guarded by the owning scoreboard
+    private long sourceSequence = NO_SOURCE_SEQUENCE;
+
+    // Forward pointers per skip list level, allocated once when the slot is first linked
+    MatchSlot[] next;
+
+    // Record of the last materialized state, reused while the scores do not change
+    private RankedMatch materialized;
+
+    /**
+     * Constructs a slot.
+     * @param homeTeam Name of the home team.
+     * @param awayTeam Name of the away team.
+     * @param homeScore Home team score.
+     * @param awayScore Away team score.
+     * @param startTime Start time of the match.
+     * @param startSequence Scoreboard-wide sequence number assigned when the match was started.
+     */
+    public MatchSlot(String homeTeam, String awayTeam, int homeScore, int awayScore, Instant startTime,
+                     long startSequence) {
+        this.homeTeam = homeTeam;
+        this.awayTeam = awayTeam;
+        this.startTime = startTime;
+        this.startSequence = startSequence;
+        this.scores = pack(homeScore, awayScore);
+    }
+
+    /**
+     * Constructs a slot holding the state of a ranked match.
+     * @param rankedMatch The ranked match.
+     * @return A new MatchSlot.
+     */
+    public static MatchSlot of(RankedMatch rankedMatch) {
+        FootballMatch match = rankedMatch.match();
+        MatchSlot slot = new MatchSlot(match.homeTeam(), match.awayTeam(), match.getHomeScore(), match.getAwayScore(),
+                match.startTime(), rankedMatch.startSequence());
+        slot.materialized = rankedMatch;
+        return slot;
+    }
+
+    /**
+     * Retrieves the name of the home team.
+     * @return The home team name.
+     */
+    public String homeTeam() {
+        return homeTeam;
+    }
+
+    /**
+     * Retrieves the name of the away team.
+     * @return The away team name.
+     */
+    public String awayTeam() {
+        return awayTeam;
+    }
+
+    /**
+     * Retrieves the start time of the match.
+     * @return The start time.
+     */
+    public Instant startTime() {
+        return startTime;
+    }
+
+    /**
+     * Retrieves the start sequence number of the match.
+     * @return The start sequence number.
+     */
+    public long startSequence() {
+        return startSequence;
+    }
+
+    /**
+     * Retrieves the current score of the home team.
+     * @return The home team score.
+     */
+    public int homeScore() {
+        return homeScoreOf((long) SCORES.getAcquire(this));
+    }
+
+    /**
+     * Retrieves the current score of the away team.
+     * @return The away team score.
+     */
+    public int awayScore() {
+        return awayScoreOf((long) SCORES.getAcquire(this));
+    }
+
+    /**
+     * Retrieves the current total score.
+     * @return The sum of both scores of the same update.
+     */
+    public int totalScore() {
+        long packed = (long) SCORES.getAcquire(this);
+        return homeScoreOf(packed) + awayScoreOf(packed);
+    }
+
+    /**
+     * Checks whether the match has the given scores, without materializing a record.
+     * @param homeScore Expected home team score.
+     * @param awayScore Expected away team score.
+     * @return true if both scores are equal to the current ones.
+     */
+    public boolean hasScores(int homeScore, int awayScore) {
+        return (long) SCORES.getAcquire(this) == pack(homeScore, awayScore);
+    }
+
+    /**
+     * Retrieves the source sequence of the last sequenced update of the match.
+     * Must be called holding the lock of the owning scoreboard.
+     * @return The source sequence, or {@link #NO_SOURCE_SEQUENCE} if there was no sequenced update.
+     */
+    public long sourceSequence() {
+        return sourceSequence;
+    }
+
+    /**
+     * Records the source sequence of a sequenced update of the match.
+     * Must be called holding the lock of the owning scoreboard.
+     * @param sourceSequence Source sequence of the update.
+     */
+    public void setSourceSequence(long sourceSequence) {
+        this.sourceSequence = sourceSequence;
+    }
+
+    /**
+     * Produces the immutable record of the current state of the match.
+     * The record is created only after the scores changed and is reused otherwise.
+     * Must be called holding the lock of the owning scoreboard.
+     * @return The ranked match of the current state.
+     */
+    public RankedMatch toRankedMatch() {
+        long packed = (long) SCORES.getAcquire(this);
+        RankedMatch current = materialized;
+        if (current == null || pack(current.match().getHomeScore(), current.match().getAwayScore()) != packed) {
+            current = new RankedMatch(new FootballMatch(homeTeam, awayTeam,
+                    new MatchScores(homeScoreOf(packed), awayScoreOf(packed)), startTime), startSequence);
+            materialized = current;
+        }
+        return current;
+    }
+
+    /**
+     * Updates both scores in place. Only the owning ranking updates scores, as they determine the rank.
+     * @param homeScore Updated home team score.
+     * @param awayScore Updated away team score.
+     */
+    void setScores(int homeScore, int awayScore) {
+        SCORES.setRelease(this, pack(homeScore, awayScore));
+    }
+
+    private static long pack(int homeScore, int awayScore) {
+        return (long) homeScore << 32 | (awayScore & 0xFFFFFFFFL);
+    }
+
+    private static int homeScoreOf(long packed) {
+        return (int) (packed >>> 32);
+    }
+
+    private static int awayScoreOf(long packed) {
+        return (int) packed;
+    }
+}
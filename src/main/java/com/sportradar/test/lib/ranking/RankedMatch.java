@@ -0,0 +1,33 @@
+package com.sportradar.test.lib.ranking;
+
+import com.sportradar.test.lib.domain.FootballMatch;
+import java.util.Comparator;
+
+/**
+ * Immutable entry of the ranked match index.
+ * Pairs a match with the sequence number assigned when it was started,
+ * which breaks ties between matches with the same total score.
+ *
+ * @param match The ranked match.
+ * @param startSequence Scoreboard-wide sequence number assigned when the match was started.
+ */
+public record RankedMatch(FootballMatch match, long startSequence) {
+
+    /**
+     * Summary order: total score descending, then most recently started match first.
+     * Start order is given by the monotonic start sequence rather than the start time, so matches started
+     * within the same clock tick are ordered deterministically; the start time is display data only.
+     */
+    public static final Comparator<RankedMatch> SUMMARY_ORDER = Comparator
+            .comparingInt((RankedMatch ranked) -> ranked.match().getTotalScore()).reversed()
+            .thenComparing(Comparator.comparingLong(RankedMatch::startSequence).reversed());
+
+    /**
+     * Creates a new entry for the same match with a different state, keeping its start sequence.
+     * @param updatedMatch The updated state of the match.
+     * @return A new RankedMatch instance with the given match.
+     */
+    public RankedMatch withMatch(FootballMatch updatedMatch) {
+        return new RankedMatch(updatedMatch, startSequence);
+    }
+}
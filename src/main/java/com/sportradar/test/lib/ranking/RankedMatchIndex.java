@@ -0,0 +1,219 @@
+package com.sportradar.test.lib.ranking;
+
+import com.sportradar.test.lib.domain.FootballMatch;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * Ordered index of live matches.
+ * Keeps matches in summary order so that a change of a single match
+ * costs O(log n) instead of re-sorting the whole scoreboard.
+ * <p>
+ * The index is an intrusive skip list: the match slots are the nodes, and a goal moves its slot by relinking
+ * preallocated forward pointers, so updating a score allocates nothing.
+ * The index is not thread-safe: it is modified, rebuilt and read by its owning scoreboard while holding the writer
+ * lock, and published to readers only through the snapshots it takes.
+ */
+public class RankedMatchIndex {
+
+    private static final int MAX_LEVEL = 32;
+
+    // Sentinel before the first slot, linked on every level
+    private final MatchSlot head = new MatchSlot(null, null, 0, 0, null, 0);
+
+    // Predecessors of the slot being linked or unlinked on every level, reused by all operations
+    private final MatchSlot[] predecessors = new MatchSlot[MAX_LEVEL];
+
+    private int level = 1;
+    private int size;
+
+    // State of the xorshift generator choosing slot levels
+    private long random = 0x9E3779B97F4A7C15L;
+
+    /**
+     * Constructs an empty index.
+     */
+    public RankedMatchIndex() {
+        head.next = new MatchSlot[MAX_LEVEL];
+    }
+
+    /**
+     * Adds a match to the index.
+     * @param slot Slot of the match to add, not contained in any index.
+     */
+    public void add(MatchSlot slot) {
+        if (slot.next == null) {
+            slot.next = new MatchSlot[randomLevel()];
+        }
+        link(slot);
+        size++;
+    }
+
+    /**
+     * Removes a match from the index.
+     * @param slot Slot of the match to remove.
+     */
+    public void remove(MatchSlot slot) {
+        unlink(slot);
+        size--;
+    }
+
+    /**
+     * Updates the scores of a match and moves it to the position matching its new total score.
+     * @param slot Slot of the match to update.
+     * @param homeScore Updated home team score.
+     * @param awayScore Updated away team score.
+     */
+    public void updateScores(MatchSlot slot, int homeScore, int awayScore) {
+        if (slot.totalScore() == homeScore + awayScore) {
+            // The start sequence is fixed, so the rank does not change
+            slot.setScores(homeScore, awayScore);
+            return;
+        }
+        unlink(slot);
+        slot.setScores(homeScore, awayScore);
+        link(slot);
+    }
+
+    /**
+     * Returns the number of indexed matches.
+     * @return The number of matches in the index.
+     */
+    public int size() {
+        return size;
+    }
+
+    /**
+     * Takes an immutable snapshot of the indexed matches in summary order.
+     * Records are materialized only for matches that changed since their previous snapshot.
+     * @param version Version of the scoreboard the snapshot is taken at.
+     * @return A new SummarySnapshot containing the ranked matches.
+     */
+    public SummarySnapshot snapshot(long version) {
+        return snapshot(version, size);
+    }
+
+    /**
+     * Takes an immutable snapshot of the leading indexed matches in summary order, walking only those.
+     * @param version Version of the scoreboard the snapshot is taken at.
+     * @param limit Maximum number of matches in the snapshot, must not be negative.
+     * @return A new SummarySnapshot containing at most limit ranked matches.
+     */
+    public SummarySnapshot snapshot(long version, int limit) {
+        List<RankedMatch> ranking = new ArrayList<>(Math.min(limit, size));
+        for (MatchSlot slot = head.next[0]; slot != null && ranking.size() < limit; slot = slot.next[0]) {
+            ranking.add(slot.toRankedMatch());
+        }
+        return new SummarySnapshot(version, ranking);
+    }
+
+    /**
+     * Collects a page of the indexed matches in summary order without taking a snapshot of all matches.
+     * The walk covers the skipped matches and the page only, so a top-N read costs O(N).
+     * @param offset Zero-based position of the first match of the page, must not be negative.
+     * @param limit Maximum number of matches in the page, must not be negative.
+     * @return An immutable list containing at most limit matches.
+     */
+    public List<FootballMatch> page(int offset, int limit) {
+        if (offset >= size) {
+            return List.of();
+        }
+        List<FootballMatch> page = new ArrayList<>(Math.min(limit, size - offset));
+        MatchSlot slot = head.next[0];
+        for (int i = 0; i < offset; i++) {
+            slot = slot.next[0];
+        }
+        for (; slot != null && page.size() < limit; slot = slot.next[0]) {
+            page.add(slot.toRankedMatch().match());
+        }
+        return Collections.unmodifiableList(page);
+    }
+
+    /**
+     * Replaces the content of the index with matches that are already in summary order.
+     * The skip list is built in a single pass over the matches instead of searching for each insert position.
+     * @param sortedSlots Distinct slots in strictly ascending summary order, not contained in any other index.
+     */
+    public void rebuild(List<MatchSlot> sortedSlots) {
+        Arrays.fill(head.next, null);
+        MatchSlot[] last = predecessors;
+        Arrays.fill(last, head);
+        level = 1;
+        for (MatchSlot slot : sortedSlots) {
+            if (slot.next == null) {
+                slot.next = new MatchSlot[randomLevel()];
+            }
+            for (int i = 0; i < slot.next.length; i++) {
+                slot.next[i] = null;
+                last[i].next[i] = slot;
+                last[i] = slot;
+            }
+            level = Math.max(level, slot.next.length);
+        }
+        size = sortedSlots.size();
+    }
+
+    private void link(MatchSlot slot) {
+        findPredecessors(slot);
+        int slotLevel = slot.next.length;
+        for (int i = level; i < slotLevel; i++) {
+            predecessors[i] = head;
+        }
+        level = Math.max(level, slotLevel);
+        for (int i = 0; i < slotLevel; i++) {
+            slot.next[i] = predecessors[i].next[i];
+            predecessors[i].next[i] = slot;
+        }
+    }
+
+    private void unlink(MatchSlot slot) {
+        findPredecessors(slot);
+        for (int i = 0; i < slot.next.length; i++) {
+            if (predecessors[i].next[i] == slot) {
+                predecessors[i].next[i] = slot.next[i];
+            }
+        }
+        while (level > 1 && head.next[level - 1] == null) {
+            level--;
+        }
+    }
+
+    /**
+     * Stores the last slot ranked before the given slot on every level in use.
+     */
+    private void findPredecessors(MatchSlot slot) {
+        MatchSlot current = head;
+        for (int i = level - 1; i >= 0; i--) {
+            MatchSlot next = current.next[i];
+            while (next != null && ranksBefore(next, slot)) {
+                current = next;
+                next = current.next[i];
+            }
+            predecessors[i] = current;
+        }
+    }
+
+    /**
+     * Compares two slots in the same order as {@link RankedMatch#SUMMARY_ORDER}.
+     */
+    private static boolean ranksBefore(MatchSlot slot, MatchSlot other) {
+        int totalScore = slot.totalScore();
+        int otherTotalScore = other.totalScore();
+        if (totalScore != otherTotalScore) {
+            return totalScore > otherTotalScore;
+        }
+        return slot.startSequence() > other.startSequence();
+    }
+
+    /**
+     * Chooses a level with probability 1/2 for every additional level.
+     */
+    private int randomLevel() {
+        random ^= random << 13;
+        random ^= random >>> 7;
+        random ^= random << 17;
+        return Math.min(Long.numberOfTrailingZeros(random) + 1, MAX_LEVEL);
+    }
+}
@@ -0,0 +1,68 @@
+package com.sportradar.test.lib.ranking;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.PriorityQueue;
+
+/**
+ * K-way merge of independently ranked summaries into a single summary order.
+ * Only as many entries as requested are merged, so reading a page costs O((offset + limit) log k).
+ */
+public final class RankingMerger {
+
+    private RankingMerger() {
+    }
+
+    /**
+     * Merges the leading entries of several snapshots in summary order.
+     * @param snapshots Snapshots to merge, each already in summary order.
+     * @param limit Maximum number of merged entries to produce.
+     * @return A new list containing at most limit ranked matches.
+     */
+    public static List<RankedMatch> merge(List<SummarySnapshot> snapshots, int limit) {
+        int total = 0;
+        PriorityQueue<Cursor> cursors = new PriorityQueue<>(Math.max(1, snapshots.size()));
+        for (SummarySnapshot snapshot : snapshots) {
+            List<RankedMatch> ranking = snapshot.ranking();
+            total += ranking.size();
+            if (!ranking.isEmpty()) {
+                cursors.add(new Cursor(ranking));
+            }
+        }
+
+        List<RankedMatch> merged = new ArrayList<>(Math.min(limit, total));
+        while (merged.size() < limit && !cursors.isEmpty()) {
+            Cursor cursor = cursors.poll();
+            merged.add(cursor.current());
+            if (cursor.advance()) {
+                cursors.add(cursor);
+            }
+        }
+        return merged;
+    }
+
+    /**
+     * Position in one of the merged rankings.
+     */
+    private static final class Cursor implements Comparable<Cursor> {
+        private final List<RankedMatch> ranking;
+        private int position;
+
+        private Cursor(List<RankedMatch> ranking) {
+            this.ranking = ranking;
+        }
+
+        private RankedMatch current() {
+            return ranking.get(position);
+        }
+
+        private boolean advance() {
+            return ++position < ranking.size();
+        }
+
+        @Override
+        public int compareTo(Cursor other) {
+            return RankedMatch.SUMMARY_ORDER.compare(current(), other.current());
+        }
+    }
+}
@@ -0,0 +1,90 @@
+package com.sportradar.test.lib.ranking;
+
+import com.sportradar.test.lib.domain.FootballMatch;
+import java.util.AbstractList;
+import java.util.List;
+import java.util.RandomAccess;
+
+/**
+ * Immutable, versioned view of the scoreboard summary.
+ * Snapshots are taken once per version and shared by all readers without copying.
+ */
+public final class SummarySnapshot {
+
+    /** Snapshot of an empty scoreboard before any modification. */
+    public static final SummarySnapshot EMPTY = new SummarySnapshot(0, List.of());
+
+    private final long version;
+    private final List<RankedMatch> ranking;
+    private final List<FootballMatch> matches;
+
+    /**
+     * Constructs a new snapshot.
+     * @param version Version of the scoreboard the snapshot was taken at.
+     * @param ranking Ranked matches in summary order.
+     */
+    public SummarySnapshot(long version, List<RankedMatch> ranking) {
+        this.version = version;
+        this.ranking = List.copyOf(ranking);
+        this.matches = new MatchListView(this.ranking);
+    }
+
+    /**
+     * Retrieves the version of the scoreboard the snapshot was taken at.
+     * The version grows with every successful modification of the scoreboard.
+     * @return The scoreboard version.
+     */
+    public long version() {
+        return version;
+    }
+
+    /**
+     * Retrieves the ranked matches in summary order.
+     * @return An immutable list of ranked matches.
+     */
+    public List<RankedMatch> ranking() {
+        return ranking;
+    }
+
+    /**
+     * Retrieves the matches in summary order.
+     * @return An immutable list of matches backed by the snapshot.
+     */
+    public List<FootballMatch> matches() {
+        return matches;
+    }
+
+    /**
+     * Retrieves a page of matches in summary order without copying.
+     * Pages reaching past the end of the summary are truncated.
+     * @param offset Zero-based position of the first match of the page, must not be negative.
+     * @param limit Maximum number of matches in the page, must not be negative.
+     * @return An immutable list backed by the snapshot.
+     */
+    public List<FootballMatch> page(int offset, int limit) {
+        int from = Math.min(offset, matches.size());
+        int to = from + Math.min(limit, matches.size() - from);
+        return matches.subList(from, to);
+    }
+
+    /**
+     * Read-only list of matches backed by the ranked entries of a snapshot.
+     */
+    private static final class MatchListView extends AbstractList<FootballMatch> implements RandomAccess {
+        private final List<RankedMatch> ranking;
+
+        private MatchListView(List<RankedMatch> ranking) {
+            this.ranking = ranking;
+        }
+
+        @Override
+        public FootballMatch get(int index) {
+            return ranking.get(index).match();
+        }
+
+        @Override
+        public int size() {
+            return ranking.size();
+        }
+    }
+}
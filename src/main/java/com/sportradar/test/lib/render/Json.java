@@ -0,0 +1,50 @@
+package com.sportradar.test.lib.render;
+
+import com.sportradar.test.lib.domain.FootballMatch;
+
+/**
+ * Minimal JSON encoding of the scoreboard types, shared by the summary and change event renderings.
+ */
+public final class Json {
+
+    private Json() {
+    }
+
+    /**
+     * Appends a match as a JSON object:
+     * {@code {"homeTeam":"Mexico","awayTeam":"Canada","homeScore":0,"awayScore":5,"startTime":"..."}}.
+     * @param json Builder to append to.
+     * @param match Match to append.
+     * @return The builder.
+     */
+    public static StringBuilder appendMatch(StringBuilder json, FootballMatch match) {
+        json.append("{\"homeTeam\":");
+        appendString(json, match.homeTeam());
+        json.append(",\"awayTeam\":");
+        appendString(json, match.awayTeam());
+        return json.append(",\"homeScore\":").append(match.getHomeScore())
+                .append(",\"awayScore\":").append(match.getAwayScore())
+                .append(",\"startTime\":\"").append(match.startTime()).append("\"}");
+    }
+
+    /**
+     * Appends a quoted JSON string, escaping quotes, backslashes and control characters.
+     * @param json Builder to append to.
+     * @param value String to append.
+     * @return The builder.
+     */
+    public static StringBuilder appendString(StringBuilder json, String value) {
+        json.append('"');
+        for (int i = 0; i < value.length(); i++) {
+            char c = value.charAt(i);
+            if (c == '"' || c == '\\') {
+                json.append('\\').append(c);
+            } else if (c < 0x20) {
+                json.append(String.format("\\u%04x", (int) c));
+            } else {
+                json.append(c);
+            }
+        }
+        return json.append('"');
+    }
+}
@@ -0,0 +1,31 @@
+package com.sportradar.test.lib.render;
+
+import java.nio.ByteBuffer;
+
+/**
+ * Serialized summary of one scoreboard version.
+ * The bytes are rendered once and shared by all readers; every call of {@link #content()} returns an
+ * independent read-only view of them, so handing the summary to a client copies nothing.
+ * @param version Version of the scoreboard the summary was rendered at.
+ * @param format Format the summary was rendered in.
+ * @param content Read-only buffer holding the serialized summary.
+ */
+public record RenderedSummary(long version, SummaryFormat format, ByteBuffer content) {
+
+    /**
+     * Retrieves a read-only view of the serialized summary, positioned at its start.
+     * @return A new view sharing the rendered bytes.
+     */
+    @Override
+    public ByteBuffer content() {
+        return content.duplicate();
+    }
+
+    /**
+     * Retrieves the size of the serialized summary.
+     * @return The number of bytes.
+     */
+    public int size() {
+        return content.remaining();
+    }
+}
@@ -0,0 +1,106 @@
+package com.sportradar.test.lib.render;
+
+import com.sportradar.test.lib.domain.FootballMatch;
+import com.sportradar.test.lib.ranking.SummarySnapshot;
+import com.sportradar.test.lib.validation.Validator;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
+import java.util.List;
+
+/**
+ * Wire formats a summary can be rendered in.
+ */
+public enum SummaryFormat {
+
+    /**
+     * UTF-8 JSON: {@code {"version":1,"matches":[{"homeTeam":"Mexico","awayTeam":"Canada","homeScore":0,
+     * "awayScore":5,"startTime":"2024-01-01T00:00:00Z"}]}}, with matches in summary order.
+     */
+    JSON("application/json") {
+        @Override
+        byte[] encode(SummarySnapshot snapshot) {
+            List<FootballMatch> matches = snapshot.matches();
+            StringBuilder json = new StringBuilder(64 + 128 * matches.size());
+            json.append("{\"version\":").append(snapshot.version()).append(",\"matches\":[");
+            for (int i = 0; i < matches.size(); i++) {
+                if (i > 0) {
+                    json.append(',');
+                }
+                Json.appendMatch(json, matches.get(i));
+            }
+            return json.append("]}").toString().getBytes(StandardCharsets.UTF_8);
+        }
+    },
+
+    /**
+     * Compact big-endian binary form: {@code [int magic][short format version][long version][int match count]}
+     * followed by the matches in summary order, each as
+     * {@code [unsigned short length][UTF-8 home team][unsigned short length][UTF-8 away team][int home score]
+     * [int away score][long epoch second][int nano]}.
+     * Team names are written inline, as a team plays in at most a few live matches at a time. Their length is
+     * unsigned, so names of up to {@link Validator#MAX_TEAM_NAME_BYTES} bytes, the limit enforced by the
+     * scoreboard, can be encoded.
+     * @throws IllegalArgumentException if a team name is longer than {@link Validator#MAX_TEAM_NAME_BYTES} bytes.
+     */
+    BINARY("application/octet-stream") {
+        @Override
+        byte[] encode(SummarySnapshot snapshot) {
+            List<FootballMatch> matches = snapshot.matches();
+            byte[][] teamNames = new byte[2 * matches.size()][];
+            int bytes = HEADER_BYTES;
+            for (int i = 0; i < matches.size(); i++) {
+                teamNames[2 * i] = matches.get(i).homeTeam().getBytes(StandardCharsets.UTF_8);
+                teamNames[2 * i + 1] = matches.get(i).awayTeam().getBytes(StandardCharsets.UTF_8);
+                if (teamNames[2 * i].length > Validator.MAX_TEAM_NAME_BYTES
+                        || teamNames[2 * i + 1].length > Validator.MAX_TEAM_NAME_BYTES) {
+                    throw new IllegalArgumentException(Validator.TEAM_NAME_TOO_LONG_ERROR);
+                }
+                bytes += MATCH_BYTES + teamNames[2 * i].length + teamNames[2 * i + 1].length;
+            }
+            ByteBuffer buffer = ByteBuffer.allocate(bytes);
+            buffer.putInt(BINARY_MAGIC).putShort(BINARY_FORMAT_VERSION)
+                    .putLong(snapshot.version()).putInt(matches.size());
+            for (int i = 0; i < matches.size(); i++) {
+                FootballMatch match = matches.get(i);
+                Instant startTime = match.startTime();
+                buffer.putShort((short) teamNames[2 * i].length).put(teamNames[2 * i])
+                        .putShort((short) teamNames[2 * i + 1].length).put(teamNames[2 * i + 1])
+                        .putInt(match.getHomeScore()).putInt(match.getAwayScore())
+                        .putLong(startTime.getEpochSecond()).putInt(startTime.getNano());
+            }
+            return buffer.array();
+        }
+    };
+
+    /** "FWCS", identifies binary summaries. */
+    public static final int BINARY_MAGIC = 0x46574353;
+
+    /** Current version of the binary summary format. */
+    public static final short BINARY_FORMAT_VERSION = 1;
+
+    private static final int HEADER_BYTES = Integer.BYTES + Short.BYTES + Long.BYTES + Integer.BYTES;
+    private static final int MATCH_BYTES = 2 * Short.BYTES + 2 * Integer.BYTES + Long.BYTES + Integer.BYTES;
+
+    private final String contentType;
+
+    SummaryFormat(String contentType) {
+        this.contentType = contentType;
+    }
+
+    /**
+     * Retrieves the media type of the format.
+     * @return The content type, e.g. for an HTTP response.
+     */
+    public String contentType() {
+        return contentType;
+    }
+
+    /**
+     * Serializes a summary snapshot.
+     * @param snapshot Snapshot to serialize.
+     * @return The serialized summary.
+     * @throws IllegalArgumentException if the snapshot cannot be represented in this format.
+     */
+    abstract byte[] encode(SummarySnapshot snapshot);
+}
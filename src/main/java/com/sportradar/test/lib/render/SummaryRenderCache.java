@@ -0,0 +1,80 @@
+package com.sportradar.test.lib.render;
+
+import com.sportradar.test.lib.Scoreboard;
+import com.sportradar.test.lib.ranking.SummarySnapshot;
+import java.nio.ByteBuffer;
+import java.util.EnumMap;
+import java.util.Map;
+
+/**
+ * Cache of the serialized summary of a scoreboard, for serving the same summary to many clients.
+ * Each format is rendered lazily, at most once per scoreboard version, into a direct read-only buffer.
+ * While the version does not change, serving a client is a volatile read and a buffer view.
+ * Thread-safe: readers of an up-to-date rendering never lock, and concurrent readers of a new version
+ * wait for a single rendering instead of each rendering the summary.
+ */
+public class SummaryRenderCache {
+
+    private final Scoreboard scoreboard;
+
+    // One entry per format, never modified after construction
+    private final Map<SummaryFormat, Entry> entries = new EnumMap<>(SummaryFormat.class);
+
+    /**
+     * Constructs an empty cache; nothing is rendered until it is first requested.
+     * @param scoreboard The scoreboard whose summary is served.
+     */
+    public SummaryRenderCache(Scoreboard scoreboard) {
+        this.scoreboard = scoreboard;
+        for (SummaryFormat format : SummaryFormat.values()) {
+            entries.put(format, new Entry());
+        }
+    }
+
+    /**
+     * Retrieves the summary of the current scoreboard version in a format, rendering it if needed.
+     * @param format Format to render the summary in.
+     * @return The rendered summary.
+     */
+    public RenderedSummary render(SummaryFormat format) {
+        Entry entry = entries.get(format);
+        RenderedSummary rendered = entry.rendered;
+        if (rendered != null && rendered.version() >= scoreboard.version()) {
+            return rendered;
+        }
+        synchronized (entry) {
+            SummarySnapshot snapshot = scoreboard.getSummarySnapshot();
+            rendered = entry.rendered;
+            if (rendered == null || rendered.version() < snapshot.version()) {
+                byte[] bytes = format.encode(snapshot);
+                ByteBuffer content = ByteBuffer.allocateDirect(bytes.length).put(bytes).flip().asReadOnlyBuffer();
+                rendered = new RenderedSummary(snapshot.version(), format, content);
+                entry.rendered = rendered;
+            }
+            return rendered;
+        }
+    }
+
+    /**
+     * Retrieves the summary of the current scoreboard version as JSON.
+     * @return The rendered summary.
+     */
+    public RenderedSummary json() {
+        return render(SummaryFormat.JSON);
+    }
+
+    /**
+     * Retrieves the summary of the current scoreboard version in the compact binary format.
+     * @return The rendered summary.
+     */
+    public RenderedSummary binary() {
+        return render(SummaryFormat.BINARY);
+    }
+
+    /**
+     * Latest rendering of one format.
+     */
+    private static final class Entry {
+        volatile RenderedSummary rendered;
+    }
+}
@@ -0,0 +1,20 @@
+package com.sportradar.test.lib.replication;
+
+import java.time.Duration;
+
+/**
+ * Replication progress of a replica, in versions of the primary scoreboard.
+ * @param appliedVersion Primary version the replica has applied, -1 before the first snapshot.
+ * @param primaryVersion Latest primary version the replica has heard of, -1 before the first message.
+ * @param delay Time between the commit of the last applied frame on the primary and its application.
+ */
+public record ReplicationLag(long appliedVersion, long primaryVersion, Duration delay) {
+
+    /**
+     * Retrieves the number of primary versions the replica has not applied yet.
+     * @return The number of versions the replica is behind.
+     */
+    public long versionsBehind() {
+        return Math.max(0, primaryVersion - appliedVersion);
+    }
+}
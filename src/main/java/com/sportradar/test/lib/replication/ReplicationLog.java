@@ -0,0 +1,225 @@
+package com.sportradar.test.lib.replication;
+
+import com.sportradar.test.lib.journal.JournalVisitor;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * Bounded in-memory log of the modifications of a primary scoreboard, in the order they were applied.
+ * <p>
+ * The scoreboard stages the records of an operation or batch while holding its writer lock and commits them
+ * as one frame tagged with the version the modification was published with. Frames are self-contained:
+ * teams are written by name, so a replica can apply any frame following its snapshot.
+ * Record layout: {@code [byte type][short length][UTF-8 home team][short length][UTF-8 away team]}, followed by
+ * {@code [long epoch second][int nano]} for starts and {@code [int home score][int away score]} for updates.
+ * <p>
+ * The log keeps the latest frames only; a replica that falls further behind catches up from a new snapshot.
+ * Staging and {@link #commit(long)} must be called by a single writer at a time; readers may wait for frames
+ * from any thread.
+ */
+public class ReplicationLog implements JournalVisitor {
+
+    /** Default number of retained frames. */
+    public static final int DEFAULT_CAPACITY = 4096;
+
+    /** Error message for an invalid capacity. */
+    public static final String INVALID_CAPACITY_ERROR = "Replication log capacity must be positive.";
+
+    /** Error message for team names that do not fit into a record. */
+    public static final String TEAM_NAME_TOO_LONG_ERROR = "Team name is too long for the replication log: ";
+
+    private static final byte START_RECORD = 1;
+    private static final byte UPDATE_RECORD = 2;
+    private static final byte FINISH_RECORD = 3;
+
+    private static final int MAX_TEAM_NAME_BYTES = 0xFFFF;
+
+    private final int capacity;
+
+    // Retained frames, oldest first, guarded by lock
+    private final ArrayDeque<Frame> frames;
+    private final ReentrantLock lock = new ReentrantLock();
+    private final Condition committed = lock.newCondition();
+
+    // Records staged by the writer since the last commit
+    private ByteBuffer staged = ByteBuffer.allocate(1024);
+
+    // Version of the last committed frame, or the version the log was attached at
+    private volatile long version;
+
+    /**
+     * Constructs a log retaining the default number of frames.
+     */
+    public ReplicationLog() {
+        this(DEFAULT_CAPACITY);
+    }
+
+    /**
+     * Constructs a log.
+     * @param capacity Number of retained frames.
+     * @throws IllegalArgumentException if the capacity is not positive.
+     */
+    public ReplicationLog(int capacity) {
+        if (capacity <= 0) {
+            throw new IllegalArgumentException(INVALID_CAPACITY_ERROR);
+        }
+        this.capacity = capacity;
+        this.frames = new ArrayDeque<>(Math.min(capacity, 1024));
+    }
+
+    /**
+     * Committed modification of the primary.
+     * @param previousVersion Version of the primary before the modification.
+     * @param version Version the modification was published with.
+     * @param commitTimeMillis Wall-clock time of the commit, used to report replication delay.
+     * @param records Encoded records of the modification.
+     */
+    public record Frame(long previousVersion, long version, long commitTimeMillis, byte[] records) {
+    }
+
+    /**
+     * Sets the version of the scoreboard the log starts at; the first frame follows it.
+     * Called by the scoreboard when the log is attached, holding its writer lock.
+     * @param version The current version of the scoreboard.
+     */
+    public void attachedAt(long version) {
+        staged.clear();
+        this.version = version;
+    }
+
+    /**
+     * Retrieves the version of the last committed frame.
+     * @return The latest version in the log.
+     */
+    public long version() {
+        return version;
+    }
+
+    @Override
+    public void matchStarted(String homeTeam, String awayTeam, Instant startTime) {
+        stageTeams(START_RECORD, homeTeam, awayTeam, Long.BYTES + Integer.BYTES);
+        staged.putLong(startTime.getEpochSecond()).putInt(startTime.getNano());
+    }
+
+    @Override
+    public void scoreUpdated(String homeTeam, String awayTeam, int homeScore, int awayScore) {
+        stageTeams(UPDATE_RECORD, homeTeam, awayTeam, 2 * Integer.BYTES);
+        staged.putInt(homeScore).putInt(awayScore);
+    }
+
+    @Override
+    public void matchFinished(String homeTeam, String awayTeam) {
+        stageTeams(FINISH_RECORD, homeTeam, awayTeam, 0);
+    }
+
+    /**
+     * Commits the staged records as one frame and wakes up waiting readers. Does nothing if no record is staged.
+     * @param version The version the staged modification was published with.
+     */
+    public void commit(long version) {
+        if (staged.position() == 0) {
+            return;
+        }
+        Frame frame = new Frame(this.version, version, System.currentTimeMillis(),
+                Arrays.copyOf(staged.array(), staged.position()));
+        staged.clear();
+        lock.lock();
+        try {
+            if (frames.size() == capacity) {
+                frames.removeFirst();
+            }
+            frames.addLast(frame);
+            this.version = version;
+            committed.signalAll();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Retrieves the frames following a version, waiting for the next frame if there is none yet.
+     * @param version The version the reader has applied.
+     * @param timeoutNanos Maximum time to wait for a frame.
+     * @return The retained frames newer than the version, an empty list if none was committed in time,
+     *         or null if frames following the version are no longer retained and a new snapshot is needed.
+     * @throws InterruptedException if the waiting thread is interrupted.
+     */
+    public List<Frame> framesAfter(long version, long timeoutNanos) throws InterruptedException {
+        long deadline = System.nanoTime() + timeoutNanos;
+        lock.lock();
+        try {
+            while (true) {
+                if (!frames.isEmpty() && frames.peekFirst().previousVersion() > version) {
+                    return null;
+                }
+                List<Frame> newer = new ArrayList<>();
+                for (Frame frame : frames) {
+                    if (frame.version() > version) {
+                        newer.add(frame);
+                    }
+                }
+                long remaining = deadline - System.nanoTime();
+                if (!newer.isEmpty() || remaining <= 0) {
+                    return newer;
+                }
+                committed.awaitNanos(remaining);
+            }
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Decodes the records of a frame.
+     * @param records Encoded records of a frame.
+     * @param visitor Receiver of the records, in the order they were staged.
+     */
+    public static void replay(byte[] records, JournalVisitor visitor) {
+        ByteBuffer buffer = ByteBuffer.wrap(records);
+        while (buffer.hasRemaining()) {
+            byte type = buffer.get();
+            String homeTeam = readName(buffer);
+            String awayTeam = readName(buffer);
+            switch (type) {
+                case START_RECORD -> visitor.matchStarted(homeTeam, awayTeam,
+                        Instant.ofEpochSecond(buffer.getLong(), buffer.getInt()));
+                case UPDATE_RECORD -> visitor.scoreUpdated(homeTeam, awayTeam, buffer.getInt(), buffer.getInt());
+                case FINISH_RECORD -> visitor.matchFinished(homeTeam, awayTeam);
+                default -> throw new IllegalStateException("Unknown replication record type: " + type);
+            }
+        }
+    }
+
+    private void stageTeams(byte type, String homeTeam, String awayTeam, int extraBytes) {
+        byte[] home = encodeName(homeTeam);
+        byte[] away = encodeName(awayTeam);
+        int needed = 1 + 2 * Short.BYTES + home.length + away.length + extraBytes;
+        if (staged.remaining() < needed) {
+            ByteBuffer grown = ByteBuffer.allocate(Math.max(2 * staged.capacity(), staged.position() + needed));
+            staged.flip();
+            staged = grown.put(staged);
+        }
+        staged.put(type).putShort((short) home.length).put(home).putShort((short) away.length).put(away);
+    }
+
+    private static byte[] encodeName(String teamName) {
+        byte[] name = teamName.getBytes(StandardCharsets.UTF_8);
+        if (name.length > MAX_TEAM_NAME_BYTES) {
+            throw new IllegalArgumentException(TEAM_NAME_TOO_LONG_ERROR + teamName);
+        }
+        return name;
+    }
+
+    private static String readName(ByteBuffer buffer) {
+        byte[] name = new byte[Short.toUnsignedInt(buffer.getShort())];
+        buffer.get(name);
+        return new String(name, StandardCharsets.UTF_8);
+    }
+}
@@ -0,0 +1,185 @@
+package com.sportradar.test.lib.replication;
+
+import com.sportradar.test.lib.FootballWorldCupScoreboard;
+import com.sportradar.test.lib.checkpoint.ScoreboardCheckpoint;
+import com.sportradar.test.lib.ranking.SummarySnapshot;
+import java.io.BufferedOutputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.net.InetSocketAddress;
+import java.net.ServerSocket;
+import java.net.Socket;
+import java.nio.channels.Channels;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Streams the modifications of a scoreboard to read replicas connected over TCP, one virtual thread per replica.
+ * <p>
+ * A joining replica first receives a checkpoint of the summary and then the frames of the {@link ReplicationLog}
+ * following the checkpoint version, in order. A replica that falls behind the frames retained by the log
+ * receives a new checkpoint. Idle connections get a heartbeat with the latest version, so replicas can
+ * report their lag. Messages, all big-endian:
+ * <pre>
+ * [byte 1][long version][int length][checkpoint]                                           snapshot
+ * [byte 2][long previous version][long version][long commit millis][int length][records]   frame
+ * [byte 3][long version]                                                                   heartbeat
+ * </pre>
+ */
+public class ReplicationPrimary implements AutoCloseable {
+
+    /** Interval of heartbeats on idle replica connections. */
+    public static final long HEARTBEAT_INTERVAL_MILLIS = 200;
+
+    static final byte SNAPSHOT_MESSAGE = 1;
+    static final byte FRAME_MESSAGE = 2;
+    static final byte HEARTBEAT_MESSAGE = 3;
+
+    private final FootballWorldCupScoreboard scoreboard;
+    private final ReplicationLog log;
+    private final ServerSocket server;
+    private final ExecutorService connections = Executors.newVirtualThreadPerTaskExecutor();
+
+    // Connected replicas, closed on shutdown to release their blocked writes
+    private final Set<Socket> replicas = ConcurrentHashMap.newKeySet();
+    private final LongAdder snapshotsSent = new LongAdder();
+
+    /**
+     * Starts streaming a scoreboard with a log retaining the default number of frames.
+     * @param scoreboard The primary scoreboard.
+     * @param address Address to accept replicas on; port 0 selects a free port.
+     * @throws IOException if the server socket cannot be bound.
+     */
+    public ReplicationPrimary(FootballWorldCupScoreboard scoreboard, InetSocketAddress address) throws IOException {
+        this(scoreboard, address, new ReplicationLog());
+    }
+
+    /**
+     * Starts streaming a scoreboard.
+     * @param scoreboard The primary scoreboard.
+     * @param address Address to accept replicas on; port 0 selects a free port.
+     * @param log Log the scoreboard records its modifications in.
+     * @throws IOException if the server socket cannot be bound.
+     */
+    public ReplicationPrimary(FootballWorldCupScoreboard scoreboard, InetSocketAddress address, ReplicationLog log)
+            throws IOException {
+        this.scoreboard = scoreboard;
+        this.log = log;
+        this.server = new ServerSocket();
+        server.bind(address);
+        scoreboard.replicateTo(log);
+        connections.submit(this::accept);
+    }
+
+    /**
+     * Retrieves the address replicas connect to.
+     * @return The bound address, with the selected port.
+     */
+    public InetSocketAddress address() {
+        return (InetSocketAddress) server.getLocalSocketAddress();
+    }
+
+    /**
+     * Returns the number of connected replicas.
+     * @return The number of replica connections.
+     */
+    public int replicaCount() {
+        return replicas.size();
+    }
+
+    /**
+     * Returns the number of snapshots sent, including those sent to replicas that fell behind the log.
+     * @return The number of snapshots sent.
+     */
+    public long snapshotsSent() {
+        return snapshotsSent.sum();
+    }
+
+    /**
+     * Stops recording modifications, disconnects all replicas and waits for their threads to end.
+     * @throws IOException if the server socket cannot be closed.
+     */
+    @Override
+    public void close() throws IOException {
+        scoreboard.replicateTo(null);
+        server.close();
+        for (Socket replica : replicas) {
+            replica.close();
+        }
+        connections.shutdownNow();
+        try {
+            connections.awaitTermination(1, TimeUnit.MINUTES);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private void accept() {
+        while (!server.isClosed()) {
+            try {
+                Socket replica = server.accept();
+                replica.setTcpNoDelay(true);
+                replicas.add(replica);
+                connections.submit(() -> stream(replica));
+            } catch (IOException e) {
+                // The server socket was closed
+                return;
+            }
+        }
+    }
+
+    private void stream(Socket replica) {
+        try (replica) {
+            DataOutputStream out = new DataOutputStream(new BufferedOutputStream(replica.getOutputStream()));
+            long version = sendSnapshot(out);
+            while (true) {
+                List<ReplicationLog.Frame> frames = log.framesAfter(version,
+                        TimeUnit.MILLISECONDS.toNanos(HEARTBEAT_INTERVAL_MILLIS));
+                if (frames == null) {
+                    version = sendSnapshot(out);
+                } else if (frames.isEmpty()) {
+                    out.writeByte(HEARTBEAT_MESSAGE);
+                    out.writeLong(Math.max(version, log.version()));
+                } else {
+                    for (ReplicationLog.Frame frame : frames) {
+                        out.writeByte(FRAME_MESSAGE);
+                        out.writeLong(frame.previousVersion());
+                        out.writeLong(frame.version());
+                        out.writeLong(frame.commitTimeMillis());
+                        out.writeInt(frame.records().length);
+                        out.write(frame.records());
+                        version = frame.version();
+                    }
+                }
+                out.flush();
+            }
+        } catch (IOException | InterruptedException e) {
+            // The replica disconnected or the primary is closing
+        } finally {
+            replicas.remove(replica);
+        }
+    }
+
+    /**
+     * Sends a checkpoint of the latest summary.
+     * @return The version of the checkpoint, which the following frames continue from.
+     */
+    private long sendSnapshot(DataOutputStream out) throws IOException {
+        SummarySnapshot snapshot = scoreboard.getSummarySnapshot();
+        ByteArrayOutputStream checkpoint = new ByteArrayOutputStream();
+        ScoreboardCheckpoint.write(Channels.newChannel(checkpoint), snapshot);
+        out.writeByte(SNAPSHOT_MESSAGE);
+        out.writeLong(snapshot.version());
+        out.writeInt(checkpoint.size());
+        checkpoint.writeTo(out);
+        out.flush();
+        snapshotsSent.increment();
+        return snapshot.version();
+    }
+}
@@ -0,0 +1,190 @@
+package com.sportradar.test.lib.replication;
+
+import com.sportradar.test.lib.FootballWorldCupScoreboard;
+import java.io.BufferedInputStream;
+import java.io.ByteArrayInputStream;
+import java.io.DataInputStream;
+import java.io.IOException;
+import java.net.InetSocketAddress;
+import java.net.Socket;
+import java.nio.channels.Channels;
+import java.time.Duration;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * Read replica keeping a local scoreboard in sync with a {@link ReplicationPrimary}.
+ * <p>
+ * A virtual thread connects to the primary, restores the local scoreboard from the snapshot it receives and
+ * applies the following frames in order, each as one version of the local scoreboard. If the connection
+ * breaks or a frame does not fit the local matches, the replica reconnects and catches up from a new snapshot.
+ * The local scoreboard must not be modified by anything else. Versions reported by the replica are versions
+ * of the primary.
+ */
+public class ScoreboardReplica implements AutoCloseable {
+
+    /** Delay before reconnecting after the connection to the primary was lost. */
+    public static final long RECONNECT_DELAY_MILLIS = 100;
+
+    private final FootballWorldCupScoreboard scoreboard;
+    private final InetSocketAddress primary;
+    private final Thread applier;
+
+    private final ReentrantLock lock = new ReentrantLock();
+    private final Condition applied = lock.newCondition();
+
+    // Progress in primary versions, written by the applier thread only
+    private volatile long appliedVersion = -1;
+    private volatile long primaryVersion = -1;
+    private volatile long delayMillis;
+
+    private final LongAdder snapshotsApplied = new LongAdder();
+
+    private volatile Socket connection;
+    private volatile boolean closed;
+
+    /**
+     * Starts replicating a primary into a local scoreboard.
+     * @param scoreboard The local scoreboard, replaced by the snapshot of the primary.
+     * @param primary Address of the primary.
+     */
+    public ScoreboardReplica(FootballWorldCupScoreboard scoreboard, InetSocketAddress primary) {
+        this.scoreboard = scoreboard;
+        this.primary = primary;
+        this.applier = Thread.ofVirtual().name("scoreboard-replica").start(this::run);
+    }
+
+    /**
+     * Retrieves the local scoreboard.
+     * @return The replicated scoreboard.
+     */
+    public FootballWorldCupScoreboard scoreboard() {
+        return scoreboard;
+    }
+
+    /**
+     * Retrieves the replication progress of the replica.
+     * @return A new ReplicationLag.
+     */
+    public ReplicationLag lag() {
+        long applied = appliedVersion;
+        return new ReplicationLag(applied, Math.max(applied, primaryVersion), Duration.ofMillis(delayMillis));
+    }
+
+    /**
+     * Returns the number of snapshots applied: the initial one and those of every catch-up.
+     * @return The number of applied snapshots.
+     */
+    public long snapshotsApplied() {
+        return snapshotsApplied.sum();
+    }
+
+    /**
+     * Waits until the replica has applied a version of the primary.
+     * @param version The primary version to wait for.
+     * @param timeout Maximum time to wait.
+     * @return True if the version was applied, false if the wait timed out.
+     * @throws InterruptedException if the waiting thread is interrupted.
+     */
+    public boolean awaitVersion(long version, Duration timeout) throws InterruptedException {
+        long deadline = System.nanoTime() + timeout.toNanos();
+        lock.lock();
+        try {
+            while (appliedVersion < version) {
+                long remaining = deadline - System.nanoTime();
+                if (remaining <= 0) {
+                    return false;
+                }
+                applied.awaitNanos(remaining);
+            }
+            return true;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Disconnects from the primary and waits for the applier thread to end.
+     * The local scoreboard keeps the last applied state.
+     * @throws IOException if the connection cannot be closed.
+     */
+    @Override
+    public void close() throws IOException {
+        closed = true;
+        Socket current = connection;
+        if (current != null) {
+            current.close();
+        }
+        applier.interrupt();
+        try {
+            applier.join(TimeUnit.MINUTES.toMillis(1));
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private void run() {
+        while (!closed) {
+            try (Socket socket = new Socket()) {
+                connection = socket;
+                if (closed) {
+                    return;
+                }
+                socket.connect(primary);
+                replicate(new DataInputStream(new BufferedInputStream(socket.getInputStream())));
+            } catch (IOException | RuntimeException e) {
+                // Lost the primary, received a malformed frame or diverged from it; the next connection starts
+                // with a snapshot
+            }
+            try {
+                Thread.sleep(RECONNECT_DELAY_MILLIS);
+            } catch (InterruptedException e) {
+                return;
+            }
+        }
+    }
+
+    private void replicate(DataInputStream in) throws IOException {
+        while (true) {
+            byte type = in.readByte();
+            switch (type) {
+                case ReplicationPrimary.SNAPSHOT_MESSAGE -> {
+                    long version = in.readLong();
+                    byte[] checkpoint = in.readNBytes(in.readInt());
+                    scoreboard.restoreFrom(Channels.newChannel(new ByteArrayInputStream(checkpoint)));
+                    snapshotsApplied.increment();
+                    advance(version, 0);
+                }
+                case ReplicationPrimary.FRAME_MESSAGE -> {
+                    long previousVersion = in.readLong();
+                    long version = in.readLong();
+                    long commitTimeMillis = in.readLong();
+                    byte[] records = in.readNBytes(in.readInt());
+                    if (previousVersion > appliedVersion) {
+                        throw new IOException("Replication frame " + version + " does not follow " + appliedVersion);
+                    }
+                    if (version > appliedVersion) {
+                        scoreboard.applyReplicated(visitor -> ReplicationLog.replay(records, visitor));
+                        advance(version, Math.max(0, System.currentTimeMillis() - commitTimeMillis));
+                    }
+                }
+                case ReplicationPrimary.HEARTBEAT_MESSAGE -> primaryVersion = Math.max(primaryVersion, in.readLong());
+                default -> throw new IOException("Unknown replication message type: " + type);
+            }
+        }
+    }
+
+    private void advance(long version, long delay) {
+        delayMillis = delay;
+        primaryVersion = Math.max(primaryVersion, version);
+        lock.lock();
+        try {
+            appliedVersion = version;
+            applied.signalAll();
+        } finally {
+            lock.unlock();
+        }
+    }
+}
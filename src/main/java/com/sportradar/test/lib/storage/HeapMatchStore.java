@@ -0,0 +1,102 @@
+package com.sportradar.test.lib.storage;
+
+import com.sportradar.test.lib.domain.FootballMatch;
+import com.sportradar.test.lib.ranking.MatchSlot;
+import com.sportradar.test.lib.ranking.RankedMatch;
+import com.sportradar.test.lib.ranking.RankedMatchIndex;
+import com.sportradar.test.lib.ranking.SummarySnapshot;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Match store on the Java heap: match slots in a primitive {@link MatchTable}, ranked by a {@link RankedMatchIndex}.
+ * Handles are the table slots returned by {@link MatchTable#indexOf(long)}.
+ */
+public class HeapMatchStore implements MatchStore {
+
+    // Match slots keyed by packed team identifiers
+    private final MatchTable<MatchSlot> matches = new MatchTable<>();
+
+    // Ordered index of match slots, repositions only the match that changed
+    private final RankedMatchIndex rankedMatches = new RankedMatchIndex();
+
+    @Override
+    public int find(long matchKey) {
+        int index = matches.indexOf(matchKey);
+        return index >= 0 ? index : NOT_FOUND;
+    }
+
+    @Override
+    public void insert(long matchKey, String homeTeam, String awayTeam, Instant startTime, long startSequence) {
+        MatchSlot slot = new MatchSlot(homeTeam, awayTeam, 0, 0, startTime, startSequence);
+        matches.insertAt(matches.indexOf(matchKey), matchKey, slot);
+        rankedMatches.add(slot);
+    }
+
+    @Override
+    public void updateScores(int handle, int homeScore, int awayScore) {
+        rankedMatches.updateScores(matches.valueAt(handle), homeScore, awayScore);
+    }
+
+    @Override
+    public boolean hasScores(int handle, int homeScore, int awayScore) {
+        return matches.valueAt(handle).hasScores(homeScore, awayScore);
+    }
+
+    @Override
+    public long sourceSequence(int handle) {
+        return matches.valueAt(handle).sourceSequence();
+    }
+
+    @Override
+    public void setSourceSequence(int handle, long sourceSequence) {
+        matches.valueAt(handle).setSourceSequence(sourceSequence);
+    }
+
+    @Override
+    public void remove(int handle) {
+        rankedMatches.remove(matches.removeAt(handle));
+    }
+
+    @Override
+    public RankedMatch rankedMatch(int handle) {
+        return matches.valueAt(handle).toRankedMatch();
+    }
+
+    @Override
+    public int size() {
+        return matches.size();
+    }
+
+    @Override
+    public SummarySnapshot snapshot(long version) {
+        return rankedMatches.snapshot(version);
+    }
+
+    @Override
+    public SummarySnapshot snapshot(long version, int limit) {
+        return rankedMatches.snapshot(version, limit);
+    }
+
+    @Override
+    public List<FootballMatch> page(int offset, int limit) {
+        return rankedMatches.page(offset, limit);
+    }
+
+    @Override
+    public int load(long[] matchKeys, List<RankedMatch> sortedMatches) {
+        List<MatchSlot> sortedSlots = new ArrayList<>(sortedMatches.size());
+        for (int i = 0; i < sortedMatches.size(); i++) {
+            int index = matches.indexOf(matchKeys[i]);
+            if (index >= 0) {
+                return i;
+            }
+            MatchSlot slot = MatchSlot.of(sortedMatches.get(i));
+            matches.insertAt(index, matchKeys[i], slot);
+            sortedSlots.add(slot);
+        }
+        rankedMatches.rebuild(sortedSlots);
+        return -1;
+    }
+}
@@ -0,0 +1,123 @@
+package com.sportradar.test.lib.storage;
+
+import com.sportradar.test.lib.domain.FootballMatch;
+import com.sportradar.test.lib.ranking.MatchSlot;
+import com.sportradar.test.lib.ranking.RankedMatch;
+import com.sportradar.test.lib.ranking.SummarySnapshot;
+import java.time.Instant;
+import java.util.List;
+
+/**
+ * Storage of the live matches of a scoreboard, keyed by packed team identifiers and kept in summary order.
+ * Matches are addressed by handles returned by {@link #find(long)}; a handle is only valid until the next
+ * modification of the store. Stores are not thread-safe; the owner is responsible for guarding access.
+ */
+public interface MatchStore {
+
+    /** Handle returned by {@link #find(long)} for absent matches. */
+    int NOT_FOUND = -1;
+
+    /** Source sequence of a match that has not received a sequenced update yet. */
+    long NO_SOURCE_SEQUENCE = MatchSlot.NO_SOURCE_SEQUENCE;
+
+    /**
+     * Finds a live match.
+     * @param matchKey Packed match key, see {@link MatchTable#key(int, int)}.
+     * @return The handle of the match, or {@link #NOT_FOUND} if the match is absent.
+     */
+    int find(long matchKey);
+
+    /**
+     * Adds a new match with an initial score of 0-0.
+     * @param matchKey Packed key of an absent match.
+     * @param homeTeam Canonical name of the home team.
+     * @param awayTeam Canonical name of the away team.
+     * @param startTime Start time of the match.
+     * @param startSequence Scoreboard-wide sequence number of the match.
+     */
+    void insert(long matchKey, String homeTeam, String awayTeam, Instant startTime, long startSequence);
+
+    /**
+     * Updates the scores of a match and moves it to the position matching its new total score.
+     * @param handle Handle of the match.
+     * @param homeScore Updated home team score.
+     * @param awayScore Updated away team score.
+     */
+    void updateScores(int handle, int homeScore, int awayScore);
+
+    /**
+     * Checks whether a match has the given scores, without materializing it.
+     * @param handle Handle of the match.
+     * @param homeScore Expected home team score.
+     * @param awayScore Expected away team score.
+     * @return true if both scores are equal to the current ones.
+     */
+    boolean hasScores(int handle, int homeScore, int awayScore);
+
+    /**
+     * Retrieves the source sequence of the last sequenced update of a match.
+     * @param handle Handle of the match.
+     * @return The source sequence, or {@link #NO_SOURCE_SEQUENCE} if the match had no sequenced update.
+     */
+    long sourceSequence(int handle);
+
+    /**
+     * Records the source sequence of a sequenced update of a match. The sequence is dropped with the match.
+     * @param handle Handle of the match.
+     * @param sourceSequence Source sequence of the update.
+     */
+    void setSourceSequence(int handle, long sourceSequence);
+
+    /**
+     * Removes a match.
+     * @param handle Handle of the match.
+     */
+    void remove(int handle);
+
+    /**
+     * Produces the immutable record of the current state of a match.
+     * @param handle Handle of the match.
+     * @return The ranked match.
+     */
+    RankedMatch rankedMatch(int handle);
+
+    /**
+     * Returns the number of live matches.
+     * @return The number of matches.
+     */
+    int size();
+
+    /**
+     * Takes an immutable snapshot of the matches in summary order.
+     * @param version Version of the scoreboard the snapshot is taken at.
+     * @return A new SummarySnapshot containing the ranked matches.
+     */
+    SummarySnapshot snapshot(long version);
+
+    /**
+     * Takes an immutable snapshot of the leading matches in summary order.
+     * The cost grows with the limit, not with the number of matches.
+     * @param version Version of the scoreboard the snapshot is taken at.
+     * @param limit Maximum number of matches in the snapshot, must not be negative.
+     * @return A new SummarySnapshot containing at most limit ranked matches.
+     */
+    SummarySnapshot snapshot(long version, int limit);
+
+    /**
+     * Collects a page of the matches in summary order without taking a snapshot of all matches.
+     * The cost grows with offset + limit, not with the number of matches.
+     * @param offset Zero-based position of the first match of the page, must not be negative.
+     * @param limit Maximum number of matches in the page, must not be negative.
+     * @return An immutable list containing at most limit matches.
+     */
+    List<FootballMatch> page(int offset, int limit);
+
+    /**
+     * Fills an empty store with matches that are already in summary order, in a single pass.
+     * @param matchKeys Packed keys of the matches, in the order of the matches.
+     * @param sortedMatches Matches in strictly ascending summary order.
+     * @return -1 if all matches were loaded, otherwise the position of the first match whose key occurred before;
+     *         the store is then incomplete and must be discarded.
+     */
+    int load(long[] matchKeys, List<RankedMatch> sortedMatches);
+}
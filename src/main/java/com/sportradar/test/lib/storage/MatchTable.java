@@ -0,0 +1,185 @@
+package com.sportradar.test.lib.storage;
+
+import java.util.Arrays;
+
+/**
+ * Open-addressing hash table from packed primitive match keys to values.
+ * Uses linear probing with backward-shift deletion, so no keys are boxed and no tombstones are left behind.
+ * Callers probe once with {@link #indexOf(long)} and then read, replace, insert or remove at the returned slot.
+ * The table is not thread-safe; the owner is responsible for guarding access.
+ *
+ * @param <V> Type of the stored values.
+ */
+public class MatchTable<V> {
+
+    private static final int INITIAL_CAPACITY = 16;
+    private static final long GOLDEN_RATIO = 0x9E3779B97F4A7C15L;
+
+    private long[] keys;
+    private Object[] values;
+    private int mask;
+    private int size;
+
+    /**
+     * Constructs an empty table.
+     */
+    public MatchTable() {
+        allocate(INITIAL_CAPACITY);
+    }
+
+    /**
+     * Packs two team identifiers into a single match key.
+     * @param homeTeamId Identifier of the home team.
+     * @param awayTeamId Identifier of the away team.
+     * @return The packed match key.
+     */
+    public static long key(int homeTeamId, int awayTeamId) {
+        return ((long) homeTeamId << 32) | (awayTeamId & 0xFFFFFFFFL);
+    }
+
+    /**
+     * Extracts the home team identifier from a packed match key.
+     * @param key Packed match key.
+     * @return The home team identifier.
+     */
+    public static int homeTeamId(long key) {
+        return (int) (key >>> 32);
+    }
+
+    /**
+     * Extracts the away team identifier from a packed match key.
+     * @param key Packed match key.
+     * @return The away team identifier.
+     */
+    public static int awayTeamId(long key) {
+        return (int) key;
+    }
+
+    /**
+     * Finds the slot of a key with a single probe sequence.
+     * @param key Packed match key.
+     * @return The slot index if the key is present, otherwise the bitwise complement of the free slot to insert at.
+     */
+    public int indexOf(long key) {
+        int index = slot(key);
+        while (values[index] != null) {
+            if (keys[index] == key) {
+                return index;
+            }
+            index = (index + 1) & mask;
+        }
+        return ~index;
+    }
+
+    /**
+     * Retrieves the value stored for a key.
+     * @param key Packed match key.
+     * @return The stored value, or null if the key is absent.
+     */
+    public V get(long key) {
+        int index = indexOf(key);
+        return index >= 0 ? valueAt(index) : null;
+    }
+
+    /**
+     * Retrieves the value stored at a slot returned by {@link #indexOf(long)}.
+     * @param index Slot index of a present key.
+     * @return The stored value.
+     */
+    @SuppressWarnings("unchecked")
+    public V valueAt(int index) {
+        return (V) values[index];
+    }
+
+    /**
+     * Replaces the value stored at a slot returned by {@link #indexOf(long)}.
+     * @param index Slot index of a present key.
+     * @param value The new value.
+     */
+    public void replaceAt(int index, V value) {
+        values[index] = value;
+    }
+
+    /**
+     * Inserts a new key at a free slot returned by {@link #indexOf(long)}.
+     * The slot is only valid until the next modification of the table.
+     * @param index Bitwise complement returned by indexOf for an absent key.
+     * @param key Packed match key.
+     * @param value The value to store.
+     */
+    public void insertAt(int index, long key, V value) {
+        int slot = ~index;
+        keys[slot] = key;
+        values[slot] = value;
+        if (++size > (mask + 1) >>> 1) {
+            rehash((mask + 1) << 1);
+        }
+    }
+
+    /**
+     * Removes the entry stored at a slot returned by {@link #indexOf(long)}.
+     * Following entries of the same probe sequence are shifted back to keep lookups tombstone-free.
+     * @param index Slot index of a present key.
+     * @return The removed value.
+     */
+    public V removeAt(int index) {
+        V removed = valueAt(index);
+        int gap = index;
+        int next = (gap + 1) & mask;
+        while (values[next] != null) {
+            int home = slot(keys[next]);
+            // Moves the entry into the gap if the gap lies on its probe path
+            if (((next - home) & mask) >= ((next - gap) & mask)) {
+                keys[gap] = keys[next];
+                values[gap] = values[next];
+                gap = next;
+            }
+            next = (next + 1) & mask;
+        }
+        values[gap] = null;
+        size--;
+        return removed;
+    }
+
+    /**
+     * Returns the number of stored entries.
+     * @return The number of entries.
+     */
+    public int size() {
+        return size;
+    }
+
+    /**
+     * Removes all entries while keeping the current capacity.
+     */
+    public void clear() {
+        Arrays.fill(values, null);
+        size = 0;
+    }
+
+    private int slot(long key) {
+        return (int) ((key * GOLDEN_RATIO) >>> 32) & mask;
+    }
+
+    private void allocate(int capacity) {
+        keys = new long[capacity];
+        values = new Object[capacity];
+        mask = capacity - 1;
+    }
+
+    private void rehash(int capacity) {
+        long[] oldKeys = keys;
+        Object[] oldValues = values;
+        allocate(capacity);
+        for (int i = 0; i < oldValues.length; i++) {
+            if (oldValues[i] != null) {
+                int index = slot(oldKeys[i]);
+                while (values[index] != null) {
+                    index = (index + 1) & mask;
+                }
+                keys[index] = oldKeys[i];
+                values[index] = oldValues[i];
+            }
+        }
+    }
+}
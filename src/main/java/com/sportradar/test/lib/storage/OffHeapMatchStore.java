@@ -0,0 +1,414 @@
+package com.sportradar.test.lib.storage;
+
+import com.sportradar.test.lib.domain.FootballMatch;
+import com.sportradar.test.lib.domain.MatchScores;
+import com.sportradar.test.lib.ranking.RankedMatch;
+import com.sportradar.test.lib.ranking.SummarySnapshot;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.function.IntFunction;
+
+/**
+ * Match store keeping all live matches outside the Java heap, for boards with hundreds of thousands of matches.
+ * <p>
+ * Matches are fixed-layout rows in a direct buffer: team identifiers, scores, start sequence, start time,
+ * skip list level, source sequence of the last sequenced update and the forward pointers of the skip list
+ * that keeps the rows in summary order.
+ * Match keys are mapped to rows by an open-addressing table in a second direct buffer.
+ * Rows of finished matches are reused, so the heap holds no per-match objects; records are only created
+ * for snapshots, and team names are resolved from their identifiers.
+ * Handles are row numbers.
+ */
+public class OffHeapMatchStore implements MatchStore {
+
+    private static final int INITIAL_CAPACITY = 16;
+    private static final long GOLDEN_RATIO = 0x9E3779B97F4A7C15L;
+
+    // With a probability of 1/4 for every additional level, 12 levels keep searches logarithmic up to
+    // about 4^12 = 16M rows, far beyond the hundreds of thousands of matches the store is meant for
+    private static final int MAX_LEVEL = 12;
+
+    // Row layout
+    private static final int HOME_TEAM_ID = 0;
+    private static final int AWAY_TEAM_ID = 4;
+    private static final int HOME_SCORE = 8;
+    private static final int AWAY_SCORE = 12;
+    private static final int START_SEQUENCE = 16;
+    private static final int START_SECONDS = 24;
+    private static final int START_NANOS = 32;
+    private static final int LEVEL = 36;
+    private static final int SOURCE_SEQUENCE = 40;
+    private static final int NEXT = 48;
+    private static final int ROW_BYTES = NEXT + MAX_LEVEL * Integer.BYTES;
+
+    // Index entry layout, row 0 marks a free entry
+    private static final int ENTRY_KEY = 0;
+    private static final int ENTRY_ROW = 8;
+    private static final int ENTRY_BYTES = 12;
+
+    // Row 0 is the skip list head, so row 0 also terminates every level
+    private static final int HEAD = 0;
+
+    private final IntFunction<String> teamNames;
+
+    private ByteBuffer rows;
+    private int rowCapacity;
+
+    // Rows in use or freed, rows beyond are untouched
+    private int rowCount = 1;
+
+    // First row of the list of freed rows linked through their first forward pointer, or HEAD if none
+    private int freeRow = HEAD;
+
+    private ByteBuffer index;
+    private int indexMask;
+
+    private int size;
+    private int level = 1;
+
+    // Predecessors of the row being linked or unlinked on every level, reused by all operations
+    private final int[] predecessors = new int[MAX_LEVEL];
+
+    // State of the xorshift generator choosing row levels
+    private long random = GOLDEN_RATIO;
+
+    /**
+     * Constructs an empty store.
+     * @param teamNames Resolves team identifiers to canonical names when matches are materialized.
+     */
+    public OffHeapMatchStore(IntFunction<String> teamNames) {
+        this.teamNames = teamNames;
+        rowCapacity = INITIAL_CAPACITY;
+        rows = ByteBuffer.allocateDirect(rowCapacity * ROW_BYTES).order(ByteOrder.nativeOrder());
+        rows.putInt(HEAD * ROW_BYTES + LEVEL, MAX_LEVEL);
+        index = allocateIndex(INITIAL_CAPACITY);
+        indexMask = INITIAL_CAPACITY - 1;
+    }
+
+    @Override
+    public int find(long matchKey) {
+        int entry = slot(matchKey);
+        int row;
+        while ((row = entryRow(entry)) != HEAD) {
+            if (entryKey(entry) == matchKey) {
+                return row;
+            }
+            entry = (entry + 1) & indexMask;
+        }
+        return NOT_FOUND;
+    }
+
+    @Override
+    public void insert(long matchKey, String homeTeam, String awayTeam, Instant startTime, long startSequence) {
+        int row = allocateRow(matchKey, 0, 0, startTime, startSequence);
+        link(row);
+        indexRow(matchKey, row);
+    }
+
+    @Override
+    public void updateScores(int handle, int homeScore, int awayScore) {
+        if (homeScore(handle) + awayScore(handle) != homeScore + awayScore) {
+            unlink(handle);
+            writeScores(handle, homeScore, awayScore);
+            link(handle);
+        } else {
+            // The start sequence is fixed, so the rank does not change
+            writeScores(handle, homeScore, awayScore);
+        }
+    }
+
+    @Override
+    public boolean hasScores(int handle, int homeScore, int awayScore) {
+        return homeScore(handle) == homeScore && awayScore(handle) == awayScore;
+    }
+
+    @Override
+    public long sourceSequence(int handle) {
+        return rows.getLong(offset(handle) + SOURCE_SEQUENCE);
+    }
+
+    @Override
+    public void setSourceSequence(int handle, long sourceSequence) {
+        rows.putLong(offset(handle) + SOURCE_SEQUENCE, sourceSequence);
+    }
+
+    @Override
+    public void remove(int handle) {
+        unlink(handle);
+        unindexRow(MatchTable.key(rows.getInt(offset(handle) + HOME_TEAM_ID), rows.getInt(offset(handle) + AWAY_TEAM_ID)));
+        setNext(handle, 0, freeRow);
+        freeRow = handle;
+        size--;
+    }
+
+    @Override
+    public RankedMatch rankedMatch(int handle) {
+        int offset = offset(handle);
+        FootballMatch match = new FootballMatch(
+                teamNames.apply(rows.getInt(offset + HOME_TEAM_ID)),
+                teamNames.apply(rows.getInt(offset + AWAY_TEAM_ID)),
+                new MatchScores(homeScore(handle), awayScore(handle)),
+                Instant.ofEpochSecond(rows.getLong(offset + START_SECONDS), rows.getInt(offset + START_NANOS)));
+        return new RankedMatch(match, rows.getLong(offset + START_SEQUENCE));
+    }
+
+    @Override
+    public int size() {
+        return size;
+    }
+
+    @Override
+    public SummarySnapshot snapshot(long version) {
+        return snapshot(version, size);
+    }
+
+    @Override
+    public SummarySnapshot snapshot(long version, int limit) {
+        List<RankedMatch> ranking = new ArrayList<>(Math.min(limit, size));
+        for (int row = next(HEAD, 0); row != HEAD && ranking.size() < limit; row = next(row, 0)) {
+            ranking.add(rankedMatch(row));
+        }
+        return new SummarySnapshot(version, ranking);
+    }
+
+    @Override
+    public List<FootballMatch> page(int offset, int limit) {
+        if (offset >= size) {
+            return List.of();
+        }
+        List<FootballMatch> page = new ArrayList<>(Math.min(limit, size - offset));
+        int row = next(HEAD, 0);
+        for (int i = 0; i < offset; i++) {
+            row = next(row, 0);
+        }
+        for (; row != HEAD && page.size() < limit; row = next(row, 0)) {
+            page.add(rankedMatch(row).match());
+        }
+        return Collections.unmodifiableList(page);
+    }
+
+    @Override
+    public int load(long[] matchKeys, List<RankedMatch> sortedMatches) {
+        // The last row of every level, rows are appended in summary order
+        int[] tails = predecessors;
+        for (int i = 0; i < MAX_LEVEL; i++) {
+            tails[i] = HEAD;
+        }
+        for (int i = 0; i < sortedMatches.size(); i++) {
+            if (find(matchKeys[i]) != NOT_FOUND) {
+                return i;
+            }
+            RankedMatch rankedMatch = sortedMatches.get(i);
+            FootballMatch match = rankedMatch.match();
+            int row = allocateRow(matchKeys[i], match.getHomeScore(), match.getAwayScore(), match.startTime(),
+                    rankedMatch.startSequence());
+            int rowLevel = rows.getInt(offset(row) + LEVEL);
+            for (int l = 0; l < rowLevel; l++) {
+                setNext(row, l, HEAD);
+                setNext(tails[l], l, row);
+                tails[l] = row;
+            }
+            level = Math.max(level, rowLevel);
+            indexRow(matchKeys[i], row);
+        }
+        return -1;
+    }
+
+    /**
+     * Takes a free row, growing the row buffer if none is left, and writes a new match into it.
+     * The row is counted but not linked into the skip list yet.
+     */
+    private int allocateRow(long matchKey, int homeScore, int awayScore, Instant startTime, long startSequence) {
+        int row;
+        if (freeRow != HEAD) {
+            row = freeRow;
+            freeRow = next(row, 0);
+        } else {
+            if (rowCount == rowCapacity) {
+                growRows();
+            }
+            row = rowCount++;
+        }
+        int offset = offset(row);
+        rows.putInt(offset + HOME_TEAM_ID, MatchTable.homeTeamId(matchKey));
+        rows.putInt(offset + AWAY_TEAM_ID, MatchTable.awayTeamId(matchKey));
+        writeScores(row, homeScore, awayScore);
+        rows.putLong(offset + START_SEQUENCE, startSequence);
+        rows.putLong(offset + START_SECONDS, startTime.getEpochSecond());
+        rows.putInt(offset + START_NANOS, startTime.getNano());
+        rows.putInt(offset + LEVEL, randomLevel());
+        rows.putLong(offset + SOURCE_SEQUENCE, NO_SOURCE_SEQUENCE);
+        size++;
+        return row;
+    }
+
+    private void growRows() {
+        rowCapacity <<= 1;
+        ByteBuffer grown = ByteBuffer.allocateDirect(rowCapacity * ROW_BYTES).order(ByteOrder.nativeOrder());
+        grown.put(0, rows, 0, rows.capacity());
+        rows = grown;
+    }
+
+    private void link(int row) {
+        findPredecessors(row);
+        int rowLevel = rows.getInt(offset(row) + LEVEL);
+        for (int i = level; i < rowLevel; i++) {
+            predecessors[i] = HEAD;
+        }
+        level = Math.max(level, rowLevel);
+        for (int i = 0; i < rowLevel; i++) {
+            setNext(row, i, next(predecessors[i], i));
+            setNext(predecessors[i], i, row);
+        }
+    }
+
+    private void unlink(int row) {
+        findPredecessors(row);
+        int rowLevel = rows.getInt(offset(row) + LEVEL);
+        for (int i = 0; i < rowLevel; i++) {
+            if (next(predecessors[i], i) == row) {
+                setNext(predecessors[i], i, next(row, i));
+            }
+        }
+        while (level > 1 && next(HEAD, level - 1) == HEAD) {
+            level--;
+        }
+    }
+
+    /**
+     * Stores the last row ranked before the given row on every level in use.
+     */
+    private void findPredecessors(int row) {
+        int current = HEAD;
+        for (int i = level - 1; i >= 0; i--) {
+            int next = next(current, i);
+            while (next != HEAD && ranksBefore(next, row)) {
+                current = next;
+                next = next(current, i);
+            }
+            predecessors[i] = current;
+        }
+    }
+
+    /**
+     * Compares two rows in the same order as {@link RankedMatch#SUMMARY_ORDER}.
+     */
+    private boolean ranksBefore(int row, int other) {
+        int totalScore = homeScore(row) + awayScore(row);
+        int otherTotalScore = homeScore(other) + awayScore(other);
+        if (totalScore != otherTotalScore) {
+            return totalScore > otherTotalScore;
+        }
+        return rows.getLong(offset(row) + START_SEQUENCE) > rows.getLong(offset(other) + START_SEQUENCE);
+    }
+
+    private void indexRow(long matchKey, int row) {
+        int entry = slot(matchKey);
+        while (entryRow(entry) != HEAD) {
+            entry = (entry + 1) & indexMask;
+        }
+        writeEntry(entry, matchKey, row);
+        if (size > (indexMask + 1) >>> 1) {
+            growIndex();
+        }
+    }
+
+    /**
+     * Removes a key from the index with backward-shift deletion, as in {@link MatchTable#removeAt(int)}.
+     */
+    private void unindexRow(long matchKey) {
+        int gap = slot(matchKey);
+        while (entryKey(gap) != matchKey || entryRow(gap) == HEAD) {
+            gap = (gap + 1) & indexMask;
+        }
+        int next = (gap + 1) & indexMask;
+        while (entryRow(next) != HEAD) {
+            int home = slot(entryKey(next));
+            // Moves the entry into the gap if the gap lies on its probe path
+            if (((next - home) & indexMask) >= ((next - gap) & indexMask)) {
+                writeEntry(gap, entryKey(next), entryRow(next));
+                gap = next;
+            }
+            next = (next + 1) & indexMask;
+        }
+        writeEntry(gap, 0, HEAD);
+    }
+
+    private void growIndex() {
+        ByteBuffer oldIndex = index;
+        int oldCapacity = indexMask + 1;
+        index = allocateIndex(oldCapacity << 1);
+        indexMask = (oldCapacity << 1) - 1;
+        for (int i = 0; i < oldCapacity; i++) {
+            int row = oldIndex.getInt(i * ENTRY_BYTES + ENTRY_ROW);
+            if (row != HEAD) {
+                long matchKey = oldIndex.getLong(i * ENTRY_BYTES + ENTRY_KEY);
+                int entry = slot(matchKey);
+                while (entryRow(entry) != HEAD) {
+                    entry = (entry + 1) & indexMask;
+                }
+                writeEntry(entry, matchKey, row);
+            }
+        }
+    }
+
+    private static ByteBuffer allocateIndex(int capacity) {
+        return ByteBuffer.allocateDirect(capacity * ENTRY_BYTES).order(ByteOrder.nativeOrder());
+    }
+
+    private int slot(long matchKey) {
+        return (int) ((matchKey * GOLDEN_RATIO) >>> 32) & indexMask;
+    }
+
+    private long entryKey(int entry) {
+        return index.getLong(entry * ENTRY_BYTES + ENTRY_KEY);
+    }
+
+    private int entryRow(int entry) {
+        return index.getInt(entry * ENTRY_BYTES + ENTRY_ROW);
+    }
+
+    private void writeEntry(int entry, long matchKey, int row) {
+        index.putLong(entry * ENTRY_BYTES + ENTRY_KEY, matchKey);
+        index.putInt(entry * ENTRY_BYTES + ENTRY_ROW, row);
+    }
+
+    private static int offset(int row) {
+        return row * ROW_BYTES;
+    }
+
+    private int homeScore(int row) {
+        return rows.getInt(offset(row) + HOME_SCORE);
+    }
+
+    private int awayScore(int row) {
+        return rows.getInt(offset(row) + AWAY_SCORE);
+    }
+
+    private void writeScores(int row, int homeScore, int awayScore) {
+        rows.putInt(offset(row) + HOME_SCORE, homeScore);
+        rows.putInt(offset(row) + AWAY_SCORE, awayScore);
+    }
+
+    private int next(int row, int listLevel) {
+        return rows.getInt(offset(row) + NEXT + listLevel * Integer.BYTES);
+    }
+
+    private void setNext(int row, int listLevel, int next) {
+        rows.putInt(offset(row) + NEXT + listLevel * Integer.BYTES, next);
+    }
+
+    /**
+     * Chooses a level with probability 1/4 for every additional level.
+     */
+    private int randomLevel() {
+        random ^= random << 13;
+        random ^= random >>> 7;
+        random ^= random << 17;
+        return Math.min(Long.numberOfTrailingZeros(random) / 2 + 1, MAX_LEVEL);
+    }
+}
@@ -0,0 +1,44 @@
+package com.sportradar.test.lib.storage;
+
+import java.util.function.IntFunction;
+
+/**
+ * Storage backends for the live matches of a scoreboard.
+ */
+public enum StorageBackend {
+
+    /** Match slots on the Java heap; score updates allocate nothing and reads reuse unchanged records. */
+    HEAP {
+        @Override
+        public MatchStore createStore(IntFunction<String> teamNames) {
+            return new HeapMatchStore();
+        }
+    },
+
+    /** Fixed-layout rows in direct buffers, keeping very large boards out of the garbage collector's way. */
+    OFF_HEAP {
+        @Override
+        public MatchStore createStore(IntFunction<String> teamNames) {
+            return new OffHeapMatchStore(teamNames);
+        }
+    };
+
+    /** System property selecting the backend of scoreboards that are not given one explicitly. */
+    public static final String SYSTEM_PROPERTY = "scoreboard.storage";
+
+    /**
+     * Creates an empty store of this backend.
+     * @param teamNames Resolves team identifiers to canonical names.
+     * @return A new MatchStore.
+     */
+    public abstract MatchStore createStore(IntFunction<String> teamNames);
+
+    /**
+     * Returns the backend named by the {@value #SYSTEM_PROPERTY} system property, {@link #HEAP} if it is not set.
+     * @return The configured storage backend.
+     * @throws IllegalArgumentException if the property does not name a backend.
+     */
+    public static StorageBackend configured() {
+        return valueOf(System.getProperty(SYSTEM_PROPERTY, HEAP.name()));
+    }
+}
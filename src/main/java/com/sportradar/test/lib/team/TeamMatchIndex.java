@@ -0,0 +1,106 @@
+package com.sportradar.test.lib.team;
+
+import com.sportradar.test.lib.storage.MatchTable;
+import java.util.Arrays;
+
+/**
+ * Index of the live matches of each team, keyed by team identifier.
+ * Looking up the matches of a team is a single array access. A team is normally in at most one live match,
+ * so the keys of a team are held in a tiny array that is replaced when the team starts or finishes a match.
+ * Not thread-safe: the owning scoreboard updates it together with its match store under the writer monitor.
+ */
+public class TeamMatchIndex {
+
+    /** Match key returned for teams without a live match. */
+    public static final long NO_MATCH = -1;
+
+    private static final int INITIAL_CAPACITY = 64;
+    private static final long[] NO_MATCHES = new long[0];
+
+    // Keys of the live matches of each team in start order, indexed by team identifier; null for idle teams
+    private long[][] matchKeys = new long[INITIAL_CAPACITY][];
+
+    /**
+     * Adds a live match to the index of both its teams.
+     * @param matchKey Packed team identifiers of the match.
+     */
+    public void add(long matchKey) {
+        int homeTeamId = MatchTable.homeTeamId(matchKey);
+        int awayTeamId = MatchTable.awayTeamId(matchKey);
+        addTo(homeTeamId, matchKey);
+        if (awayTeamId != homeTeamId) {
+            addTo(awayTeamId, matchKey);
+        }
+    }
+
+    /**
+     * Removes a finished match from the index of both its teams.
+     * @param matchKey Packed team identifiers of the match.
+     */
+    public void remove(long matchKey) {
+        int homeTeamId = MatchTable.homeTeamId(matchKey);
+        int awayTeamId = MatchTable.awayTeamId(matchKey);
+        removeFrom(homeTeamId, matchKey);
+        if (awayTeamId != homeTeamId) {
+            removeFrom(awayTeamId, matchKey);
+        }
+    }
+
+    /**
+     * Retrieves the most recently started live match of a team.
+     * @param teamId Team identifier, may be {@link TeamRegistry#UNKNOWN_TEAM}.
+     * @return The match key, or {@link #NO_MATCH} if the team is not playing.
+     */
+    public long latestMatchOf(int teamId) {
+        long[] keys = keysOf(teamId);
+        return keys.length > 0 ? keys[keys.length - 1] : NO_MATCH;
+    }
+
+    /**
+     * Checks whether a team is in a live match.
+     * @param teamId Team identifier, may be {@link TeamRegistry#UNKNOWN_TEAM}.
+     * @return true if the team plays in at least one live match.
+     */
+    public boolean isPlaying(int teamId) {
+        return keysOf(teamId).length > 0;
+    }
+
+    /**
+     * Removes all matches, e.g. before the index is rebuilt for restored matches.
+     */
+    public void clear() {
+        Arrays.fill(matchKeys, null);
+    }
+
+    private long[] keysOf(int teamId) {
+        long[] keys = teamId < matchKeys.length ? matchKeys[teamId] : null;
+        return keys != null ? keys : NO_MATCHES;
+    }
+
+    private void addTo(int teamId, long matchKey) {
+        if (teamId >= matchKeys.length) {
+            matchKeys = Arrays.copyOf(matchKeys, Math.max(matchKeys.length * 2, teamId + 1));
+        }
+        long[] keys = keysOf(teamId);
+        long[] grown = Arrays.copyOf(keys, keys.length + 1);
+        grown[keys.length] = matchKey;
+        matchKeys[teamId] = grown;
+    }
+
+    private void removeFrom(int teamId, long matchKey) {
+        long[] keys = keysOf(teamId);
+        for (int i = 0; i < keys.length; i++) {
+            if (keys[i] == matchKey) {
+                if (keys.length == 1) {
+                    matchKeys[teamId] = null;
+                } else {
+                    long[] shrunk = new long[keys.length - 1];
+                    System.arraycopy(keys, 0, shrunk, 0, i);
+                    System.arraycopy(keys, i + 1, shrunk, i, keys.length - i - 1);
+                    matchKeys[teamId] = shrunk;
+                }
+                return;
+            }
+        }
+    }
+}
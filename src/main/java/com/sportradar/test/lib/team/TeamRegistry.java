@@ -0,0 +1,95 @@
+package com.sportradar.test.lib.team;
+
+import java.util.Arrays;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Thread-safe registry interning team names to compact int identifiers.
+ * Identifiers start at 1 and are never reused, so they can be packed into primitive match keys.
+ */
+public class TeamRegistry {
+
+    /** Identifier returned for team names that were never registered. */
+    public static final int UNKNOWN_TEAM = 0;
+
+    /** Error message for identifiers that do not belong to a registered team. */
+    public static final String UNKNOWN_TEAM_ID_ERROR = "Unknown team id: ";
+
+    private static final int INITIAL_CAPACITY = 64;
+
+    // Team name to identifier lookup
+    private final Map<String, Integer> ids = new ConcurrentHashMap<>();
+
+    // Canonical team names indexed by identifier, replaced on growth
+    private volatile String[] names = new String[INITIAL_CAPACITY];
+
+    // Number of registered teams, guarded by this
+    private int teamCount;
+
+    /**
+     * Returns the identifier of a team, registering the team if it is not known yet.
+     * @param teamName Name of the team.
+     * @return The team identifier.
+     */
+    public int register(String teamName) {
+        Integer id = ids.get(teamName);
+        return id != null ? id : registerNew(teamName);
+    }
+
+    /**
+     * Looks up the identifier of a team without registering it.
+     * @param teamName Name of the team.
+     * @return The team identifier, or {@link #UNKNOWN_TEAM} if the team is not registered.
+     */
+    public int idOf(String teamName) {
+        Integer id = ids.get(teamName);
+        return id != null ? id : UNKNOWN_TEAM;
+    }
+
+    /**
+     * Retrieves the canonical name of a registered team.
+     * @param teamId Team identifier.
+     * @return The interned team name.
+     * @throws IllegalArgumentException if the identifier does not belong to a registered team.
+     */
+    public String nameOf(int teamId) {
+        String[] currentNames = names;
+        String name = teamId > 0 && teamId < currentNames.length ? currentNames[teamId] : null;
+        if (name == null) {
+            throw new IllegalArgumentException(UNKNOWN_TEAM_ID_ERROR + teamId);
+        }
+        return name;
+    }
+
+    /**
+     * Returns the number of registered teams.
+     * @return The number of teams.
+     */
+    public synchronized int size() {
+        return teamCount;
+    }
+
+    /**
+     * Registers a new team under the next free identifier.
+     * The name is published before the identifier, so readers never see an id without its name.
+     * @param teamName Name of the team.
+     * @return The team identifier.
+     */
+    private synchronized int registerNew(String teamName) {
+        Integer existing = ids.get(teamName);
+        if (existing != null) {
+            return existing;
+        }
+        int id = teamCount + 1;
+        String[] currentNames = names;
+        if (id == currentNames.length) {
+            currentNames = Arrays.copyOf(currentNames, currentNames.length * 2);
+        }
+        currentNames[id] = teamName;
+        names = currentNames;
+        ids.put(teamName, id);
+        teamCount = id;
+        return id;
+    }
+}
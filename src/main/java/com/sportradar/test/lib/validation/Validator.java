@@ -1,9 +1,8 @@
 package com.sportradar.test.lib.validation;
 
-import com.sportradar.test.lib.domain.FootballMatch;
 import com.sportradar.test.lib.exception.MatchAlreadyExistsException;
 import com.sportradar.test.lib.exception.MatchNotFoundException;
-import java.util.Map;
+import com.sportradar.test.lib.exception.TeamAlreadyPlayingException;
 
 /**
  * Utility class for validating match-related data.
@@ -17,27 +16,67 @@ public class Validator {
     /** Error message for invalid team names. */
     public static final String INVALID_TEAM_NAME_ERROR = "Team names must not be null or empty.";
 
+    /** Error message for team names longer than {@link #MAX_TEAM_NAME_BYTES}. */
+    public static final String TEAM_NAME_TOO_LONG_ERROR = "Team names must not be longer than 65535 UTF-8 bytes.";
+
+    /** Maximum length of a team name in UTF-8 bytes, the largest length the binary formats can record. */
+    public static final int MAX_TEAM_NAME_BYTES = 0xFFFF;
+
+    /** Error message for invalid summary pages. */
+    public static final String INVALID_PAGE_ERROR = "Page offset and limit cannot be negative.";
+
+    /** Separator between team names in a match key. */
+    public static final String MATCH_KEY_SEPARATOR = " vs ";
+
+    /**
+     * Generates the human-readable key of a match, as used in exception messages.
+     * @param homeTeam Name of the home team.
+     * @param awayTeam Name of the away team.
+     * @return A unique match key.
+     */
+    public static String matchKey(String homeTeam, String awayTeam) {
+        return homeTeam + MATCH_KEY_SEPARATOR + awayTeam;
+    }
+
     /**
-     * Validates whether a match exists in the scoreboard.
-     * @param matchKey Unique match key.
-     * @param matches Map of all ongoing matches.
-     * @throws MatchNotFoundException if the match is not found.
+     * Validates that a match found by a single store lookup exists.
+     * The match key is only built when the validation fails.
+     * @param homeTeam Name of the home team.
+     * @param awayTeam Name of the away team.
+     * @param found Whether the lookup found the match.
+     * @throws MatchNotFoundException if the match was not found.
      */
-    public void validateIfMatchCanBeFound(String matchKey, Map<String, FootballMatch> matches) {
-        if (!matches.containsKey(matchKey)) {
-            throw new MatchNotFoundException(matchKey);
+    public void validateExistingMatch(String homeTeam, String awayTeam, boolean found) {
+        if (!found) {
+            throw new MatchNotFoundException(matchKey(homeTeam, awayTeam));
         }
     }
 
     /**
-     * Ensures that a match does not already exist before adding it.
-     * @param matchKey Unique match key.
-     * @param matches Map of all ongoing matches.
-     * @throws MatchAlreadyExistsException if the match already exists.
+     * Validates that no match was found by a single store lookup.
+     * The match key is only built when the validation fails.
+     * @param homeTeam Name of the home team.
+     * @param awayTeam Name of the away team.
+     * @param found Whether the lookup found the match.
+     * @throws MatchAlreadyExistsException if the match was found.
      */
-    public void validateIfMatchAlreadyExists(String matchKey, Map<String, FootballMatch> matches) {
-        if (matches.containsKey(matchKey)) {
-            throw new MatchAlreadyExistsException(matchKey);
+    public void validateNoExistingMatch(String homeTeam, String awayTeam, boolean found) {
+        if (found) {
+            throw new MatchAlreadyExistsException(matchKey(homeTeam, awayTeam));
+        }
+    }
+
+    /**
+     * Validates that neither team of a match to be started is playing in another live match.
+     * The match key is only built when the validation fails.
+     * @param homeTeam Name of the home team.
+     * @param awayTeam Name of the away team.
+     * @param playing Whether the team index found a live match of either team.
+     * @throws TeamAlreadyPlayingException if a team is already playing.
+     */
+    public void validateTeamsNotPlaying(String homeTeam, String awayTeam, boolean playing) {
+        if (playing) {
+            throw new TeamAlreadyPlayingException(matchKey(homeTeam, awayTeam));
         }
     }
 
@@ -48,20 +87,82 @@ public class Validator {
      * @throws IllegalArgumentException if any score is negative.
      */
     public void validateScores(int homeScore, int awayScore) {
-        if (homeScore < 0 || awayScore < 0) {
+        if (!isValidScores(homeScore, awayScore)) {
             throw new IllegalArgumentException(NEGATIVE_SCORES_ERROR);
         }
     }
 
     /**
-     * Validates that team names are valid and non-empty.
+     * Checks that match scores are valid (non-negative) without throwing.
+     * @param homeScore Home team's score.
+     * @param awayScore Away team's score.
+     * @return true if both scores are valid.
+     */
+    public boolean isValidScores(int homeScore, int awayScore) {
+        return homeScore >= 0 && awayScore >= 0;
+    }
+
+    /**
+     * Ensures that a summary page request is valid (non-negative offset and limit).
+     * @param offset Zero-based position of the first match of the page.
+     * @param limit Maximum number of matches in the page.
+     * @throws IllegalArgumentException if the offset or the limit is negative.
+     */
+    public void validatePage(int offset, int limit) {
+        if (offset < 0 || limit < 0) {
+            throw new IllegalArgumentException(INVALID_PAGE_ERROR);
+        }
+    }
+
+    /**
+     * Validates that team names are valid, non-empty and not longer than {@link #MAX_TEAM_NAME_BYTES}.
      * @param homeTeam Name of the home team.
      * @param awayTeam Name of the away team.
-     * @throws IllegalArgumentException if any team name is null or empty.
+     * @throws IllegalArgumentException if any team name is null, empty or too long.
      */
     public void validateTeams(String homeTeam, String awayTeam) {
         if (homeTeam == null || awayTeam == null || homeTeam.isBlank() || awayTeam.isBlank()) {
             throw new IllegalArgumentException(INVALID_TEAM_NAME_ERROR);
         }
+        if (!fitsNameLimit(homeTeam) || !fitsNameLimit(awayTeam)) {
+            throw new IllegalArgumentException(TEAM_NAME_TOO_LONG_ERROR);
+        }
+    }
+
+    /**
+     * Checks that team names are valid, non-empty and not longer than {@link #MAX_TEAM_NAME_BYTES} without throwing.
+     * @param homeTeam Name of the home team.
+     * @param awayTeam Name of the away team.
+     * @return true if both team names are valid.
+     */
+    public boolean isValidTeams(String homeTeam, String awayTeam) {
+        return homeTeam != null && awayTeam != null && !homeTeam.isBlank() && !awayTeam.isBlank()
+                && fitsNameLimit(homeTeam) && fitsNameLimit(awayTeam);
+    }
+
+    /**
+     * Checks the UTF-8 length of a team name without encoding it. A char takes at most three bytes,
+     * so only names longer than a third of the limit are measured.
+     */
+    private static boolean fitsNameLimit(String teamName) {
+        if (teamName.length() <= MAX_TEAM_NAME_BYTES / 3) {
+            return true;
+        }
+        long bytes = 0;
+        for (int i = 0; i < teamName.length(); i++) {
+            char c = teamName.charAt(i);
+            if (c < 0x80) {
+                bytes++;
+            } else if (c < 0x800) {
+                bytes += 2;
+            } else if (Character.isHighSurrogate(c) && i + 1 < teamName.length()
+                    && Character.isLowSurrogate(teamName.charAt(i + 1))) {
+                bytes += 4;
+                i++;
+            } else {
+                bytes += 3;
+            }
+        }
+        return bytes <= MAX_TEAM_NAME_BYTES;
     }
 }
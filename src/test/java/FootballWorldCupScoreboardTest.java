@@ -1,5 +1,10 @@
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertInstanceOf;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static utils.TestUtils.AWAY_TEAM_TEST_NAME;
 import static utils.TestUtils.HOME_TEAM_TEST_NAME;
@@ -8,18 +13,28 @@ import static utils.TestUtils.assertInvalidTeamNames;
 import static utils.TestUtils.assertThrowsWithMessage;
 import com.sportradar.test.lib.FootballWorldCupScoreboard;
 import com.sportradar.test.lib.Scoreboard;
+import com.sportradar.test.lib.archive.MatchArchive;
+import com.sportradar.test.lib.command.CommandResult;
+import com.sportradar.test.lib.command.OperationStatus;
+import com.sportradar.test.lib.command.ScoreboardCommand;
 import com.sportradar.test.lib.domain.FootballMatch;
 import com.sportradar.test.lib.exception.MatchAlreadyExistsException;
 import com.sportradar.test.lib.exception.MatchNotFoundException;
+import com.sportradar.test.lib.exception.TeamAlreadyPlayingException;
+import com.sportradar.test.lib.storage.StorageBackend;
+import com.sportradar.test.lib.team.TeamRegistry;
 import com.sportradar.test.lib.validation.Validator;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import utils.TestUtils;
 import java.time.Clock;
+import java.time.Instant;
 import java.util.List;
 import java.util.concurrent.CountDownLatch;
 import java.util.concurrent.ExecutorService;
 import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.IntConsumer;
 
 /**
  * Unit tests for FootballWorldCupScoreboard.
@@ -126,6 +141,409 @@ class FootballWorldCupScoreboardTest {
         assertMatchOrder(matches, "Uruguay", "Spain", "Mexico", "Argentina", "Germany");
     }
 
+    @Test
+    void shouldOrderMatchesStartedInSameClockTickByStartOrder() {
+        footballWorldCupScoreboard.startMatch("Mexico", "Canada");
+        footballWorldCupScoreboard.startMatch("Spain", "Brazil");
+        footballWorldCupScoreboard.startMatch("Germany", "France");
+
+        List<FootballMatch> matches = footballWorldCupScoreboard.getSummary();
+
+        assertMatchOrder(matches, "Germany", "Spain", "Mexico");
+        assertEquals(TestUtils.FIXED_CLOCK.instant(), matches.get(0).startTime());
+    }
+
+    @Test
+    void shouldRankByStartOrderWhenClockIsSetBack() {
+        Scoreboard scoreboard = new FootballWorldCupScoreboard(TestUtils.tickingClock(-1));
+        scoreboard.startMatch("Mexico", "Canada");
+        scoreboard.startMatch("Spain", "Brazil");
+
+        List<FootballMatch> matches = scoreboard.getSummary();
+
+        // The start time is display data only, even if it goes back
+        assertMatchOrder(matches, "Spain", "Mexico");
+        assertTrue(matches.get(0).startTime().isBefore(matches.get(1).startTime()));
+    }
+
+    @Test
+    void shouldKeepStartTimeWhenUpdatingScore() {
+        Scoreboard scoreboard = new FootballWorldCupScoreboard(TestUtils.tickingClock());
+        scoreboard.startMatch("Mexico", "Canada");
+        scoreboard.startMatch("Spain", "Brazil");
+        Instant mexicoStartTime = scoreboard.getSummary().get(1).startTime();
+
+        scoreboard.updateScore("Mexico", "Canada", 1, 0);
+        scoreboard.updateScore("Spain", "Brazil", 0, 1);
+
+        List<FootballMatch> matches = scoreboard.getSummary();
+        assertMatchOrder(matches, "Spain", "Mexico");
+        assertEquals(mexicoStartTime, matches.get(1).startTime());
+    }
+
+    @Test
+    void shouldAllowOnlyOneOfConcurrentDuplicateStarts() throws InterruptedException {
+        int threadCount = 16;
+        AtomicInteger started = new AtomicInteger();
+        AtomicInteger rejected = new AtomicInteger();
+
+        runConcurrently(threadCount, thread -> {
+            try {
+                footballWorldCupScoreboard.startMatch(HOME_TEAM_TEST_NAME, AWAY_TEAM_TEST_NAME);
+                started.incrementAndGet();
+            } catch (MatchAlreadyExistsException e) {
+                rejected.incrementAndGet();
+            }
+        });
+
+        assertEquals(1, started.get());
+        assertEquals(threadCount - 1, rejected.get());
+        assertEquals(1, footballWorldCupScoreboard.getSummary().size());
+    }
+
+    @Test
+    void shouldNotLoseConcurrentUpdatesOfDifferentMatches() throws InterruptedException {
+        int threadCount = 8;
+        int goals = 200;
+        for (int i = 0; i < threadCount; i++) {
+            footballWorldCupScoreboard.startMatch(HOME_TEAM_TEST_NAME + i, AWAY_TEAM_TEST_NAME + i);
+        }
+
+        runConcurrently(threadCount, thread -> {
+            for (int goal = 1; goal <= goals; goal++) {
+                footballWorldCupScoreboard.updateScore(HOME_TEAM_TEST_NAME + thread, AWAY_TEAM_TEST_NAME + thread, goal, 0);
+            }
+        });
+
+        List<FootballMatch> matches = footballWorldCupScoreboard.getSummary();
+        assertEquals(threadCount, matches.size());
+        for (FootballMatch match : matches) {
+            assertEquals(goals, match.getHomeScore());
+        }
+        assertEquals(threadCount + (long) threadCount * goals, footballWorldCupScoreboard.version());
+    }
+
+    @Test
+    void shouldNotLoseConcurrentUpdatesOfSameMatch() throws InterruptedException {
+        int threadCount = 8;
+        int updatesPerThread = 200;
+        footballWorldCupScoreboard.startMatch(HOME_TEAM_TEST_NAME, AWAY_TEAM_TEST_NAME);
+
+        // Whichever thread is applied last ends with the same away score; every update must bump the version once
+        runConcurrently(threadCount, thread -> {
+            for (int i = 1; i <= updatesPerThread; i++) {
+                footballWorldCupScoreboard.updateScore(HOME_TEAM_TEST_NAME, AWAY_TEAM_TEST_NAME, thread, i);
+            }
+        });
+
+        List<FootballMatch> matches = footballWorldCupScoreboard.getSummary();
+        assertEquals(1, matches.size());
+        assertEquals(updatesPerThread, matches.get(0).getAwayScore());
+        assertEquals(1 + (long) threadCount * updatesPerThread, footballWorldCupScoreboard.version());
+        assertEquals(footballWorldCupScoreboard.version(), footballWorldCupScoreboard.getSummarySnapshot().version());
+    }
+
+    @Test
+    void shouldManageMatchUsingTeamIds() {
+        FootballWorldCupScoreboard scoreboard = new FootballWorldCupScoreboard(TestUtils.FIXED_CLOCK);
+        int homeTeamId = scoreboard.registerTeam(HOME_TEAM_TEST_NAME);
+        int awayTeamId = scoreboard.registerTeam(AWAY_TEAM_TEST_NAME);
+
+        scoreboard.startMatch(homeTeamId, awayTeamId);
+        scoreboard.updateScore(homeTeamId, awayTeamId, 2, 1);
+        assertMatch(scoreboard.getSummary().get(0), HOME_TEAM_TEST_NAME, AWAY_TEAM_TEST_NAME, 2, 1);
+
+        assertThrowsWithMessage(
+                MatchAlreadyExistsException.class,
+                () -> scoreboard.startMatch(HOME_TEAM_TEST_NAME, AWAY_TEAM_TEST_NAME),
+                MatchAlreadyExistsException.MESSAGE_PREFIX + TEST_MATCH_KEY
+        );
+
+        scoreboard.finishMatch(homeTeamId, awayTeamId);
+        assertTrue(scoreboard.getSummary().isEmpty());
+    }
+
+    @Test
+    void shouldThrowExceptionForUnknownTeamIds() {
+        FootballWorldCupScoreboard scoreboard = new FootballWorldCupScoreboard(TestUtils.FIXED_CLOCK);
+        int homeTeamId = scoreboard.registerTeam(HOME_TEAM_TEST_NAME);
+
+        assertThrowsWithMessage(
+                IllegalArgumentException.class,
+                () -> scoreboard.startMatch(homeTeamId, 42),
+                TeamRegistry.UNKNOWN_TEAM_ID_ERROR + 42
+        );
+    }
+
+    @Test
+    void shouldApplyBatchAndReportResultPerCommand() {
+        footballWorldCupScoreboard.startMatch("Mexico", "Canada");
+        long versionBeforeBatch = footballWorldCupScoreboard.version();
+
+        List<CommandResult> results = footballWorldCupScoreboard.applyAll(List.of(
+                ScoreboardCommand.start("Spain", "Brazil"),
+                ScoreboardCommand.start("Mexico", "Canada"),
+                ScoreboardCommand.update("Spain", "Brazil", 2, 1),
+                ScoreboardCommand.update("Germany", "France", 1, 1),
+                ScoreboardCommand.update("Mexico", "Canada", -1, 0),
+                ScoreboardCommand.finish("Mexico", "Canada")
+        ));
+
+        assertEquals(6, results.size());
+        assertTrue(results.get(0).isSuccess());
+        assertInstanceOf(MatchAlreadyExistsException.class, results.get(1).failure());
+        assertTrue(results.get(2).isSuccess());
+        assertInstanceOf(MatchNotFoundException.class, results.get(3).failure());
+        assertInstanceOf(IllegalArgumentException.class, results.get(4).failure());
+        assertTrue(results.get(5).isSuccess());
+
+        assertEquals(versionBeforeBatch + 1, footballWorldCupScoreboard.version());
+        List<FootballMatch> matches = footballWorldCupScoreboard.getSummary();
+        assertEquals(1, matches.size());
+        assertMatch(matches.get(0), "Spain", "Brazil", 2, 1);
+    }
+
+    @Test
+    void shouldNotPublishSummaryForBatchWithoutSuccessfulCommands() {
+        List<CommandResult> results = footballWorldCupScoreboard.applyAll(List.of(
+                ScoreboardCommand.finish(HOME_TEAM_TEST_NAME, AWAY_TEAM_TEST_NAME)));
+
+        assertEquals(MatchNotFoundException.MESSAGE_PREFIX + TEST_MATCH_KEY, results.get(0).failure().getMessage());
+        assertEquals(0, footballWorldCupScoreboard.version());
+    }
+
+    @Test
+    void shouldIncrementVersionOnlyOnSuccessfulModifications() {
+        assertEquals(0, footballWorldCupScoreboard.version());
+
+        footballWorldCupScoreboard.startMatch(HOME_TEAM_TEST_NAME, AWAY_TEAM_TEST_NAME);
+        footballWorldCupScoreboard.updateScore(HOME_TEAM_TEST_NAME, AWAY_TEAM_TEST_NAME, 1, 0);
+        assertEquals(2, footballWorldCupScoreboard.version());
+
+        assertThrows(MatchAlreadyExistsException.class,
+                () -> footballWorldCupScoreboard.startMatch(HOME_TEAM_TEST_NAME, AWAY_TEAM_TEST_NAME));
+        assertEquals(2, footballWorldCupScoreboard.version());
+
+        footballWorldCupScoreboard.finishMatch(HOME_TEAM_TEST_NAME, AWAY_TEAM_TEST_NAME);
+        assertEquals(3, footballWorldCupScoreboard.version());
+    }
+
+    @Test
+    void shouldReportStatusOfExceptionFreeOperations() {
+        assertEquals(OperationStatus.APPLIED,
+                footballWorldCupScoreboard.tryStartMatch(HOME_TEAM_TEST_NAME, AWAY_TEAM_TEST_NAME));
+        assertEquals(OperationStatus.MATCH_ALREADY_EXISTS,
+                footballWorldCupScoreboard.tryStartMatch(HOME_TEAM_TEST_NAME, AWAY_TEAM_TEST_NAME));
+        assertEquals(OperationStatus.APPLIED,
+                footballWorldCupScoreboard.tryUpdateScore(HOME_TEAM_TEST_NAME, AWAY_TEAM_TEST_NAME, 2, 1));
+        assertEquals(OperationStatus.INVALID_ARGUMENT,
+                footballWorldCupScoreboard.tryUpdateScore(HOME_TEAM_TEST_NAME, AWAY_TEAM_TEST_NAME, -1, 1));
+        assertEquals(OperationStatus.MATCH_NOT_FOUND,
+                footballWorldCupScoreboard.tryUpdateScore("Spain", "Brazil", 1, 0));
+        assertEquals(OperationStatus.INVALID_ARGUMENT,
+                footballWorldCupScoreboard.tryStartMatch(HOME_TEAM_TEST_NAME, ""));
+        assertEquals(OperationStatus.MATCH_NOT_FOUND,
+                footballWorldCupScoreboard.tryFinishMatch("Spain", "Brazil"));
+
+        assertEquals(2, footballWorldCupScoreboard.version());
+        assertMatch(footballWorldCupScoreboard.getSummary().get(0), HOME_TEAM_TEST_NAME, AWAY_TEAM_TEST_NAME, 2, 1);
+
+        assertEquals(OperationStatus.APPLIED,
+                footballWorldCupScoreboard.tryFinishMatch(HOME_TEAM_TEST_NAME, AWAY_TEAM_TEST_NAME));
+        assertEquals(3, footballWorldCupScoreboard.version());
+        assertTrue(footballWorldCupScoreboard.getSummary().isEmpty());
+    }
+
+    @Test
+    void shouldFindLiveMatchByTeam() {
+        footballWorldCupScoreboard.startMatch(HOME_TEAM_TEST_NAME, AWAY_TEAM_TEST_NAME);
+        footballWorldCupScoreboard.updateScore(HOME_TEAM_TEST_NAME, AWAY_TEAM_TEST_NAME, 1, 0);
+        footballWorldCupScoreboard.startMatch("Spain", "Brazil");
+
+        assertMatch(footballWorldCupScoreboard.findMatchByTeam(HOME_TEAM_TEST_NAME),
+                HOME_TEAM_TEST_NAME, AWAY_TEAM_TEST_NAME, 1, 0);
+        assertMatch(footballWorldCupScoreboard.findMatchByTeam("Brazil"), "Spain", "Brazil", 0, 0);
+        assertNull(footballWorldCupScoreboard.findMatchByTeam("Germany"));
+
+        footballWorldCupScoreboard.finishMatch(HOME_TEAM_TEST_NAME, AWAY_TEAM_TEST_NAME);
+        assertNull(footballWorldCupScoreboard.findMatchByTeam(AWAY_TEAM_TEST_NAME));
+    }
+
+    @Test
+    void shouldFindMostRecentlyStartedMatchOfTeamPlayingTwice() {
+        footballWorldCupScoreboard.startMatch("Spain", "Brazil");
+        footballWorldCupScoreboard.startMatch("Germany", "Spain");
+
+        assertMatch(footballWorldCupScoreboard.findMatchByTeam("Spain"), "Germany", "Spain", 0, 0);
+
+        footballWorldCupScoreboard.finishMatch("Germany", "Spain");
+        assertMatch(footballWorldCupScoreboard.findMatchByTeam("Spain"), "Spain", "Brazil", 0, 0);
+    }
+
+    @Test
+    void shouldRejectSecondLiveMatchOfTeamWhenOnlyOneIsAllowed() {
+        FootballWorldCupScoreboard scoreboard = new FootballWorldCupScoreboard(TestUtils.FIXED_CLOCK,
+                StorageBackend.configured(), new MatchArchive(TestUtils.FIXED_CLOCK), true);
+        scoreboard.startMatch("Spain", "Brazil");
+
+        assertThrowsWithMessage(TeamAlreadyPlayingException.class, () -> scoreboard.startMatch("Germany", "Spain"),
+                TeamAlreadyPlayingException.MESSAGE_PREFIX + Validator.matchKey("Germany", "Spain"));
+        assertEquals(OperationStatus.TEAM_ALREADY_PLAYING, scoreboard.tryStartMatch("Brazil", "France"));
+        assertThrows(MatchAlreadyExistsException.class, () -> scoreboard.startMatch("Spain", "Brazil"));
+        assertEquals(1, scoreboard.version());
+
+        scoreboard.finishMatch("Spain", "Brazil");
+        scoreboard.startMatch("Germany", "Spain");
+        assertMatch(scoreboard.findMatchByTeam("Spain"), "Germany", "Spain", 0, 0);
+    }
+
+    @Test
+    void shouldNotRegisterTeamsOfRejectedStarts() {
+        FootballWorldCupScoreboard scoreboard = new FootballWorldCupScoreboard(TestUtils.FIXED_CLOCK,
+                StorageBackend.configured(), new MatchArchive(TestUtils.FIXED_CLOCK), true);
+        scoreboard.startMatch("Spain", "Brazil");
+
+        assertThrows(TeamAlreadyPlayingException.class, () -> scoreboard.startMatch("Germany", "Spain"));
+        assertEquals(OperationStatus.TEAM_ALREADY_PLAYING, scoreboard.tryStartMatch("Brazil", "France"));
+        assertFalse(scoreboard.applyAll(List.of(ScoreboardCommand.start("Italy", "Spain"))).get(0).isSuccess());
+
+        // Spain and Brazil took the first two ids, so the next team is the third one registered
+        assertEquals(3, scoreboard.registerTeam("Uruguay"));
+    }
+
+    @Test
+    void shouldDropStaleAndDuplicateSequencedUpdates() {
+        FootballWorldCupScoreboard scoreboard = new FootballWorldCupScoreboard(TestUtils.FIXED_CLOCK);
+        scoreboard.startMatch(HOME_TEAM_TEST_NAME, AWAY_TEAM_TEST_NAME);
+
+        assertTrue(scoreboard.updateScore(HOME_TEAM_TEST_NAME, AWAY_TEAM_TEST_NAME, 3, 1, 7));
+        assertFalse(scoreboard.updateScore(HOME_TEAM_TEST_NAME, AWAY_TEAM_TEST_NAME, 2, 1, 6));
+        assertFalse(scoreboard.updateScore(HOME_TEAM_TEST_NAME, AWAY_TEAM_TEST_NAME, 3, 1, 7));
+
+        assertEquals(2, scoreboard.droppedStaleUpdates());
+        assertEquals(2, scoreboard.version());
+        assertMatch(scoreboard.getSummary().get(0), HOME_TEAM_TEST_NAME, AWAY_TEAM_TEST_NAME, 3, 1);
+        assertThrowsWithMessage(MatchNotFoundException.class, () -> scoreboard.updateScore("Spain", "Brazil", 1, 0, 1),
+                MatchNotFoundException.MESSAGE_PREFIX + Validator.matchKey("Spain", "Brazil"));
+    }
+
+    @Test
+    void shouldStartSequencesAgainWhenMatchIsRestarted() {
+        FootballWorldCupScoreboard scoreboard = new FootballWorldCupScoreboard(TestUtils.FIXED_CLOCK);
+        scoreboard.startMatch(HOME_TEAM_TEST_NAME, AWAY_TEAM_TEST_NAME);
+        scoreboard.updateScore(HOME_TEAM_TEST_NAME, AWAY_TEAM_TEST_NAME, 3, 1, 100);
+        scoreboard.finishMatch(HOME_TEAM_TEST_NAME, AWAY_TEAM_TEST_NAME);
+        scoreboard.startMatch(HOME_TEAM_TEST_NAME, AWAY_TEAM_TEST_NAME);
+
+        assertTrue(scoreboard.updateScore(HOME_TEAM_TEST_NAME, AWAY_TEAM_TEST_NAME, 1, 0, 1));
+        assertEquals(0, scoreboard.droppedStaleUpdates());
+    }
+
+    @Test
+    void shouldApplyConcurrentSequencedUpdatesInSequenceOrder() throws InterruptedException {
+        FootballWorldCupScoreboard scoreboard = new FootballWorldCupScoreboard(TestUtils.FIXED_CLOCK);
+        scoreboard.startMatch(HOME_TEAM_TEST_NAME, AWAY_TEAM_TEST_NAME);
+        int threadCount = 8;
+        int updatesPerThread = 500;
+
+        // Each thread sends every threadCount-th event, backwards, so most events arrive after newer ones
+        runConcurrently(threadCount, thread -> {
+            for (int i = updatesPerThread - 1; i >= 0; i--) {
+                int sequence = i * threadCount + thread;
+                scoreboard.updateScore(HOME_TEAM_TEST_NAME, AWAY_TEAM_TEST_NAME, sequence, 0, sequence);
+            }
+        });
+
+        int lastSequence = threadCount * updatesPerThread - 1;
+        assertMatch(scoreboard.getSummary().get(0), HOME_TEAM_TEST_NAME, AWAY_TEAM_TEST_NAME, lastSequence, 0);
+        assertEquals(threadCount * updatesPerThread, scoreboard.version() - 1 + scoreboard.droppedStaleUpdates());
+    }
+
+    @Test
+    void shouldUpdateScoreOnlyIfCurrentScoreIsExpected() {
+        FootballWorldCupScoreboard scoreboard = new FootballWorldCupScoreboard(TestUtils.FIXED_CLOCK);
+        scoreboard.startMatch(HOME_TEAM_TEST_NAME, AWAY_TEAM_TEST_NAME);
+
+        assertTrue(scoreboard.compareAndSetScore(HOME_TEAM_TEST_NAME, AWAY_TEAM_TEST_NAME, 0, 0, 1, 0));
+        assertFalse(scoreboard.compareAndSetScore(HOME_TEAM_TEST_NAME, AWAY_TEAM_TEST_NAME, 0, 0, 0, 1));
+
+        assertEquals(1, scoreboard.failedCompareAndSets());
+        assertEquals(2, scoreboard.version());
+        assertMatch(scoreboard.getSummary().get(0), HOME_TEAM_TEST_NAME, AWAY_TEAM_TEST_NAME, 1, 0);
+        assertThrowsWithMessage(IllegalArgumentException.class,
+                () -> scoreboard.compareAndSetScore(HOME_TEAM_TEST_NAME, AWAY_TEAM_TEST_NAME, -1, 0, 1, 0),
+                Validator.NEGATIVE_SCORES_ERROR);
+    }
+
+    @Test
+    void shouldDropStaleAndConflictingUpdatesOfBatchWithoutPublishing() {
+        FootballWorldCupScoreboard scoreboard = new FootballWorldCupScoreboard(TestUtils.FIXED_CLOCK);
+        scoreboard.startMatch(HOME_TEAM_TEST_NAME, AWAY_TEAM_TEST_NAME);
+        scoreboard.updateScore(HOME_TEAM_TEST_NAME, AWAY_TEAM_TEST_NAME, 2, 0, 10);
+
+        List<CommandResult> results = scoreboard.applyAll(List.of(
+                ScoreboardCommand.update(HOME_TEAM_TEST_NAME, AWAY_TEAM_TEST_NAME, 1, 0, 9),
+                ScoreboardCommand.compareAndSet(HOME_TEAM_TEST_NAME, AWAY_TEAM_TEST_NAME, 1, 0, 3, 0)));
+
+        assertEquals(List.of(CommandResult.dropped(results.get(0).command()),
+                CommandResult.dropped(results.get(1).command())), results);
+        assertEquals(1, scoreboard.droppedStaleUpdates());
+        assertEquals(1, scoreboard.failedCompareAndSets());
+        assertEquals(2, scoreboard.version());
+
+        results = scoreboard.applyAll(List.of(
+                ScoreboardCommand.update(HOME_TEAM_TEST_NAME, AWAY_TEAM_TEST_NAME, 2, 1, 11),
+                ScoreboardCommand.compareAndSet(HOME_TEAM_TEST_NAME, AWAY_TEAM_TEST_NAME, 2, 1, 3, 1)));
+
+        assertTrue(results.stream().allMatch(CommandResult::isApplied));
+        assertEquals(3, scoreboard.version());
+        assertMatch(scoreboard.getSummary().get(0), HOME_TEAM_TEST_NAME, AWAY_TEAM_TEST_NAME, 3, 1);
+    }
+
+    @Test
+    void shouldShareImmutableSummaryBetweenReadsOfSameVersion() {
+        footballWorldCupScoreboard.startMatch(HOME_TEAM_TEST_NAME, AWAY_TEAM_TEST_NAME);
+
+        List<FootballMatch> summary = footballWorldCupScoreboard.getSummary();
+
+        assertSame(summary, footballWorldCupScoreboard.getSummary());
+        assertEquals(footballWorldCupScoreboard.version(), footballWorldCupScoreboard.getSummarySnapshot().version());
+        assertThrows(UnsupportedOperationException.class, () -> summary.remove(0));
+    }
+
+    @Test
+    void shouldReturnTopMatchesAndSummaryPages() {
+        footballWorldCupScoreboard.applyAll(List.of(
+                ScoreboardCommand.start("Mexico", "Canada"),
+                ScoreboardCommand.start("Spain", "Brazil"),
+                ScoreboardCommand.start("Germany", "France"),
+                ScoreboardCommand.update("Mexico", "Canada", 0, 5),
+                ScoreboardCommand.update("Spain", "Brazil", 10, 2),
+                ScoreboardCommand.update("Germany", "France", 2, 2)
+        ));
+
+        assertMatchOrder(footballWorldCupScoreboard.getTopMatches(2), "Spain", "Mexico");
+        assertMatchOrder(footballWorldCupScoreboard.getTopMatches(10), "Spain", "Mexico", "Germany");
+        assertMatchOrder(footballWorldCupScoreboard.getSummaryPage(1, 1), "Mexico");
+        assertMatchOrder(footballWorldCupScoreboard.getSummaryPage(2, 5), "Germany");
+        assertMatchOrder(footballWorldCupScoreboard.getSummaryPage(3, 5));
+        assertMatchOrder(footballWorldCupScoreboard.getTopMatches(0));
+    }
+
+    @Test
+    void shouldThrowExceptionForNegativePageArguments() {
+        assertThrowsWithMessage(
+                IllegalArgumentException.class,
+                () -> footballWorldCupScoreboard.getTopMatches(-1),
+                Validator.INVALID_PAGE_ERROR
+        );
+        assertThrowsWithMessage(
+                IllegalArgumentException.class,
+                () -> footballWorldCupScoreboard.getSummaryPage(-1, 10),
+                Validator.INVALID_PAGE_ERROR
+        );
+    }
+
     @Test
     void shouldThrowExceptionWhenStartingMatchWithEmptyOrNullTeamNames() {
         assertInvalidTeamNames(() -> footballWorldCupScoreboard.startMatch(null, AWAY_TEAM_TEST_NAME));
@@ -256,6 +674,33 @@ class FootballWorldCupScoreboardTest {
         assertTrue(match.getHomeScore() >= 0 && match.getAwayScore() >= 0);
     }
 
+    private void runConcurrently(int threadCount, IntConsumer task) throws InterruptedException {
+        ExecutorService executorService = Executors.newFixedThreadPool(threadCount);
+        CountDownLatch ready = new CountDownLatch(threadCount);
+        CountDownLatch start = new CountDownLatch(1);
+        CountDownLatch done = new CountDownLatch(threadCount);
+
+        for (int i = 0; i < threadCount; i++) {
+            final int thread = i;
+            executorService.submit(() -> {
+                try {
+                    ready.countDown();
+                    start.await();
+                    task.accept(thread);
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                } finally {
+                    done.countDown();
+                }
+            });
+        }
+
+        ready.await();
+        start.countDown();
+        done.await();
+        executorService.shutdown();
+    }
+
     private void assertMatch(FootballMatch match, String homeTeam, String awayTeam, int homeScore, int awayScore) {
         assertEquals(homeTeam, match.homeTeam());
         assertEquals(awayTeam, match.awayTeam());
@@ -0,0 +1,200 @@
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertInstanceOf;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static utils.TestUtils.AWAY_TEAM_TEST_NAME;
+import static utils.TestUtils.HOME_TEAM_TEST_NAME;
+import static utils.TestUtils.TEST_MATCH_KEY;
+import static utils.TestUtils.assertInvalidTeamNames;
+import static utils.TestUtils.assertThrowsWithMessage;
+import com.sportradar.test.lib.FootballWorldCupScoreboard;
+import com.sportradar.test.lib.RingBufferScoreboard;
+import com.sportradar.test.lib.command.CommandResult;
+import com.sportradar.test.lib.command.ScoreboardCommand;
+import com.sportradar.test.lib.domain.FootballMatch;
+import com.sportradar.test.lib.exception.MatchAlreadyExistsException;
+import com.sportradar.test.lib.exception.MatchNotFoundException;
+import com.sportradar.test.lib.ingest.CommandRingBuffer;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import utils.TestUtils;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+/**
+ * Unit tests for RingBufferScoreboard.
+ * Ensures the acknowledged path keeps the semantics of FootballWorldCupScoreboard.
+ */
+class RingBufferScoreboardTest {
+    private RingBufferScoreboard scoreboard;
+
+    @BeforeEach
+    void setUp() {
+        scoreboard = new RingBufferScoreboard(new FootballWorldCupScoreboard(TestUtils.FIXED_CLOCK), 16);
+    }
+
+    @AfterEach
+    void tearDown() {
+        scoreboard.close();
+    }
+
+    @Test
+    void shouldKeepSummaryOrderOfSingleScoreboard() {
+        scoreboard.startMatch("Mexico", "Canada");
+        scoreboard.startMatch("Spain", "Brazil");
+        scoreboard.startMatch("Germany", "France");
+        scoreboard.updateScore("Mexico", "Canada", 0, 5);
+        scoreboard.updateScore("Spain", "Brazil", 10, 2);
+        scoreboard.updateScore("Germany", "France", 2, 3);
+
+        List<FootballMatch> summary = scoreboard.getSummary();
+
+        assertEquals("Spain", summary.get(0).homeTeam());
+        assertEquals("Germany", summary.get(1).homeTeam());
+        assertEquals("Mexico", summary.get(2).homeTeam());
+    }
+
+    @Test
+    void shouldRethrowExceptionsOfUnderlyingScoreboard() {
+        scoreboard.startMatch(HOME_TEAM_TEST_NAME, AWAY_TEAM_TEST_NAME);
+
+        assertThrowsWithMessage(
+                MatchAlreadyExistsException.class,
+                () -> scoreboard.startMatch(HOME_TEAM_TEST_NAME, AWAY_TEAM_TEST_NAME),
+                MatchAlreadyExistsException.MESSAGE_PREFIX + TEST_MATCH_KEY
+        );
+        assertThrowsWithMessage(
+                MatchNotFoundException.class,
+                () -> scoreboard.finishMatch(AWAY_TEAM_TEST_NAME, HOME_TEAM_TEST_NAME),
+                MatchNotFoundException.MESSAGE_PREFIX + AWAY_TEAM_TEST_NAME + " vs " + HOME_TEAM_TEST_NAME
+        );
+        assertInvalidTeamNames(() -> scoreboard.startMatch(null, AWAY_TEAM_TEST_NAME));
+    }
+
+    @Test
+    void shouldApplyFireAndForgetCommandsBeforeClosing() {
+        scoreboard.submit(ScoreboardCommand.start("Mexico", "Canada"));
+        for (int goals = 1; goals <= 100; goals++) {
+            scoreboard.submit(ScoreboardCommand.update("Mexico", "Canada", goals, 0));
+        }
+        scoreboard.submit(ScoreboardCommand.finish("Spain", "Brazil"));
+
+        scoreboard.close();
+
+        assertEquals(100, scoreboard.getSummary().get(0).getHomeScore());
+        assertEquals(1, scoreboard.rejectedCommands());
+    }
+
+    @Test
+    void shouldCompleteAcknowledgementExceptionally() {
+        ExecutionException exception = assertThrows(ExecutionException.class,
+                () -> scoreboard.submitAcknowledged(ScoreboardCommand.update("Mexico", "Canada", 1, 0)).get());
+
+        assertInstanceOf(MatchNotFoundException.class, exception.getCause());
+    }
+
+    @Test
+    void shouldReturnResultOfEveryBatchCommand() {
+        List<CommandResult> results = scoreboard.applyAll(List.of(
+                ScoreboardCommand.start("Mexico", "Canada"),
+                ScoreboardCommand.start("Mexico", "Canada"),
+                ScoreboardCommand.update("Mexico", "Canada", 1, 1)));
+
+        assertTrue(results.get(0).isSuccess());
+        assertInstanceOf(MatchAlreadyExistsException.class, results.get(1).failure());
+        assertTrue(results.get(2).isSuccess());
+    }
+
+    @Test
+    void shouldDropStaleAndConflictingUpdatesInRingOrder() {
+        scoreboard.startMatch("Mexico", "Canada");
+
+        assertTrue(scoreboard.updateScore("Mexico", "Canada", 2, 0, 5));
+        assertFalse(scoreboard.updateScore("Mexico", "Canada", 1, 0, 4));
+        assertFalse(scoreboard.compareAndSetScore("Mexico", "Canada", 1, 0, 3, 0));
+        List<CommandResult> results = scoreboard.applyAll(List.of(
+                ScoreboardCommand.compareAndSet("Mexico", "Canada", 2, 0, 3, 0),
+                ScoreboardCommand.update("Mexico", "Canada", 0, 0, 5),
+                ScoreboardCommand.update("Spain", "Brazil", 1, 0, 1)));
+
+        assertTrue(results.get(0).isApplied());
+        assertTrue(results.get(1).isSuccess());
+        assertFalse(results.get(1).isApplied());
+        assertInstanceOf(MatchNotFoundException.class, results.get(2).failure());
+        assertEquals(3, scoreboard.getSummary().get(0).getHomeScore());
+    }
+
+    @Test
+    void shouldRejectCommandsAfterClose() {
+        scoreboard.close();
+
+        assertThrowsWithMessage(
+                IllegalStateException.class,
+                () -> scoreboard.startMatch(HOME_TEAM_TEST_NAME, AWAY_TEAM_TEST_NAME),
+                CommandRingBuffer.CLOSED_ERROR
+        );
+    }
+
+    @Test
+    void shouldFailPendingAndLaterCommandsWhenApplierDies() {
+        FootballWorldCupScoreboard delegate = new FootballWorldCupScoreboard(TestUtils.FIXED_CLOCK) {
+            @Override
+            public List<CommandResult> applyAll(List<ScoreboardCommand> commands) {
+                if (commands.stream().anyMatch(ScoreboardCommand.FinishMatch.class::isInstance)) {
+                    throw new AssertionError("Applier bug");
+                }
+                return super.applyAll(commands);
+            }
+        };
+        RingBufferScoreboard failing = new RingBufferScoreboard(delegate, 16);
+        failing.startMatch("Mexico", "Canada");
+
+        CompletableFuture<Boolean> finish = failing.submitAcknowledged(ScoreboardCommand.finish("Mexico", "Canada"));
+        CompletableFuture<Boolean> update = failing.submitAcknowledged(ScoreboardCommand.update("Mexico", "Canada", 1, 0));
+
+        for (CompletableFuture<Boolean> acknowledgement : List.of(finish, update)) {
+            ExecutionException exception = assertThrows(ExecutionException.class, acknowledgement::get);
+            assertEquals(RingBufferScoreboard.APPLIER_FAILED_ERROR, exception.getCause().getMessage());
+            assertInstanceOf(AssertionError.class, exception.getCause().getCause());
+        }
+        assertThrowsWithMessage(
+                IllegalStateException.class,
+                () -> failing.startMatch(HOME_TEAM_TEST_NAME, AWAY_TEAM_TEST_NAME),
+                RingBufferScoreboard.APPLIER_FAILED_ERROR
+        );
+        failing.close();
+    }
+
+    @Test
+    void shouldApplyCommandsOfConcurrentProducers() throws Exception {
+        int threadCount = 8;
+        ExecutorService executorService = Executors.newFixedThreadPool(threadCount);
+        List<Future<?>> futures = new ArrayList<>();
+        for (int i = 0; i < threadCount; i++) {
+            final int thread = i;
+            futures.add(executorService.submit(() -> {
+                scoreboard.startMatch("Home" + thread, "Away" + thread);
+                for (int goals = 1; goals <= 500; goals++) {
+                    scoreboard.submit(ScoreboardCommand.update("Home" + thread, "Away" + thread, goals, 0));
+                }
+            }));
+        }
+        for (Future<?> future : futures) {
+            future.get();
+        }
+        executorService.shutdown();
+        scoreboard.close();
+
+        List<FootballMatch> summary = scoreboard.getSummary();
+        assertEquals(threadCount, summary.size());
+        assertTrue(summary.stream().allMatch(match -> match.getHomeScore() == 500));
+        assertEquals(0, scoreboard.rejectedCommands());
+    }
+}
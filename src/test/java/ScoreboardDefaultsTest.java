@@ -0,0 +1,118 @@
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertInstanceOf;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static utils.TestUtils.AWAY_TEAM_TEST_NAME;
+import static utils.TestUtils.HOME_TEAM_TEST_NAME;
+import static utils.TestUtils.TEST_MATCH_KEY;
+import static utils.TestUtils.assertThrowsWithMessage;
+import com.sportradar.test.lib.FootballWorldCupScoreboard;
+import com.sportradar.test.lib.Scoreboard;
+import com.sportradar.test.lib.command.CommandResult;
+import com.sportradar.test.lib.command.ScoreboardCommand;
+import com.sportradar.test.lib.domain.FootballMatch;
+import com.sportradar.test.lib.exception.MatchNotFoundException;
+import com.sportradar.test.lib.exception.UnsupportedScoreboardOperationException;
+import com.sportradar.test.lib.ranking.SummarySnapshot;
+import com.sportradar.test.lib.validation.Validator;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import utils.TestUtils;
+import java.util.List;
+
+/**
+ * Unit tests for the default methods of Scoreboard.
+ * Ensures implementations that only provide the basic operations get working optional operations.
+ */
+class ScoreboardDefaultsTest {
+    private Scoreboard scoreboard;
+
+    @BeforeEach
+    void setUp() {
+        scoreboard = new BasicScoreboard(new FootballWorldCupScoreboard(TestUtils.FIXED_CLOCK));
+    }
+
+    @Test
+    void shouldCompareAndSetScoreFromSummarySnapshot() {
+        scoreboard.startMatch(HOME_TEAM_TEST_NAME, AWAY_TEAM_TEST_NAME);
+
+        assertTrue(scoreboard.compareAndSetScore(HOME_TEAM_TEST_NAME, AWAY_TEAM_TEST_NAME, 0, 0, 1, 0));
+        assertFalse(scoreboard.compareAndSetScore(HOME_TEAM_TEST_NAME, AWAY_TEAM_TEST_NAME, 0, 0, 2, 0));
+
+        FootballMatch match = scoreboard.getSummary().get(0);
+        assertEquals(1, match.getHomeScore());
+        assertEquals(0, match.getAwayScore());
+        assertEquals(2, scoreboard.version());
+    }
+
+    @Test
+    void shouldRejectCompareAndSetOfMissingMatchOrInvalidScores() {
+        assertThrowsWithMessage(
+                MatchNotFoundException.class,
+                () -> scoreboard.compareAndSetScore(HOME_TEAM_TEST_NAME, AWAY_TEAM_TEST_NAME, 0, 0, 1, 0),
+                MatchNotFoundException.MESSAGE_PREFIX + TEST_MATCH_KEY
+        );
+        assertThrowsWithMessage(
+                IllegalArgumentException.class,
+                () -> scoreboard.compareAndSetScore(HOME_TEAM_TEST_NAME, AWAY_TEAM_TEST_NAME, 0, 0, -1, 0),
+                Validator.NEGATIVE_SCORES_ERROR
+        );
+    }
+
+    @Test
+    void shouldReportSequencedUpdatesAsUnsupported() {
+        scoreboard.startMatch(HOME_TEAM_TEST_NAME, AWAY_TEAM_TEST_NAME);
+
+        List<CommandResult> results = scoreboard.applyAll(List.of(
+                ScoreboardCommand.update(HOME_TEAM_TEST_NAME, AWAY_TEAM_TEST_NAME, 1, 0, 1)));
+
+        assertInstanceOf(UnsupportedScoreboardOperationException.class, results.get(0).failure());
+        assertEquals(0, scoreboard.getSummary().get(0).getTotalScore());
+    }
+
+    /**
+     * Scoreboard implementing only the abstract operations, delegating them to another scoreboard.
+     */
+    private record BasicScoreboard(Scoreboard delegate) implements Scoreboard {
+
+        @Override
+        public void startMatch(String homeTeam, String awayTeam) {
+            delegate.startMatch(homeTeam, awayTeam);
+        }
+
+        @Override
+        public void updateScore(String homeTeam, String awayTeam, int homeScore, int awayScore) {
+            delegate.updateScore(homeTeam, awayTeam, homeScore, awayScore);
+        }
+
+        @Override
+        public void finishMatch(String homeTeam, String awayTeam) {
+            delegate.finishMatch(homeTeam, awayTeam);
+        }
+
+        @Override
+        public List<FootballMatch> getSummary() {
+            return delegate.getSummary();
+        }
+
+        @Override
+        public List<FootballMatch> getTopMatches(int n) {
+            return delegate.getTopMatches(n);
+        }
+
+        @Override
+        public List<FootballMatch> getSummaryPage(int offset, int limit) {
+            return delegate.getSummaryPage(offset, limit);
+        }
+
+        @Override
+        public SummarySnapshot getSummarySnapshot() {
+            return delegate.getSummarySnapshot();
+        }
+
+        @Override
+        public long version() {
+            return delegate.version();
+        }
+    }
+}
@@ -0,0 +1,238 @@
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertInstanceOf;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static utils.TestUtils.assertThrowsWithMessage;
+import com.sportradar.test.lib.FootballWorldCupScoreboard;
+import com.sportradar.test.lib.Scoreboard;
+import com.sportradar.test.lib.ShardedScoreboard;
+import com.sportradar.test.lib.command.CommandResult;
+import com.sportradar.test.lib.command.ScoreboardCommand;
+import com.sportradar.test.lib.domain.FootballMatch;
+import com.sportradar.test.lib.exception.MatchException;
+import com.sportradar.test.lib.exception.MatchNotFoundException;
+import com.sportradar.test.lib.ranking.SummarySnapshot;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import utils.TestUtils;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+/**
+ * Unit tests for ShardedScoreboard.
+ * Ensures the merged summary keeps the order of a single scoreboard.
+ */
+class ShardedScoreboardTest {
+    private Scoreboard shardedScoreboard;
+    private Scoreboard referenceScoreboard;
+
+    @BeforeEach
+    void setUp() {
+        shardedScoreboard = new ShardedScoreboard(TestUtils.FIXED_CLOCK, 4);
+        referenceScoreboard = new FootballWorldCupScoreboard(TestUtils.FIXED_CLOCK);
+    }
+
+    @Test
+    void shouldFindMatchOfTeamOnAnyShard() {
+        for (int i = 0; i < 20; i++) {
+            shardedScoreboard.startMatch("Home" + i, "Away" + i);
+        }
+
+        for (int i = 0; i < 20; i++) {
+            assertEquals("Home" + i, shardedScoreboard.findMatchByTeam("Away" + i).homeTeam());
+        }
+        assertNull(shardedScoreboard.findMatchByTeam("Home20"));
+    }
+
+    @Test
+    void shouldFindLatestStartedMatchOfTeamAcrossShardsWithinSameClockTick() {
+        // All matches share the start time of the fixed clock, only the start sequence tells them apart
+        for (int i = 0; i < 8; i++) {
+            shardedScoreboard.startMatch("Spain", "Away" + i);
+            assertEquals("Away" + i, shardedScoreboard.findMatchByTeam("Spain").awayTeam());
+        }
+    }
+
+    @Test
+    void shouldDropStaleUpdatesOnOwningShard() {
+        ShardedScoreboard scoreboard = new ShardedScoreboard(TestUtils.FIXED_CLOCK, 4);
+        scoreboard.startMatch("Mexico", "Canada");
+
+        assertTrue(scoreboard.updateScore("Mexico", "Canada", 2, 1, 2));
+        assertFalse(scoreboard.updateScore("Mexico", "Canada", 1, 1, 1));
+        assertFalse(scoreboard.compareAndSetScore("Mexico", "Canada", 1, 1, 2, 2));
+
+        assertEquals(1, scoreboard.droppedStaleUpdates());
+        assertEquals(1, scoreboard.failedCompareAndSets());
+        assertEquals(3, scoreboard.getSummary().get(0).getTotalScore());
+    }
+
+    @Test
+    void shouldKeepSameOrderAsSingleScoreboard() {
+        Random random = new Random(11);
+
+        for (int i = 0; i < 3_000; i++) {
+            String homeTeam = "Home" + random.nextInt(100);
+            String awayTeam = "Away" + random.nextInt(3);
+            int operation = random.nextInt(10);
+            int homeScore = random.nextInt(6);
+            int awayScore = random.nextInt(6);
+            applyToBoth(scoreboard -> {
+                if (operation < 3) {
+                    scoreboard.startMatch(homeTeam, awayTeam);
+                } else if (operation < 9) {
+                    scoreboard.updateScore(homeTeam, awayTeam, homeScore, awayScore);
+                } else {
+                    scoreboard.finishMatch(homeTeam, awayTeam);
+                }
+            });
+        }
+
+        assertEquals(referenceScoreboard.getSummary(), shardedScoreboard.getSummary());
+        assertEquals(referenceScoreboard.getTopMatches(10), shardedScoreboard.getTopMatches(10));
+        assertEquals(referenceScoreboard.getSummaryPage(5, 7), shardedScoreboard.getSummaryPage(5, 7));
+    }
+
+    @Test
+    void shouldApplyBatchAcrossShardsInCommandOrder() {
+        List<CommandResult> results = shardedScoreboard.applyAll(List.of(
+                ScoreboardCommand.start("Mexico", "Canada"),
+                ScoreboardCommand.start("Spain", "Brazil"),
+                ScoreboardCommand.update("Germany", "France", 1, 0),
+                ScoreboardCommand.update("Spain", "Brazil", 3, 0),
+                ScoreboardCommand.update("Mexico", "Canada", 0, 1)
+        ));
+
+        assertTrue(results.get(0).isSuccess());
+        assertTrue(results.get(1).isSuccess());
+        assertInstanceOf(MatchNotFoundException.class, results.get(2).failure());
+        assertEquals("Germany", results.get(2).command().homeTeam());
+        assertTrue(results.get(3).isSuccess());
+        assertTrue(results.get(4).isSuccess());
+        assertEquals("Spain", shardedScoreboard.getSummary().get(0).homeTeam());
+        assertEquals("Mexico", shardedScoreboard.getSummary().get(1).homeTeam());
+    }
+
+    @Test
+    void shouldChangeVersionWithEveryShardModification() {
+        long initialVersion = shardedScoreboard.version();
+
+        shardedScoreboard.startMatch("Mexico", "Canada");
+        shardedScoreboard.startMatch("Spain", "Brazil");
+
+        assertEquals(initialVersion + 2, shardedScoreboard.version());
+        assertEquals(shardedScoreboard.version(), shardedScoreboard.getSummarySnapshot().version());
+    }
+
+    @Test
+    void shouldServePagesAfterWritesWithoutFullShardSnapshots() {
+        ShardedScoreboard sharded = new ShardedScoreboard(TestUtils.FIXED_CLOCK, 4);
+        for (int match = 0; match < 20; match++) {
+            sharded.startMatch("Home" + match, "Away" + match);
+            referenceScoreboard.startMatch("Home" + match, "Away" + match);
+        }
+
+        for (int match = 0; match < 20; match += 3) {
+            sharded.updateScore("Home" + match, "Away" + match, match, 1);
+            referenceScoreboard.updateScore("Home" + match, "Away" + match, match, 1);
+            assertEquals(referenceScoreboard.getTopMatches(3), sharded.getTopMatches(3));
+            assertEquals(referenceScoreboard.getSummaryPage(4, 5), sharded.getSummaryPage(4, 5));
+        }
+
+        assertEquals(0, sharded.summarySnapshots());
+        assertEquals(referenceScoreboard.getSummary(), sharded.getSummary());
+        assertTrue(sharded.summarySnapshots() > 0);
+    }
+
+    @Test
+    void shouldHandleConcurrentWritesToDifferentShards() throws Exception {
+        int threadCount = 8;
+        ExecutorService executorService = Executors.newFixedThreadPool(threadCount);
+        List<Future<?>> futures = new ArrayList<>();
+        for (int i = 0; i < threadCount; i++) {
+            final int thread = i;
+            futures.add(executorService.submit(() -> {
+                for (int match = 0; match < 50; match++) {
+                    shardedScoreboard.startMatch("Home" + thread, "Away" + match);
+                    shardedScoreboard.updateScore("Home" + thread, "Away" + match, match, thread);
+                }
+            }));
+        }
+        for (Future<?> future : futures) {
+            future.get();
+        }
+        executorService.shutdown();
+
+        assertEquals(threadCount * 50, shardedScoreboard.getSummary().size());
+    }
+
+    @Test
+    void shouldServeSameSummaryForSameVersionWhileShardsChange() throws Exception {
+        int writerCount = 4;
+        for (int writer = 0; writer < writerCount; writer++) {
+            shardedScoreboard.startMatch("Home" + writer, "Away" + writer);
+        }
+        ExecutorService executorService = Executors.newFixedThreadPool(writerCount + 1);
+        List<Future<?>> writers = new ArrayList<>();
+        for (int i = 0; i < writerCount; i++) {
+            final int writer = i;
+            writers.add(executorService.submit(() -> {
+                for (int goal = 1; goal <= 2_000; goal++) {
+                    shardedScoreboard.updateScore("Home" + writer, "Away" + writer, goal, 0);
+                }
+            }));
+        }
+        Map<Long, List<FootballMatch>> summaries = new HashMap<>();
+        Future<?> reader = executorService.submit(() -> {
+            while (writers.stream().anyMatch(writer -> !writer.isDone())) {
+                SummarySnapshot snapshot = shardedScoreboard.getSummarySnapshot();
+                List<FootballMatch> previous = summaries.putIfAbsent(snapshot.version(), snapshot.matches());
+                assertTrue(previous == null || previous.equals(snapshot.matches()),
+                        "Different summaries for version " + snapshot.version());
+                assertEquals(1, shardedScoreboard.getTopMatches(1).size());
+            }
+        });
+        for (Future<?> writer : writers) {
+            writer.get();
+        }
+        reader.get();
+        executorService.shutdown();
+
+        assertEquals(writerCount + writerCount * 2_000L, shardedScoreboard.version());
+    }
+
+    @Test
+    void shouldThrowExceptionForInvalidShardCount() {
+        assertThrowsWithMessage(
+                IllegalArgumentException.class,
+                () -> new ShardedScoreboard(TestUtils.FIXED_CLOCK, 0),
+                ShardedScoreboard.INVALID_SHARD_COUNT_ERROR
+        );
+    }
+
+    private void applyToBoth(ScoreboardOperation operation) {
+        boolean referenceFailed = apply(referenceScoreboard, operation);
+        boolean shardedFailed = apply(shardedScoreboard, operation);
+        assertEquals(referenceFailed, shardedFailed);
+    }
+
+    private boolean apply(Scoreboard scoreboard, ScoreboardOperation operation) {
+        try {
+            operation.apply(scoreboard);
+            return false;
+        } catch (MatchException e) {
+            return true;
+        }
+    }
+
+    private interface ScoreboardOperation {
+        void apply(Scoreboard scoreboard);
+    }
+}
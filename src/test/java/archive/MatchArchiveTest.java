@@ -0,0 +1,106 @@
+package archive;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static utils.TestUtils.assertThrowsWithMessage;
+import com.sportradar.test.lib.FootballWorldCupScoreboard;
+import com.sportradar.test.lib.ShardedScoreboard;
+import com.sportradar.test.lib.archive.FinishedMatch;
+import com.sportradar.test.lib.archive.MatchArchive;
+import com.sportradar.test.lib.domain.FootballMatch;
+import com.sportradar.test.lib.storage.StorageBackend;
+import org.junit.jupiter.api.Test;
+import utils.TestUtils;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+
+/**
+ * Unit tests for MatchArchive and the archiving of finished matches by the scoreboards.
+ */
+class MatchArchiveTest {
+    private static final Instant START = TestUtils.FIXED_CLOCK.instant();
+
+    @Test
+    void shouldArchiveFinalResultsOfFinishedMatches() {
+        Clock clock = TestUtils.tickingClock();
+        FootballWorldCupScoreboard scoreboard = new FootballWorldCupScoreboard(clock, StorageBackend.HEAP,
+                new MatchArchive(clock));
+        scoreboard.startMatch("Mexico", "Canada");
+        scoreboard.updateScore("Mexico", "Canada", 0, 5);
+        scoreboard.startMatch("Spain", "Brazil");
+
+        scoreboard.finishMatch("Mexico", "Canada");
+
+        List<FinishedMatch> results = scoreboard.archive().mostRecent(10);
+        assertEquals(1, results.size());
+        assertEquals(5, results.get(0).match().getTotalScore());
+        assertTrue(results.get(0).finishTime().isAfter(results.get(0).match().startTime()));
+    }
+
+    @Test
+    void shouldShareArchiveBetweenShards() {
+        ShardedScoreboard scoreboard = new ShardedScoreboard(TestUtils.FIXED_CLOCK, 4);
+        for (int i = 0; i < 8; i++) {
+            scoreboard.startMatch("Home" + i, "Away" + i);
+            scoreboard.finishMatch("Home" + i, "Away" + i);
+        }
+
+        assertEquals(8, scoreboard.archive().mostRecent(100).size());
+        assertEquals("Home7", scoreboard.archive().mostRecent(1).get(0).match().homeTeam());
+    }
+
+    @Test
+    void shouldEvictOldestResultsWhenFull() {
+        MatchArchive archive = new MatchArchive(3, Duration.ofDays(1), TestUtils.FIXED_CLOCK);
+        for (int i = 0; i < 5; i++) {
+            archive.archive(match("Home" + i, "Away" + i), START);
+        }
+
+        assertEquals(List.of("Home4", "Home3", "Home2"), homeTeams(archive.mostRecent(10)));
+        assertEquals(List.of("Home4", "Home3"), homeTeams(archive.mostRecent(2)));
+    }
+
+    @Test
+    void shouldNotReturnExpiredResults() {
+        MatchArchive archive = new MatchArchive(10, Duration.ofMinutes(90), TestUtils.FIXED_CLOCK);
+        archive.archive(match("Mexico", "Canada"), START.minus(Duration.ofHours(2)));
+        archive.archive(match("Spain", "Brazil"), START.minus(Duration.ofHours(1)));
+
+        assertEquals(List.of("Spain"), homeTeams(archive.mostRecent(10)));
+        assertTrue(archive.byTeam("Canada").isEmpty());
+    }
+
+    @Test
+    void shouldQueryByTeamAndTimeRange() {
+        MatchArchive archive = new MatchArchive(10, Duration.ofDays(1), TestUtils.FIXED_CLOCK);
+        archive.archive(match("Mexico", "Canada"), START.minusSeconds(300));
+        archive.archive(match("Spain", "Brazil"), START.minusSeconds(200));
+        archive.archive(match("Canada", "Spain"), START.minusSeconds(100));
+
+        assertEquals(List.of("Canada", "Mexico"), homeTeams(archive.byTeam("Canada")));
+        assertEquals(List.of("Spain"),
+                homeTeams(archive.finishedBetween(START.minusSeconds(250), START.minusSeconds(100))));
+        assertTrue(archive.byTeam("Germany").isEmpty());
+    }
+
+    @Test
+    void shouldRejectInvalidArguments() {
+        assertThrowsWithMessage(IllegalArgumentException.class,
+                () -> new MatchArchive(0, Duration.ofDays(1), TestUtils.FIXED_CLOCK),
+                MatchArchive.INVALID_CAPACITY_ERROR);
+        assertThrowsWithMessage(IllegalArgumentException.class,
+                () -> new MatchArchive(1, Duration.ZERO, TestUtils.FIXED_CLOCK), MatchArchive.INVALID_MAX_AGE_ERROR);
+        assertThrowsWithMessage(IllegalArgumentException.class,
+                () -> new MatchArchive(TestUtils.FIXED_CLOCK).mostRecent(-1), MatchArchive.NEGATIVE_COUNT_ERROR);
+    }
+
+    private static FootballMatch match(String homeTeam, String awayTeam) {
+        return FootballMatch.withScores(homeTeam, awayTeam, 1, 0, TestUtils.FIXED_CLOCK);
+    }
+
+    private static List<String> homeTeams(List<FinishedMatch> results) {
+        return results.stream().map(result -> result.match().homeTeam()).toList();
+    }
+}
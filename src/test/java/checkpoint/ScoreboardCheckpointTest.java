@@ -0,0 +1,187 @@
+package checkpoint;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import com.sportradar.test.lib.FootballWorldCupScoreboard;
+import com.sportradar.test.lib.checkpoint.ScoreboardCheckpoint;
+import com.sportradar.test.lib.domain.FootballMatch;
+import com.sportradar.test.lib.journal.Durability;
+import com.sportradar.test.lib.journal.MatchJournal;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import utils.TestUtils;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.Channels;
+import java.nio.channels.ReadableByteChannel;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * Unit tests for scoreboard checkpoints.
+ * Ensures that a restored scoreboard has the same summary and tie-break order as the original one.
+ */
+class ScoreboardCheckpointTest {
+    private FootballWorldCupScoreboard scoreboard;
+
+    @TempDir
+    Path tempDir;
+
+    @BeforeEach
+    void setUp() {
+        scoreboard = new FootballWorldCupScoreboard(TestUtils.FIXED_CLOCK);
+        scoreboard.startMatch("Mexico", "Canada");
+        scoreboard.startMatch("Spain", "Brazil");
+        scoreboard.startMatch("Germany", "France");
+        scoreboard.startMatch("Uruguay", "Italy");
+        scoreboard.updateScore("Mexico", "Canada", 0, 5);
+        scoreboard.updateScore("Spain", "Brazil", 10, 2);
+        scoreboard.updateScore("Germany", "France", 2, 2);
+    }
+
+    @Test
+    void shouldRestoreSameSummary() throws IOException {
+        FootballWorldCupScoreboard restored = new FootballWorldCupScoreboard(TestUtils.FIXED_CLOCK);
+
+        restored.restoreFrom(checkpointOf(scoreboard));
+
+        assertEquals(scoreboard.getSummary(), restored.getSummary());
+        assertEquals(scoreboard.version(), restored.version());
+    }
+
+    @Test
+    void shouldRebuildTeamIndexOnRestore() throws IOException {
+        FootballWorldCupScoreboard restored = new FootballWorldCupScoreboard(TestUtils.FIXED_CLOCK);
+        restored.startMatch("Argentina", "Australia");
+
+        restored.restoreFrom(checkpointOf(scoreboard));
+
+        assertEquals("Spain", restored.findMatchByTeam("Brazil").homeTeam());
+        assertNull(restored.findMatchByTeam("Argentina"));
+    }
+
+    @Test
+    void shouldFindLatestStartedMatchOfTeamAfterRestore() throws IOException {
+        FootballWorldCupScoreboard source = new FootballWorldCupScoreboard(TestUtils.FIXED_CLOCK);
+        source.startMatch("Spain", "Brazil");
+        // Ties rank the later match first, so the checkpoint lists the matches in reverse start order
+        source.startMatch("Spain", "Italy");
+        FootballWorldCupScoreboard restored = new FootballWorldCupScoreboard(TestUtils.FIXED_CLOCK);
+
+        restored.restoreFrom(checkpointOf(source));
+
+        assertEquals("Italy", restored.findMatchByTeam("Spain").awayTeam());
+    }
+
+    @Test
+    void shouldContinueTieBreakOrderAfterRestore() throws IOException {
+        FootballWorldCupScoreboard restored = new FootballWorldCupScoreboard(TestUtils.FIXED_CLOCK);
+        restored.restoreFrom(checkpointOf(scoreboard));
+
+        restored.startMatch("Argentina", "Australia");
+        restored.updateScore("Argentina", "Australia", 3, 1);
+
+        List<FootballMatch> summary = restored.getSummary();
+        assertEquals("Argentina", summary.get(2).homeTeam());
+        assertEquals("Germany", summary.get(3).homeTeam());
+    }
+
+    @Test
+    void shouldReplaceExistingMatchesOnRestore() throws IOException {
+        FootballWorldCupScoreboard restored = new FootballWorldCupScoreboard(TestUtils.FIXED_CLOCK);
+        for (int i = 0; i < 20; i++) {
+            restored.startMatch("Home" + i, "Away" + i);
+        }
+        long versionBeforeRestore = restored.version();
+
+        restored.restoreFrom(checkpointOf(scoreboard));
+        restored.finishMatch("Mexico", "Canada");
+
+        assertEquals(3, restored.getSummary().size());
+        assertTrue(restored.version() > versionBeforeRestore);
+    }
+
+    @Test
+    void shouldRejectCorruptedCheckpoint() throws IOException {
+        byte[] checkpoint = checkpointBytes(scoreboard);
+        checkpoint[checkpoint.length / 2] ^= 1;
+        FootballWorldCupScoreboard restored = new FootballWorldCupScoreboard(TestUtils.FIXED_CLOCK);
+        restored.startMatch("Argentina", "Australia");
+
+        IOException exception = assertThrows(IOException.class,
+                () -> restored.restoreFrom(Channels.newChannel(new ByteArrayInputStream(checkpoint))));
+
+        assertTrue(exception.getMessage().startsWith(ScoreboardCheckpoint.INVALID_CHECKPOINT_ERROR));
+        assertEquals("Argentina", restored.getSummary().get(0).homeTeam());
+    }
+
+    @Test
+    void shouldRejectTruncatedCheckpoint() throws IOException {
+        byte[] checkpoint = checkpointBytes(scoreboard);
+        byte[] truncated = Arrays.copyOf(checkpoint, checkpoint.length - 1);
+        FootballWorldCupScoreboard restored = new FootballWorldCupScoreboard(TestUtils.FIXED_CLOCK);
+
+        assertThrows(IOException.class,
+                () -> restored.restoreFrom(Channels.newChannel(new ByteArrayInputStream(truncated))));
+        assertTrue(restored.getSummary().isEmpty());
+    }
+
+    @Test
+    void shouldRejectPayloadLengthAboveLimitBeforeReadingPayload() throws IOException {
+        byte[] checkpoint = checkpointBytes(scoreboard);
+        // Payload length field after the magic and the format version
+        ByteBuffer.wrap(checkpoint).putInt(Integer.BYTES + Short.BYTES, Integer.MAX_VALUE);
+        FootballWorldCupScoreboard restored = new FootballWorldCupScoreboard(TestUtils.FIXED_CLOCK);
+
+        IOException exception = assertThrows(IOException.class,
+                () -> restored.restoreFrom(Channels.newChannel(new ByteArrayInputStream(checkpoint))));
+
+        assertEquals(ScoreboardCheckpoint.INVALID_CHECKPOINT_ERROR + "payload length " + Integer.MAX_VALUE,
+                exception.getMessage());
+    }
+
+    @Test
+    void shouldRestoreCheckpointLargerThanReadChunk() throws IOException {
+        FootballWorldCupScoreboard large = new FootballWorldCupScoreboard(TestUtils.tickingClock());
+        for (int i = 0; i < 5_000; i++) {
+            large.startMatch("Home " + i, "Away " + i);
+        }
+        FootballWorldCupScoreboard restored = new FootballWorldCupScoreboard(TestUtils.FIXED_CLOCK);
+
+        restored.restoreFrom(checkpointOf(large));
+
+        assertEquals(large.getSummary(), restored.getSummary());
+    }
+
+    @Test
+    void shouldJournalRestore() throws IOException {
+        Path journalFile = tempDir.resolve("restore.journal");
+        List<FootballMatch> expected;
+        try (MatchJournal journal = MatchJournal.open(journalFile, Durability.SYNC)) {
+            FootballWorldCupScoreboard durable = new FootballWorldCupScoreboard(TestUtils.FIXED_CLOCK, journal);
+            durable.startMatch("Argentina", "Australia");
+            durable.restoreFrom(checkpointOf(scoreboard));
+            expected = durable.getSummary();
+        }
+
+        try (MatchJournal journal = MatchJournal.open(journalFile, Durability.NONE)) {
+            assertEquals(expected, new FootballWorldCupScoreboard(TestUtils.FIXED_CLOCK, journal).getSummary());
+        }
+    }
+
+    private ReadableByteChannel checkpointOf(FootballWorldCupScoreboard source) throws IOException {
+        return Channels.newChannel(new ByteArrayInputStream(checkpointBytes(source)));
+    }
+
+    private byte[] checkpointBytes(FootballWorldCupScoreboard source) throws IOException {
+        ByteArrayOutputStream output = new ByteArrayOutputStream();
+        source.snapshotTo(Channels.newChannel(output));
+        return output.toByteArray();
+    }
+}
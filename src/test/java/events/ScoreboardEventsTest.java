@@ -0,0 +1,124 @@
+package events;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertInstanceOf;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import com.sportradar.test.lib.FootballWorldCupScoreboard;
+import com.sportradar.test.lib.command.ScoreboardCommand;
+import com.sportradar.test.lib.domain.MatchScores;
+import com.sportradar.test.lib.events.ScoreboardEvent;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import utils.TestUtils;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Flow;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Unit tests for the change events published by FootballWorldCupScoreboard.
+ * Ensures events are delivered in order and slow subscribers never block writers.
+ */
+class ScoreboardEventsTest {
+    private FootballWorldCupScoreboard footballWorldCupScoreboard;
+
+    @BeforeEach
+    void setUp() {
+        footballWorldCupScoreboard = new FootballWorldCupScoreboard(TestUtils.tickingClock());
+    }
+
+    @Test
+    void shouldPublishStartScoreRankAndFinishEvents() throws InterruptedException {
+        footballWorldCupScoreboard.startMatch("Mexico", "Canada");
+        footballWorldCupScoreboard.startMatch("Spain", "Brazil");
+        CollectingSubscriber subscriber = new CollectingSubscriber(4, Long.MAX_VALUE);
+        footballWorldCupScoreboard.changes().subscribe(subscriber);
+
+        footballWorldCupScoreboard.startMatch("Germany", "France");
+        footballWorldCupScoreboard.updateScore("Mexico", "Canada", 1, 0);
+        footballWorldCupScoreboard.finishMatch("Spain", "Brazil");
+
+        assertTrue(subscriber.received.await(5, TimeUnit.SECONDS));
+        List<ScoreboardEvent> events = subscriber.events;
+        ScoreboardEvent.MatchStarted started = assertInstanceOf(ScoreboardEvent.MatchStarted.class, events.get(0));
+        assertEquals("Germany", started.match().homeTeam());
+        assertEquals(3, started.version());
+
+        ScoreboardEvent.ScoreChanged scoreChanged = assertInstanceOf(ScoreboardEvent.ScoreChanged.class, events.get(1));
+        assertEquals(new MatchScores(0, 0), scoreChanged.previousScores());
+        assertEquals(new MatchScores(1, 0), scoreChanged.currentScores());
+
+        ScoreboardEvent.RankMoved rankMoved = assertInstanceOf(ScoreboardEvent.RankMoved.class, events.get(2));
+        assertEquals("Mexico", rankMoved.match().homeTeam());
+        assertEquals(2, rankMoved.previousPosition());
+        assertEquals(0, rankMoved.currentPosition());
+
+        ScoreboardEvent.MatchFinished finished = assertInstanceOf(ScoreboardEvent.MatchFinished.class, events.get(3));
+        assertEquals("Spain", finished.match().homeTeam());
+        assertEquals(5, finished.version());
+    }
+
+    @Test
+    void shouldReportRankMoveOncePerBatch() throws InterruptedException {
+        footballWorldCupScoreboard.startMatch("Mexico", "Canada");
+        footballWorldCupScoreboard.startMatch("Spain", "Brazil");
+        CollectingSubscriber subscriber = new CollectingSubscriber(3, Long.MAX_VALUE);
+        footballWorldCupScoreboard.changes().subscribe(subscriber);
+
+        footballWorldCupScoreboard.applyAll(List.of(
+                ScoreboardCommand.update("Mexico", "Canada", 1, 0),
+                ScoreboardCommand.update("Mexico", "Canada", 2, 0)));
+
+        assertTrue(subscriber.received.await(5, TimeUnit.SECONDS));
+        assertInstanceOf(ScoreboardEvent.ScoreChanged.class, subscriber.events.get(0));
+        assertInstanceOf(ScoreboardEvent.ScoreChanged.class, subscriber.events.get(1));
+        ScoreboardEvent.RankMoved rankMoved = assertInstanceOf(ScoreboardEvent.RankMoved.class, subscriber.events.get(2));
+        assertEquals(1, rankMoved.previousPosition());
+        assertEquals(0, rankMoved.currentPosition());
+    }
+
+    @Test
+    void shouldDropEventsForSlowSubscriberWithoutBlockingWriter() {
+        footballWorldCupScoreboard.startMatch("Mexico", "Canada");
+        CollectingSubscriber slowSubscriber = new CollectingSubscriber(1, 1);
+        footballWorldCupScoreboard.changes().subscribe(slowSubscriber);
+
+        for (int goal = 1; goal <= 2_000; goal++) {
+            footballWorldCupScoreboard.updateScore("Mexico", "Canada", goal, 0);
+        }
+
+        assertEquals(2_000, footballWorldCupScoreboard.getSummary().get(0).getHomeScore());
+        assertTrue(footballWorldCupScoreboard.droppedChangeEvents() > 0);
+    }
+
+    private static final class CollectingSubscriber implements Flow.Subscriber<ScoreboardEvent> {
+        private final List<ScoreboardEvent> events = new CopyOnWriteArrayList<>();
+        private final CountDownLatch received;
+        private final long demand;
+
+        private CollectingSubscriber(int expectedEvents, long demand) {
+            this.received = new CountDownLatch(expectedEvents);
+            this.demand = demand;
+        }
+
+        @Override
+        public void onSubscribe(Flow.Subscription subscription) {
+            subscription.request(demand);
+        }
+
+        @Override
+        public void onNext(ScoreboardEvent event) {
+            events.add(event);
+            received.countDown();
+        }
+
+        @Override
+        public void onError(Throwable throwable) {
+        }
+
+        @Override
+        public void onComplete() {
+        }
+    }
+}
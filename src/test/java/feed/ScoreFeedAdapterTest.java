@@ -0,0 +1,176 @@
+package feed;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import com.sportradar.test.lib.FootballWorldCupScoreboard;
+import com.sportradar.test.lib.domain.FootballMatch;
+import com.sportradar.test.lib.feed.FeedStats;
+import com.sportradar.test.lib.feed.ScoreFeedAdapter;
+import com.sportradar.test.lib.feed.ScoreFeedReader;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import utils.TestUtils;
+import java.io.ByteArrayInputStream;
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.nio.ByteBuffer;
+import java.nio.channels.Channels;
+import java.nio.channels.ReadableByteChannel;
+import java.nio.channels.ServerSocketChannel;
+import java.nio.channels.SocketChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Unit tests for the score feed adapter and reader.
+ * Feeds are read from temp files, in-memory channels and loopback sockets.
+ */
+class ScoreFeedAdapterTest {
+    private FootballWorldCupScoreboard scoreboard;
+    private ScoreFeedAdapter adapter;
+
+    @TempDir
+    Path tempDir;
+
+    @BeforeEach
+    void setUp() {
+        scoreboard = new FootballWorldCupScoreboard(TestUtils.FIXED_CLOCK);
+        adapter = new ScoreFeedAdapter(scoreboard);
+    }
+
+    @AfterEach
+    void tearDown() {
+        adapter.close();
+    }
+
+    @Test
+    void shouldReplayRecordedFeedFile() throws Exception {
+        Path file = tempDir.resolve("match-day.feed");
+        Files.writeString(file, """
+                START Mexico Canada
+                START Spain Brazil
+                SCORE Mexico Canada 0 5\r
+                SCORE   Spain\tBrazil 10 2
+
+                FINISH Spain Brazil
+                SCORE Germany France 1 0
+                KICKOFF Mexico Canada
+                SCORE Mexico Canada one 5
+                SCORE Mexico Canada 99999999999 5
+                START Uruguay Italy""");
+
+        FeedStats stats = adapter.replay(file).get(10, TimeUnit.SECONDS);
+
+        assertEquals(new FeedStats(10, 6, 1, 3), stats);
+        List<FootballMatch> summary = scoreboard.getSummary();
+        assertEquals(2, summary.size());
+        assertEquals("Mexico", summary.get(0).homeTeam());
+        assertEquals(5, summary.get(0).getAwayScore());
+        assertEquals("Uruguay", summary.get(1).homeTeam());
+    }
+
+    @Test
+    void shouldParseLinesSplitAcrossReads() throws Exception {
+        byte[] feed = "START Mexico Canada\nSCORE Mexico Canada 3 1\nSCORE Mexico Canada 4 1\n"
+                .getBytes(StandardCharsets.UTF_8);
+
+        FeedStats stats = new ScoreFeedReader(scoreboard).readFrom(new TrickleChannel(feed, 3));
+
+        assertEquals(new FeedStats(3, 3, 0, 0), stats);
+        assertEquals(4, scoreboard.getSummary().get(0).getHomeScore());
+    }
+
+    @Test
+    void shouldSkipLinesLongerThanBuffer() throws Exception {
+        String feed = "START Mexico Canada\nSTART " + "X".repeat(100) + " Canada\nSCORE Mexico Canada 1 0\n";
+        ScoreFeedReader reader = new ScoreFeedReader(scoreboard, 32);
+
+        FeedStats stats = reader.readFrom(new TrickleChannel(feed.getBytes(StandardCharsets.UTF_8), 7));
+
+        assertEquals(new FeedStats(3, 2, 0, 1), stats);
+        assertEquals(1, scoreboard.getSummary().get(0).getHomeScore());
+    }
+
+    @Test
+    void shouldReuseTeamNamesOfKnownTeams() throws Exception {
+        ScoreFeedReader reader = new ScoreFeedReader(scoreboard);
+        reader.readFrom(channelOf("START Mexico Canada\n"));
+        FootballMatch started = scoreboard.getSummary().get(0);
+
+        reader.readFrom(channelOf("FINISH Mexico Canada\nSTART Mexico Canada\n"));
+
+        assertSame(started.homeTeam(), scoreboard.getSummary().get(0).homeTeam());
+    }
+
+    @Test
+    void shouldIngestConcurrentLoopbackConnections() throws Exception {
+        try (ServerSocketChannel server = ServerSocketChannel.open()) {
+            server.bind(new InetSocketAddress(InetAddress.getLoopbackAddress(), 0));
+            adapter.serve(server);
+
+            int connectionCount = 10;
+            for (int connection = 0; connection < connectionCount; connection++) {
+                try (SocketChannel client = SocketChannel.open(server.getLocalAddress())) {
+                    StringBuilder feed = new StringBuilder("START Home" + connection + " Away" + connection + "\n");
+                    for (int goals = 1; goals <= 50; goals++) {
+                        feed.append("SCORE Home").append(connection).append(" Away").append(connection)
+                                .append(' ').append(goals).append(" 0\n");
+                    }
+                    client.write(ByteBuffer.wrap(feed.toString().getBytes(StandardCharsets.UTF_8)));
+                }
+            }
+
+            long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(10);
+            while (adapter.totals().lines() < connectionCount * 51L && System.nanoTime() < deadline) {
+                Thread.sleep(10);
+            }
+        }
+
+        assertEquals(new FeedStats(510, 510, 0, 0), adapter.totals());
+        assertTrue(scoreboard.getSummary().stream().allMatch(match -> match.getHomeScore() == 50));
+    }
+
+    private static ReadableByteChannel channelOf(String feed) {
+        return Channels.newChannel(new ByteArrayInputStream(feed.getBytes(StandardCharsets.UTF_8)));
+    }
+
+    /**
+     * Channel returning at most a few bytes per read, to split lines across reads.
+     */
+    private static final class TrickleChannel implements ReadableByteChannel {
+        private final ByteBuffer source;
+        private final int chunkSize;
+
+        private TrickleChannel(byte[] bytes, int chunkSize) {
+            this.source = ByteBuffer.wrap(bytes);
+            this.chunkSize = chunkSize;
+        }
+
+        @Override
+        public int read(ByteBuffer destination) {
+            if (!source.hasRemaining()) {
+                return -1;
+            }
+            int length = Math.min(chunkSize, Math.min(source.remaining(), destination.remaining()));
+            destination.put(destination.position(), source, source.position(), length);
+            destination.position(destination.position() + length);
+            source.position(source.position() + length);
+            return length;
+        }
+
+        @Override
+        public boolean isOpen() {
+            return true;
+        }
+
+        @Override
+        public void close() {
+        }
+    }
+}
@@ -0,0 +1,177 @@
+package http;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import com.sportradar.test.lib.FootballWorldCupScoreboard;
+import com.sportradar.test.lib.http.ScoreboardHttpServer;
+import com.sportradar.test.lib.render.SummaryFormat;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import utils.TestUtils;
+import java.io.IOException;
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.ByteBuffer;
+import java.time.Duration;
+import java.util.Iterator;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Stream;
+
+/**
+ * Tests for ScoreboardHttpServer on localhost.
+ * Ensures conditional and long-polling summary requests and the change event stream work over HTTP.
+ */
+class ScoreboardHttpServerTest {
+    private FootballWorldCupScoreboard scoreboard;
+    private ScoreboardHttpServer server;
+    private HttpClient client;
+
+    @BeforeEach
+    void setUp() throws IOException {
+        scoreboard = new FootballWorldCupScoreboard(TestUtils.FIXED_CLOCK);
+        server = new ScoreboardHttpServer(scoreboard, scoreboard.changes(),
+                new InetSocketAddress(InetAddress.getLoopbackAddress(), 0), Duration.ofMillis(300));
+        client = HttpClient.newHttpClient();
+    }
+
+    @AfterEach
+    void tearDown() {
+        server.close();
+        client.close();
+    }
+
+    @Test
+    void shouldServeSummaryWithEtagAndAnswerMatchingRequestsWithNotModified() throws Exception {
+        scoreboard.startMatch("Mexico", "Canada");
+
+        HttpResponse<String> response = get("/summary");
+
+        assertEquals(200, response.statusCode());
+        assertEquals("application/json", response.headers().firstValue("Content-Type").orElseThrow());
+        assertTrue(response.body().startsWith("{\"version\":1,\"matches\":[{\"homeTeam\":\"Mexico\""));
+        String etag = response.headers().firstValue("ETag").orElseThrow();
+
+        HttpResponse<String> conditional = client.send(request("/summary").header("If-None-Match", etag).build(),
+                HttpResponse.BodyHandlers.ofString());
+        assertEquals(304, conditional.statusCode());
+
+        scoreboard.updateScore("Mexico", "Canada", 1, 0);
+        HttpResponse<String> changed = client.send(request("/summary").header("If-None-Match", etag).build(),
+                HttpResponse.BodyHandlers.ofString());
+        assertEquals(200, changed.statusCode());
+    }
+
+    @Test
+    void shouldServeBinarySummary() throws Exception {
+        scoreboard.startMatch("Mexico", "Canada");
+
+        HttpResponse<byte[]> response = client.send(request("/summary?format=binary").build(),
+                HttpResponse.BodyHandlers.ofByteArray());
+
+        assertEquals(200, response.statusCode());
+        assertEquals(SummaryFormat.BINARY_MAGIC, ByteBuffer.wrap(response.body()).getInt());
+    }
+
+    @Test
+    void shouldHoldLongPollUntilNewVersion() throws Exception {
+        scoreboard.startMatch("Mexico", "Canada");
+
+        CompletableFuture<HttpResponse<String>> poll = client.sendAsync(request("/summary?since=1").build(),
+                HttpResponse.BodyHandlers.ofString());
+        Thread.sleep(50);
+        scoreboard.updateScore("Mexico", "Canada", 2, 0);
+
+        HttpResponse<String> response = poll.get(5, TimeUnit.SECONDS);
+        assertEquals(200, response.statusCode());
+        assertTrue(response.body().startsWith("{\"version\":2,"));
+    }
+
+    @Test
+    void shouldAnswerLongPollWithNotModifiedAfterTimeout() throws Exception {
+        scoreboard.startMatch("Mexico", "Canada");
+
+        HttpResponse<String> response = get("/summary?since=1");
+
+        assertEquals(304, response.statusCode());
+        assertEquals("\"1-json\"", response.headers().firstValue("ETag").orElseThrow());
+    }
+
+    @Test
+    void shouldStreamChangeEvents() throws Exception {
+        HttpResponse<Stream<String>> response = client.send(request("/events").build(),
+                HttpResponse.BodyHandlers.ofLines());
+        assertEquals("text/event-stream", response.headers().firstValue("Content-Type").orElseThrow());
+        Iterator<String> lines = response.body().iterator();
+        // The stream is registered once its first comment is sent
+        assertEquals(": connected", lines.next());
+
+        scoreboard.startMatch("Mexico", "Canada");
+
+        String line = lines.next();
+        while (line.isEmpty() || line.startsWith(":")) {
+            line = lines.next();
+        }
+        assertEquals("id: 1", line);
+        assertEquals("event: MatchStarted", lines.next());
+        assertTrue(lines.next().startsWith("data: {\"version\":1,\"match\":{\"homeTeam\":\"Mexico\""));
+        response.body().close();
+    }
+
+    @Test
+    void shouldSubscribeToChangeEventsOnlyWhileEventStreamsAreConnected() throws Exception {
+        scoreboard.startMatch("Mexico", "Canada");
+        CompletableFuture<HttpResponse<String>> poll = client.sendAsync(request("/summary?since=1").build(),
+                HttpResponse.BodyHandlers.ofString());
+        Thread.sleep(50);
+        scoreboard.updateScore("Mexico", "Canada", 1, 0);
+        assertEquals(200, poll.get(5, TimeUnit.SECONDS).statusCode());
+        long rendered = scoreboard.summarySnapshots();
+
+        scoreboard.updateScore("Mexico", "Canada", 2, 0);
+        // Without event streams, writers do not take summaries for change events
+        assertEquals(rendered, scoreboard.summarySnapshots());
+
+        HttpResponse<Stream<String>> response = client.send(request("/events").build(),
+                HttpResponse.BodyHandlers.ofLines());
+        assertEquals(": connected", response.body().iterator().next());
+        scoreboard.updateScore("Mexico", "Canada", 3, 0);
+        assertTrue(scoreboard.summarySnapshots() > rendered);
+        response.body().close();
+
+        // The closed stream is noticed when the next events are written to it
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+        int homeScore = 3;
+        long snapshots;
+        do {
+            snapshots = scoreboard.summarySnapshots();
+            scoreboard.updateScore("Mexico", "Canada", ++homeScore, 0);
+            Thread.sleep(20);
+        } while (scoreboard.summarySnapshots() != snapshots && System.nanoTime() < deadline);
+        assertEquals(snapshots, scoreboard.summarySnapshots());
+    }
+
+    @Test
+    void shouldRejectInvalidRequests() throws Exception {
+        assertEquals(400, get("/summary?since=soon").statusCode());
+        assertEquals(400, get("/summary?format=xml").statusCode());
+        assertEquals(404, get("/summary/all").statusCode());
+        assertEquals(405, client.send(request("/summary").POST(HttpRequest.BodyPublishers.noBody()).build(),
+                HttpResponse.BodyHandlers.discarding()).statusCode());
+    }
+
+    private HttpResponse<String> get(String path) throws IOException, InterruptedException {
+        return client.send(request(path).build(), HttpResponse.BodyHandlers.ofString());
+    }
+
+    private HttpRequest.Builder request(String path) {
+        InetSocketAddress address = server.address();
+        return HttpRequest.newBuilder(URI.create("http://" + address.getHostString() + ":" + address.getPort() + path))
+                .timeout(Duration.ofSeconds(5));
+    }
+}
@@ -0,0 +1,74 @@
+package ingest;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static utils.TestUtils.assertThrowsWithMessage;
+import com.sportradar.test.lib.command.ScoreboardCommand;
+import com.sportradar.test.lib.ingest.CommandRingBuffer;
+import org.junit.jupiter.api.Test;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Unit tests for CommandRingBuffer.
+ */
+class CommandRingBufferTest {
+
+    @Test
+    void shouldTakeCommandsInOrderAcrossLaps() {
+        CommandRingBuffer ringBuffer = new CommandRingBuffer(4);
+        List<ScoreboardCommand> taken = new ArrayList<>();
+        List<CompletableFuture<Boolean>> acknowledgements = new ArrayList<>();
+
+        for (int lap = 0; lap < 3; lap++) {
+            for (int i = 0; i < 3; i++) {
+                ringBuffer.put(ScoreboardCommand.update("Home", "Away", lap, i), null);
+            }
+            ringBuffer.drainTo(taken, acknowledgements, 2);
+            ringBuffer.drainTo(taken, acknowledgements, 2);
+        }
+
+        assertEquals(9, taken.size());
+        assertEquals(ScoreboardCommand.update("Home", "Away", 1, 2), taken.get(5));
+        assertEquals(ScoreboardCommand.update("Home", "Away", 2, 0), taken.get(6));
+        assertTrue(ringBuffer.isEmpty());
+    }
+
+    @Test
+    void shouldBlockProducerWhileBufferIsFull() throws Exception {
+        CommandRingBuffer ringBuffer = new CommandRingBuffer(2);
+        ringBuffer.put(ScoreboardCommand.start("A", "B"), null);
+        ringBuffer.put(ScoreboardCommand.start("C", "D"), null);
+
+        CompletableFuture<Void> blockedPut = CompletableFuture.runAsync(
+                () -> ringBuffer.put(ScoreboardCommand.start("E", "F"), null));
+        Thread.sleep(50);
+        assertFalse(blockedPut.isDone());
+
+        ringBuffer.drainTo(new ArrayList<>(), new ArrayList<>(), 1);
+        blockedPut.get(5, TimeUnit.SECONDS);
+    }
+
+    @Test
+    void shouldDrainCommandsPublishedBeforeClose() {
+        CommandRingBuffer ringBuffer = new CommandRingBuffer(4);
+        ringBuffer.put(ScoreboardCommand.start("A", "B"), null);
+        ringBuffer.close();
+
+        assertFalse(ringBuffer.isDrained());
+        assertThrowsWithMessage(IllegalStateException.class,
+                () -> ringBuffer.put(ScoreboardCommand.start("C", "D"), null), CommandRingBuffer.CLOSED_ERROR);
+
+        assertEquals(1, ringBuffer.drainTo(new ArrayList<>(), new ArrayList<>(), 10));
+        assertTrue(ringBuffer.isDrained());
+    }
+
+    @Test
+    void shouldRejectCapacityThatIsNotPowerOfTwo() {
+        assertThrowsWithMessage(IllegalArgumentException.class,
+                () -> new CommandRingBuffer(6), CommandRingBuffer.INVALID_CAPACITY_ERROR);
+    }
+}
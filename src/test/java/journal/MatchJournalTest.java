@@ -0,0 +1,196 @@
+package journal;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import com.sportradar.test.lib.FootballWorldCupScoreboard;
+import com.sportradar.test.lib.command.ScoreboardCommand;
+import com.sportradar.test.lib.domain.FootballMatch;
+import com.sportradar.test.lib.journal.Durability;
+import com.sportradar.test.lib.journal.MatchJournal;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import utils.TestUtils;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.zip.CRC32C;
+
+/**
+ * Unit tests for MatchJournal.
+ * Ensures that a scoreboard rebuilt from its journal has the same state as before the restart.
+ */
+class MatchJournalTest {
+
+    @TempDir
+    Path tempDir;
+
+    @Test
+    void shouldRestoreScoreboardFromJournalForEveryDurability() throws IOException {
+        for (Durability durability : Durability.values()) {
+            Path journalFile = tempDir.resolve(durability + ".journal");
+            List<FootballMatch> expected;
+            try (MatchJournal journal = MatchJournal.open(journalFile, durability)) {
+                FootballWorldCupScoreboard scoreboard = new FootballWorldCupScoreboard(TestUtils.tickingClock(), journal);
+                scoreboard.startMatch("Mexico", "Canada");
+                scoreboard.startMatch("Spain", "Brazil");
+                scoreboard.startMatch("Germany", "France");
+                scoreboard.updateScore("Mexico", "Canada", 0, 5);
+                scoreboard.updateScore("Spain", "Brazil", 3, 2);
+                scoreboard.finishMatch("Germany", "France");
+                expected = scoreboard.getSummary();
+            }
+
+            assertEquals(expected, restore(journalFile));
+        }
+    }
+
+    @Test
+    void shouldRestoreBatchesAndIdBasedOperations() throws IOException {
+        Path journalFile = tempDir.resolve("batch.journal");
+        List<FootballMatch> expected;
+        try (MatchJournal journal = MatchJournal.open(journalFile, Durability.SYNC)) {
+            FootballWorldCupScoreboard scoreboard = new FootballWorldCupScoreboard(TestUtils.tickingClock(), journal);
+            scoreboard.applyAll(List.of(
+                    ScoreboardCommand.start("Uruguay", "Italy"),
+                    ScoreboardCommand.start("Argentina", "Australia"),
+                    ScoreboardCommand.update("Uruguay", "Italy", 6, 6),
+                    ScoreboardCommand.finish("Germany", "France")));
+            int argentina = scoreboard.registerTeam("Argentina");
+            int australia = scoreboard.registerTeam("Australia");
+            scoreboard.updateScore(argentina, australia, 3, 1);
+            expected = scoreboard.getSummary();
+        }
+
+        assertEquals(expected, restore(journalFile));
+    }
+
+    @Test
+    void shouldContinueJournalAfterRestart() throws IOException {
+        Path journalFile = tempDir.resolve("restart.journal");
+        try (MatchJournal journal = MatchJournal.open(journalFile, Durability.SYNC)) {
+            new FootballWorldCupScoreboard(TestUtils.tickingClock(), journal).startMatch("Mexico", "Canada");
+        }
+        try (MatchJournal journal = MatchJournal.open(journalFile, Durability.SYNC)) {
+            FootballWorldCupScoreboard scoreboard = new FootballWorldCupScoreboard(TestUtils.tickingClock(), journal);
+            scoreboard.startMatch("Spain", "Brazil");
+            scoreboard.updateScore("Mexico", "Canada", 1, 0);
+        }
+
+        List<FootballMatch> restored = restore(journalFile);
+        assertEquals(2, restored.size());
+        assertEquals("Mexico", restored.get(0).homeTeam());
+        assertEquals(1, restored.get(0).getHomeScore());
+        assertEquals("Spain", restored.get(1).homeTeam());
+    }
+
+    @Test
+    void shouldResolveTeamsOfEarlierSessionsAfterRepeatedRestarts() throws IOException {
+        Path journalFile = tempDir.resolve("team-ids.journal");
+        try (MatchJournal journal = MatchJournal.open(journalFile, Durability.SYNC)) {
+            FootballWorldCupScoreboard scoreboard = new FootballWorldCupScoreboard(TestUtils.tickingClock(), journal);
+            // Shifts the ids of the teams of the first session compared to later sessions
+            scoreboard.registerTeam("Brazil");
+            scoreboard.startMatch("Argentina", "Germany");
+            scoreboard.startMatch("Spain", "Italy");
+        }
+        try (MatchJournal journal = MatchJournal.open(journalFile, Durability.SYNC)) {
+            FootballWorldCupScoreboard scoreboard = new FootballWorldCupScoreboard(TestUtils.tickingClock(), journal);
+            scoreboard.updateScore("Spain", "Italy", 2, 1);
+            scoreboard.finishMatch("Argentina", "Germany");
+        }
+        try (MatchJournal journal = MatchJournal.open(journalFile, Durability.SYNC)) {
+            FootballWorldCupScoreboard scoreboard = new FootballWorldCupScoreboard(TestUtils.tickingClock(), journal);
+            scoreboard.updateScore("Spain", "Italy", 3, 1);
+        }
+
+        List<FootballMatch> restored = restore(journalFile);
+        assertEquals(1, restored.size());
+        assertEquals("Spain", restored.get(0).homeTeam());
+        assertEquals("Italy", restored.get(0).awayTeam());
+        assertEquals(3, restored.get(0).getHomeScore());
+        assertEquals(1, restored.get(0).getAwayScore());
+    }
+
+    @Test
+    void shouldTruncateTornFrameOnReplay() throws IOException {
+        Path journalFile = tempDir.resolve("torn.journal");
+        try (MatchJournal journal = MatchJournal.open(journalFile, Durability.SYNC)) {
+            FootballWorldCupScoreboard scoreboard = new FootballWorldCupScoreboard(TestUtils.tickingClock(), journal);
+            scoreboard.startMatch("Mexico", "Canada");
+            scoreboard.updateScore("Mexico", "Canada", 2, 0);
+        }
+        long validSize = Files.size(journalFile);
+        // Simulates a crash in the middle of writing the next frame
+        Files.write(journalFile, new byte[] {0, 0, 0, 40, 1, 2, 3}, StandardOpenOption.APPEND);
+
+        try (MatchJournal journal = MatchJournal.open(journalFile, Durability.SYNC)) {
+            FootballWorldCupScoreboard scoreboard = new FootballWorldCupScoreboard(TestUtils.tickingClock(), journal);
+            assertEquals(validSize, Files.size(journalFile));
+            assertEquals(2, scoreboard.getSummary().get(0).getHomeScore());
+            scoreboard.updateScore("Mexico", "Canada", 3, 0);
+        }
+
+        assertEquals(3, restore(journalFile).get(0).getHomeScore());
+    }
+
+    @Test
+    void shouldRejectValidFrameReferringToUndefinedTeam() throws IOException {
+        Path journalFile = tempDir.resolve("undefined-team.journal");
+        // A single update record of teams 5 and 6, whose team records are missing
+        ByteBuffer payload = ByteBuffer.allocate(17).put((byte) 3).putInt(5).putInt(6).putInt(1).putInt(0);
+        CRC32C checksum = new CRC32C();
+        checksum.update(payload.array());
+        ByteBuffer frame = ByteBuffer.allocate(8 + payload.capacity())
+                .putInt(payload.capacity()).putInt((int) checksum.getValue()).put(payload.array());
+        Files.write(journalFile, frame.array());
+
+        try (MatchJournal journal = MatchJournal.open(journalFile, Durability.NONE)) {
+            UncheckedIOException exception = assertThrows(UncheckedIOException.class,
+                    () -> new FootballWorldCupScoreboard(TestUtils.FIXED_CLOCK, journal));
+            assertEquals(MatchJournal.UNDEFINED_TEAM_ERROR + 5, exception.getCause().getMessage());
+        }
+    }
+
+    @Test
+    void shouldJournalConcurrentSyncWriters() throws Exception {
+        Path journalFile = tempDir.resolve("concurrent.journal");
+        int threadCount = 8;
+        try (MatchJournal journal = MatchJournal.open(journalFile, Durability.SYNC)) {
+            FootballWorldCupScoreboard scoreboard = new FootballWorldCupScoreboard(TestUtils.FIXED_CLOCK, journal);
+            ExecutorService executorService = Executors.newFixedThreadPool(threadCount);
+            List<Future<?>> futures = new ArrayList<>();
+            for (int i = 0; i < threadCount; i++) {
+                final int thread = i;
+                futures.add(executorService.submit(() -> {
+                    scoreboard.startMatch("Home" + thread, "Away" + thread);
+                    for (int goal = 1; goal <= 20; goal++) {
+                        scoreboard.updateScore("Home" + thread, "Away" + thread, goal, 0);
+                    }
+                }));
+            }
+            for (Future<?> future : futures) {
+                future.get();
+            }
+            executorService.shutdown();
+        }
+
+        List<FootballMatch> restored = restore(journalFile);
+        assertEquals(threadCount, restored.size());
+        assertTrue(restored.stream().allMatch(match -> match.getHomeScore() == 20));
+    }
+
+    private List<FootballMatch> restore(Path journalFile) throws IOException {
+        try (MatchJournal journal = MatchJournal.open(journalFile, Durability.NONE)) {
+            return new FootballWorldCupScoreboard(TestUtils.FIXED_CLOCK, journal).getSummary();
+        }
+    }
+}
@@ -0,0 +1,101 @@
+package load;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static utils.TestUtils.assertThrowsWithMessage;
+import com.sportradar.test.lib.FootballWorldCupScoreboard;
+import com.sportradar.test.lib.ShardedScoreboard;
+import com.sportradar.test.lib.command.OperationStatus;
+import com.sportradar.test.lib.domain.FootballMatch;
+import com.sportradar.test.lib.load.LoadGenerator;
+import com.sportradar.test.lib.load.LoadReport;
+import com.sportradar.test.lib.load.TournamentProfile;
+import org.junit.jupiter.api.Test;
+import utils.TestUtils;
+import java.util.Comparator;
+import java.util.List;
+
+/**
+ * Unit tests for LoadGenerator.
+ * Ensures runs are reported completely and are reproducible from their seed.
+ */
+class LoadGeneratorTest {
+
+    private static final TournamentProfile PROFILE = new TournamentProfile(16, 2, 1, 2_000, 2.0, 0.05, 7);
+
+    @Test
+    void shouldReportAllOperationsOfRun() throws InterruptedException {
+        FootballWorldCupScoreboard scoreboard = new FootballWorldCupScoreboard(TestUtils.FIXED_CLOCK);
+
+        LoadReport report = new LoadGenerator(PROFILE).run(scoreboard);
+
+        assertEquals(0, report.rejectedWrites());
+        assertTrue(report.writes() >= 2 * PROFILE.operationsPerWriter());
+        assertEquals(PROFILE.matches() + report.writes(), report.finalVersion());
+        assertEquals(report.writes(), report.writeLatency().count());
+        assertEquals(report.reads(), report.readLatency().count());
+        assertEquals(PROFILE.matches(), scoreboard.getSummary().size());
+        assertTrue(report.writesPerSecond() > 0);
+        assertTrue(report.format().contains("p99.9"));
+    }
+
+    @Test
+    void shouldReproduceSummaryOfSingleWriterFromSeed() throws InterruptedException {
+        TournamentProfile profile = new TournamentProfile(8, 1, 0, 5_000, 1.5, 0.02, 11);
+
+        assertEquals(summaryAfter(profile), summaryAfter(profile));
+        assertNotEquals(summaryAfter(profile),
+                summaryAfter(new TournamentProfile(8, 1, 0, 5_000, 1.5, 0.02, 12)));
+    }
+
+    @Test
+    void shouldReproduceScoresOfConcurrentWritersFromSeed() throws InterruptedException {
+        ShardedScoreboard first = new ShardedScoreboard(TestUtils.FIXED_CLOCK, 4);
+        ShardedScoreboard second = new ShardedScoreboard(TestUtils.FIXED_CLOCK, 4);
+
+        new LoadGenerator(PROFILE).run(first);
+        new LoadGenerator(PROFILE).run(second);
+
+        // Concurrent restarts may take start sequences in a different order, so only the scores are compared
+        assertEquals(byHomeTeam(first.getSummary()), byHomeTeam(second.getSummary()));
+    }
+
+    @Test
+    void shouldReportFailureOfWriterInsteadOfWaitingForIt() {
+        FootballWorldCupScoreboard scoreboard = new FootballWorldCupScoreboard(TestUtils.FIXED_CLOCK) {
+            @Override
+            public OperationStatus tryUpdateScore(String homeTeam, String awayTeam, int homeScore, int awayScore) {
+                throw new IllegalStateException("Feed failure");
+            }
+        };
+
+        IllegalStateException exception = assertThrows(IllegalStateException.class,
+                () -> new LoadGenerator(new TournamentProfile(8, 2, 2, 1_000, 1, 0, 3)).run(scoreboard));
+        assertEquals(LoadGenerator.LOAD_THREAD_FAILED_ERROR, exception.getMessage());
+        assertEquals("Feed failure", exception.getCause().getMessage());
+    }
+
+    @Test
+    void shouldRejectInvalidProfiles() {
+        assertThrowsWithMessage(IllegalArgumentException.class,
+                () -> new TournamentProfile(2, 3, 0, 1, 1, 0, 0), TournamentProfile.INVALID_MATCHES_ERROR);
+        assertThrowsWithMessage(IllegalArgumentException.class,
+                () -> new TournamentProfile(2, 1, -1, 1, 1, 0, 0), TournamentProfile.NEGATIVE_COUNT_ERROR);
+        assertThrowsWithMessage(IllegalArgumentException.class,
+                () -> new TournamentProfile(2, 1, 0, 1, 0.5, 0, 0), TournamentProfile.INVALID_GOAL_SKEW_ERROR);
+        assertThrowsWithMessage(IllegalArgumentException.class,
+                () -> new TournamentProfile(2, 1, 0, 1, 1, 1.5, 0), TournamentProfile.INVALID_CHURN_ERROR);
+    }
+
+    private static List<FootballMatch> summaryAfter(TournamentProfile profile) throws InterruptedException {
+        FootballWorldCupScoreboard scoreboard = new FootballWorldCupScoreboard(TestUtils.FIXED_CLOCK);
+        new LoadGenerator(profile).run(scoreboard);
+        return scoreboard.getSummary();
+    }
+
+    private static List<FootballMatch> byHomeTeam(List<FootballMatch> summary) {
+        return summary.stream().sorted(Comparator.comparing(FootballMatch::homeTeam)).toList();
+    }
+}
@@ -0,0 +1,142 @@
+package metrics;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import com.sportradar.test.lib.FootballWorldCupScoreboard;
+import com.sportradar.test.lib.InstrumentedScoreboard;
+import com.sportradar.test.lib.command.ScoreboardCommand;
+import com.sportradar.test.lib.exception.MatchAlreadyExistsException;
+import com.sportradar.test.lib.exception.MatchNotFoundException;
+import com.sportradar.test.lib.metrics.HistogramSnapshot;
+import com.sportradar.test.lib.metrics.LatencyHistogram;
+import com.sportradar.test.lib.metrics.MetricsSnapshot;
+import com.sportradar.test.lib.metrics.ScoreboardMetrics;
+import com.sportradar.test.lib.metrics.ScoreboardOperation;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import utils.TestUtils;
+import java.lang.management.ManagementFactory;
+import java.util.List;
+import java.util.Map;
+import javax.management.MBeanServer;
+import javax.management.ObjectName;
+import javax.management.openmbean.CompositeData;
+import javax.management.openmbean.TabularData;
+
+/**
+ * Unit tests for the scoreboard metrics and the instrumented scoreboard.
+ */
+class ScoreboardMetricsTest {
+    private ScoreboardMetrics metrics;
+    private InstrumentedScoreboard scoreboard;
+
+    @BeforeEach
+    void setUp() {
+        metrics = new ScoreboardMetrics();
+        scoreboard = new InstrumentedScoreboard(
+                new FootballWorldCupScoreboard(TestUtils.FIXED_CLOCK, null, metrics), metrics);
+    }
+
+    @Test
+    void shouldCountOperationsAndFailuresByType() {
+        scoreboard.startMatch("Mexico", "Canada");
+        scoreboard.updateScore("Mexico", "Canada", 0, 1);
+        scoreboard.getSummary();
+        scoreboard.getTopMatches(5);
+        assertThrows(MatchAlreadyExistsException.class, () -> scoreboard.startMatch("Mexico", "Canada"));
+        assertThrows(MatchNotFoundException.class, () -> scoreboard.finishMatch("Spain", "Brazil"));
+        assertThrows(IllegalArgumentException.class, () -> scoreboard.updateScore("Mexico", "Canada", -1, 0));
+
+        MetricsSnapshot snapshot = metrics.snapshot();
+
+        assertEquals(2, snapshot.operations().get(ScoreboardOperation.START_MATCH).count());
+        assertEquals(1, snapshot.operations().get(ScoreboardOperation.START_MATCH).failures());
+        assertEquals(2, snapshot.operations().get(ScoreboardOperation.UPDATE_SCORE).count());
+        assertEquals(1, snapshot.operations().get(ScoreboardOperation.FINISH_MATCH).failures());
+        assertEquals(1, snapshot.operations().get(ScoreboardOperation.GET_SUMMARY).count());
+        assertEquals(1, snapshot.operations().get(ScoreboardOperation.GET_SUMMARY_PAGE).count());
+        assertEquals(Map.of("MatchAlreadyExistsException", 1L, "MatchNotFoundException", 1L,
+                "IllegalArgumentException", 1L), snapshot.failuresByType());
+        assertEquals(2, snapshot.operations().get(ScoreboardOperation.UPDATE_SCORE).latency().count());
+    }
+
+    @Test
+    void shouldCountFailedBatchCommands() {
+        scoreboard.applyAll(List.of(
+                ScoreboardCommand.start("Mexico", "Canada"),
+                ScoreboardCommand.update("Spain", "Brazil", 1, 0),
+                ScoreboardCommand.finish("Germany", "France")));
+
+        MetricsSnapshot snapshot = metrics.snapshot();
+
+        assertEquals(1, snapshot.operations().get(ScoreboardOperation.APPLY_ALL).count());
+        assertEquals(2, snapshot.operations().get(ScoreboardOperation.APPLY_ALL).failures());
+        assertEquals(2L, snapshot.failuresByType().get("MatchNotFoundException"));
+    }
+
+    @Test
+    void shouldCountRejectedExceptionFreeOperationsLikeFailures() {
+        scoreboard.tryStartMatch("Mexico", "Canada");
+        scoreboard.tryStartMatch("Mexico", "Canada");
+        scoreboard.tryUpdateScore("Spain", "Brazil", 1, 0);
+        scoreboard.tryFinishMatch("Mexico", null);
+
+        MetricsSnapshot snapshot = metrics.snapshot();
+
+        assertEquals(2, snapshot.operations().get(ScoreboardOperation.START_MATCH).count());
+        assertEquals(1, snapshot.operations().get(ScoreboardOperation.START_MATCH).failures());
+        assertEquals(1, snapshot.operations().get(ScoreboardOperation.UPDATE_SCORE).failures());
+        assertEquals(Map.of("MatchAlreadyExistsException", 1L, "MatchNotFoundException", 1L,
+                "IllegalArgumentException", 1L), snapshot.failuresByType());
+    }
+
+    @Test
+    void shouldRecordSummaryPublishAndLockWaits() {
+        scoreboard.startMatch("Mexico", "Canada");
+        scoreboard.updateScore("Mexico", "Canada", 1, 0);
+        scoreboard.finishMatch("Mexico", "Canada");
+
+        MetricsSnapshot snapshot = metrics.snapshot();
+
+        assertEquals(3, snapshot.summaryPublish().count());
+        assertEquals(3, snapshot.lockWait().count());
+    }
+
+    @Test
+    void shouldEstimatePercentilesWithinBucketPrecision() {
+        LatencyHistogram histogram = new LatencyHistogram();
+        for (long value = 1; value <= 10_000; value++) {
+            histogram.record(value * 1_000);
+        }
+
+        HistogramSnapshot snapshot = histogram.snapshot();
+
+        assertEquals(10_000, snapshot.count());
+        assertEquals(10_000_000, snapshot.maxNanos());
+        assertWithinPercent(5_000_000, snapshot.p50Nanos(), 7);
+        assertWithinPercent(9_900_000, snapshot.p99Nanos(), 7);
+        assertWithinPercent(5_000_500, (long) snapshot.meanNanos(), 1);
+    }
+
+    @Test
+    void shouldExposeMetricsThroughJmx() throws Exception {
+        scoreboard.startMatch("Mexico", "Canada");
+        ObjectName name = metrics.registerMBean("metrics-test");
+        try {
+            MBeanServer server = ManagementFactory.getPlatformMBeanServer();
+            TabularData counts = (TabularData) server.getAttribute(name, "OperationCounts");
+            CompositeData startCount = counts.get(new Object[] {ScoreboardOperation.START_MATCH.name()});
+
+            assertEquals(1L, startCount.get("value"));
+            assertTrue(server.getAttribute(name, "ContendedLockAcquisitions") instanceof Long);
+        } finally {
+            ManagementFactory.getPlatformMBeanServer().unregisterMBean(name);
+        }
+    }
+
+    private static void assertWithinPercent(long expected, long actual, int percent) {
+        assertTrue(Math.abs(actual - expected) <= expected * percent / 100,
+                () -> "Expected " + actual + " to be within " + percent + "% of " + expected);
+    }
+}
@@ -0,0 +1,136 @@
+package ranking;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import com.sportradar.test.lib.domain.FootballMatch;
+import com.sportradar.test.lib.ranking.MatchSlot;
+import com.sportradar.test.lib.ranking.RankedMatchIndex;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import utils.TestUtils;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+
+/**
+ * Unit tests for RankedMatchIndex.
+ * Ensures the incremental index keeps the same order as a full re-sort of all matches.
+ */
+class RankedMatchIndexTest {
+    private static final Comparator<FootballMatch> FULL_SORT_ORDER = Comparator
+            .comparingInt(FootballMatch::getTotalScore).reversed()
+            .thenComparing(FootballMatch::startTime, Comparator.reverseOrder());
+
+    private RankedMatchIndex rankedMatchIndex;
+    private Map<String, MatchSlot> matches;
+    private Instant startTime;
+    private long startSequence;
+
+    @BeforeEach
+    void setUp() {
+        rankedMatchIndex = new RankedMatchIndex();
+        matches = new HashMap<>();
+        startTime = TestUtils.FIXED_CLOCK.instant();
+        startSequence = 0;
+    }
+
+    @Test
+    void shouldKeepSameOrderAsFullSortUnderRandomMutations() {
+        Random random = new Random(42);
+
+        for (int i = 0; i < 5_000; i++) {
+            String homeTeam = "Home" + random.nextInt(200);
+            MatchSlot existing = matches.get(homeTeam);
+            if (existing == null) {
+                start(homeTeam);
+            } else if (random.nextInt(10) == 0) {
+                rankedMatchIndex.remove(matches.remove(homeTeam));
+            } else {
+                update(existing, random.nextInt(8), random.nextInt(8));
+            }
+        }
+
+        assertEquals(fullSort(), rankedMatchIndex.snapshot(0).matches());
+        assertEquals(matches.size(), rankedMatchIndex.size());
+    }
+
+    @Test
+    void shouldOrderMatchesStartedAtSameTimeByStartSequence() {
+        MatchSlot first = start("Germany", Instant.EPOCH);
+        MatchSlot second = start("Argentina", Instant.EPOCH);
+        MatchSlot third = start("Spain", Instant.EPOCH);
+        update(first, 2, 2);
+        update(second, 3, 1);
+        update(third, 0, 1);
+
+        List<FootballMatch> summary = rankedMatchIndex.snapshot(0).matches();
+
+        assertEquals("Argentina", summary.get(0).homeTeam());
+        assertEquals("Germany", summary.get(1).homeTeam());
+        assertEquals("Spain", summary.get(2).homeTeam());
+    }
+
+    @Test
+    void shouldRebuildFromSortedSlotsAndKeepRepositioning() {
+        for (int i = 0; i < 100; i++) {
+            update(start("Home" + i), i % 7, i % 3);
+        }
+        List<MatchSlot> sortedSlots = new ArrayList<>(matches.values());
+        sortedSlots.sort(Comparator.comparing(slot -> slot.toRankedMatch().match(), FULL_SORT_ORDER));
+
+        RankedMatchIndex rebuilt = new RankedMatchIndex();
+        rebuilt.rebuild(sortedSlots);
+        rankedMatchIndex = rebuilt;
+        update(matches.get("Home5"), 9, 9);
+        rankedMatchIndex.remove(matches.remove("Home6"));
+
+        assertEquals(fullSort(), rankedMatchIndex.snapshot(0).matches());
+        assertEquals(99, rankedMatchIndex.size());
+    }
+
+    @Test
+    void shouldReuseMaterializedMatchesUntilScoresChange() {
+        MatchSlot unchanged = start("Germany");
+        MatchSlot changed = start("Spain");
+        FootballMatch unchangedMatch = rankedMatchIndex.snapshot(0).matches().get(1);
+        FootballMatch changedMatch = rankedMatchIndex.snapshot(0).matches().get(0);
+
+        update(changed, 1, 0);
+        List<FootballMatch> summary = rankedMatchIndex.snapshot(1).matches();
+
+        assertSame(unchangedMatch, summary.get(1));
+        assertEquals(1, summary.get(0).getHomeScore());
+        assertEquals(0, changedMatch.getHomeScore());
+        assertEquals(1, changed.homeScore());
+        assertEquals(0, unchanged.totalScore());
+    }
+
+    private MatchSlot start(String homeTeam) {
+        startTime = startTime.plusMillis(1);
+        return start(homeTeam, startTime);
+    }
+
+    private MatchSlot start(String homeTeam, Instant matchStartTime) {
+        MatchSlot slot = new MatchSlot(homeTeam, "Away", 0, 0, matchStartTime, startSequence++);
+        matches.put(homeTeam, slot);
+        rankedMatchIndex.add(slot);
+        return slot;
+    }
+
+    private void update(MatchSlot slot, int homeScore, int awayScore) {
+        rankedMatchIndex.updateScores(slot, homeScore, awayScore);
+    }
+
+    private List<FootballMatch> fullSort() {
+        List<FootballMatch> sorted = new ArrayList<>();
+        for (MatchSlot slot : matches.values()) {
+            sorted.add(slot.toRankedMatch().match());
+        }
+        sorted.sort(FULL_SORT_ORDER);
+        return sorted;
+    }
+}
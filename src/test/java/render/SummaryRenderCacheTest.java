@@ -0,0 +1,148 @@
+package render;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static utils.TestUtils.assertThrowsWithMessage;
+import com.sportradar.test.lib.FootballWorldCupScoreboard;
+import com.sportradar.test.lib.Scoreboard;
+import com.sportradar.test.lib.domain.FootballMatch;
+import com.sportradar.test.lib.domain.MatchScores;
+import com.sportradar.test.lib.ranking.RankedMatch;
+import com.sportradar.test.lib.ranking.SummarySnapshot;
+import com.sportradar.test.lib.render.RenderedSummary;
+import com.sportradar.test.lib.render.SummaryFormat;
+import com.sportradar.test.lib.render.SummaryRenderCache;
+import com.sportradar.test.lib.validation.Validator;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import utils.TestUtils;
+import java.nio.ByteBuffer;
+import java.nio.ReadOnlyBufferException;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+
+/**
+ * Unit tests for SummaryRenderCache.
+ * Ensures summaries are rendered once per version and encoded correctly in both formats.
+ */
+class SummaryRenderCacheTest {
+    private static final int HEADER_BYTES = Integer.BYTES + Short.BYTES + Long.BYTES + Integer.BYTES;
+
+    private Scoreboard scoreboard;
+    private SummaryRenderCache cache;
+
+    @BeforeEach
+    void setUp() {
+        scoreboard = new FootballWorldCupScoreboard(TestUtils.FIXED_CLOCK);
+        cache = new SummaryRenderCache(scoreboard);
+    }
+
+    @Test
+    void shouldRenderSummaryAsJson() {
+        scoreboard.startMatch("Mexico", "Canada");
+        scoreboard.startMatch("Spain", "Bra\"zil");
+        scoreboard.updateScore("Mexico", "Canada", 0, 5);
+
+        RenderedSummary rendered = cache.json();
+
+        assertEquals(3, rendered.version());
+        assertEquals("{\"version\":3,\"matches\":["
+                        + "{\"homeTeam\":\"Mexico\",\"awayTeam\":\"Canada\",\"homeScore\":0,\"awayScore\":5,"
+                        + "\"startTime\":\"" + TestUtils.FIXED_CLOCK.instant() + "\"},"
+                        + "{\"homeTeam\":\"Spain\",\"awayTeam\":\"Bra\\\"zil\",\"homeScore\":0,\"awayScore\":0,"
+                        + "\"startTime\":\"" + TestUtils.FIXED_CLOCK.instant() + "\"}]}",
+                StandardCharsets.UTF_8.decode(rendered.content()).toString());
+    }
+
+    @Test
+    void shouldRenderSummaryInBinaryFormat() {
+        scoreboard.startMatch("México", "Canada");
+        scoreboard.updateScore("México", "Canada", 2, 1);
+
+        ByteBuffer content = cache.binary().content();
+
+        assertEquals(SummaryFormat.BINARY_MAGIC, content.getInt());
+        assertEquals(SummaryFormat.BINARY_FORMAT_VERSION, content.getShort());
+        assertEquals(2, content.getLong());
+        assertEquals(1, content.getInt());
+        assertEquals("México", readString(content));
+        assertEquals("Canada", readString(content));
+        assertEquals(2, content.getInt());
+        assertEquals(1, content.getInt());
+        assertEquals(TestUtils.FIXED_CLOCK.instant().getEpochSecond(), content.getLong());
+        assertEquals(TestUtils.FIXED_CLOCK.instant().getNano(), content.getInt());
+        assertEquals(0, content.remaining());
+    }
+
+    @Test
+    void shouldEncodeNameLengthsAsUnsignedShorts() {
+        String longest = "a".repeat(Validator.MAX_TEAM_NAME_BYTES);
+        scoreboard.startMatch(longest, "Canada");
+
+        ByteBuffer content = cache.binary().content();
+        content.position(HEADER_BYTES);
+
+        assertEquals(longest, readString(content));
+        assertEquals("Canada", readString(content));
+    }
+
+    @Test
+    void shouldRejectTeamNamesThatDoNotFitTheBinaryFormat() {
+        String tooLong = "a".repeat(Validator.MAX_TEAM_NAME_BYTES + 1);
+        FootballMatch match = new FootballMatch(tooLong, "Canada", new MatchScores(0, 0),
+                TestUtils.FIXED_CLOCK.instant());
+        Scoreboard oversized = new FootballWorldCupScoreboard(TestUtils.FIXED_CLOCK) {
+            @Override
+            public SummarySnapshot getSummarySnapshot() {
+                return new SummarySnapshot(1, List.of(new RankedMatch(match, 1)));
+            }
+
+            @Override
+            public long version() {
+                return 1;
+            }
+        };
+
+        assertThrowsWithMessage(IllegalArgumentException.class, () -> new SummaryRenderCache(oversized).binary(),
+                Validator.TEAM_NAME_TOO_LONG_ERROR);
+    }
+
+    @Test
+    void shouldRenderOncePerVersion() {
+        scoreboard.startMatch("Mexico", "Canada");
+
+        RenderedSummary rendered = cache.json();
+
+        assertSame(rendered, cache.json());
+        assertSame(rendered, cache.render(SummaryFormat.JSON));
+
+        scoreboard.updateScore("Mexico", "Canada", 1, 0);
+        RenderedSummary updated = cache.json();
+
+        assertNotSame(rendered, updated);
+        assertEquals(2, updated.version());
+        assertSame(updated, cache.json());
+    }
+
+    @Test
+    void shouldHandOutIndependentReadOnlyViews() {
+        scoreboard.startMatch("Mexico", "Canada");
+        RenderedSummary rendered = cache.binary();
+
+        ByteBuffer first = rendered.content();
+        first.position(first.limit());
+        ByteBuffer second = rendered.content();
+
+        assertEquals(0, second.position());
+        assertEquals(rendered.size(), second.remaining());
+        assertThrows(ReadOnlyBufferException.class, () -> second.put(0, (byte) 1));
+    }
+
+    private static String readString(ByteBuffer buffer) {
+        byte[] bytes = new byte[Short.toUnsignedInt(buffer.getShort())];
+        buffer.get(bytes);
+        return new String(bytes, StandardCharsets.UTF_8);
+    }
+}
@@ -0,0 +1,217 @@
+package replication;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertInstanceOf;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static utils.TestUtils.assertThrowsWithMessage;
+import com.sportradar.test.lib.FootballWorldCupScoreboard;
+import com.sportradar.test.lib.command.CommandResult;
+import com.sportradar.test.lib.command.ScoreboardCommand;
+import com.sportradar.test.lib.journal.JournalVisitor;
+import com.sportradar.test.lib.replication.ReplicationLag;
+import com.sportradar.test.lib.replication.ReplicationLog;
+import com.sportradar.test.lib.replication.ReplicationPrimary;
+import com.sportradar.test.lib.replication.ScoreboardReplica;
+import com.sportradar.test.lib.validation.Validator;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import utils.TestUtils;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.net.ServerSocket;
+import java.net.Socket;
+import java.nio.channels.Channels;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Tests for primary/replica replication on loopback, with several replicas in one JVM.
+ */
+class ReplicationTest {
+    private static final Duration TIMEOUT = Duration.ofSeconds(5);
+
+    private FootballWorldCupScoreboard primaryScoreboard;
+    private ReplicationPrimary primary;
+    private final List<ScoreboardReplica> replicas = new ArrayList<>();
+
+    @BeforeEach
+    void setUp() throws IOException {
+        primaryScoreboard = new FootballWorldCupScoreboard(TestUtils.tickingClock());
+        primary = new ReplicationPrimary(primaryScoreboard, new InetSocketAddress(InetAddress.getLoopbackAddress(), 0));
+    }
+
+    @AfterEach
+    void tearDown() throws IOException {
+        for (ScoreboardReplica replica : replicas) {
+            replica.close();
+        }
+        primary.close();
+    }
+
+    @Test
+    void shouldCatchUpFromSnapshotAndFollowLaterModifications() throws Exception {
+        primaryScoreboard.startMatch("Mexico", "Canada");
+        primaryScoreboard.updateScore("Mexico", "Canada", 0, 5);
+        primaryScoreboard.startMatch("Spain", "Brazil");
+
+        ScoreboardReplica replica = replica();
+        assertTrue(replica.awaitVersion(primaryScoreboard.version(), TIMEOUT));
+        assertEquals(primaryScoreboard.getSummary(), replica.scoreboard().getSummary());
+
+        primaryScoreboard.updateScore("Spain", "Brazil", 10, 2);
+        primaryScoreboard.applyAll(List.of(
+                ScoreboardCommand.start("Germany", "France"),
+                ScoreboardCommand.finish("Mexico", "Canada")));
+
+        assertTrue(replica.awaitVersion(primaryScoreboard.version(), TIMEOUT));
+        assertEquals(primaryScoreboard.getSummary(), replica.scoreboard().getSummary());
+        assertEquals(1, replica.snapshotsApplied());
+        assertEquals("Mexico", replica.scoreboard().archive().mostRecent(1).get(0).match().homeTeam());
+    }
+
+    @Test
+    void shouldKeepSeveralReplicasInSyncAndReportLag() throws Exception {
+        ScoreboardReplica first = replica();
+        ScoreboardReplica second = replica();
+        for (int i = 0; i < 50; i++) {
+            primaryScoreboard.startMatch("Home" + i, "Away" + i);
+            primaryScoreboard.updateScore("Home" + i, "Away" + i, i % 4, i % 3);
+        }
+
+        for (ScoreboardReplica replica : List.of(first, second)) {
+            assertTrue(replica.awaitVersion(primaryScoreboard.version(), TIMEOUT));
+            assertEquals(primaryScoreboard.getSummary(), replica.scoreboard().getSummary());
+            ReplicationLag lag = replica.lag();
+            assertEquals(primaryScoreboard.version(), lag.appliedVersion());
+            assertEquals(0, lag.versionsBehind());
+        }
+        assertEquals(2, primary.replicaCount());
+    }
+
+    @Test
+    void shouldReplicateRestoreOfPrimary() throws Exception {
+        FootballWorldCupScoreboard source = new FootballWorldCupScoreboard(TestUtils.FIXED_CLOCK);
+        source.startMatch("Spain", "Brazil");
+        source.updateScore("Spain", "Brazil", 3, 1);
+        ByteArrayOutputStream checkpoint = new ByteArrayOutputStream();
+        source.snapshotTo(Channels.newChannel(checkpoint));
+        primaryScoreboard.startMatch("Mexico", "Canada");
+        ScoreboardReplica replica = replica();
+        assertTrue(replica.awaitVersion(primaryScoreboard.version(), TIMEOUT));
+
+        primaryScoreboard.restoreFrom(Channels.newChannel(new ByteArrayInputStream(checkpoint.toByteArray())));
+
+        assertTrue(replica.awaitVersion(primaryScoreboard.version(), TIMEOUT));
+        assertEquals(primaryScoreboard.getSummary(), replica.scoreboard().getSummary());
+    }
+
+    @Test
+    void shouldRejectOverLongTeamNameBeforeChangingPrimary() throws Exception {
+        ScoreboardReplica replica = replica();
+        String tooLong = "\u00e9".repeat(Validator.MAX_TEAM_NAME_BYTES / 2 + 1);
+
+        assertThrowsWithMessage(IllegalArgumentException.class,
+                () -> primaryScoreboard.startMatch(tooLong, "Canada"), Validator.TEAM_NAME_TOO_LONG_ERROR);
+        List<CommandResult> results = primaryScoreboard.applyAll(List.of(
+                ScoreboardCommand.start("Mexico", "Canada"),
+                ScoreboardCommand.start("Spain", tooLong)));
+
+        assertInstanceOf(IllegalArgumentException.class, results.get(1).failure());
+        assertTrue(replica.awaitVersion(primaryScoreboard.version(), TIMEOUT));
+        assertEquals(1, primaryScoreboard.getSummary().size());
+        assertEquals(primaryScoreboard.getSummary(), replica.scoreboard().getSummary());
+    }
+
+    @Test
+    void shouldResyncReplicaFromSnapshotAfterMalformedFrame() throws Exception {
+        ByteArrayOutputStream checkpoint = new ByteArrayOutputStream();
+        primaryScoreboard.startMatch("Mexico", "Canada");
+        primaryScoreboard.snapshotTo(Channels.newChannel(checkpoint));
+        try (ServerSocket fakePrimary = new ServerSocket(0, 1, InetAddress.getLoopbackAddress())) {
+            Thread server = Thread.ofVirtual().start(() -> {
+                try {
+                    for (int connection = 0; connection < 2; connection++) {
+                        Socket socket = fakePrimary.accept();
+                        DataOutputStream out = new DataOutputStream(socket.getOutputStream());
+                        // Snapshot message, as sent by ReplicationPrimary
+                        out.writeByte(1);
+                        out.writeLong(1);
+                        out.writeInt(checkpoint.size());
+                        out.write(checkpoint.toByteArray());
+                        // Frame message whose records end in the middle of a team name
+                        out.writeByte(2);
+                        out.writeLong(1);
+                        out.writeLong(2);
+                        out.writeLong(System.currentTimeMillis());
+                        out.writeInt(3);
+                        out.write(new byte[] {1, 0, 5});
+                        out.flush();
+                    }
+                } catch (IOException e) {
+                    // Closed by the test
+                }
+            });
+            ScoreboardReplica replica = new ScoreboardReplica(new FootballWorldCupScoreboard(TestUtils.FIXED_CLOCK),
+                    (InetSocketAddress) fakePrimary.getLocalSocketAddress());
+            replicas.add(replica);
+
+            server.join(TIMEOUT.toMillis());
+            assertTrue(replica.awaitVersion(1, TIMEOUT));
+            long deadline = System.nanoTime() + TIMEOUT.toNanos();
+            while (replica.snapshotsApplied() < 2 && System.nanoTime() < deadline) {
+                Thread.sleep(10);
+            }
+            assertEquals(2, replica.snapshotsApplied());
+            assertEquals(primaryScoreboard.getSummary(), replica.scoreboard().getSummary());
+        }
+    }
+
+    @Test
+    void shouldRequireSnapshotWhenFramesAreNoLongerRetained() throws Exception {
+        FootballWorldCupScoreboard scoreboard = new FootballWorldCupScoreboard(TestUtils.FIXED_CLOCK);
+        ReplicationLog log = new ReplicationLog(2);
+        scoreboard.replicateTo(log);
+        scoreboard.startMatch("Mexico", "Canada");
+        scoreboard.updateScore("Mexico", "Canada", 1, 0);
+        scoreboard.updateScore("Mexico", "Canada", 2, 0);
+
+        assertNull(log.framesAfter(0, 0));
+        List<ReplicationLog.Frame> frames = log.framesAfter(1, 0);
+        assertEquals(List.of(2L, 3L), frames.stream().map(ReplicationLog.Frame::version).toList());
+        assertTrue(log.framesAfter(3, 0).isEmpty());
+
+        List<String> records = new ArrayList<>();
+        ReplicationLog.replay(frames.get(1).records(), new JournalVisitor() {
+            @Override
+            public void matchStarted(String homeTeam, String awayTeam, Instant startTime) {
+                records.add("start " + homeTeam);
+            }
+
+            @Override
+            public void scoreUpdated(String homeTeam, String awayTeam, int homeScore, int awayScore) {
+                records.add("update " + homeTeam + " " + homeScore + "-" + awayScore);
+            }
+
+            @Override
+            public void matchFinished(String homeTeam, String awayTeam) {
+                records.add("finish " + homeTeam);
+            }
+        });
+        assertEquals(List.of("update Mexico 2-0"), records);
+    }
+
+    private ScoreboardReplica replica() {
+        ScoreboardReplica replica = new ScoreboardReplica(
+                new FootballWorldCupScoreboard(TestUtils.FIXED_CLOCK), primary.address());
+        replicas.add(replica);
+        return replica;
+    }
+}
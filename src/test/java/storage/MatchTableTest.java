@@ -0,0 +1,65 @@
+package storage;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import com.sportradar.test.lib.storage.MatchTable;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Random;
+
+/**
+ * Unit tests for MatchTable.
+ * Ensures the open-addressing table behaves like a regular map under inserts, replacements and removals.
+ */
+class MatchTableTest {
+    private MatchTable<String> matchTable;
+
+    @BeforeEach
+    void setUp() {
+        matchTable = new MatchTable<>();
+    }
+
+    @Test
+    void shouldPackAndUnpackTeamIds() {
+        long key = MatchTable.key(7, Integer.MAX_VALUE);
+
+        assertEquals(7, MatchTable.homeTeamId(key));
+        assertEquals(Integer.MAX_VALUE, MatchTable.awayTeamId(key));
+    }
+
+    @Test
+    void shouldReturnInsertionPointForAbsentKey() {
+        int index = matchTable.indexOf(MatchTable.key(1, 2));
+
+        assertTrue(index < 0);
+        matchTable.insertAt(index, MatchTable.key(1, 2), "Mexico vs Canada");
+        assertEquals("Mexico vs Canada", matchTable.get(MatchTable.key(1, 2)));
+        assertNull(matchTable.get(MatchTable.key(2, 1)));
+    }
+
+    @Test
+    void shouldBehaveLikeHashMapUnderRandomOperations() {
+        Map<Long, String> expected = new HashMap<>();
+        Random random = new Random(7);
+
+        for (int i = 0; i < 50_000; i++) {
+            long key = MatchTable.key(1 + random.nextInt(64), 1 + random.nextInt(64));
+            int index = matchTable.indexOf(key);
+            if (index < 0) {
+                matchTable.insertAt(index, key, "value" + i);
+                expected.put(key, "value" + i);
+            } else if (random.nextBoolean()) {
+                assertEquals(expected.remove(key), matchTable.removeAt(index));
+            } else {
+                matchTable.replaceAt(index, "value" + i);
+                expected.put(key, "value" + i);
+            }
+        }
+
+        assertEquals(expected.size(), matchTable.size());
+        expected.forEach((key, value) -> assertEquals(value, matchTable.get(key)));
+    }
+}
@@ -0,0 +1,136 @@
+package storage;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import com.sportradar.test.lib.domain.FootballMatch;
+import com.sportradar.test.lib.ranking.RankedMatch;
+import com.sportradar.test.lib.storage.HeapMatchStore;
+import com.sportradar.test.lib.storage.MatchStore;
+import com.sportradar.test.lib.storage.MatchTable;
+import com.sportradar.test.lib.storage.OffHeapMatchStore;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import utils.TestUtils;
+import java.time.Instant;
+import java.util.List;
+import java.util.Random;
+
+/**
+ * Unit tests for OffHeapMatchStore.
+ * Ensures the off-heap rows and index behave like the heap store under inserts, updates, removals and loads.
+ */
+class OffHeapMatchStoreTest {
+    private MatchStore offHeapStore;
+    private MatchStore heapStore;
+
+    @BeforeEach
+    void setUp() {
+        offHeapStore = new OffHeapMatchStore(OffHeapMatchStoreTest::teamName);
+        heapStore = new HeapMatchStore();
+    }
+
+    @Test
+    void shouldKeepSameMatchesAndOrderAsHeapStoreUnderRandomMutations() {
+        Random random = new Random(42);
+        Instant startTime = TestUtils.FIXED_CLOCK.instant();
+        long startSequence = 0;
+
+        // Enough matches to grow the rows and the index, with finished rows being reused
+        for (int i = 0; i < 20_000; i++) {
+            int homeTeamId = 1 + random.nextInt(500);
+            int awayTeamId = 501 + random.nextInt(2);
+            long matchKey = MatchTable.key(homeTeamId, awayTeamId);
+            if (heapStore.find(matchKey) == MatchStore.NOT_FOUND) {
+                // Some matches share the start time and are ordered by start sequence only
+                startTime = random.nextBoolean() ? startTime.plusNanos(random.nextInt(2_000_000_000)) : startTime;
+                heapStore.insert(matchKey, teamName(homeTeamId), teamName(awayTeamId), startTime, startSequence);
+                offHeapStore.insert(matchKey, teamName(homeTeamId), teamName(awayTeamId), startTime, startSequence++);
+            } else if (random.nextInt(5) == 0) {
+                heapStore.remove(heapStore.find(matchKey));
+                offHeapStore.remove(offHeapStore.find(matchKey));
+            } else {
+                int homeScore = random.nextInt(6);
+                int awayScore = random.nextInt(6);
+                heapStore.updateScores(heapStore.find(matchKey), homeScore, awayScore);
+                offHeapStore.updateScores(offHeapStore.find(matchKey), homeScore, awayScore);
+            }
+        }
+
+        assertEquals(heapStore.snapshot(1).ranking(), offHeapStore.snapshot(1).ranking());
+        assertEquals(heapStore.size(), offHeapStore.size());
+        for (int offset : new int[] {0, 1, 37, heapStore.size() - 3, heapStore.size()}) {
+            assertEquals(heapStore.snapshot(1).page(offset, 10), heapStore.page(offset, 10));
+            assertEquals(heapStore.snapshot(1).page(offset, 10), offHeapStore.page(offset, 10));
+        }
+    }
+
+    @Test
+    void shouldKeepSourceSequenceOfMatchUntilItIsRemoved() {
+        for (MatchStore store : List.of(heapStore, offHeapStore)) {
+            long matchKey = MatchTable.key(1, 2);
+            store.insert(matchKey, teamName(1), teamName(2), Instant.EPOCH, 0);
+            store.insert(MatchTable.key(3, 4), teamName(3), teamName(4), Instant.EPOCH, 1);
+            assertEquals(MatchStore.NO_SOURCE_SEQUENCE, store.sourceSequence(store.find(matchKey)));
+
+            store.setSourceSequence(store.find(matchKey), 42);
+            // Moves the match in front of the other one
+            store.updateScores(store.find(matchKey), 2, 1);
+            assertEquals(42, store.sourceSequence(store.find(matchKey)));
+            assertTrue(store.hasScores(store.find(matchKey), 2, 1));
+            assertFalse(store.hasScores(store.find(matchKey), 1, 2));
+
+            // The off-heap store reuses the row of the removed match
+            store.remove(store.find(matchKey));
+            store.insert(matchKey, teamName(1), teamName(2), Instant.EPOCH, 2);
+            assertEquals(MatchStore.NO_SOURCE_SEQUENCE, store.sourceSequence(store.find(matchKey)));
+        }
+    }
+
+    @Test
+    void shouldLoadSortedMatchesAndKeepRepositioning() {
+        for (int i = 1; i <= 1_000; i++) {
+            heapStore.insert(MatchTable.key(i, i + 1_000), teamName(i), teamName(i + 1_000),
+                    Instant.EPOCH.plusSeconds(i), i);
+            heapStore.updateScores(heapStore.find(MatchTable.key(i, i + 1_000)), i % 5, i % 3);
+        }
+        List<RankedMatch> sortedMatches = heapStore.snapshot(1).ranking();
+        long[] matchKeys = new long[sortedMatches.size()];
+        for (int i = 0; i < matchKeys.length; i++) {
+            FootballMatch match = sortedMatches.get(i).match();
+            matchKeys[i] = MatchTable.key(teamId(match.homeTeam()), teamId(match.awayTeam()));
+        }
+
+        assertEquals(-1, offHeapStore.load(matchKeys, sortedMatches));
+        heapStore.updateScores(heapStore.find(MatchTable.key(10, 1_010)), 7, 7);
+        offHeapStore.updateScores(offHeapStore.find(MatchTable.key(10, 1_010)), 7, 7);
+        offHeapStore.insert(MatchTable.key(2_001, 2_002), teamName(2_001), teamName(2_002), Instant.EPOCH, 1_001);
+        heapStore.insert(MatchTable.key(2_001, 2_002), teamName(2_001), teamName(2_002), Instant.EPOCH, 1_001);
+
+        assertEquals(heapStore.snapshot(2).ranking(), offHeapStore.snapshot(2).ranking());
+    }
+
+    @Test
+    void shouldReportFirstDuplicateKeyOnLoad() {
+        RankedMatch match = heapMatch(1, 2);
+        long matchKey = MatchTable.key(1, 2);
+
+        int duplicate = offHeapStore.load(new long[]{matchKey, matchKey}, List.of(match, match));
+
+        assertEquals(1, duplicate);
+    }
+
+    private RankedMatch heapMatch(int homeTeamId, int awayTeamId) {
+        heapStore.insert(MatchTable.key(homeTeamId, awayTeamId), teamName(homeTeamId), teamName(awayTeamId),
+                Instant.EPOCH, 0);
+        return heapStore.rankedMatch(heapStore.find(MatchTable.key(homeTeamId, awayTeamId)));
+    }
+
+    private static String teamName(int teamId) {
+        return "Team" + teamId;
+    }
+
+    private static int teamId(String teamName) {
+        return Integer.parseInt(teamName.substring("Team".length()));
+    }
+}
@@ -5,6 +5,7 @@ import static org.junit.jupiter.api.Assertions.assertThrows;
 import java.time.Clock;
 import java.time.Instant;
 import java.time.ZoneId;
+import java.util.concurrent.atomic.AtomicLong;
 
 /**
  * Utility class for test constants and helper methods.
@@ -17,6 +18,37 @@ public class TestUtils {
     public static final String TEST_MATCH_KEY = "HomeTeamTestName vs AwayTeamTestName";
     public static final Clock FIXED_CLOCK = Clock.fixed(Instant.parse("2025-01-01T12:00:00Z"), ZoneId.of("UTC"));
 
+    /**
+     * Creates a clock that advances by one second on every read, so that each match gets a distinct start time.
+     */
+    public static Clock tickingClock() {
+        return tickingClock(1);
+    }
+
+    /**
+     * Creates a clock that moves by a number of seconds on every read; negative steps model a clock set back.
+     */
+    public static Clock tickingClock(long secondsPerRead) {
+        return new Clock() {
+            private final AtomicLong ticks = new AtomicLong();
+
+            @Override
+            public ZoneId getZone() {
+                return FIXED_CLOCK.getZone();
+            }
+
+            @Override
+            public Clock withZone(ZoneId zone) {
+                return this;
+            }
+
+            @Override
+            public Instant instant() {
+                return FIXED_CLOCK.instant().plusSeconds(ticks.incrementAndGet() * secondsPerRead);
+            }
+        };
+    }
+
     public static void assertThrowsWithMessage(Class<? extends Throwable> exceptionClass, Runnable action, String expectedMessage) {
         Exception exception = (Exception) assertThrows(exceptionClass, action::run);
         assertEquals(expectedMessage, exception.getMessage());
@@ -1,20 +1,17 @@
 package validation;
 
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 import static utils.TestUtils.AWAY_TEAM_TEST_NAME;
 import static utils.TestUtils.HOME_TEAM_TEST_NAME;
 import static utils.TestUtils.TEST_MATCH_KEY;
 import static utils.TestUtils.assertInvalidTeamNames;
 import static utils.TestUtils.assertThrowsWithMessage;
-import com.sportradar.test.lib.domain.FootballMatch;
 import com.sportradar.test.lib.exception.MatchAlreadyExistsException;
 import com.sportradar.test.lib.exception.MatchNotFoundException;
 import com.sportradar.test.lib.validation.Validator;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
-import utils.TestUtils;
-import java.time.Clock;
-import java.util.HashMap;
-import java.util.Map;
 
 /**
  * Unit tests for FootballWorldCupScoreboard.
@@ -22,32 +19,26 @@ import java.util.Map;
  */
 class ValidatorTest {
     private Validator validator;
-    private Map<String, FootballMatch> matches;
-    private Clock fixedClock;
 
     @BeforeEach
     void setUp() {
-        fixedClock = TestUtils.FIXED_CLOCK;
         validator = new Validator();
-        matches = new HashMap<>();
     }
 
     @Test
-    void shouldThrowExceptionWhenMatchNotExists() {
+    void shouldThrowExceptionWhenLookedUpMatchIsMissing() {
         assertThrowsWithMessage(
                 MatchNotFoundException.class,
-                () -> validator.validateIfMatchCanBeFound(TEST_MATCH_KEY, matches),
+                () -> validator.validateExistingMatch(HOME_TEAM_TEST_NAME, AWAY_TEAM_TEST_NAME, false),
                 MatchNotFoundException.MESSAGE_PREFIX + TEST_MATCH_KEY
         );
     }
 
     @Test
-    void shouldThrowExceptionWhenMatchAlreadyExists() {
-        matches.put(TEST_MATCH_KEY, FootballMatch.withScores(HOME_TEAM_TEST_NAME, AWAY_TEAM_TEST_NAME, 0, 0, fixedClock));
-
+    void shouldThrowExceptionWhenLookedUpMatchIsPresent() {
         assertThrowsWithMessage(
                 MatchAlreadyExistsException.class,
-                () -> validator.validateIfMatchAlreadyExists(TEST_MATCH_KEY, matches),
+                () -> validator.validateNoExistingMatch(HOME_TEAM_TEST_NAME, AWAY_TEAM_TEST_NAME, true),
                 MatchAlreadyExistsException.MESSAGE_PREFIX + TEST_MATCH_KEY
         );
     }
@@ -67,6 +58,30 @@ class ValidatorTest {
         );
     }
 
+    @Test
+    void shouldThrowExceptionForNegativePageArguments() {
+        assertThrowsWithMessage(
+                IllegalArgumentException.class,
+                () -> validator.validatePage(-1, 10),
+                Validator.INVALID_PAGE_ERROR
+        );
+
+        assertThrowsWithMessage(
+                IllegalArgumentException.class,
+                () -> validator.validatePage(0, -10),
+                Validator.INVALID_PAGE_ERROR
+        );
+    }
+
+    @Test
+    void shouldCheckScoresAndTeamNamesWithoutThrowing() {
+        assertTrue(validator.isValidScores(0, 3));
+        assertFalse(validator.isValidScores(-1, 0));
+        assertTrue(validator.isValidTeams(HOME_TEAM_TEST_NAME, AWAY_TEAM_TEST_NAME));
+        assertFalse(validator.isValidTeams(null, AWAY_TEAM_TEST_NAME));
+        assertFalse(validator.isValidTeams(HOME_TEAM_TEST_NAME, " "));
+    }
+
     @Test
     void shouldThrowExceptionForNullOrEmptyTeamNames() {
         assertInvalidTeamNames(() -> validator.validateTeams(null, AWAY_TEAM_TEST_NAME));
@@ -75,4 +90,21 @@ class ValidatorTest {
         assertInvalidTeamNames(() -> validator.validateTeams(HOME_TEAM_TEST_NAME, ""));
     }
 
+    @Test
+    void shouldRejectTeamNamesLongerThanTheirEncodedLimit() {
+        String longest = "a".repeat(Validator.MAX_TEAM_NAME_BYTES);
+        String tooLong = "\u00e9".repeat(Validator.MAX_TEAM_NAME_BYTES / 2 + 1);
+
+        validator.validateTeams(longest, AWAY_TEAM_TEST_NAME);
+        assertTrue(validator.isValidTeams(HOME_TEAM_TEST_NAME, longest));
+        assertFalse(validator.isValidTeams(HOME_TEAM_TEST_NAME, tooLong));
+        assertFalse(validator.isValidTeams("\uD83D\uDE00".repeat(Validator.MAX_TEAM_NAME_BYTES / 4 + 1),
+                AWAY_TEAM_TEST_NAME));
+        assertThrowsWithMessage(
+                IllegalArgumentException.class,
+                () -> validator.validateTeams(tooLong, AWAY_TEAM_TEST_NAME),
+                Validator.TEAM_NAME_TOO_LONG_ERROR
+        );
+    }
+
 }